@@ -0,0 +1,418 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api.column;
+
+
+import org.jnosql.diana.api.Value;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compact implementation of {@link ColumnEntity} that keeps the names and the columns in parallel arrays,
+ * in the insertion order, indexed by a small open-addressing table of the names. The {@link #getColumns()},
+ * {@link #getColumnNames()} and {@link #getValues()} methods return read-only views of these arrays
+ * instead of copies. The views are live and their iterators are fail-fast: when the entity is structurally changed,
+ * i.e. columns are added, removed or cleared, while a view is iterated, the iterator throws a
+ * {@link ConcurrentModificationException}.
+ */
+final class ArrayColumnEntity implements ColumnEntity {
+
+    private static final int MINIMUM_CAPACITY = 4;
+
+    private final String name;
+
+    private String[] names;
+
+    private Column[] columns;
+
+    private int[] table;
+
+    private int size;
+
+    private int modCount;
+
+    private List<Column> columnsView;
+
+    private Set<String> namesView;
+
+    private List<Value> valuesView;
+
+    ArrayColumnEntity(String name, int expectedSize) {
+        this.name = requireNonNull(name, "name is required");
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative: " + expectedSize);
+        }
+        int capacity = Math.max(expectedSize, MINIMUM_CAPACITY);
+        this.names = new String[capacity];
+        this.columns = new Column[capacity];
+        this.table = new int[tableSize(capacity)];
+    }
+
+    private ArrayColumnEntity(ArrayColumnEntity entity) {
+        this.name = entity.name;
+        this.names = entity.names.clone();
+        this.columns = entity.columns.clone();
+        this.table = entity.table.clone();
+        this.size = entity.size;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean remove(String columnName) {
+        requireNonNull(columnName, "columnName is required");
+        int index = indexOf(columnName);
+        if (index < 0) {
+            return false;
+        }
+        int moved = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, moved);
+        System.arraycopy(columns, index + 1, columns, index, moved);
+        size--;
+        names[size] = null;
+        columns[size] = null;
+        rehash();
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public List<Column> getColumns() {
+        if (columnsView == null) {
+            columnsView = new ColumnsView();
+        }
+        return columnsView;
+    }
+
+    @Override
+    public void add(Column column) {
+        requireNonNull(column, "column is required");
+        String columnName = column.getName();
+        int index = indexOf(columnName);
+        if (index >= 0) {
+            columns[index] = column;
+            return;
+        }
+        if (size == names.length) {
+            grow();
+        }
+        names[size] = columnName;
+        columns[size] = column;
+        insert(columnName, size);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void add(String columnName, Object value) {
+        requireNonNull(columnName, "columnName is required");
+        requireNonNull(value, "value is required");
+        this.add(Column.of(columnName, value));
+    }
+
+    @Override
+    public void add(String columnName, Value value) {
+        requireNonNull(columnName, "columnName is required");
+        requireNonNull(value, "value is required");
+        this.add(Column.of(columnName, value));
+    }
+
+    @Override
+    public void addAll(List<Column> columns) {
+        requireNonNull(columns, "columns are required");
+        columns.forEach(this::add);
+    }
+
+    @Override
+    public Optional<Column> find(String columnName) {
+        requireNonNull(columnName, "columnName is required");
+        int index = indexOf(columnName);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(columns[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public ColumnEntity copy() {
+        return new ArrayColumnEntity(this);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(columns, 0, size, null);
+        Arrays.fill(table, 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<String> getColumnNames() {
+        if (namesView == null) {
+            namesView = new NamesView();
+        }
+        return namesView;
+    }
+
+    @Override
+    public Collection<Value> getValues() {
+        if (valuesView == null) {
+            valuesView = new ValuesView();
+        }
+        return valuesView;
+    }
+
+    @Override
+    public boolean contains(String columnName) {
+        requireNonNull(columnName, "columnName is required");
+        return indexOf(columnName) >= 0;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>(tableSize(size));
+        for (int index = 0; index < size; index++) {
+            map.put(names[index], convert(columns[index].get()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private Object convert(Object value) {
+        if (value instanceof Column) {
+            Column column = Column.class.cast(value);
+            return singletonMap(column.getName(), convert(column.get()));
+        } else if (value instanceof Iterable) {
+            List<Object> list = new ArrayList<>();
+            Iterable.class.cast(value).forEach(e -> list.add(convert(e)));
+            return list;
+        }
+        return value;
+    }
+
+    private int indexOf(String columnName) {
+        int mask = table.length - 1;
+        for (int slot = hash(columnName) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            String current = names[index];
+            if (current == columnName || current.equals(columnName)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(String columnName, int index) {
+        int mask = table.length - 1;
+        int slot = hash(columnName) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void grow() {
+        int capacity = names.length + (names.length >> 1);
+        names = Arrays.copyOf(names, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        table = new int[tableSize(capacity)];
+        rehash();
+    }
+
+    private void rehash() {
+        Arrays.fill(table, 0);
+        for (int index = 0; index < size; index++) {
+            insert(names[index], index);
+        }
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+    }
+
+    private static int hash(String columnName) {
+        int hash = columnName.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ColumnEntity)) {
+            return false;
+        }
+        ColumnEntity that = (ColumnEntity) o;
+        if (size != that.size() || !Objects.equals(name, that.getName())) {
+            return false;
+        }
+        for (int index = 0; index < size; index++) {
+            Optional<Column> column = that.find(names[index]);
+            if (!column.isPresent() || !columns[index].equals(column.get())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int columnsHash = 0;
+        for (int index = 0; index < size; index++) {
+            columnsHash += names[index].hashCode() ^ columns[index].hashCode();
+        }
+        return 31 * (31 + columnsHash) + name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return  "ArrayColumnEntity{" + "columns=" + toMap() +
+                ", name='" + name + '\'' +
+                '}';
+    }
+
+    private class ColumnsView extends AbstractList<Column> {
+
+        @Override
+        public Column get(int index) {
+            checkIndex(index);
+            return columns[index];
+        }
+
+        @Override
+        public Iterator<Column> iterator() {
+            return new ViewIterator<Column>() {
+                @Override
+                Column get(int index) {
+                    return columns[index];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class ValuesView extends AbstractList<Value> {
+
+        @Override
+        public Value get(int index) {
+            checkIndex(index);
+            return columns[index].getValue();
+        }
+
+        @Override
+        public Iterator<Value> iterator() {
+            return new ViewIterator<Value>() {
+                @Override
+                Value get(int index) {
+                    return columns[index].getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class NamesView extends AbstractSet<String> {
+
+        @Override
+        public boolean contains(Object value) {
+            return value instanceof String && indexOf((String) value) >= 0;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new ViewIterator<String>() {
+                @Override
+                String get(int index) {
+                    return names[index];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private abstract class ViewIterator<E> implements Iterator<E> {
+
+        private final int expectedModCount = modCount;
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(index++);
+        }
+
+        abstract E get(int index);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
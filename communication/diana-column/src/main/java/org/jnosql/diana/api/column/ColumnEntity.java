@@ -63,6 +63,24 @@ public interface ColumnEntity  {
         return columnEntity;
     }
 
+    /**
+     * Creates a compact column family instance, backed by arrays sized to the expected number of columns,
+     * whose {@link #getColumns()} returns a read-only view instead of a copy.
+     * The view is live, it shows the later changes of the entity, and its iterator throws a
+     * {@link java.util.ConcurrentModificationException} when columns are added, removed or cleared while iterating.
+     * It is meant to the drivers that build the result rows column by column.
+     *
+     * @param name         a name to column family
+     * @param expectedSize the expected number of columns, the entity grows when it has more columns
+     * @return a ColumnEntity instance
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when expectedSize is negative
+     */
+    static ColumnEntity compact(String name, int expectedSize) {
+        Objects.requireNonNull(name, "name is required");
+        return new ArrayColumnEntity(name, expectedSize);
+    }
+
     /**
      * Appends all of the columns in the column family to the end of this list.
      *
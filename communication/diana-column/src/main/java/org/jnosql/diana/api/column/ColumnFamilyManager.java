@@ -18,6 +18,8 @@
 package org.jnosql.diana.api.column;
 
 
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.time.Duration;
@@ -25,6 +27,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -66,6 +69,55 @@ public interface ColumnFamilyManager extends AutoCloseable {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * Returns true when the database writes a bulk of entities natively, so
+     * {@link ColumnFamilyManager#bulkInsert(Iterable, BulkWriteOptions)} and
+     * {@link ColumnFamilyManager#bulkUpdate(Iterable, BulkWriteOptions)} are overwritten to send each batch at once.
+     * By default it is false.
+     *
+     * @return true when the bulk write is native
+     */
+    default boolean supportsBulkWrite() {
+        return false;
+    }
+
+    /**
+     * Inserts a bulk of entities. The caller splits the entities by {@link BulkWriteOptions#getBatchSize()},
+     * by default each entity is inserted using {@link ColumnFamilyManager#insert(ColumnEntity)} or
+     * {@link ColumnFamilyManager#insert(ColumnEntity, Duration)} when the options has TTL,
+     * each NoSQL vendor might replace to a more appropriate one, see {@link ColumnFamilyManager#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the bulk options
+     * @return the result with the inserted entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default BulkWriteResult<ColumnEntity> bulkInsert(Iterable<ColumnEntity> entities, BulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Optional<Duration> ttl = options.getTtl();
+        if (ttl.isPresent()) {
+            return BulkWriteResult.write(entities, options.isOrdered(), e -> insert(e, ttl.get()));
+        }
+        return BulkWriteResult.write(entities, options.isOrdered(), this::insert);
+    }
+
+    /**
+     * Updates a bulk of entities. The caller splits the entities by {@link BulkWriteOptions#getBatchSize()},
+     * by default each entity is updated using {@link ColumnFamilyManager#update(ColumnEntity)},
+     * each NoSQL vendor might replace to a more appropriate one, see {@link ColumnFamilyManager#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be updated
+     * @param options  the bulk options
+     * @return the result with the updated entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default BulkWriteResult<ColumnEntity> bulkUpdate(Iterable<ColumnEntity> entities, BulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return BulkWriteResult.write(entities, options.isOrdered(), this::update);
+    }
+
     /**
      * Saves a Column family entity with time to live
      *
@@ -128,6 +180,28 @@ public interface ColumnFamilyManager extends AutoCloseable {
      */
     List<ColumnEntity> select(ColumnQuery query);
 
+    /**
+     * Finds {@link ColumnEntity} from select lazily, the entities are fetched while the stream is consumed.
+     * The drivers whose database has cursors should override it to return the stream of a
+     * {@link org.jnosql.diana.api.Cursor} that fetches fetchSize entities per request;
+     * by default it is the stream of {@link ColumnFamilyManager#select(ColumnQuery)}.
+     * The stream might hold a database cursor, so it should be closed after its use.
+     *
+     * @param query     - select to figure out entities
+     * @param fetchSize the number of entities fetched per request to the database
+     * @return the entities found by select as a stream
+     * @throws NullPointerException          when select is null
+     * @throws IllegalArgumentException      when fetchSize is not positive
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<ColumnEntity> selectStream(ColumnQuery query, int fetchSize) {
+        Objects.requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero");
+        }
+        return select(query).stream();
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
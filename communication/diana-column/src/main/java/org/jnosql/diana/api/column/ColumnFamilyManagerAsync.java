@@ -18,12 +18,19 @@
 package org.jnosql.diana.api.column;
 
 
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.CompletionStages;
+import org.jnosql.diana.api.Cursor;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -154,6 +161,66 @@ public interface ColumnFamilyManagerAsync extends AutoCloseable {
      */
     void update(ColumnEntity entity, Consumer<ColumnEntity> callBack);
 
+    /**
+     * Returns true when the database writes a bulk of entities natively, so
+     * {@link ColumnFamilyManagerAsync#bulkInsert(Iterable, BulkWriteOptions, Consumer)} and
+     * {@link ColumnFamilyManagerAsync#bulkUpdate(Iterable, BulkWriteOptions, Consumer)} are overwritten to send
+     * each batch at once. By default it is false.
+     *
+     * @return true when the bulk write is native
+     */
+    default boolean supportsBulkWrite() {
+        return false;
+    }
+
+    /**
+     * Inserts a bulk of entities asynchronously. The caller splits the entities by
+     * {@link BulkWriteOptions#getBatchSize()}, by default each entity is inserted using
+     * {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Consumer)} or {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Duration, Consumer)}
+     * when the options has TTL, each NoSQL vendor might replace to a more appropriate one,
+     * see {@link ColumnFamilyManagerAsync#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the bulk options
+     * @param callBack the callback with the inserted entities and the failures
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when there is null parameter
+     */
+    default void bulkInsert(Iterable<ColumnEntity> entities, BulkWriteOptions options,
+                            Consumer<BulkWriteResult<ColumnEntity>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        Optional<Duration> ttl = options.getTtl();
+        if (ttl.isPresent()) {
+            BulkWriteResult.write(entities, options.isOrdered(), (e, c) -> insert(e, ttl.get(), c), callBack);
+        } else {
+            BulkWriteResult.write(entities, options.isOrdered(), this::insert, callBack);
+        }
+    }
+
+    /**
+     * Updates a bulk of entities asynchronously. The caller splits the entities by
+     * {@link BulkWriteOptions#getBatchSize()}, by default each entity is updated using
+     * {@link ColumnFamilyManagerAsync#update(ColumnEntity, Consumer)}, each NoSQL vendor might replace to a more appropriate one,
+     * see {@link ColumnFamilyManagerAsync#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be updated
+     * @param options  the bulk options
+     * @param callBack the callback with the updated entities and the failures
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when there is null parameter
+     */
+    default void bulkUpdate(Iterable<ColumnEntity> entities, BulkWriteOptions options,
+                            Consumer<BulkWriteResult<ColumnEntity>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        BulkWriteResult.write(entities, options.isOrdered(), this::update, callBack);
+    }
+
 
     /**
      * Deletes an entity asynchronously
@@ -260,6 +327,125 @@ public interface ColumnFamilyManagerAsync extends AutoCloseable {
      */
     void count(String columnFamily, Consumer<Long> callback);
 
+    /**
+     * Saves an entity asynchronously, by default it adapts
+     * {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Consumer)}.
+     *
+     * @param entity entity to be saved
+     * @return the stage with the saved entity
+     * @throws NullPointerException when entity is null
+     * @see org.jnosql.diana.api.CompletionStages#of(Consumer)
+     */
+    default CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> insert(entity, c));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it adapts
+     * {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Duration, Consumer)}.
+     *
+     * @param entity entity to be saved
+     * @param ttl    time to live
+     * @return the stage with the saved entity
+     * @throws NullPointerException          when either entity or ttl are null
+     * @throws UnsupportedOperationException when expired time is not supported
+     */
+    default CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(c -> insert(entity, ttl, c));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it adapts
+     * {@link ColumnFamilyManagerAsync#update(ColumnEntity, Consumer)}.
+     *
+     * @param entity entity to be updated
+     * @return the stage with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    default CompletionStage<ColumnEntity> updateAsync(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> update(entity, c));
+    }
+
+    /**
+     * Deletes an entity asynchronously, by default it adapts
+     * {@link ColumnFamilyManagerAsync#delete(ColumnDeleteQuery, Consumer)}.
+     *
+     * @param query query to delete an entity
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> delete(query, c));
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select asynchronously, by default it adapts
+     * {@link ColumnFamilyManagerAsync#select(ColumnQuery, Consumer)}.
+     *
+     * @param query select to figure out entities
+     * @return the stage with the entities found by select
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<List<ColumnEntity>> selectAsync(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> select(query, c));
+    }
+
+    /**
+     * Returns a single entity from select asynchronously, the stage is completed exceptionally with
+     * {@link NonUniqueResultException} when the result has more than 1 entity
+     *
+     * @param query select to figure out entities
+     * @return the stage with the entity found by select
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Optional<ColumnEntity>> singleResultAsync(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return selectAsync(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        });
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} of the entities from select, the entities are sent as the subscriber
+     * requests them. By default it adapts {@link ColumnFamilyManagerAsync#selectAsync(ColumnQuery)}, so the result is loaded at
+     * once when the subscriber requests the first entity; the drivers that have cursors should override it
+     * to fetch the entities by demand.
+     *
+     * @param query select to figure out entities
+     * @return a publisher of the entities found by select
+     * @throws NullPointerException when query is null
+     */
+    default Flow.Publisher<ColumnEntity> selectPublisher(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Publishers.fromStage(() -> selectAsync(query)
+                .thenApply(entities -> Cursor.of(entities.iterator(), () -> {
+                })));
+    }
+
+    /**
+     * Returns the number of elements from column family asynchronously, by default it adapts
+     * {@link ColumnFamilyManagerAsync#count(String, Consumer)}.
+     *
+     * @param columnFamily the column family
+     * @return the stage with the number of elements
+     * @throws NullPointerException when columnFamily is null
+     */
+    default CompletionStage<Long> countAsync(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return CompletionStages.of(c -> count(columnFamily, c));
+    }
+
     /**
      * closes a resource
      */
@@ -19,6 +19,9 @@ package org.jnosql.diana.api.column;
 /**
  * An observer to a parser; this observer allows checking both the name of an entity and the fields.
  * This observer might be used to the mapper process.
+ * <p>The prepared statement templates are cached by query and observer, and the observer is compared with
+ * {@link Object#equals(Object)}. An observer that does not override it only hits that cache when the same
+ * instance is used again, so keep one instance instead of creating a new observer for each statement.</p>
  */
 public interface ColumnObserverParser {
 
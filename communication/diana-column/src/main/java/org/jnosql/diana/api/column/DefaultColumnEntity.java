@@ -177,12 +177,13 @@ final class DefaultColumnEntity implements ColumnEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof ColumnEntity)) {
             return false;
         }
-        DefaultColumnEntity that = (DefaultColumnEntity) o;
-        return Objects.equals(columns, that.columns) &&
-                Objects.equals(name, that.name);
+        ColumnEntity that = (ColumnEntity) o;
+        return columns.size() == that.size() &&
+                columns.values().stream().allMatch(c -> that.find(c.getName()).filter(c::equals).isPresent()) &&
+                Objects.equals(name, that.getName());
     }
 
     @Override
@@ -20,11 +20,19 @@ package org.jnosql.diana.api.column.query;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnObserverParser;
+import org.jnosql.query.ArrayValue;
 import org.jnosql.query.Condition;
 import org.jnosql.query.ConditionValue;
+import org.jnosql.query.FunctionValue;
 import org.jnosql.query.QueryException;
+import org.jnosql.query.Value;
 import org.jnosql.query.Where;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
 import static org.jnosql.diana.api.column.ColumnCondition.and;
 import static org.jnosql.diana.api.column.ColumnCondition.between;
 import static org.jnosql.diana.api.column.ColumnCondition.eq;
@@ -95,6 +103,92 @@ final class Conditions {
         }
     }
 
+    /**
+     * Compiles the condition once, so each call of the returned function only creates the nodes that
+     * hold a parameter; the nodes without parameter are shared between the calls.
+     */
+    static Function<ColumnParams, ColumnCondition> getTemplate(Where where, ColumnObserverParser observer,
+                                                                   String entity) {
+        return getTemplate(where.getCondition(), observer, entity);
+    }
+
+    private static Function<ColumnParams, ColumnCondition> getTemplate(Condition condition,
+                                                                           ColumnObserverParser observer,
+                                                                           String entity) {
+        if (!hasParameter(condition.getValue())) {
+            ColumnCondition columnCondition = getCondition(condition, new ColumnParams(), observer, entity);
+            return p -> columnCondition;
+        }
+        switch (condition.getOperator()) {
+            case NOT:
+                Function<ColumnParams, ColumnCondition> negate =
+                        getTemplate(ConditionValue.class.cast(condition.getValue()).get().get(0), observer, entity);
+                return p -> negate.apply(p).negate();
+            case OR:
+                List<Function<ColumnParams, ColumnCondition>> ors =
+                        getTemplates(condition, observer, entity);
+                return p -> or(ors.stream().map(c -> c.apply(p)).toArray(ColumnCondition[]::new));
+            case AND:
+                List<Function<ColumnParams, ColumnCondition>> ands =
+                        getTemplates(condition, observer, entity);
+                return p -> and(ands.stream().map(c -> c.apply(p)).toArray(ColumnCondition[]::new));
+            default:
+                String name = getName(condition, observer, entity);
+                Value<?> value = condition.getValue();
+                return p -> getCondition(condition, Column.of(name, Values.get(value, p)));
+        }
+    }
+
+    private static List<Function<ColumnParams, ColumnCondition>> getTemplates(
+            Condition condition, ColumnObserverParser observer, String entity) {
+        return ConditionValue.class.cast(condition.getValue()).get().stream()
+                .map(c -> getTemplate(c, observer, entity))
+                .collect(toList());
+    }
+
+    private static ColumnCondition getCondition(Condition condition, Column column) {
+        switch (condition.getOperator()) {
+            case EQUALS:
+                return eq(column);
+            case GREATER_THAN:
+                return gt(column);
+            case GREATER_EQUALS_THAN:
+                return gte(column);
+            case LESSER_THAN:
+                return lt(column);
+            case LESSER_EQUALS_THAN:
+                return lte(column);
+            case IN:
+                return in(column);
+            case LIKE:
+                return like(column);
+            case BETWEEN:
+                return between(column);
+            default:
+                throw new QueryException("There is not support the type: " + condition.getOperator());
+        }
+    }
+
+    private static boolean hasParameter(Value<?> value) {
+        switch (value.getType()) {
+            case PARAMETER:
+                return true;
+            case ARRAY:
+                return Stream.of(ArrayValue.class.cast(value).get()).anyMatch(Conditions::hasParameter);
+            case FUNCTION:
+                return Stream.of(FunctionValue.class.cast(value).get().getParams())
+                        .filter(Value.class::isInstance)
+                        .map(Value.class::cast)
+                        .anyMatch(Conditions::hasParameter);
+            case CONDITION:
+                return ConditionValue.class.cast(value).get().stream()
+                        .map(Condition::getValue)
+                        .anyMatch(Conditions::hasParameter);
+            default:
+                return false;
+        }
+    }
+
     private static String getName(Condition condition, ColumnObserverParser observer, String entity) {
         return observer.fireField(entity, condition.getName());
     }
@@ -19,13 +19,30 @@ package org.jnosql.diana.api.column.query;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.query.DeleteQuery;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * A converter that converts {@link DeleteQuery} to {@link ColumnDeleteQueryParams}
  */
 public interface DeleteQueryConverter extends BiFunction<DeleteQuery, ColumnObserverParser, ColumnDeleteQueryParams> {
 
+    /**
+     * Converts the {@link DeleteQuery} once and returns a supplier that creates, to each call, a new {@link ColumnDeleteQueryParams}
+     * from that conversion, so the caller only needs to bind the parameters.
+     *
+     * @param deleteQuery the query
+     * @param observer    the observer
+     * @return a supplier of {@link ColumnDeleteQueryParams}
+     * @throws NullPointerException when there is null parameter
+     */
+    default Supplier<ColumnDeleteQueryParams> compile(DeleteQuery deleteQuery, ColumnObserverParser observer) {
+        Objects.requireNonNull(deleteQuery, "deleteQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        return () -> apply(deleteQuery, observer);
+    }
+
     /**
      * A {@link DeleteQueryConverter} instance
      *
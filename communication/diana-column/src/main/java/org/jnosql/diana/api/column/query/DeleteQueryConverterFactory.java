@@ -19,6 +19,8 @@ package org.jnosql.diana.api.column.query;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.query.DeleteQuery;
 
+import java.util.function.Supplier;
+
 enum DeleteQueryConverterFactory implements DeleteQueryConverter {
 
     INSTANCE;
@@ -29,4 +31,9 @@ enum DeleteQueryConverterFactory implements DeleteQueryConverter {
     public ColumnDeleteQueryParams apply(DeleteQuery deleteQuery, ColumnObserverParser columnObserverParser) {
         return parser.apply(deleteQuery, columnObserverParser);
     }
+
+    @Override
+    public Supplier<ColumnDeleteQueryParams> compile(DeleteQuery deleteQuery, ColumnObserverParser observer) {
+        return parser.compile(deleteQuery, observer);
+    }
 }
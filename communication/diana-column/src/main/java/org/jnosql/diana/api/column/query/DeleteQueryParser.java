@@ -26,11 +26,16 @@ import org.jnosql.diana.api.column.ColumnPreparedStatement;
 import org.jnosql.diana.api.column.ColumnPreparedStatementAsync;
 import org.jnosql.query.DeleteQuery;
 import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.QueryException;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -38,16 +43,18 @@ import static java.util.Objects.requireNonNull;
 final class DeleteQueryParser implements DeleteQueryConverter{
 
     private final DeleteQuerySupplier selectQuerySupplier;
-    private final CacheQuery<ColumnDeleteQuery> cache;
+    private final QueryCache<String, ColumnDeleteQuery> cache;
+    private final QueryCache<Entry<String, ColumnObserverParser>, Function<ColumnParams, ColumnDeleteQuery>> templates;
 
     DeleteQueryParser() {
         this.selectQuerySupplier = DeleteQuerySupplier.getSupplier();
-        cache = new CacheQuery<>(this::getQuery);
+        cache = QueryCache.of(q -> getQuery(q, ColumnObserverParser.EMPTY));
+        templates = QueryCache.of(k -> getTemplate(k.getKey(), k.getValue()));
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer);
+        ColumnDeleteQuery columnDeleteQuery = cache.get(query, q -> getQuery(q, observer));
         manager.delete(columnDeleteQuery);
         return Collections.emptyList();
     }
@@ -55,14 +62,14 @@ final class DeleteQueryParser implements DeleteQueryConverter{
     void queryAsync(String query, ColumnFamilyManagerAsync manager,
                     Consumer<List<ColumnEntity>> callBack, ColumnObserverParser observer) {
 
-        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer);
+        ColumnDeleteQuery columnDeleteQuery = cache.get(query, q -> getQuery(q, observer));
         manager.delete(columnDeleteQuery, v -> callBack.accept(Collections.emptyList()));
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
                                     ColumnObserverParser observer) {
         ColumnParams params = new ColumnParams();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
+        ColumnDeleteQuery columnDeleteQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultColumnPreparedStatement.delete(columnDeleteQuery, params, query, manager);
     }
 
@@ -70,7 +77,7 @@ final class DeleteQueryParser implements DeleteQueryConverter{
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
         ColumnParams params = new ColumnParams();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
+        ColumnDeleteQuery columnDeleteQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultColumnPreparedStatementAsync.delete(columnDeleteQuery, params, query, manager);
 
     }
@@ -86,10 +93,34 @@ final class DeleteQueryParser implements DeleteQueryConverter{
         return new DefaultColumnDeleteQueryParams(query, params);
     }
 
-    private ColumnDeleteQuery getQuery(String query, ColumnParams params, ColumnObserverParser observer) {
-        DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
+    @Override
+    public Supplier<ColumnDeleteQueryParams> compile(DeleteQuery deleteQuery, ColumnObserverParser observer) {
+        requireNonNull(deleteQuery, "deleteQuery is required");
+        requireNonNull(observer, "observer is required");
+        Function<ColumnParams, ColumnDeleteQuery> template = getTemplate(deleteQuery, observer);
+        return () -> {
+            ColumnParams params = new ColumnParams();
+            return new DefaultColumnDeleteQueryParams(template.apply(params), params);
+        };
+    }
+
+    private Function<ColumnParams, ColumnDeleteQuery> getTemplate(String query, ColumnObserverParser observer) {
+        return getTemplate(selectQuerySupplier.apply(query), observer);
+    }
+
+    private Function<ColumnParams, ColumnDeleteQuery> getTemplate(DeleteQuery deleteQuery, ColumnObserverParser observer) {
 
-        return getQuery(params, observer, deleteQuery);
+        String columnFamily = observer.fireEntity(deleteQuery.getEntity());
+        List<String> columns = deleteQuery.getFields().stream()
+                .map(f -> observer.fireField(columnFamily, f))
+                .collect(Collectors.toList());
+
+        if (deleteQuery.getWhere().isPresent()) {
+            Function<ColumnParams, ColumnCondition> condition = Conditions.getTemplate(deleteQuery.getWhere().get(),
+                    observer, columnFamily);
+            return p -> new DefaultColumnDeleteQuery(columnFamily, condition.apply(p), columns);
+        }
+        return p -> new DefaultColumnDeleteQuery(columnFamily, null, columns);
     }
 
     private ColumnDeleteQuery getQuery(ColumnParams params, ColumnObserverParser observer, DeleteQuery deleteQuery) {
@@ -19,13 +19,30 @@ package org.jnosql.diana.api.column.query;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.query.SelectQuery;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * A converter that converts {@link SelectQuery} to {@link ColumnQueryParams}
  */
 public interface SelectQueryConverter extends BiFunction<SelectQuery, ColumnObserverParser, ColumnQueryParams> {
 
+    /**
+     * Converts the {@link SelectQuery} once and returns a supplier that creates, to each call, a new {@link ColumnQueryParams}
+     * from that conversion, so the caller only needs to bind the parameters.
+     *
+     * @param selectQuery the query
+     * @param observer    the observer
+     * @return a supplier of {@link ColumnQueryParams}
+     * @throws NullPointerException when there is null parameter
+     */
+    default Supplier<ColumnQueryParams> compile(SelectQuery selectQuery, ColumnObserverParser observer) {
+        Objects.requireNonNull(selectQuery, "selectQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        return () -> apply(selectQuery, observer);
+    }
+
     /**
      * A {@link SelectQueryConverter} instance
      *
@@ -19,6 +19,8 @@ package org.jnosql.diana.api.column.query;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.query.SelectQuery;
 
+import java.util.function.Supplier;
+
 enum SelectQueryConverterFactory implements SelectQueryConverter {
 
     INSTANCE;
@@ -29,4 +31,9 @@ enum SelectQueryConverterFactory implements SelectQueryConverter {
     public ColumnQueryParams apply(SelectQuery selectQuery, ColumnObserverParser columnObserverParser) {
         return parser.apply(selectQuery, columnObserverParser);
     }
+
+    @Override
+    public Supplier<ColumnQueryParams> compile(SelectQuery selectQuery, ColumnObserverParser observer) {
+        return parser.compile(selectQuery, observer);
+    }
 }
@@ -25,13 +25,18 @@ import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnPreparedStatement;
 import org.jnosql.diana.api.column.ColumnPreparedStatementAsync;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.QueryException;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.SelectQuerySupplier;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toList;
@@ -41,33 +46,32 @@ import static org.jnosql.diana.api.Sort.SortType.DESC;
 final class SelectQueryParser implements SelectQueryConverter {
 
     private final SelectQuerySupplier selectQuerySupplier;
-    private final CacheQuery<ColumnQuery> cache;
+    private final QueryCache<String, ColumnQuery> cache;
+    private final QueryCache<Entry<String, ColumnObserverParser>, Function<ColumnParams, ColumnQuery>> templates;
 
     SelectQueryParser() {
         this.selectQuerySupplier = SelectQuerySupplier.getSupplier();
-        this.cache = new CacheQuery<>(this::getColumnQuery);
+        this.cache = QueryCache.of(q -> getColumnQuery(q, ColumnObserverParser.EMPTY));
+        this.templates = QueryCache.of(k -> getTemplate(k.getKey(), k.getValue()));
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        ColumnQuery columnQuery = cache.get(query, observer);
+        ColumnQuery columnQuery = cache.get(query, q -> getColumnQuery(q, observer));
         return manager.select(columnQuery);
     }
 
     void queryAsync(String query, ColumnFamilyManagerAsync manager, Consumer<List<ColumnEntity>> callBack,
                     ColumnObserverParser observer) {
 
-        ColumnQuery columnQuery = cache.get(query, observer);
+        ColumnQuery columnQuery = cache.get(query, q -> getColumnQuery(q, observer));
         manager.select(columnQuery, callBack);
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
         ColumnParams params = new ColumnParams();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
+        ColumnQuery columnQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultColumnPreparedStatement.select(columnQuery, params, query, manager);
     }
 
@@ -82,13 +86,21 @@ final class SelectQueryParser implements SelectQueryConverter {
         return new DefaultColumnQueryParams(columnQuery, params);
     }
 
+    @Override
+    public Supplier<ColumnQueryParams> compile(SelectQuery selectQuery, ColumnObserverParser observer) {
+        Objects.requireNonNull(selectQuery, "selectQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        Function<ColumnParams, ColumnQuery> template = getTemplate(selectQuery, observer);
+        return () -> {
+            ColumnParams params = new ColumnParams();
+            return new DefaultColumnQueryParams(template.apply(params), params);
+        };
+    }
+
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
         ColumnParams params = new ColumnParams();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
+        ColumnQuery columnQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultColumnPreparedStatementAsync.select(columnQuery, params, query, manager);
     }
 
@@ -133,6 +145,27 @@ final class SelectQueryParser implements SelectQueryConverter {
         return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
     }
 
+    private Function<ColumnParams, ColumnQuery> getTemplate(String query, ColumnObserverParser observer) {
+        return getTemplate(selectQuerySupplier.apply(query), observer);
+    }
+
+    private Function<ColumnParams, ColumnQuery> getTemplate(SelectQuery selectQuery, ColumnObserverParser observer) {
+        String columnFamily = observer.fireEntity(selectQuery.getEntity());
+        long limit = selectQuery.getLimit();
+        long skip = selectQuery.getSkip();
+        List<String> columns = selectQuery.getFields().stream()
+                .map(f -> observer.fireField(columnFamily, f))
+                .collect(Collectors.toList());
+        List<Sort> sorts = selectQuery.getOrderBy().stream().map(s -> toSort(s, observer, columnFamily)).collect(toList());
+
+        if (selectQuery.getWhere().isPresent()) {
+            Function<ColumnParams, ColumnCondition> condition = Conditions.getTemplate(selectQuery.getWhere().get(),
+                    observer, columnFamily);
+            return p -> new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition.apply(p));
+        }
+        return p -> new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, null);
+    }
+
     private Sort toSort(org.jnosql.query.Sort sort, ColumnObserverParser observer, String entity) {
         return Sort.of(observer.fireField(entity, sort.getName()),
                 sort.getType().equals(org.jnosql.query.Sort.SortType.ASC) ? ASC : DESC);
@@ -0,0 +1,234 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.api.column;
+
+import org.jnosql.diana.api.Value;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArrayColumnEntityTest {
+
+    @Test
+    public void shouldReturnErrorWhenNameIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> ColumnEntity.compact(null, 10));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenExpectedSizeIsNegative() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ColumnEntity.compact("entity", -1));
+    }
+
+    @Test
+    public void shouldKeepTheInsertionOrder() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 3);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add(Column.of("city", "London"));
+
+        assertThat(entity.getColumnNames(), contains("name", "age", "city"));
+        assertThat(entity.getValues(), contains(Value.of("Ada"), Value.of(10), Value.of("London")));
+        assertEquals(Column.of("age", 10), entity.getColumns().get(1));
+    }
+
+    @Test
+    public void shouldReplaceDuplicatedColumn() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("name", 10);
+        entity.add("age", 20);
+        entity.add("name", 13);
+        assertEquals(2, entity.size());
+        assertEquals(Column.of("name", 13), entity.find("name").get());
+        assertEquals(Column.of("name", 13), entity.getColumns().get(0));
+    }
+
+    @Test
+    public void shouldGrowBeyondTheExpectedSize() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 0);
+        IntStream.range(0, 100).forEach(i -> entity.add("column" + i, i));
+
+        assertEquals(100, entity.size());
+        for (int i = 0; i < 100; i++) {
+            Optional<Column> column = entity.find("column" + i);
+            assertTrue(column.isPresent());
+            assertEquals(i, column.get().get());
+        }
+        assertFalse(entity.find("column100").isPresent());
+    }
+
+    @Test
+    public void shouldRemoveAndKeepTheOrder() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 3);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("city", "London");
+
+        assertTrue(entity.remove("age"));
+        assertFalse(entity.remove("age"));
+        assertEquals(2, entity.size());
+        assertFalse(entity.contains("age"));
+        assertTrue(entity.contains("city"));
+        assertThat(entity.getColumnNames(), contains("name", "city"));
+
+        entity.add("age", 12);
+        assertThat(entity.getColumnNames(), contains("name", "city", "age"));
+    }
+
+    @Test
+    public void shouldReturnReadOnlyViews() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        List<Column> columns = entity.getColumns();
+        assertSame(columns, entity.getColumns());
+        assertTrue(columns.isEmpty());
+
+        entity.add("name", "Ada");
+        assertEquals(1, columns.size());
+        assertTrue(entity.getColumnNames().contains("name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> columns.add(Column.of("age", 10)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> entity.getColumnNames().add("age"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> entity.getValues().add(Value.of(10)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> columns.get(1));
+    }
+
+    @Test
+    public void shouldBeEqualsToTheDefaultEntity() {
+        List<Column> columns = asList(Column.of("name", "Ada"), Column.of("age", 10));
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.addAll(columns);
+        ColumnEntity defaultEntity = ColumnEntity.of("entity", columns);
+
+        assertEquals(defaultEntity, entity);
+        assertEquals(entity, defaultEntity);
+        assertEquals(defaultEntity.hashCode(), entity.hashCode());
+        assertNotEquals(ColumnEntity.of("entity", columns.subList(0, 1)), entity);
+        assertNotEquals(ColumnEntity.of("entity2", columns), entity);
+    }
+
+    @Test
+    public void shouldFailFastWhenTheEntityChangesWhileIterating() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+
+        Iterator<Column> columns = entity.getColumns().iterator();
+        columns.next();
+        entity.add("city", "London");
+        Assertions.assertThrows(ConcurrentModificationException.class, columns::next);
+
+        Iterator<String> names = entity.getColumnNames().iterator();
+        names.next();
+        entity.remove("city");
+        Assertions.assertThrows(ConcurrentModificationException.class, names::next);
+
+        Iterator<Value> values = entity.getValues().iterator();
+        entity.clear();
+        Assertions.assertThrows(ConcurrentModificationException.class, values::next);
+    }
+
+    @Test
+    public void shouldNotFailWhenTheValueIsReplacedWhileIterating() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+
+        Iterator<Column> columns = entity.getColumns().iterator();
+        columns.next();
+        entity.add("age", 12);
+        assertEquals(Column.of("age", 12), columns.next());
+        assertFalse(columns.hasNext());
+    }
+
+    @Test
+    public void shouldBeSymmetricEqualsToTheDefaultEntityWithSubColumns() {
+        Column address = Column.of("address", asList(Column.of("city", "London"), Column.of("zip", "NW1")));
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add(address);
+        ColumnEntity defaultEntity = ColumnEntity.of("entity", asList(address, Column.of("name", "Ada")));
+
+        assertEquals(defaultEntity, entity);
+        assertEquals(entity, defaultEntity);
+        assertEquals(defaultEntity.hashCode(), entity.hashCode());
+
+        defaultEntity.add("name", "Grace");
+        assertNotEquals(defaultEntity, entity);
+        assertNotEquals(entity, defaultEntity);
+
+        entity.add("name", "Grace");
+        entity.remove("address");
+        defaultEntity.remove("address");
+        assertEquals(defaultEntity, entity);
+        assertEquals(entity, defaultEntity);
+        assertEquals(defaultEntity.hashCode(), entity.hashCode());
+    }
+
+    @Test
+    public void shouldDoCopy() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        ColumnEntity copy = entity.copy();
+        copy.add("age", 10);
+
+        assertEquals(1, entity.size());
+        assertEquals(2, copy.size());
+        assertFalse(entity.contains("age"));
+        assertTrue(copy.contains("name"));
+    }
+
+    @Test
+    public void shouldClearAndReuse() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.clear();
+
+        assertTrue(entity.isEmpty());
+        assertFalse(entity.find("name").isPresent());
+        entity.add("age", 12);
+        assertEquals(Column.of("age", 12), entity.find("age").get());
+    }
+
+    @Test
+    public void shouldConvertToMap() {
+        ColumnEntity entity = ColumnEntity.compact("entity", 2);
+        entity.add("_id", "id");
+        entity.add(Column.of("sub", Column.of("name", "Ada")));
+        Map<String, Object> result = entity.toMap();
+
+        assertEquals("id", result.get("_id"));
+        assertEquals("Ada", ((Map<String, Object>) result.get("sub")).get("name"));
+        assertEquals(ColumnEntity.of("entity", entity.getColumns().stream().collect(Collectors.toList())).toMap(),
+                result);
+    }
+}
@@ -472,4 +472,36 @@ class DeleteQueryParserTest {
         assertTrue(columnQuery.getColumns().isEmpty());
         assertEquals("God", columnQuery.getColumnFamily());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"delete from God where age = @age"})
+    public void shouldReuseThePrepareStatementTemplate(String query) {
+        ArgumentCaptor<ColumnDeleteQuery> captor = ArgumentCaptor.forClass(ColumnDeleteQuery.class);
+        ColumnObserverParser observer = Mockito.mock(ColumnObserverParser.class, Mockito.CALLS_REAL_METHODS);
+
+        ColumnPreparedStatement first = parser.prepare(query, manager, observer);
+        ColumnPreparedStatement second = parser.prepare(query, manager, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+
+        Mockito.verify(observer).fireEntity("God");
+        Mockito.verify(manager, Mockito.times(2)).delete(captor.capture());
+        assertEquals(12, captor.getAllValues().get(0).getCondition().get().getColumn().get());
+        assertEquals(20, captor.getAllValues().get(1).getCondition().get().getColumn().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"delete from God where age = @age"})
+    public void shouldNotReuseThePrepareStatementTemplateOfAnotherObserver(String query) {
+        ColumnObserverParser observer = Mockito.mock(ColumnObserverParser.class, Mockito.CALLS_REAL_METHODS);
+        ColumnObserverParser another = Mockito.mock(ColumnObserverParser.class, Mockito.CALLS_REAL_METHODS);
+
+        parser.prepare(query, manager, observer);
+        parser.prepare(query, manager, another);
+
+        Mockito.verify(observer).fireEntity("God");
+        Mockito.verify(another).fireEntity("God");
+    }
+}
@@ -29,6 +29,9 @@ import org.jnosql.diana.api.column.ColumnPreparedStatement;
 import org.jnosql.diana.api.column.ColumnPreparedStatementAsync;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.query.QueryException;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -37,6 +40,7 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -520,6 +524,31 @@ public class SelectQueryParserTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age and name = \"Ada\""})
+    public void shouldBindPrepareStatementsIndependently(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement first = parser.prepare(query, manager, observer);
+        ColumnPreparedStatement second = parser.prepare(query, manager, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        List<ColumnCondition> firstConditions = queries.get(0).getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        List<ColumnCondition> secondConditions = queries.get(1).getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(12, firstConditions.get(0).getColumn().get());
+        assertEquals(20, secondConditions.get(0).getColumn().get());
+        assertEquals(firstConditions.get(1), secondConditions.get(1));
+    }
+
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
     public void shouldReturnErrorWhenIsQueryWithParamAsync(String query) {
@@ -581,6 +610,21 @@ public class SelectQueryParserTest {
     }
 
 
+    @Test
+    public void shouldCompileQueryWithNewParamsToEachCall() {
+        SelectQuery selectQuery = SelectQuerySupplier.getSupplier().apply("select * from God where age = @age");
+        Supplier<ColumnQueryParams> supplier = parser.compile(selectQuery, observer);
+
+        ColumnQueryParams first = supplier.get();
+        ColumnQueryParams second = supplier.get();
+        first.getParams().bind("age", 10);
+        second.getParams().bind("age", 20);
+
+        assertEquals(10, first.getQuery().getCondition().get().getColumn().get());
+        assertEquals(20, second.getQuery().getCondition().get().getColumn().get());
+        assertEquals("God", first.getQuery().getColumnFamily());
+    }
+
     private void checkBaseQuery(ColumnQuery columnQuery, long limit, long skip) {
         assertTrue(columnQuery.getColumns().isEmpty());
         assertTrue(columnQuery.getSorts().isEmpty());
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The state of {@link BulkWriteResult#write(Iterable, boolean, BiConsumer, Consumer)}: the written entities
+ * are kept by index, since the callbacks might be called in any order.
+ */
+final class AsyncBulkWrite<T> {
+
+    private final List<T> entities;
+
+    private final BiConsumer<T, Consumer<T>> write;
+
+    private final Consumer<BulkWriteResult<T>> callBack;
+
+    private final AtomicReferenceArray<T> written;
+
+    private final List<BulkWriteResult.Failure<T>> failures = new ArrayList<>();
+
+    private final AtomicInteger pending;
+
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    AsyncBulkWrite(List<T> entities, BiConsumer<T, Consumer<T>> write,
+                   Consumer<BulkWriteResult<T>> callBack) {
+        this.entities = entities;
+        this.write = write;
+        this.callBack = callBack;
+        this.written = new AtomicReferenceArray<>(entities.size());
+        this.pending = new AtomicInteger(entities.size());
+    }
+
+    void writeAll() {
+        if (entities.isEmpty()) {
+            finish();
+            return;
+        }
+        for (int index = 0; index < entities.size(); index++) {
+            int position = index;
+            AtomicBoolean done = new AtomicBoolean();
+            try {
+                write.accept(entities.get(index), e -> {
+                    if (done.compareAndSet(false, true)) {
+                        written.set(position, e);
+                        countDown();
+                    }
+                });
+            } catch (RuntimeException exception) {
+                if (!done.compareAndSet(false, true)) {
+                    throw exception;
+                }
+                fail(position, exception);
+                countDown();
+            }
+        }
+    }
+
+    void writeInOrder() {
+        writeFrom(0);
+    }
+
+    /**
+     * Writes the entities from the index in a loop while the driver calls back on the same thread; when the driver
+     * calls back later, the callback takes over the loop from the next index, so the stack does not grow.
+     */
+    private void writeFrom(int start) {
+        for (int index = start; index < entities.size(); index++) {
+            int position = index;
+            AtomicBoolean handOff = new AtomicBoolean();
+            try {
+                write.accept(entities.get(position), e -> {
+                    written.set(position, e);
+                    if (!handOff.compareAndSet(false, true)) {
+                        writeFrom(position + 1);
+                    }
+                });
+            } catch (RuntimeException exception) {
+                if (handOff.compareAndSet(false, true)) {
+                    fail(position, exception);
+                    finish();
+                    return;
+                }
+                continue;
+            }
+            if (handOff.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        finish();
+    }
+
+    private void fail(int index, RuntimeException exception) {
+        synchronized (failures) {
+            failures.add(BulkWriteResult.Failure.of(index, entities.get(index), exception));
+        }
+    }
+
+    private void countDown() {
+        if (pending.decrementAndGet() == 0) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        List<T> result = new ArrayList<>();
+        for (int index = 0; index < written.length(); index++) {
+            T entity = written.get(index);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        List<BulkWriteResult.Failure<T>> sortedFailures;
+        synchronized (failures) {
+            sortedFailures = new ArrayList<>(failures);
+        }
+        sortedFailures.sort(Comparator.comparingInt(BulkWriteResult.Failure::getIndex));
+        callBack.accept(new BulkWriteResult<>(result, sortedFailures));
+    }
+}
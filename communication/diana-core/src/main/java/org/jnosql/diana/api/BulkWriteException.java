@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+/**
+ * The exception thrown when a bulk write that does not return a {@link BulkWriteResult} has failures,
+ * the result is available at {@link BulkWriteException#getResult()}.
+ */
+public class BulkWriteException extends CommunicationException {
+
+    private final transient BulkWriteResult<?> result;
+
+    /**
+     * Constructs a new exception with the result of the bulk write
+     *
+     * @param message the message
+     * @param result  the result
+     */
+    public BulkWriteException(String message, BulkWriteResult<?> result) {
+        super(message);
+        this.result = result;
+    }
+
+    /**
+     * @return the result of the bulk write
+     */
+    public BulkWriteResult<?> getResult() {
+        return result;
+    }
+}
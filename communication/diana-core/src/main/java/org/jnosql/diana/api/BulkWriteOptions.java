@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The options of a bulk write, it has three attributes:
+ * -- The batch size - the maximum number of entities sent to the database at once
+ * -- Ordered - when it is true the write stops at the first failure, otherwise it writes all the entities
+ * and reports every failure
+ * -- The TTL - the time to live of the inserted entities, it is optional
+ *
+ * @see BulkWriteOptions#builder()
+ * @see BulkWriteResult
+ */
+public final class BulkWriteOptions {
+
+    /**
+     * The batch size when it is not defined
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final BulkWriteOptions DEFAULT = builder().build();
+
+    private final int batchSize;
+
+    private final boolean ordered;
+
+    private final Duration ttl;
+
+    private BulkWriteOptions(int batchSize, boolean ordered, Duration ttl) {
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+        this.ttl = ttl;
+    }
+
+    /**
+     * @return the maximum number of entities sent to the database at once
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return true when the write stops at the first failure
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @return the time to live of the inserted entities
+     */
+    public Optional<Duration> getTtl() {
+        return Optional.ofNullable(ttl);
+    }
+
+    /**
+     * Returns the default options: the batch size {@value #DEFAULT_BATCH_SIZE}, ordered and without TTL
+     *
+     * @return the default options
+     */
+    public static BulkWriteOptions defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a builder, its default values are the same of {@link BulkWriteOptions#defaults()}
+     *
+     * @return a new {@link BulkWriteOptionsBuilder} instance
+     */
+    public static BulkWriteOptionsBuilder builder() {
+        return new BulkWriteOptionsBuilder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkWriteOptions that = (BulkWriteOptions) o;
+        return batchSize == that.batchSize &&
+                ordered == that.ordered &&
+                Objects.equals(ttl, that.ttl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, ordered, ttl);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteOptions{" + "batchSize=" + batchSize +
+                ", ordered=" + ordered +
+                ", ttl=" + ttl +
+                '}';
+    }
+
+    /**
+     * The builder of {@link BulkWriteOptions}
+     */
+    public static final class BulkWriteOptionsBuilder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private boolean ordered = true;
+
+        private Duration ttl;
+
+        private BulkWriteOptionsBuilder() {
+        }
+
+        /**
+         * Defines the maximum number of entities sent to the database at once
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is not positive
+         */
+        public BulkWriteOptionsBuilder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be greater than zero");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines if the write stops at the first failure
+         *
+         * @param ordered true to stop at the first failure
+         * @return this builder
+         */
+        public BulkWriteOptionsBuilder withOrdered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Defines the time to live of the inserted entities
+         *
+         * @param ttl the time to live
+         * @return this builder
+         * @throws NullPointerException when ttl is null
+         */
+        public BulkWriteOptionsBuilder withTtl(Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl, "ttl is required");
+            return this;
+        }
+
+        /**
+         * Creates the {@link BulkWriteOptions}
+         *
+         * @return a new {@link BulkWriteOptions} instance
+         */
+        public BulkWriteOptions build() {
+            return new BulkWriteOptions(batchSize, ordered, ttl);
+        }
+    }
+}
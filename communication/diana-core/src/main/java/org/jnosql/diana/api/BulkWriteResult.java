@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * The result of a bulk write. It has the written entities, in the same order they were informed,
+ * and the entities that failed with the index they had in the bulk and the cause.
+ * When the write is ordered, it stops at the first failure, so the entities after it are neither written
+ * nor reported as failures; thus the written entities are always the first {@link BulkWriteResult#getEntities()}
+ * size entities of the bulk that are not in {@link BulkWriteResult#getFailures()}.
+ *
+ * @param <T> the entity type
+ * @see BulkWriteOptions
+ */
+public final class BulkWriteResult<T> {
+
+    private final List<T> entities;
+
+    private final List<Failure<T>> failures;
+
+    BulkWriteResult(List<T> entities, List<Failure<T>> failures) {
+        this.entities = Collections.unmodifiableList(entities);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the written entities in the same order of the bulk
+     */
+    public List<T> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return the entities that failed
+     */
+    public List<Failure<T>> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return true when there is at least one failure
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Maps this result to the bulk in another representation, e.g. from the database entities back to the
+     * mapped entities: each written entity is combined with the element of the same index in the bulk
+     * and each failure takes the element of its index.
+     *
+     * @param bulk     the bulk in the other representation, in the same order this result was written
+     * @param function the function that receives the element of the bulk and the written entity
+     * @param <R>      the type of the other representation
+     * @return the mapped result
+     * @throws NullPointerException when there is null parameter
+     */
+    public <R> BulkWriteResult<R> map(List<R> bulk, BiFunction<R, T, R> function) {
+        Objects.requireNonNull(bulk, "bulk is required");
+        Objects.requireNonNull(function, "function is required");
+        Set<Integer> failedIndexes = failures.stream().map(Failure::getIndex).collect(toSet());
+        List<R> written = new ArrayList<>(entities.size());
+        Iterator<T> iterator = entities.iterator();
+        for (int index = 0; index < bulk.size() && iterator.hasNext(); index++) {
+            if (!failedIndexes.contains(index)) {
+                written.add(function.apply(bulk.get(index), iterator.next()));
+            }
+        }
+        List<Failure<R>> mappedFailures = failures.stream()
+                .map(f -> new Failure<>(f.index, bulk.get(f.index), f.cause))
+                .collect(toList());
+        return new BulkWriteResult<>(written, mappedFailures);
+    }
+
+    /**
+     * Returns the same result with the failure indexes shifted, it is used to join the results of the batches
+     * of a bulk
+     *
+     * @param offset the index of the first entity of this result in the whole bulk
+     * @return the result with the indexes shifted
+     */
+    public BulkWriteResult<T> shift(int offset) {
+        List<Failure<T>> shifted = failures.stream()
+                .map(f -> new Failure<>(offset + f.index, f.entity, f.cause))
+                .collect(toList());
+        return new BulkWriteResult<>(entities, shifted);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteResult{" + "entities=" + entities.size() +
+                ", failures=" + failures +
+                '}';
+    }
+
+    /**
+     * Creates a {@link BulkWriteResult}
+     *
+     * @param entities the written entities
+     * @param failures the failures
+     * @param <T>      the entity type
+     * @return a new {@link BulkWriteResult} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> BulkWriteResult<T> of(List<T> entities, List<Failure<T>> failures) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(failures, "failures is required");
+        return new BulkWriteResult<>(new ArrayList<>(entities), new ArrayList<>(failures));
+    }
+
+    /**
+     * Writes the entities one by one, it is the bulk write of the databases that do not have a native one.
+     *
+     * @param entities the entities
+     * @param ordered  true to stop at the first failure
+     * @param write    the write of a single entity
+     * @param <T>      the entity type
+     * @return the result of the bulk write
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> BulkWriteResult<T> write(Iterable<T> entities, boolean ordered, UnaryOperator<T> write) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(write, "write is required");
+        List<T> written = new ArrayList<>();
+        List<Failure<T>> failures = new ArrayList<>();
+        int index = 0;
+        for (T entity : entities) {
+            try {
+                written.add(write.apply(entity));
+            } catch (RuntimeException exception) {
+                failures.add(Failure.of(index, entity, exception));
+                if (ordered) {
+                    break;
+                }
+            }
+            index++;
+        }
+        return new BulkWriteResult<>(written, failures);
+    }
+
+    /**
+     * Writes the entities one by one asynchronously, it is the bulk write of the databases that do not have
+     * a native one. When it is ordered, each entity is written after the callback of the previous one,
+     * otherwise all of them are sent at once. The callback is called when all the writes are finished.
+     *
+     * @param entities the entities
+     * @param ordered  true to stop at the first failure
+     * @param write    the asynchronous write of a single entity
+     * @param callBack the callback with the result of the bulk write
+     * @param <T>      the entity type
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> void write(Iterable<T> entities, boolean ordered, BiConsumer<T, Consumer<T>> write,
+                                 Consumer<BulkWriteResult<T>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(write, "write is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        List<T> bulk = new ArrayList<>();
+        entities.forEach(bulk::add);
+        AsyncBulkWrite<T> asyncWrite = new AsyncBulkWrite<>(bulk, write, callBack);
+        if (ordered) {
+            asyncWrite.writeInOrder();
+        } else {
+            asyncWrite.writeAll();
+        }
+    }
+
+    /**
+     * An entity that failed in a bulk write
+     *
+     * @param <T> the entity type
+     */
+    public static final class Failure<T> {
+
+        private final int index;
+
+        private final T entity;
+
+        private final RuntimeException cause;
+
+        private Failure(int index, T entity, RuntimeException cause) {
+            this.index = index;
+            this.entity = entity;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the index of the entity in the bulk
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the entity that failed
+         */
+        public T getEntity() {
+            return entity;
+        }
+
+        /**
+         * @return the cause of the failure
+         */
+        public RuntimeException getCause() {
+            return cause;
+        }
+
+        /**
+         * Creates a {@link Failure}
+         *
+         * @param index  the index of the entity in the bulk
+         * @param entity the entity
+         * @param cause  the cause
+         * @param <T>    the entity type
+         * @return a new {@link Failure} instance
+         * @throws NullPointerException when entity or cause is null
+         */
+        public static <T> Failure<T> of(int index, T entity, RuntimeException cause) {
+            Objects.requireNonNull(entity, "entity is required");
+            Objects.requireNonNull(cause, "cause is required");
+            return new Failure<>(index, entity, cause);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" + "index=" + index +
+                    ", cause=" + cause +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Utilitarian class to adapt the asynchronous operations that use {@link Consumer} as callback
+ * to {@link CompletionStage}
+ */
+public final class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    /**
+     * Creates a {@link CompletionStage} from an operation that receives a callback. The stage is completed when
+     * the operation calls the callback, and it is completed exceptionally when the operation throws an exception
+     * before that. A failure that the operation never reports to the callback leaves the stage incomplete, so
+     * the drivers that have a native asynchronous API should override the stage methods instead.
+     *
+     * @param operation the operation that receives the callback
+     * @param <T>       the result type
+     * @return a new {@link CompletionStage} instance
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> CompletionStage<T> of(Consumer<Consumer<T>> operation) {
+        Objects.requireNonNull(operation, "operation is required");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            operation.accept(future::complete);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+}
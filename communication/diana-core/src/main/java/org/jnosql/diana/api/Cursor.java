@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A database cursor, it fetches the entities while they are iterated instead of loading all of them in memory.
+ * The cursor holds database resources, so it must be closed when it is no longer used; the stream
+ * from {@link Cursor#stream()} closes the cursor when it is closed.
+ *
+ * @param <T> the entity type
+ */
+public interface Cursor<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Releases the database resources of this cursor
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns a sequential {@link Stream} over the remaining entities of this cursor. Closing the stream
+     * closes this cursor.
+     *
+     * @return a stream from this cursor
+     */
+    default Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Creates a {@link Cursor} from an {@link Iterator} and the action that releases its resources
+     *
+     * @param iterator the iterator
+     * @param close    the action called when the cursor is closed
+     * @param <T>      the entity type
+     * @return a new {@link Cursor} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    static <T> Cursor<T> of(Iterator<T> iterator, Runnable close) {
+        Objects.requireNonNull(iterator, "iterator is required");
+        Objects.requireNonNull(close, "close is required");
+        return new Cursor<T>() {
+            @Override
+            public void close() {
+                close.run();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+}
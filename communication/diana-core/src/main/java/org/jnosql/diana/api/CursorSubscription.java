@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Flow.Subscription} that sends to the subscriber the items of a {@link Cursor} as they are requested.
+ * The signals are sent by only one thread at a time: the one that requests, cancels or opens the cursor
+ * while there is no other one sending.
+ *
+ * @param <T> the item type
+ */
+final class CursorSubscription<T> implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super T> subscriber;
+
+    private final Supplier<? extends CompletionStage<? extends Cursor<T>>> supplier;
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private final AtomicInteger work = new AtomicInteger();
+
+    private final AtomicBoolean opened = new AtomicBoolean();
+
+    private volatile Cursor<T> cursor;
+
+    private volatile Throwable error;
+
+    private volatile boolean cancelled;
+
+    private boolean done;
+
+    CursorSubscription(Flow.Subscriber<? super T> subscriber,
+                       Supplier<? extends CompletionStage<? extends Cursor<T>>> supplier) {
+        this.subscriber = subscriber;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException("The number of requested items must be greater than zero");
+        } else {
+            requested.accumulateAndGet(n, (current, value) -> current + value < 0 ? Long.MAX_VALUE : current + value);
+            if (opened.compareAndSet(false, true)) {
+                open();
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    private void open() {
+        try {
+            supplier.get().whenComplete((c, e) -> {
+                if (e == null) {
+                    cursor = c;
+                } else {
+                    error = e;
+                }
+                drain();
+            });
+        } catch (RuntimeException exception) {
+            error = exception;
+        }
+    }
+
+    private void drain() {
+        if (work.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (done) {
+                release();
+            } else {
+                emit();
+            }
+            missed = work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit() {
+        if (cancelled) {
+            terminate();
+            return;
+        }
+        Throwable exception = error;
+        if (exception != null) {
+            terminate();
+            subscriber.onError(exception);
+            return;
+        }
+        Cursor<T> current = cursor;
+        if (current == null) {
+            return;
+        }
+        try {
+            long demand = requested.get();
+            long sent = 0;
+            while (sent != demand && !cancelled && current.hasNext()) {
+                subscriber.onNext(current.next());
+                sent++;
+            }
+            if (cancelled) {
+                terminate();
+            } else if (!current.hasNext()) {
+                terminate();
+                subscriber.onComplete();
+            } else if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-sent);
+            }
+        } catch (RuntimeException ex) {
+            boolean terminated = done;
+            terminate();
+            if (!terminated) {
+                subscriber.onError(ex);
+            }
+        }
+    }
+
+    private void terminate() {
+        done = true;
+        cancelled = true;
+        release();
+    }
+
+    private void release() {
+        Cursor<T> current = cursor;
+        cursor = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
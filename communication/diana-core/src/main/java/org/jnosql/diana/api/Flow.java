@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+/**
+ * The interfaces of the Reactive Streams, they have the same contract of {@code java.util.concurrent.Flow},
+ * which is not available in Java 8, so a publisher from this API is adapted to the JDK or to another
+ * Reactive Streams implementation with a method reference to each one of its methods.
+ */
+public final class Flow {
+
+    private Flow() {
+    }
+
+    /**
+     * A producer of items that are received by {@link Subscriber}s as they demand them
+     *
+     * @param <T> the item type
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds the subscriber, it receives a {@link Subscription} to {@link Subscriber#onSubscribe(Subscription)}
+         * and then the items until either it is completed, it fails or the subscription is cancelled.
+         *
+         * @param subscriber the subscriber
+         * @throws NullPointerException when subscriber is null
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items, the methods of each subscription are called sequentially
+     *
+     * @param <T> the item type
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called before any other method of the subscription, the subscriber does not receive any item
+         * until it calls {@link Subscription#request(long)}
+         *
+         * @param subscription the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item of the subscription
+         *
+         * @param item the item
+         */
+        void onNext(T item);
+
+        /**
+         * Called when the subscription fails, no other method is called after it
+         *
+         * @param throwable the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called when there is no more item, no other method is called after it
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a {@link Publisher} and a {@link Subscriber}
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the number of items to the demand of the subscriber
+         *
+         * @param n the number of items, a non positive value fails the subscription
+         */
+        void request(long n);
+
+        /**
+         * Stops the subscription, the subscriber might receive items already sent, and the publisher
+         * releases its resources
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.function.Function;
+
+/**
+ * The {@link Flow.Subscriber} that applies a mapper to each item before sending it to the subscriber
+ *
+ * @param <T> the item type received
+ * @param <R> the item type sent
+ */
+final class MapSubscriber<T, R> implements Flow.Subscriber<T> {
+
+    private final Flow.Subscriber<? super R> subscriber;
+
+    private final Function<? super T, ? extends R> mapper;
+
+    private Flow.Subscription subscription;
+
+    private boolean done;
+
+    MapSubscriber(Flow.Subscriber<? super R> subscriber, Function<? super T, ? extends R> mapper) {
+        this.subscriber = subscriber;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        R value;
+        try {
+            value = mapper.apply(item);
+        } catch (RuntimeException exception) {
+            done = true;
+            subscription.cancel();
+            subscriber.onError(exception);
+            return;
+        }
+        subscriber.onNext(value);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!done) {
+            done = true;
+            subscriber.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            subscriber.onComplete();
+        }
+    }
+}
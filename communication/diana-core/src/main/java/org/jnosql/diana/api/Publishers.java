@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utilitarian class to create {@link Flow.Publisher} instances. The publishers from this class open a
+ * {@link Cursor} to each subscription at the first request, read from it only the items demanded and close
+ * it when the subscription completes, fails or is cancelled.
+ */
+public final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} that reads the items from a cursor
+     *
+     * @param cursor the supplier that opens a cursor to each subscription
+     * @param <T>    the item type
+     * @return a new {@link Flow.Publisher} instance
+     * @throws NullPointerException when cursor is null
+     */
+    public static <T> Flow.Publisher<T> of(Supplier<? extends Cursor<T>> cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        return fromStage(() -> CompletableFuture.completedFuture(cursor.get()));
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} that reads the items from a cursor opened asynchronously
+     *
+     * @param cursor the supplier that opens a cursor to each subscription
+     * @param <T>    the item type
+     * @return a new {@link Flow.Publisher} instance
+     * @throws NullPointerException when cursor is null
+     */
+    public static <T> Flow.Publisher<T> fromStage(Supplier<? extends CompletionStage<? extends Cursor<T>>> cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            subscriber.onSubscribe(new CursorSubscription<>(subscriber, cursor));
+        };
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} that applies the mapper to each item of the publisher, when the mapper
+     * fails the subscription to the publisher is cancelled and the subscriber receives the error.
+     *
+     * @param publisher the publisher
+     * @param mapper    the mapper
+     * @param <T>       the item type of the publisher
+     * @param <R>       the item type of the new publisher
+     * @return a new {@link Flow.Publisher} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T, R> Flow.Publisher<R> map(Flow.Publisher<T> publisher, Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(publisher, "publisher is required");
+        Objects.requireNonNull(mapper, "mapper is required");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            publisher.subscribe(new MapSubscriber<>(subscriber, mapper));
+        };
+    }
+}
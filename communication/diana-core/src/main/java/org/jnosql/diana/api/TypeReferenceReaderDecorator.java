@@ -18,12 +18,17 @@
 package org.jnosql.diana.api;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Decorators of all {@link TypeReferenceReader} supported by Diana
+ * Decorators of all {@link TypeReferenceReader} supported by Diana, the reader of each {@link TypeSupplier#get()}
+ * type is resolved once and then cached
  *
  * @see ValueReader
  */
@@ -33,6 +38,8 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final Map<Type, Optional<TypeReferenceReader>> readersByType = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(TypeReferenceReader.class).forEach(readers::add);
     }
@@ -43,17 +50,27 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public <T> boolean isCompatible(TypeSupplier<T> type) {
-        return readers.stream().anyMatch(r -> r.isCompatible(type));
+        return getReader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.isCompatible(typeReference)).findFirst().
+        TypeReferenceReader valueReader = getReader(typeReference).
                 orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    private <T> Optional<TypeReferenceReader> getReader(TypeSupplier<T> typeReference) {
+        Type type = typeReference.get();
+        Optional<TypeReferenceReader> reader = readersByType.get(type);
+        if (reader == null) {
+            reader = readers.stream().filter(r -> r.isCompatible(typeReference)).findFirst();
+            readersByType.putIfAbsent(type, reader);
+        }
+        return reader;
+    }
+
     @Override
     public String toString() {
         return  "TypeReferenceReaderDecorator{" + "readers=" + readers +
@@ -54,6 +54,53 @@ public interface Value  {
      */
     <T> T get(TypeSupplier<T> typeSupplier);
 
+    /**
+     * Returns {@link Value#get()} as int, when the value is a {@link Number} it does not create any wrapper,
+     * otherwise it is the same as {@code get(Integer.class)}
+     *
+     * @return the value as int
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @throws NumberFormatException         when the value is a text that is not a number
+     */
+    default int getAsInt() {
+        Object value = get();
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return get(Integer.class);
+    }
+
+    /**
+     * Returns {@link Value#get()} as long, when the value is a {@link Number} it does not create any wrapper,
+     * otherwise it is the same as {@code get(Long.class)}
+     *
+     * @return the value as long
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @throws NumberFormatException         when the value is a text that is not a number
+     */
+    default long getAsLong() {
+        Object value = get();
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return get(Long.class);
+    }
+
+    /**
+     * Returns {@link Value#get()} as double, when the value is a {@link Number} it does not create any wrapper,
+     * otherwise it is the same as {@code get(Double.class)}
+     *
+     * @return the value as double
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @throws NumberFormatException         when the value is a text that is not a number
+     */
+    default double getAsDouble() {
+        Object value = get();
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return get(Double.class);
+    }
 
     /**
      * Creates a new {@link Value} instance
@@ -23,7 +23,7 @@ import java.util.List;
 import java.util.ServiceLoader;
 
 /**
- * Decorators of all {@link ValueReader} supported by Diana
+ * Decorators of all {@link ValueReader} supported by Diana, the reader of each class is resolved once and then cached
  * @see ValueReader
  */
 public final class ValueReaderDecorator implements ValueReader {
@@ -32,6 +32,13 @@ public final class ValueReaderDecorator implements ValueReader {
 
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final ClassValue<ValueReader> readersByClass = new ClassValue<ValueReader>() {
+        @Override
+        protected ValueReader computeValue(Class<?> type) {
+            return readers.stream().filter(r -> r.isCompatible(type)).findFirst().orElse(null);
+        }
+    };
+
     {
         ServiceLoader.load(ValueReader.class).forEach(readers::add);
     }
@@ -42,7 +49,7 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean isCompatible(Class clazz) {
-        return readers.stream().anyMatch(r -> r.isCompatible(clazz));
+        return readersByClass.get(clazz) != null;
     }
 
     @Override
@@ -50,8 +57,10 @@ public final class ValueReaderDecorator implements ValueReader {
         if (clazz.isInstance(value)) {
             return clazz.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.isCompatible(clazz)).findFirst().orElseThrow(
-            () -> new UnsupportedOperationException("The type " + clazz + " is not supported yet"));
+        ValueReader valueReader = readersByClass.get(clazz);
+        if (valueReader == null) {
+            throw new UnsupportedOperationException("The type " + clazz + " is not supported yet");
+        }
         return valueReader.read(clazz, value);
     }
 
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkWriteOptionsTest {
+
+    @Test
+    public void shouldReturnDefaults() {
+        BulkWriteOptions options = BulkWriteOptions.defaults();
+        assertEquals(BulkWriteOptions.DEFAULT_BATCH_SIZE, options.getBatchSize());
+        assertTrue(options.isOrdered());
+        assertFalse(options.getTtl().isPresent());
+        assertEquals(options, BulkWriteOptions.builder().build());
+    }
+
+    @Test
+    public void shouldCreateOptions() {
+        BulkWriteOptions options = BulkWriteOptions.builder().withBatchSize(10)
+                .withOrdered(false).withTtl(Duration.ofSeconds(10L)).build();
+        assertEquals(10, options.getBatchSize());
+        assertFalse(options.isOrdered());
+        assertEquals(Optional.of(Duration.ofSeconds(10L)), options.getTtl());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BulkWriteOptions.builder().withBatchSize(0));
+        Assertions.assertThrows(NullPointerException.class, () -> BulkWriteOptions.builder().withTtl(null));
+    }
+}
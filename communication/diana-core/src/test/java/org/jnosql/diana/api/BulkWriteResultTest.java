@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import org.jnosql.diana.api.BulkWriteResult.Failure;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkWriteResultTest {
+
+    private static final UnaryOperator<Integer> WRITE = i -> {
+        if (i % 2 == 0) {
+            throw new CommunicationException("error to write " + i);
+        }
+        return i * 10;
+    };
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> BulkWriteResult.of(null, emptyList()));
+        Assertions.assertThrows(NullPointerException.class, () -> BulkWriteResult.write(null, true, WRITE));
+        Assertions.assertThrows(NullPointerException.class, () -> BulkWriteResult.write(singletonList(1), true, null));
+    }
+
+    @Test
+    public void shouldStopAtFirstFailureWhenOrdered() {
+        BulkWriteResult<Integer> result = BulkWriteResult.write(Arrays.asList(1, 3, 4, 5, 6), true, WRITE);
+        assertEquals(Arrays.asList(10, 30), result.getEntities());
+        assertTrue(result.hasFailures());
+        assertEquals(1, result.getFailures().size());
+        Failure<Integer> failure = result.getFailures().get(0);
+        assertEquals(2, failure.getIndex());
+        assertEquals(Integer.valueOf(4), failure.getEntity());
+        assertTrue(failure.getCause() instanceof CommunicationException);
+    }
+
+    @Test
+    public void shouldWriteAllWhenUnordered() {
+        BulkWriteResult<Integer> result = BulkWriteResult.write(Arrays.asList(1, 3, 4, 5, 6), false, WRITE);
+        assertEquals(Arrays.asList(10, 30, 50), result.getEntities());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(2, result.getFailures().get(0).getIndex());
+        assertEquals(4, result.getFailures().get(1).getIndex());
+    }
+
+    @Test
+    public void shouldWriteWithoutFailures() {
+        BulkWriteResult<Integer> result = BulkWriteResult.write(Arrays.asList(1, 3), true, WRITE);
+        assertEquals(Arrays.asList(10, 30), result.getEntities());
+        assertFalse(result.hasFailures());
+    }
+
+    @Test
+    public void shouldWriteAsync() {
+        List<Consumer<Integer>> callBacks = new ArrayList<>();
+        AtomicReference<BulkWriteResult<Integer>> reference = new AtomicReference<>();
+        BulkWriteResult.<Integer>write(Arrays.asList(1, 2, 3), false, (i, c) -> callBacks.add(c), reference::set);
+        assertEquals(3, callBacks.size());
+        callBacks.get(2).accept(30);
+        callBacks.get(0).accept(10);
+        assertEquals(null, reference.get());
+        callBacks.get(1).accept(20);
+        assertEquals(Arrays.asList(10, 20, 30), reference.get().getEntities());
+        assertFalse(reference.get().hasFailures());
+    }
+
+    @Test
+    public void shouldWriteAsyncInOrder() {
+        AtomicReference<BulkWriteResult<Integer>> reference = new AtomicReference<>();
+        BulkWriteResult.<Integer>write(Arrays.asList(1, 3, 4, 5), true, (i, c) -> c.accept(WRITE.apply(i)),
+                reference::set);
+        BulkWriteResult<Integer> result = reference.get();
+        assertEquals(Arrays.asList(10, 30), result.getEntities());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(2, result.getFailures().get(0).getIndex());
+    }
+
+    @Test
+    public void shouldWriteLargeBulkInOrderWhenCallBackIsSynchronous() {
+        List<Integer> entities = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            entities.add(i);
+        }
+        AtomicReference<BulkWriteResult<Integer>> reference = new AtomicReference<>();
+        BulkWriteResult.<Integer>write(entities, true, (i, c) -> c.accept(i), reference::set);
+        assertEquals(entities, reference.get().getEntities());
+        assertFalse(reference.get().hasFailures());
+    }
+
+    @Test
+    public void shouldWriteAsyncInOrderWhenCallBackIsLater() {
+        List<Consumer<Integer>> callBacks = new ArrayList<>();
+        AtomicReference<BulkWriteResult<Integer>> reference = new AtomicReference<>();
+        BulkWriteResult.<Integer>write(Arrays.asList(1, 2, 3), true, (i, c) -> callBacks.add(c), reference::set);
+        assertEquals(1, callBacks.size());
+        callBacks.get(0).accept(10);
+        assertEquals(2, callBacks.size());
+        callBacks.get(1).accept(20);
+        callBacks.get(2).accept(30);
+        assertEquals(Arrays.asList(10, 20, 30), reference.get().getEntities());
+    }
+
+    @Test
+    public void shouldCallBackOnceWhenCallBackThrows() {
+        AtomicInteger calls = new AtomicInteger();
+        Consumer<BulkWriteResult<Integer>> callBack = r -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("callback error");
+        };
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                BulkWriteResult.<Integer>write(Arrays.asList(1, 3, 5), true, (i, c) -> c.accept(i), callBack));
+        assertEquals(1, calls.get());
+
+        calls.set(0);
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                BulkWriteResult.<Integer>write(Arrays.asList(1, 3, 5), false, (i, c) -> c.accept(i), callBack));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldMapAndShift() {
+        BulkWriteResult<Integer> result = BulkWriteResult.write(Arrays.asList(1, 2, 3), false, WRITE);
+        BulkWriteResult<String> mapped = result.map(Arrays.asList("a", "b", "c"), (s, i) -> s + i).shift(10);
+        assertEquals(Arrays.asList("a10", "c30"), mapped.getEntities());
+        assertEquals(1, mapped.getFailures().size());
+        assertEquals(11, mapped.getFailures().get(0).getIndex());
+        assertEquals("b", mapped.getFailures().get(0).getEntity());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompletionStagesTest {
+
+    @Test
+    public void shouldReturnErrorWhenOperationIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> CompletionStages.of(null));
+    }
+
+    @Test
+    public void shouldCompleteWhenCallbackIsCalled() {
+        CompletionStage<String> stage = CompletionStages.of(c -> c.accept("Ada"));
+        assertEquals("Ada", stage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldWaitCallback() {
+        CompletableFuture<Runnable> callback = new CompletableFuture<>();
+        CompletionStage<String> stage = CompletionStages.of(c -> callback.complete(() -> c.accept("Ada")));
+        assertFalse(stage.toCompletableFuture().isDone());
+        callback.join().run();
+        assertEquals("Ada", stage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenOperationFails() {
+        CompletionStage<String> stage = CompletionStages.of(c -> {
+            throw new IllegalStateException("error");
+        });
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> stage.toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CursorTest {
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Cursor.of(null, () -> {
+        }));
+        Assertions.assertThrows(NullPointerException.class, () -> Cursor.of(Arrays.asList(1, 2).iterator(), null));
+    }
+
+    @Test
+    public void shouldCloseCursorWhenStreamIsClosed() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Cursor<Integer> cursor = Cursor.of(Arrays.asList(1, 2, 3).iterator(), () -> closed.set(true));
+        try (Stream<Integer> stream = cursor.stream()) {
+            assertEquals(Arrays.asList(2, 4, 6), stream.map(i -> i * 2).collect(toList()));
+            assertFalse(closed.get());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldIterateLazily() {
+        Cursor<Integer> cursor = Cursor.of(Arrays.asList(1, 2, 3).iterator(), () -> {
+        });
+        assertEquals(Integer.valueOf(1), cursor.stream().findFirst().get());
+        assertTrue(cursor.hasNext());
+        assertEquals(Integer.valueOf(2), cursor.next());
+    }
+}
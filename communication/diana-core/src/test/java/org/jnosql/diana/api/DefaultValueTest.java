@@ -143,4 +143,20 @@ public class DefaultValueTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnPrimitiveNumbers() {
+        Value value = Value.of(new AtomicInteger(5_000));
+        assertEquals(5_000, value.getAsInt());
+        assertEquals(5_000L, value.getAsLong());
+        assertEquals(5_000D, value.getAsDouble());
+    }
+
+    @Test
+    public void shouldConvertTextToPrimitiveNumbers() {
+        assertEquals(10, Value.of("10").getAsInt());
+        assertEquals(10L, Value.of("10").getAsLong());
+        assertEquals(10.5D, Value.of("10.5").getAsDouble());
+        Assertions.assertThrows(NumberFormatException.class, () -> Value.of("ten").getAsInt());
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PublishersTest {
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.fromStage(null));
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.map(null, String::valueOf));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> Publishers.map(Publishers.of(() -> cursor(new AtomicBoolean())), null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> Publishers.of(() -> cursor(new AtomicBoolean())).subscribe(null));
+    }
+
+    @Test
+    public void shouldOpenCursorAtFirstRequest() {
+        AtomicInteger opened = new AtomicInteger();
+        Flow.Publisher<String> publisher = Publishers.of(() -> {
+            opened.incrementAndGet();
+            return cursor(new AtomicBoolean());
+        });
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        assertEquals(0, opened.get());
+        subscriber.request(1);
+        assertEquals(1, opened.get());
+        subscriber.request(1);
+        assertEquals(1, opened.get());
+    }
+
+    @Test
+    public void shouldSendItemsByDemand() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.of(() -> cursor(closed)).subscribe(subscriber);
+
+        subscriber.request(2);
+        assertEquals(Arrays.asList("Ada", "Poliana"), subscriber.items);
+        assertFalse(subscriber.completed);
+        assertFalse(closed.get());
+
+        subscriber.request(1);
+        assertEquals(Arrays.asList("Ada", "Poliana", "Otavio"), subscriber.items);
+        assertTrue(subscriber.completed);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldSendAllItemsWhenDemandIsUnbounded() {
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.of(() -> cursor(new AtomicBoolean())).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList("Ada", "Poliana", "Otavio"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldCloseCursorWhenCancelled() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.of(() -> cursor(closed)).subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        subscriber.request(1);
+        assertEquals(Arrays.asList("Ada"), subscriber.items);
+        assertTrue(closed.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldCloseCursorOpenedAfterCancel() {
+        AtomicBoolean closed = new AtomicBoolean();
+        CompletableFuture<Cursor<String>> future = new CompletableFuture<>();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.fromStage(() -> future).subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        future.complete(cursor(closed));
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldSendItemsWhenStageCompletes() {
+        CompletableFuture<Cursor<String>> future = new CompletableFuture<>();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.fromStage(() -> future).subscribe(subscriber);
+        subscriber.request(2);
+        assertTrue(subscriber.items.isEmpty());
+        future.complete(cursor(new AtomicBoolean()));
+        assertEquals(Arrays.asList("Ada", "Poliana"), subscriber.items);
+    }
+
+    @Test
+    public void shouldSendErrorWhenStageFails() {
+        CompletableFuture<Cursor<String>> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException("error"));
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.fromStage(() -> future).subscribe(subscriber);
+        subscriber.request(1);
+        assertTrue(subscriber.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void shouldSendErrorWhenRequestIsNotPositive() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.of(() -> cursor(closed)).subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldMapItems() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        Publishers.map(Publishers.of(() -> cursor(new AtomicBoolean())), String::length).subscribe(subscriber);
+        subscriber.request(3);
+        assertEquals(Arrays.asList(3, 7, 6), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldCancelWhenMapperFails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.<String, String>map(Publishers.of(() -> cursor(closed)), s -> {
+            throw new IllegalStateException("error");
+        }).subscribe(subscriber);
+        subscriber.request(3);
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertFalse(subscriber.completed);
+        assertTrue(closed.get());
+    }
+
+    private static Cursor<String> cursor(AtomicBoolean closed) {
+        return Cursor.of(Arrays.asList("Ada", "Poliana", "Otavio").iterator(), () -> closed.set(true));
+    }
+
+    private static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        private void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            assertNull(this.subscription);
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            assertNull(error);
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            assertFalse(completed);
+            completed = true;
+        }
+    }
+}
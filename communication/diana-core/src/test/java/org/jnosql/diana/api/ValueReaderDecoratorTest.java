@@ -49,6 +49,12 @@ public class ValueReaderDecoratorTest {
         });
     }
 
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupportedAgain() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(Bean.class, "name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(Bean.class, "name"));
+    }
+
     @Test
     public void shouldReturnIfIsCompatible() {
         assertTrue(serviceLoader.isCompatible(Integer.class));
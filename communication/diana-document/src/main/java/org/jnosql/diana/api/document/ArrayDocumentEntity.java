@@ -0,0 +1,418 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.diana.api.document;
+
+
+import org.jnosql.diana.api.Value;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compact implementation of {@link DocumentEntity} that keeps the names and the documents in parallel arrays,
+ * in the insertion order, indexed by a small open-addressing table of the names. The {@link #getDocuments()},
+ * {@link #getDocumentNames()} and {@link #getValues()} methods return read-only views of these arrays
+ * instead of copies. The views are live and their iterators are fail-fast: when the entity is structurally changed,
+ * i.e. documents are added, removed or cleared, while a view is iterated, the iterator throws a
+ * {@link ConcurrentModificationException}.
+ */
+final class ArrayDocumentEntity implements DocumentEntity {
+
+    private static final int MINIMUM_CAPACITY = 4;
+
+    private final String name;
+
+    private String[] names;
+
+    private Document[] documents;
+
+    private int[] table;
+
+    private int size;
+
+    private int modCount;
+
+    private List<Document> documentsView;
+
+    private Set<String> namesView;
+
+    private List<Value> valuesView;
+
+    ArrayDocumentEntity(String name, int expectedSize) {
+        this.name = requireNonNull(name, "name is required");
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative: " + expectedSize);
+        }
+        int capacity = Math.max(expectedSize, MINIMUM_CAPACITY);
+        this.names = new String[capacity];
+        this.documents = new Document[capacity];
+        this.table = new int[tableSize(capacity)];
+    }
+
+    private ArrayDocumentEntity(ArrayDocumentEntity entity) {
+        this.name = entity.name;
+        this.names = entity.names.clone();
+        this.documents = entity.documents.clone();
+        this.table = entity.table.clone();
+        this.size = entity.size;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean remove(String documentName) {
+        requireNonNull(documentName, "documentName is required");
+        int index = indexOf(documentName);
+        if (index < 0) {
+            return false;
+        }
+        int moved = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, moved);
+        System.arraycopy(documents, index + 1, documents, index, moved);
+        size--;
+        names[size] = null;
+        documents[size] = null;
+        rehash();
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public List<Document> getDocuments() {
+        if (documentsView == null) {
+            documentsView = new DocumentsView();
+        }
+        return documentsView;
+    }
+
+    @Override
+    public void add(Document document) {
+        requireNonNull(document, "Document is required");
+        String documentName = document.getName();
+        int index = indexOf(documentName);
+        if (index >= 0) {
+            documents[index] = document;
+            return;
+        }
+        if (size == names.length) {
+            grow();
+        }
+        names[size] = documentName;
+        documents[size] = document;
+        insert(documentName, size);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void add(String documentName, Object value) {
+        requireNonNull(documentName, "documentName is required");
+        requireNonNull(value, "value is required");
+        this.add(Document.of(documentName, value));
+    }
+
+    @Override
+    public void add(String documentName, Value value) {
+        requireNonNull(documentName, "documentName is required");
+        requireNonNull(value, "value is required");
+        this.add(Document.of(documentName, value));
+    }
+
+    @Override
+    public void addAll(Iterable<Document> documents) {
+        requireNonNull(documents, "documents are required");
+        documents.forEach(this::add);
+    }
+
+    @Override
+    public Optional<Document> find(String documentName) {
+        requireNonNull(documentName, "documentName is required");
+        int index = indexOf(documentName);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(documents[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public DocumentEntity copy() {
+        return new ArrayDocumentEntity(this);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(documents, 0, size, null);
+        Arrays.fill(table, 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<String> getDocumentNames() {
+        if (namesView == null) {
+            namesView = new NamesView();
+        }
+        return namesView;
+    }
+
+    @Override
+    public Collection<Value> getValues() {
+        if (valuesView == null) {
+            valuesView = new ValuesView();
+        }
+        return valuesView;
+    }
+
+    @Override
+    public boolean contains(String documentName) {
+        requireNonNull(documentName, "documentName is required");
+        return indexOf(documentName) >= 0;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>(tableSize(size));
+        for (int index = 0; index < size; index++) {
+            map.put(names[index], convert(documents[index].get()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private Object convert(Object value) {
+        if (value instanceof Document) {
+            Document column = Document.class.cast(value);
+            return singletonMap(column.getName(), convert(column.get()));
+        } else if (value instanceof Iterable) {
+            List<Object> list = new ArrayList<>();
+            Iterable.class.cast(value).forEach(e -> list.add(convert(e)));
+            return list;
+        }
+        return value;
+    }
+
+    private int indexOf(String documentName) {
+        int mask = table.length - 1;
+        for (int slot = hash(documentName) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            String current = names[index];
+            if (current == documentName || current.equals(documentName)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(String documentName, int index) {
+        int mask = table.length - 1;
+        int slot = hash(documentName) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void grow() {
+        int capacity = names.length + (names.length >> 1);
+        names = Arrays.copyOf(names, capacity);
+        documents = Arrays.copyOf(documents, capacity);
+        table = new int[tableSize(capacity)];
+        rehash();
+    }
+
+    private void rehash() {
+        Arrays.fill(table, 0);
+        for (int index = 0; index < size; index++) {
+            insert(names[index], index);
+        }
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+    }
+
+    private static int hash(String documentName) {
+        int hash = documentName.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DocumentEntity)) {
+            return false;
+        }
+        DocumentEntity that = (DocumentEntity) o;
+        if (size != that.size() || !Objects.equals(name, that.getName())) {
+            return false;
+        }
+        for (int index = 0; index < size; index++) {
+            Optional<Document> document = that.find(names[index]);
+            if (!document.isPresent() || !documents[index].equals(document.get())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int documentsHash = 0;
+        for (int index = 0; index < size; index++) {
+            documentsHash += names[index].hashCode() ^ documents[index].hashCode();
+        }
+        return 31 * (31 + documentsHash) + name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return  "ArrayDocumentEntity{" + "documents=" + toMap() +
+                ", name='" + name + '\'' +
+                '}';
+    }
+
+    private class DocumentsView extends AbstractList<Document> {
+
+        @Override
+        public Document get(int index) {
+            checkIndex(index);
+            return documents[index];
+        }
+
+        @Override
+        public Iterator<Document> iterator() {
+            return new ViewIterator<Document>() {
+                @Override
+                Document get(int index) {
+                    return documents[index];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class ValuesView extends AbstractList<Value> {
+
+        @Override
+        public Value get(int index) {
+            checkIndex(index);
+            return documents[index].getValue();
+        }
+
+        @Override
+        public Iterator<Value> iterator() {
+            return new ViewIterator<Value>() {
+                @Override
+                Value get(int index) {
+                    return documents[index].getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class NamesView extends AbstractSet<String> {
+
+        @Override
+        public boolean contains(Object value) {
+            return value instanceof String && indexOf((String) value) >= 0;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new ViewIterator<String>() {
+                @Override
+                String get(int index) {
+                    return names[index];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private abstract class ViewIterator<E> implements Iterator<E> {
+
+        private final int expectedModCount = modCount;
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(index++);
+        }
+
+        abstract E get(int index);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -18,6 +18,8 @@
 package org.jnosql.diana.api.document;
 
 
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.time.Duration;
@@ -25,6 +27,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -112,6 +115,55 @@ public interface DocumentCollectionManager extends AutoCloseable {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * Returns true when the database writes a bulk of entities natively, so
+     * {@link DocumentCollectionManager#bulkInsert(Iterable, BulkWriteOptions)} and
+     * {@link DocumentCollectionManager#bulkUpdate(Iterable, BulkWriteOptions)} are overwritten to send each batch at once.
+     * By default it is false.
+     *
+     * @return true when the bulk write is native
+     */
+    default boolean supportsBulkWrite() {
+        return false;
+    }
+
+    /**
+     * Inserts a bulk of entities. The caller splits the entities by {@link BulkWriteOptions#getBatchSize()},
+     * by default each entity is inserted using {@link DocumentCollectionManager#insert(DocumentEntity)} or
+     * {@link DocumentCollectionManager#insert(DocumentEntity, Duration)} when the options has TTL,
+     * each NoSQL vendor might replace to a more appropriate one, see {@link DocumentCollectionManager#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the bulk options
+     * @return the result with the inserted entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default BulkWriteResult<DocumentEntity> bulkInsert(Iterable<DocumentEntity> entities, BulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Optional<Duration> ttl = options.getTtl();
+        if (ttl.isPresent()) {
+            return BulkWriteResult.write(entities, options.isOrdered(), e -> insert(e, ttl.get()));
+        }
+        return BulkWriteResult.write(entities, options.isOrdered(), this::insert);
+    }
+
+    /**
+     * Updates a bulk of entities. The caller splits the entities by {@link BulkWriteOptions#getBatchSize()},
+     * by default each entity is updated using {@link DocumentCollectionManager#update(DocumentEntity)},
+     * each NoSQL vendor might replace to a more appropriate one, see {@link DocumentCollectionManager#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be updated
+     * @param options  the bulk options
+     * @return the result with the updated entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default BulkWriteResult<DocumentEntity> bulkUpdate(Iterable<DocumentEntity> entities, BulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return BulkWriteResult.write(entities, options.isOrdered(), this::update);
+    }
+
     /**
      * Deletes an entity
      *
@@ -132,6 +184,28 @@ public interface DocumentCollectionManager extends AutoCloseable {
      */
     List<DocumentEntity> select(DocumentQuery query);
 
+    /**
+     * Finds {@link DocumentEntity} from select lazily, the entities are fetched while the stream is consumed.
+     * The drivers whose database has cursors should override it to return the stream of a
+     * {@link org.jnosql.diana.api.Cursor} that fetches fetchSize entities per request;
+     * by default it is the stream of {@link DocumentCollectionManager#select(DocumentQuery)}.
+     * The stream might hold a database cursor, so it should be closed after its use.
+     *
+     * @param query     - select to figure out entities
+     * @param fetchSize the number of entities fetched per request to the database
+     * @return the entities found by select as a stream
+     * @throws NullPointerException          when select is null
+     * @throws IllegalArgumentException      when fetchSize is not positive
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<DocumentEntity> selectStream(DocumentQuery query, int fetchSize) {
+        Objects.requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero");
+        }
+        return select(query).stream();
+    }
+
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
@@ -18,12 +18,19 @@
 package org.jnosql.diana.api.document;
 
 
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.CompletionStages;
+import org.jnosql.diana.api.Cursor;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -152,6 +159,66 @@ public interface DocumentCollectionManagerAsync extends AutoCloseable {
      */
     void update(DocumentEntity entity, Consumer<DocumentEntity> callBack);
 
+    /**
+     * Returns true when the database writes a bulk of entities natively, so
+     * {@link DocumentCollectionManagerAsync#bulkInsert(Iterable, BulkWriteOptions, Consumer)} and
+     * {@link DocumentCollectionManagerAsync#bulkUpdate(Iterable, BulkWriteOptions, Consumer)} are overwritten to send
+     * each batch at once. By default it is false.
+     *
+     * @return true when the bulk write is native
+     */
+    default boolean supportsBulkWrite() {
+        return false;
+    }
+
+    /**
+     * Inserts a bulk of entities asynchronously. The caller splits the entities by
+     * {@link BulkWriteOptions#getBatchSize()}, by default each entity is inserted using
+     * {@link DocumentCollectionManagerAsync#insert(DocumentEntity, Consumer)} or {@link DocumentCollectionManagerAsync#insert(DocumentEntity, Duration, Consumer)}
+     * when the options has TTL, each NoSQL vendor might replace to a more appropriate one,
+     * see {@link DocumentCollectionManagerAsync#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the bulk options
+     * @param callBack the callback with the inserted entities and the failures
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when there is null parameter
+     */
+    default void bulkInsert(Iterable<DocumentEntity> entities, BulkWriteOptions options,
+                            Consumer<BulkWriteResult<DocumentEntity>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        Optional<Duration> ttl = options.getTtl();
+        if (ttl.isPresent()) {
+            BulkWriteResult.write(entities, options.isOrdered(), (e, c) -> insert(e, ttl.get(), c), callBack);
+        } else {
+            BulkWriteResult.write(entities, options.isOrdered(), this::insert, callBack);
+        }
+    }
+
+    /**
+     * Updates a bulk of entities asynchronously. The caller splits the entities by
+     * {@link BulkWriteOptions#getBatchSize()}, by default each entity is updated using
+     * {@link DocumentCollectionManagerAsync#update(DocumentEntity, Consumer)}, each NoSQL vendor might replace to a more appropriate one,
+     * see {@link DocumentCollectionManagerAsync#supportsBulkWrite()}.
+     *
+     * @param entities the entities to be updated
+     * @param options  the bulk options
+     * @param callBack the callback with the updated entities and the failures
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when there is null parameter
+     */
+    default void bulkUpdate(Iterable<DocumentEntity> entities, BulkWriteOptions options,
+                            Consumer<BulkWriteResult<DocumentEntity>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        BulkWriteResult.write(entities, options.isOrdered(), this::update, callBack);
+    }
+
 
     /**
      * Deletes an entity asynchronously
@@ -258,6 +325,125 @@ public interface DocumentCollectionManagerAsync extends AutoCloseable {
      */
     void count(String documentCollection, Consumer<Long> callback);
 
+    /**
+     * Saves an entity asynchronously, by default it adapts
+     * {@link DocumentCollectionManagerAsync#insert(DocumentEntity, Consumer)}.
+     *
+     * @param entity entity to be saved
+     * @return the stage with the saved entity
+     * @throws NullPointerException when entity is null
+     * @see org.jnosql.diana.api.CompletionStages#of(Consumer)
+     */
+    default CompletionStage<DocumentEntity> insertAsync(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> insert(entity, c));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it adapts
+     * {@link DocumentCollectionManagerAsync#insert(DocumentEntity, Duration, Consumer)}.
+     *
+     * @param entity entity to be saved
+     * @param ttl    time to live
+     * @return the stage with the saved entity
+     * @throws NullPointerException          when either entity or ttl are null
+     * @throws UnsupportedOperationException when expired time is not supported
+     */
+    default CompletionStage<DocumentEntity> insertAsync(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(c -> insert(entity, ttl, c));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it adapts
+     * {@link DocumentCollectionManagerAsync#update(DocumentEntity, Consumer)}.
+     *
+     * @param entity entity to be updated
+     * @return the stage with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    default CompletionStage<DocumentEntity> updateAsync(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> update(entity, c));
+    }
+
+    /**
+     * Deletes an entity asynchronously, by default it adapts
+     * {@link DocumentCollectionManagerAsync#delete(DocumentDeleteQuery, Consumer)}.
+     *
+     * @param query query to delete an entity
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteAsync(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> delete(query, c));
+    }
+
+    /**
+     * Finds {@link DocumentEntity} from select asynchronously, by default it adapts
+     * {@link DocumentCollectionManagerAsync#select(DocumentQuery, Consumer)}.
+     *
+     * @param query select to figure out entities
+     * @return the stage with the entities found by select
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<List<DocumentEntity>> selectAsync(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> select(query, c));
+    }
+
+    /**
+     * Returns a single entity from select asynchronously, the stage is completed exceptionally with
+     * {@link NonUniqueResultException} when the result has more than 1 entity
+     *
+     * @param query select to figure out entities
+     * @return the stage with the entity found by select
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Optional<DocumentEntity>> singleResultAsync(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return selectAsync(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        });
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} of the entities from select, the entities are sent as the subscriber
+     * requests them. By default it adapts {@link DocumentCollectionManagerAsync#selectAsync(DocumentQuery)}, so the result is loaded at
+     * once when the subscriber requests the first entity; the drivers that have cursors should override it
+     * to fetch the entities by demand.
+     *
+     * @param query select to figure out entities
+     * @return a publisher of the entities found by select
+     * @throws NullPointerException when query is null
+     */
+    default Flow.Publisher<DocumentEntity> selectPublisher(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Publishers.fromStage(() -> selectAsync(query)
+                .thenApply(entities -> Cursor.of(entities.iterator(), () -> {
+                })));
+    }
+
+    /**
+     * Returns the number of elements from document collection asynchronously, by default it adapts
+     * {@link DocumentCollectionManagerAsync#count(String, Consumer)}.
+     *
+     * @param documentCollection the document collection
+     * @return the stage with the number of elements
+     * @throws NullPointerException when documentCollection is null
+     */
+    default CompletionStage<Long> countAsync(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return CompletionStages.of(c -> count(documentCollection, c));
+    }
+
     /**
      * closes a resource
      */
@@ -66,6 +66,24 @@ public interface DocumentEntity  {
         return entity;
     }
 
+    /**
+     * Creates a compact {@link DocumentEntity} instance, backed by arrays sized to the expected number of documents,
+     * whose {@link #getDocuments()} returns a read-only view instead of a copy.
+     * The view is live, it shows the later changes of the entity, and its iterator throws a
+     * {@link java.util.ConcurrentModificationException} when documents are added, removed or cleared while iterating.
+     * It is meant to the drivers that build the result rows document by document.
+     *
+     * @param name         the collection name
+     * @param expectedSize the expected number of documents, the entity grows when it has more documents
+     * @return a {@link DocumentEntity} instance
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when expectedSize is negative
+     */
+    static DocumentEntity compact(String name, int expectedSize) {
+        Objects.requireNonNull(name, "name is required");
+        return new ArrayDocumentEntity(name, expectedSize);
+    }
+
     /**
      * The collection name to {@link DocumentEntity}
      *
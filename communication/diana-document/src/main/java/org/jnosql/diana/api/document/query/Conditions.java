@@ -19,11 +19,19 @@ package org.jnosql.diana.api.document.query;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentObserverParser;
+import org.jnosql.query.ArrayValue;
 import org.jnosql.query.Condition;
 import org.jnosql.query.ConditionValue;
+import org.jnosql.query.FunctionValue;
 import org.jnosql.query.QueryException;
+import org.jnosql.query.Value;
 import org.jnosql.query.Where;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
 import static org.jnosql.diana.api.document.DocumentCondition.and;
 import static org.jnosql.diana.api.document.DocumentCondition.between;
 import static org.jnosql.diana.api.document.DocumentCondition.eq;
@@ -92,6 +100,92 @@ final class Conditions {
         }
     }
 
+    /**
+     * Compiles the condition once, so each call of the returned function only creates the nodes that
+     * hold a parameter; the nodes without parameter are shared between the calls.
+     */
+    static Function<DocumentParams, DocumentCondition> getTemplate(Where where, DocumentObserverParser observer,
+                                                                   String entity) {
+        return getTemplate(where.getCondition(), observer, entity);
+    }
+
+    private static Function<DocumentParams, DocumentCondition> getTemplate(Condition condition,
+                                                                           DocumentObserverParser observer,
+                                                                           String entity) {
+        if (!hasParameter(condition.getValue())) {
+            DocumentCondition documentCondition = getCondition(condition, new DocumentParams(), observer, entity);
+            return p -> documentCondition;
+        }
+        switch (condition.getOperator()) {
+            case NOT:
+                Function<DocumentParams, DocumentCondition> negate =
+                        getTemplate(ConditionValue.class.cast(condition.getValue()).get().get(0), observer, entity);
+                return p -> negate.apply(p).negate();
+            case OR:
+                List<Function<DocumentParams, DocumentCondition>> ors =
+                        getTemplates(condition, observer, entity);
+                return p -> or(ors.stream().map(c -> c.apply(p)).toArray(DocumentCondition[]::new));
+            case AND:
+                List<Function<DocumentParams, DocumentCondition>> ands =
+                        getTemplates(condition, observer, entity);
+                return p -> and(ands.stream().map(c -> c.apply(p)).toArray(DocumentCondition[]::new));
+            default:
+                String name = getName(condition, observer, entity);
+                Value<?> value = condition.getValue();
+                return p -> getCondition(condition, Document.of(name, Values.get(value, p)));
+        }
+    }
+
+    private static List<Function<DocumentParams, DocumentCondition>> getTemplates(
+            Condition condition, DocumentObserverParser observer, String entity) {
+        return ConditionValue.class.cast(condition.getValue()).get().stream()
+                .map(c -> getTemplate(c, observer, entity))
+                .collect(toList());
+    }
+
+    private static DocumentCondition getCondition(Condition condition, Document document) {
+        switch (condition.getOperator()) {
+            case EQUALS:
+                return eq(document);
+            case GREATER_THAN:
+                return gt(document);
+            case GREATER_EQUALS_THAN:
+                return gte(document);
+            case LESSER_THAN:
+                return lt(document);
+            case LESSER_EQUALS_THAN:
+                return lte(document);
+            case IN:
+                return in(document);
+            case LIKE:
+                return like(document);
+            case BETWEEN:
+                return between(document);
+            default:
+                throw new QueryException("There is not support the type: " + condition.getOperator());
+        }
+    }
+
+    private static boolean hasParameter(Value<?> value) {
+        switch (value.getType()) {
+            case PARAMETER:
+                return true;
+            case ARRAY:
+                return Stream.of(ArrayValue.class.cast(value).get()).anyMatch(Conditions::hasParameter);
+            case FUNCTION:
+                return Stream.of(FunctionValue.class.cast(value).get().getParams())
+                        .filter(Value.class::isInstance)
+                        .map(Value.class::cast)
+                        .anyMatch(Conditions::hasParameter);
+            case CONDITION:
+                return ConditionValue.class.cast(value).get().stream()
+                        .map(Condition::getValue)
+                        .anyMatch(Conditions::hasParameter);
+            default:
+                return false;
+        }
+    }
+
     private static String getName(Condition condition,
                                   DocumentObserverParser observer, String entity) {
         return observer.fireField(entity, condition.getName());
@@ -19,13 +19,30 @@ package org.jnosql.diana.api.document.query;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.query.DeleteQuery;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * A converter that converts {@link DeleteQuery} to {@link DocumentDeleteQueryParams}
  */
 public interface DeleteQueryConverter extends BiFunction<DeleteQuery, DocumentObserverParser, DocumentDeleteQueryParams> {
 
+    /**
+     * Converts the {@link DeleteQuery} once and returns a supplier that creates, to each call, a new {@link DocumentDeleteQueryParams}
+     * from that conversion, so the caller only needs to bind the parameters.
+     *
+     * @param deleteQuery the query
+     * @param observer    the observer
+     * @return a supplier of {@link DocumentDeleteQueryParams}
+     * @throws NullPointerException when there is null parameter
+     */
+    default Supplier<DocumentDeleteQueryParams> compile(DeleteQuery deleteQuery, DocumentObserverParser observer) {
+        Objects.requireNonNull(deleteQuery, "deleteQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        return () -> apply(deleteQuery, observer);
+    }
+
     /**
      * A {@link DeleteQueryConverter} instance
      *
@@ -19,6 +19,8 @@ package org.jnosql.diana.api.document.query;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.query.DeleteQuery;
 
+import java.util.function.Supplier;
+
 enum DeleteQueryConverterFactory implements DeleteQueryConverter {
 
     INSTANCE;
@@ -29,4 +31,9 @@ enum DeleteQueryConverterFactory implements DeleteQueryConverter {
     public DocumentDeleteQueryParams apply(DeleteQuery deleteQuery, DocumentObserverParser columnObserverParser) {
         return parser.apply(deleteQuery, columnObserverParser);
     }
+
+    @Override
+    public Supplier<DocumentDeleteQueryParams> compile(DeleteQuery deleteQuery, DocumentObserverParser observer) {
+        return parser.compile(deleteQuery, observer);
+    }
 }
@@ -26,27 +26,34 @@ import org.jnosql.diana.api.document.DocumentPreparedStatement;
 import org.jnosql.diana.api.document.DocumentPreparedStatementAsync;
 import org.jnosql.query.DeleteQuery;
 import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.QueryException;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 final class DeleteQueryParser implements DeleteQueryConverter {
 
     private final DeleteQuerySupplier selectQuerySupplier;
-    private final CacheQuery<DocumentDeleteQuery> cache;
+    private final QueryCache<String, DocumentDeleteQuery> cache;
+    private final QueryCache<Entry<String, DocumentObserverParser>, Function<DocumentParams, DocumentDeleteQuery>> templates;
 
     DeleteQueryParser() {
         this.selectQuerySupplier = DeleteQuerySupplier.getSupplier();
-        cache = new CacheQuery<>(this::getQuery);
+        cache = QueryCache.of(q -> getQuery(q, DocumentObserverParser.EMPTY));
+        templates = QueryCache.of(k -> getTemplate(k.getKey(), k.getValue()));
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        DocumentDeleteQuery documentQuery = cache.get(query, observer);
+        DocumentDeleteQuery documentQuery = cache.get(query, q -> getQuery(q, observer));
         collectionManager.delete(documentQuery);
         return Collections.emptyList();
     }
@@ -54,14 +61,14 @@ final class DeleteQueryParser implements DeleteQueryConverter {
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager,
                     Consumer<List<DocumentEntity>> callBack, DocumentObserverParser observer) {
 
-        DocumentDeleteQuery documentQuery = cache.get(query, observer);
+        DocumentDeleteQuery documentQuery = cache.get(query, q -> getQuery(q, observer));
         collectionManager.delete(documentQuery, v -> callBack.accept(Collections.emptyList()));
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager,
                                       DocumentObserverParser observer) {
         DocumentParams params = new DocumentParams();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
+        DocumentDeleteQuery documentQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultDocumentPreparedStatement.delete(documentQuery, params, query, collectionManager);
     }
 
@@ -69,7 +76,7 @@ final class DeleteQueryParser implements DeleteQueryConverter {
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
         DocumentParams params = new DocumentParams();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
+        DocumentDeleteQuery documentQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultDocumentPreparedStatementAsync.delete(documentQuery, params, query, collectionManager);
 
     }
@@ -83,10 +90,34 @@ final class DeleteQueryParser implements DeleteQueryConverter {
         return new DefaultDocumentDeleteQueryParams(query, params);
     }
 
-    private DocumentDeleteQuery getQuery(String query, DocumentParams params, DocumentObserverParser observer) {
-        DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
+    @Override
+    public Supplier<DocumentDeleteQueryParams> compile(DeleteQuery deleteQuery, DocumentObserverParser observer) {
+        Objects.requireNonNull(deleteQuery, "deleteQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        Function<DocumentParams, DocumentDeleteQuery> template = getTemplate(deleteQuery, observer);
+        return () -> {
+            DocumentParams params = new DocumentParams();
+            return new DefaultDocumentDeleteQueryParams(template.apply(params), params);
+        };
+    }
+
+    private Function<DocumentParams, DocumentDeleteQuery> getTemplate(String query, DocumentObserverParser observer) {
+        return getTemplate(selectQuerySupplier.apply(query), observer);
+    }
+
+    private Function<DocumentParams, DocumentDeleteQuery> getTemplate(DeleteQuery deleteQuery, DocumentObserverParser observer) {
 
-        return getQuery(params, observer, deleteQuery);
+        String collection = observer.fireEntity(deleteQuery.getEntity());
+        List<String> documents = deleteQuery.getFields().stream()
+                .map(f -> observer.fireField(collection, f))
+                .collect(Collectors.toList());
+
+        if (deleteQuery.getWhere().isPresent()) {
+            Function<DocumentParams, DocumentCondition> condition = Conditions.getTemplate(deleteQuery.getWhere().get(),
+                    observer, collection);
+            return p -> new DefaultDocumentDeleteQuery(collection, condition.apply(p), documents);
+        }
+        return p -> new DefaultDocumentDeleteQuery(collection, null, documents);
     }
 
     private DocumentDeleteQuery getQuery(DocumentParams params, DocumentObserverParser observer,
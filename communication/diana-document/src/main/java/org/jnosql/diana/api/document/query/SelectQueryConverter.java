@@ -19,10 +19,27 @@ package org.jnosql.diana.api.document.query;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.query.SelectQuery;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 public interface SelectQueryConverter extends BiFunction<SelectQuery, DocumentObserverParser, DocumentQueryParams> {
 
+    /**
+     * Converts the {@link SelectQuery} once and returns a supplier that creates, to each call, a new {@link DocumentQueryParams}
+     * from that conversion, so the caller only needs to bind the parameters.
+     *
+     * @param selectQuery the query
+     * @param observer    the observer
+     * @return a supplier of {@link DocumentQueryParams}
+     * @throws NullPointerException when there is null parameter
+     */
+    default Supplier<DocumentQueryParams> compile(SelectQuery selectQuery, DocumentObserverParser observer) {
+        Objects.requireNonNull(selectQuery, "selectQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        return () -> apply(selectQuery, observer);
+    }
+
     /**
      * A {@link SelectQueryConverter} instance
      *
@@ -19,6 +19,8 @@ package org.jnosql.diana.api.document.query;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.query.SelectQuery;
 
+import java.util.function.Supplier;
+
 enum SelectQueryConverterFactory implements SelectQueryConverter {
 
     INSTANCE;
@@ -29,4 +31,9 @@ enum SelectQueryConverterFactory implements SelectQueryConverter {
     public DocumentQueryParams apply(SelectQuery selectQuery, DocumentObserverParser documentObserverParser) {
         return parser.apply(selectQuery, documentObserverParser);
     }
+
+    @Override
+    public Supplier<DocumentQueryParams> compile(SelectQuery selectQuery, DocumentObserverParser observer) {
+        return parser.compile(selectQuery, observer);
+    }
 }
@@ -25,13 +25,18 @@ import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentPreparedStatement;
 import org.jnosql.diana.api.document.DocumentPreparedStatementAsync;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.QueryException;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.SelectQuerySupplier;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toList;
@@ -41,43 +46,39 @@ import static org.jnosql.diana.api.Sort.SortType.DESC;
 final class SelectQueryParser  implements SelectQueryConverter{
 
     private final SelectQuerySupplier selectQuerySupplier;
-    private final CacheQuery<DocumentQuery> cache;
+    private final QueryCache<String, DocumentQuery> cache;
+    private final QueryCache<Entry<String, DocumentObserverParser>, Function<DocumentParams, DocumentQuery>> templates;
 
     SelectQueryParser() {
         this.selectQuerySupplier = SelectQuerySupplier.getSupplier();
-        this.cache = new CacheQuery<>(this::getDocumentQuery);
+        this.cache = QueryCache.of(q -> getDocumentQuery(q, DocumentObserverParser.EMPTY));
+        this.templates = QueryCache.of(k -> getTemplate(k.getKey(), k.getValue()));
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        DocumentQuery documentQuery = cache.get(query, observer);
+        DocumentQuery documentQuery = cache.get(query, q -> getDocumentQuery(q, observer));
         return collectionManager.select(documentQuery);
     }
 
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager, Consumer<List<DocumentEntity>> callBack,
                     DocumentObserverParser observer) {
 
-        DocumentQuery documentQuery = cache.get(query, observer);
+        DocumentQuery documentQuery = cache.get(query, q -> getDocumentQuery(q, observer));
         collectionManager.select(documentQuery, callBack);
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
         DocumentParams params = new DocumentParams();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
+        DocumentQuery documentQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultDocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
         DocumentParams params = new DocumentParams();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
+        DocumentQuery documentQuery = templates.get(new SimpleImmutableEntry<>(query, observer)).apply(params);
         return DefaultDocumentPreparedStatementAsync.select(documentQuery, params, query, collectionManager);
     }
 
@@ -90,6 +91,17 @@ final class SelectQueryParser  implements SelectQueryConverter{
         return new DefaultDocumentQueryParams(columnQuery, params);
     }
 
+    @Override
+    public Supplier<DocumentQueryParams> compile(SelectQuery selectQuery, DocumentObserverParser observer) {
+        Objects.requireNonNull(selectQuery, "selectQuery is required");
+        Objects.requireNonNull(observer, "observer is required");
+        Function<DocumentParams, DocumentQuery> template = getTemplate(selectQuery, observer);
+        return () -> {
+            DocumentParams params = new DocumentParams();
+            return new DefaultDocumentQueryParams(template.apply(params), params);
+        };
+    }
+
     private DocumentQuery getDocumentQuery(String query, DocumentObserverParser observer) {
 
         SelectQuery selectQuery = selectQuerySupplier.apply(query);
@@ -131,6 +143,27 @@ final class SelectQueryParser  implements SelectQueryConverter{
         return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
     }
 
+    private Function<DocumentParams, DocumentQuery> getTemplate(String query, DocumentObserverParser observer) {
+        return getTemplate(selectQuerySupplier.apply(query), observer);
+    }
+
+    private Function<DocumentParams, DocumentQuery> getTemplate(SelectQuery selectQuery, DocumentObserverParser observer) {
+        String collection = observer.fireEntity(selectQuery.getEntity());
+        long limit = selectQuery.getLimit();
+        long skip = selectQuery.getSkip();
+        List<String> documents = selectQuery.getFields().stream()
+                .map(f -> observer.fireField(collection, f))
+                .collect(Collectors.toList());
+        List<Sort> sorts = selectQuery.getOrderBy().stream().map(s -> toSort(s, observer, collection)).collect(toList());
+
+        if (selectQuery.getWhere().isPresent()) {
+            Function<DocumentParams, DocumentCondition> condition = Conditions.getTemplate(selectQuery.getWhere().get(),
+                    observer, collection);
+            return p -> new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition.apply(p));
+        }
+        return p -> new DefaultDocumentQuery(limit, skip, collection, documents, sorts, null);
+    }
+
     private Sort toSort(org.jnosql.query.Sort sort, DocumentObserverParser observer, String entity) {
         return Sort.of(observer.fireField(entity, sort.getName()),
                 sort.getType().equals(org.jnosql.query.Sort.SortType.ASC) ? ASC : DESC);
@@ -0,0 +1,210 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.api.document;
+
+import org.jnosql.diana.api.Value;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArrayDocumentEntityTest {
+
+    @Test
+    public void shouldReturnErrorWhenNameIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> DocumentEntity.compact(null, 10));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenExpectedSizeIsNegative() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DocumentEntity.compact("entity", -1));
+    }
+
+    @Test
+    public void shouldKeepTheInsertionOrder() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 3);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add(Document.of("city", "London"));
+
+        assertThat(entity.getDocumentNames(), contains("name", "age", "city"));
+        assertThat(entity.getValues(), contains(Value.of("Ada"), Value.of(10), Value.of("London")));
+        assertEquals(Document.of("age", 10), entity.getDocuments().get(1));
+    }
+
+    @Test
+    public void shouldReplaceDuplicatedDocument() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.add("name", 10);
+        entity.add("age", 20);
+        entity.add("name", 13);
+        assertEquals(2, entity.size());
+        assertEquals(Document.of("name", 13), entity.find("name").get());
+        assertEquals(Document.of("name", 13), entity.getDocuments().get(0));
+    }
+
+    @Test
+    public void shouldGrowBeyondTheExpectedSize() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 0);
+        IntStream.range(0, 100).forEach(i -> entity.add("document" + i, i));
+
+        assertEquals(100, entity.size());
+        for (int i = 0; i < 100; i++) {
+            Optional<Document> document = entity.find("document" + i);
+            assertTrue(document.isPresent());
+            assertEquals(i, document.get().get());
+        }
+        assertFalse(entity.find("document100").isPresent());
+    }
+
+    @Test
+    public void shouldRemoveAndKeepTheOrder() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 3);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("city", "London");
+
+        assertTrue(entity.remove("age"));
+        assertFalse(entity.remove("age"));
+        assertEquals(2, entity.size());
+        assertFalse(entity.contains("age"));
+        assertTrue(entity.contains("city"));
+        assertThat(entity.getDocumentNames(), contains("name", "city"));
+
+        entity.add("age", 12);
+        assertThat(entity.getDocumentNames(), contains("name", "city", "age"));
+    }
+
+    @Test
+    public void shouldReturnReadOnlyViews() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        List<Document> documents = entity.getDocuments();
+        assertSame(documents, entity.getDocuments());
+        assertTrue(documents.isEmpty());
+
+        entity.add("name", "Ada");
+        assertEquals(1, documents.size());
+        assertTrue(entity.getDocumentNames().contains("name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> documents.add(Document.of("age", 10)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> entity.getDocumentNames().add("age"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> entity.getValues().add(Value.of(10)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> documents.get(1));
+    }
+
+    @Test
+    public void shouldBeEqualsToTheDefaultEntity() {
+        List<Document> documents = asList(Document.of("name", "Ada"), Document.of("age", 10));
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.addAll(documents);
+        DocumentEntity defaultEntity = DocumentEntity.of("entity", documents);
+
+        assertEquals(defaultEntity, entity);
+        assertEquals(entity, defaultEntity);
+        assertEquals(defaultEntity.hashCode(), entity.hashCode());
+        assertNotEquals(DocumentEntity.of("entity", documents.subList(0, 1)), entity);
+        assertNotEquals(DocumentEntity.of("entity2", documents), entity);
+    }
+
+    @Test
+    public void shouldFailFastWhenTheEntityChangesWhileIterating() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+
+        Iterator<Document> documents = entity.getDocuments().iterator();
+        documents.next();
+        entity.add("city", "London");
+        Assertions.assertThrows(ConcurrentModificationException.class, documents::next);
+
+        Iterator<String> names = entity.getDocumentNames().iterator();
+        names.next();
+        entity.remove("city");
+        Assertions.assertThrows(ConcurrentModificationException.class, names::next);
+
+        Iterator<Value> values = entity.getValues().iterator();
+        entity.clear();
+        Assertions.assertThrows(ConcurrentModificationException.class, values::next);
+    }
+
+    @Test
+    public void shouldNotFailWhenTheValueIsReplacedWhileIterating() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+
+        Iterator<Document> documents = entity.getDocuments().iterator();
+        documents.next();
+        entity.add("age", 12);
+        assertEquals(Document.of("age", 12), documents.next());
+        assertFalse(documents.hasNext());
+    }
+
+    @Test
+    public void shouldDoCopy() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        DocumentEntity copy = entity.copy();
+        copy.add("age", 10);
+
+        assertEquals(1, entity.size());
+        assertEquals(2, copy.size());
+        assertFalse(entity.contains("age"));
+        assertTrue(copy.contains("name"));
+    }
+
+    @Test
+    public void shouldClearAndReuse() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.clear();
+
+        assertTrue(entity.isEmpty());
+        assertFalse(entity.find("name").isPresent());
+        entity.add("age", 12);
+        assertEquals(Document.of("age", 12), entity.find("age").get());
+    }
+
+    @Test
+    public void shouldConvertToMap() {
+        DocumentEntity entity = DocumentEntity.compact("entity", 2);
+        entity.add("_id", "id");
+        entity.add(Document.of("sub", Document.of("name", "Ada")));
+        Map<String, Object> result = entity.toMap();
+
+        assertEquals("id", result.get("_id"));
+        assertEquals("Ada", ((Map<String, Object>) result.get("sub")).get("name"));
+        assertEquals(DocumentEntity.of("entity", entity.getDocuments().stream().collect(Collectors.toList())).toMap(),
+                result);
+    }
+}
@@ -472,4 +472,36 @@ class DeleteQueryParserTest {
         assertTrue(documentQuery.getDocuments().isEmpty());
         assertEquals("God", documentQuery.getDocumentCollection());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"delete from God where age = @age"})
+    public void shouldReuseThePrepareStatementTemplate(String query) {
+        ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
+        DocumentObserverParser observer = Mockito.mock(DocumentObserverParser.class, Mockito.CALLS_REAL_METHODS);
+
+        DocumentPreparedStatement first = parser.prepare(query, documentCollection, observer);
+        DocumentPreparedStatement second = parser.prepare(query, documentCollection, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+
+        Mockito.verify(observer).fireEntity("God");
+        Mockito.verify(documentCollection, Mockito.times(2)).delete(captor.capture());
+        assertEquals(12, captor.getAllValues().get(0).getCondition().get().getDocument().get());
+        assertEquals(20, captor.getAllValues().get(1).getCondition().get().getDocument().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"delete from God where age = @age"})
+    public void shouldNotReuseThePrepareStatementTemplateOfAnotherObserver(String query) {
+        DocumentObserverParser observer = Mockito.mock(DocumentObserverParser.class, Mockito.CALLS_REAL_METHODS);
+        DocumentObserverParser another = Mockito.mock(DocumentObserverParser.class, Mockito.CALLS_REAL_METHODS);
+
+        parser.prepare(query, documentCollection, observer);
+        parser.prepare(query, documentCollection, another);
+
+        Mockito.verify(observer).fireEntity("God");
+        Mockito.verify(another).fireEntity("God");
+    }
+}
@@ -29,6 +29,9 @@ import org.jnosql.diana.api.document.DocumentPreparedStatementAsync;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.query.QueryException;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -37,6 +40,7 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -525,6 +529,31 @@ public class SelectQueryParserTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age and name = \"Ada\""})
+    public void shouldBindPrepareStatementsIndependently(String query) {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        DocumentPreparedStatement first = parser.prepare(query, documentCollection, observer);
+        DocumentPreparedStatement second = parser.prepare(query, documentCollection, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        List<DocumentCondition> firstConditions = queries.get(0).getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        List<DocumentCondition> secondConditions = queries.get(1).getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(12, firstConditions.get(0).getDocument().get());
+        assertEquals(20, secondConditions.get(0).getDocument().get());
+        assertEquals(firstConditions.get(1), secondConditions.get(1));
+    }
+
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
     public void shouldReturnErrorWhenIsQueryWithParamAsync(String query) {
@@ -586,6 +615,21 @@ public class SelectQueryParserTest {
     }
 
 
+    @Test
+    public void shouldCompileQueryWithNewParamsToEachCall() {
+        SelectQuery selectQuery = SelectQuerySupplier.getSupplier().apply("select * from God where age = @age");
+        Supplier<DocumentQueryParams> supplier = parser.compile(selectQuery, observer);
+
+        DocumentQueryParams first = supplier.get();
+        DocumentQueryParams second = supplier.get();
+        first.getParams().bind("age", 10);
+        second.getParams().bind("age", 20);
+
+        assertEquals(10, first.getQuery().getCondition().get().getDocument().get());
+        assertEquals(20, second.getQuery().getCondition().get().getDocument().get());
+        assertEquals("God", first.getQuery().getDocumentCollection());
+    }
+
     private void checkBaseQuery(DocumentQuery documentQuery, long limit, long skip) {
         assertTrue(documentQuery.getDocuments().isEmpty());
         assertTrue(documentQuery.getSorts().isEmpty());
@@ -21,6 +21,7 @@ package org.jnosql.diana.api.key;
 import org.jnosql.diana.api.Value;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -102,6 +103,26 @@ public interface BucketManager extends AutoCloseable {
      */
     <K> Iterable<Value> get(Iterable<K> keys);
 
+    /**
+     * Finds the values of the keys aligned to them: the result has one element to each key, in the same order
+     * of the keys, and a key not found is a {@link Optional#empty()}.
+     * The default implementation calls {@link BucketManager#get(Object)} to each key, so the drivers whose
+     * database has a multi-get should override it to fetch the keys in a single request.
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the values aligned to the keys
+     * @throws NullPointerException when the keys are null
+     */
+    default <K> List<Optional<Value>> getAll(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Optional<Value>> values = new ArrayList<>();
+        for (K key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
     /**
      * Removes an entity from key
      *
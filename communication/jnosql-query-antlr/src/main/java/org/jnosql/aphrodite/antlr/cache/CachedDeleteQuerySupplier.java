@@ -14,6 +14,7 @@ package org.jnosql.aphrodite.antlr.cache;
 import org.jnosql.aphrodite.antlr.AntlrDeleteQuerySupplier;
 import org.jnosql.query.DeleteQuery;
 import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.QueryCache;
 
 import java.util.Objects;
 
@@ -22,11 +23,11 @@ import java.util.Objects;
  */
 public final class CachedDeleteQuerySupplier implements DeleteQuerySupplier {
 
-    private final CacheQuery<DeleteQuery> cached;
+    private final QueryCache<String, DeleteQuery> cached;
 
 
     public CachedDeleteQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrDeleteQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrDeleteQuerySupplier().apply(q));
     }
 
     @Override
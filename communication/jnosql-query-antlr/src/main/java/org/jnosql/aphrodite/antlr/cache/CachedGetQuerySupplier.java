@@ -14,6 +14,7 @@ package org.jnosql.aphrodite.antlr.cache;
 import org.jnosql.aphrodite.antlr.AntlrGetQuerySupplier;
 import org.jnosql.query.GetQuery;
 import org.jnosql.query.GetQuerySupplier;
+import org.jnosql.query.QueryCache;
 
 import java.util.Objects;
 
@@ -23,11 +24,11 @@ import java.util.Objects;
  */
 public final class CachedGetQuerySupplier implements GetQuerySupplier {
 
-    private final CacheQuery<GetQuery> cached;
+    private final QueryCache<String, GetQuery> cached;
 
 
     public CachedGetQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrGetQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrGetQuerySupplier().apply(q));
     }
 
     @Override
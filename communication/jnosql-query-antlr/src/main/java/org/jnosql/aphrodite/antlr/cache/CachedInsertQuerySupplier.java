@@ -14,6 +14,7 @@ package org.jnosql.aphrodite.antlr.cache;
 import org.jnosql.aphrodite.antlr.AntlrInsertQuerySupplier;
 import org.jnosql.query.InsertQuery;
 import org.jnosql.query.InsertQuerySupplier;
+import org.jnosql.query.QueryCache;
 
 import java.util.Objects;
 
@@ -22,10 +23,10 @@ import java.util.Objects;
  */
 public final class CachedInsertQuerySupplier implements InsertQuerySupplier {
 
-    private final CacheQuery<InsertQuery> cached;
+    private final QueryCache<String, InsertQuery> cached;
 
     public CachedInsertQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrInsertQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrInsertQuerySupplier().apply(q));
     }
 
     @Override
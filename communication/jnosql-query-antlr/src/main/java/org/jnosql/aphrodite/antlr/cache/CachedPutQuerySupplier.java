@@ -14,6 +14,7 @@ package org.jnosql.aphrodite.antlr.cache;
 import org.jnosql.aphrodite.antlr.AntlrPutQuerySupplier;
 import org.jnosql.query.PutQuery;
 import org.jnosql.query.PutQuerySupplier;
+import org.jnosql.query.QueryCache;
 
 import java.util.Objects;
 
@@ -22,11 +23,11 @@ import java.util.Objects;
  */
 public final class CachedPutQuerySupplier implements PutQuerySupplier {
 
-    private final CacheQuery<PutQuery> cached;
+    private final QueryCache<String, PutQuery> cached;
 
 
     public CachedPutQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrPutQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrPutQuerySupplier().apply(q));
     }
 
     @Override
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrRemoveQuerySupplier;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.RemoveQuery;
 import org.jnosql.query.RemoveQuerySupplier;
 
@@ -22,11 +23,11 @@ import java.util.Objects;
  */
 public final class CachedRemoveQuerySupplier implements RemoveQuerySupplier {
 
-    private final CacheQuery<RemoveQuery> cached;
+    private final QueryCache<String, RemoveQuery> cached;
 
 
     public CachedRemoveQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrRemoveQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrRemoveQuerySupplier().apply(q));
     }
 
     @Override
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrSelectQuerySupplier;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.SelectQuerySupplier;
 
@@ -22,11 +23,11 @@ import java.util.Objects;
  */
 public final class CachedSelectQuerySupplier implements SelectQuerySupplier {
 
-    private final CacheQuery<SelectQuery> cached;
+    private final QueryCache<String, SelectQuery> cached;
 
 
     public CachedSelectQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrSelectQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrSelectQuerySupplier().apply(q));
     }
 
     @Override
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrUpdateQuerySupplier;
+import org.jnosql.query.QueryCache;
 import org.jnosql.query.UpdateQuery;
 import org.jnosql.query.UpdateQuerySupplier;
 
@@ -22,11 +23,11 @@ import java.util.Objects;
  */
 public final class CachedUpdateQuerySupplier implements UpdateQuerySupplier {
 
-    private final CacheQuery<UpdateQuery> cached;
+    private final QueryCache<String, UpdateQuery> cached;
 
 
     public CachedUpdateQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrUpdateQuerySupplier().apply(q));
+        this.cached = QueryCache.of(q -> new AntlrUpdateQuerySupplier().apply(q));
     }
 
     @Override
@@ -12,6 +12,6 @@
 
 /**
  *  This package contains the wrapper to the Antlr supplier implementation; this wrapper
- *  cache keeps the values converter to 5 minutes at least after that time the result will be expired.
+ *  keeps the parsed queries in a bounded {@link org.jnosql.query.QueryCache}.
  */
 package org.jnosql.aphrodite.antlr.cache;
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.jnosql.query;
+
+import org.jnosql.aphrodite.antlr.cache.CachedSelectQuerySupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCacheTest {
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> QueryCache.of(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> QueryCache.of(String::length, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> QueryCache.of(String::length).get(null));
+    }
+
+    @Test
+    public void shouldCacheValue() {
+        AtomicInteger counter = new AtomicInteger();
+        QueryCache<String, Integer> cache = QueryCache.of(k -> counter.incrementAndGet());
+        assertEquals(Integer.valueOf(1), cache.get("select * from God"));
+        assertEquals(Integer.valueOf(1), cache.get("select * from God"));
+        assertEquals(1, counter.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldRespectCapacity() {
+        QueryCache<Integer, String> cache = QueryCache.of(String::valueOf, 10);
+        IntStream.range(0, 100).forEach(cache::get);
+        assertTrue(cache.size() <= 10);
+        assertEquals(90L, cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldKeepUsedEntries() {
+        QueryCache<Integer, String> cache = QueryCache.of(String::valueOf, 2);
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+        cache.get(1);
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(3L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheError() {
+        AtomicInteger counter = new AtomicInteger();
+        QueryCache<String, String> cache = QueryCache.of(k -> {
+            counter.incrementAndGet();
+            throw new QueryException("invalid query");
+        });
+        Assertions.assertThrows(QueryException.class, () -> cache.get("select"));
+        Assertions.assertThrows(QueryException.class, () -> cache.get("select"));
+        assertEquals(2, counter.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldLoadOnceWhenConcurrent() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        QueryCache<String, Integer> cache = QueryCache.of(k -> {
+            await(latch);
+            return counter.incrementAndGet();
+        });
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get("select * from God")))
+                .collect(toList());
+        Thread.sleep(50L);
+        latch.countDown();
+        futures.forEach(f -> assertEquals(Integer.valueOf(1), f.join()));
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void shouldUseCacheInSupplier() {
+        SelectQuerySupplier supplier = new CachedSelectQuerySupplier();
+        SelectQuery query = supplier.apply("select * from God");
+        assertSame(query, supplier.apply("select * from God"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.jnosql.query;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded and concurrent cache to parsed queries. The lookup does not hold any global lock,
+ * the loading happens once per key, so concurrent callers of the same query wait for the first one
+ * instead of parsing it again, and when the cache reaches its capacity it evicts the entries
+ * that were not read since the last sweep (a CLOCK approximation of LRU).
+ * The default capacity is {@value #DEFAULT_SIZE} and might be overwritten with the
+ * {@value #CACHE_SIZE} system property.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class QueryCache<K, V> {
+
+    /**
+     * The system property to define the default capacity of the caches
+     */
+    public static final String CACHE_SIZE = "jnosql.query.cache.size";
+
+    /**
+     * The default capacity when neither the system property nor the capacity are defined
+     */
+    public static final int DEFAULT_SIZE = 1_000;
+
+    private final Map<K, Entry<V>> store = new ConcurrentHashMap<>();
+
+    private final Queue<K> clock = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final Function<K, V> supplier;
+
+    private final int capacity;
+
+    private QueryCache(Function<K, V> supplier, int capacity) {
+        this.supplier = supplier;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the value to the key, loading it from the cache supplier when it is not cached.
+     *
+     * @param key the key
+     * @return the cached value
+     * @throws NullPointerException when key is null
+     */
+    public V get(K key) {
+        return get(key, supplier);
+    }
+
+    /**
+     * Returns the value to the key, loading it from the loader when it is not cached.
+     *
+     * @param key    the key
+     * @param loader the loader used only when the key is not cached
+     * @return the cached value
+     * @throws NullPointerException when there is null parameter
+     */
+    public V get(K key, Function<K, V> loader) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(loader, "loader is required");
+
+        Entry<V> entry = store.get(key);
+        if (entry != null && entry.value != null) {
+            entry.touch();
+            hits.increment();
+            return entry.value;
+        }
+        if (entry == null) {
+            entry = store.computeIfAbsent(key, k -> new Entry<>());
+        }
+        return load(key, entry, loader);
+    }
+
+    private V load(K key, Entry<V> entry, Function<K, V> loader) {
+        boolean loaded = false;
+        V value;
+        synchronized (entry) {
+            value = entry.value;
+            if (value == null) {
+                misses.increment();
+                try {
+                    value = Objects.requireNonNull(loader.apply(key), "loader cannot return null");
+                } catch (RuntimeException exception) {
+                    store.remove(key, entry);
+                    throw exception;
+                }
+                entry.value = value;
+                loaded = true;
+            } else {
+                hits.increment();
+            }
+        }
+        if (loaded) {
+            clock.offer(key);
+            if (size.incrementAndGet() > capacity) {
+                evict();
+            }
+        }
+        return value;
+    }
+
+    private void evict() {
+        while (size.get() > capacity) {
+            K key = clock.poll();
+            if (key == null) {
+                return;
+            }
+            Entry<V> entry = store.get(key);
+            if (entry == null) {
+                size.decrementAndGet();
+            } else if (entry.used) {
+                entry.used = false;
+                clock.offer(key);
+            } else if (store.remove(key, entry)) {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries of this cache, the statistics are kept
+     */
+    public void clear() {
+        store.clear();
+        clock.clear();
+        size.set(0);
+    }
+
+    /**
+     * @return the number of cached entries
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * @return the maximum number of entries
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that required the loader
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries removed to respect the capacity
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCache{" + "size=" + size() +
+                ", capacity=" + capacity +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    /**
+     * Creates a cache with the default capacity
+     *
+     * @param supplier the function to load a value not cached
+     * @param <K>      the key type
+     * @param <V>      the value type
+     * @return a new {@link QueryCache} instance
+     * @throws NullPointerException when supplier is null
+     */
+    public static <K, V> QueryCache<K, V> of(Function<K, V> supplier) {
+        return of(supplier, Integer.getInteger(CACHE_SIZE, DEFAULT_SIZE));
+    }
+
+    /**
+     * Creates a cache with the given capacity
+     *
+     * @param supplier the function to load a value not cached
+     * @param capacity the maximum number of entries
+     * @param <K>      the key type
+     * @param <V>      the value type
+     * @return a new {@link QueryCache} instance
+     * @throws NullPointerException     when supplier is null
+     * @throws IllegalArgumentException when capacity is not positive
+     */
+    public static <K, V> QueryCache<K, V> of(Function<K, V> supplier, int capacity) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be greater than zero");
+        }
+        return new QueryCache<>(supplier, capacity);
+    }
+
+    private static final class Entry<V> {
+
+        private volatile V value;
+
+        private volatile boolean used;
+
+        private void touch() {
+            if (!used) {
+                used = true;
+            }
+        }
+    }
+}
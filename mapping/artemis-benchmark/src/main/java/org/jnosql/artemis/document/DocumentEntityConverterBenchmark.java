@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.BenchmarkClassMappings;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.DefaultReflections;
+import org.jnosql.artemis.reflection.Reflections;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion between an entity and a {@link DocumentEntity}, run it with -prof gc
+ * to see the bytes allocated per operation.
+ * To run it: mvn -Pbenchmark package and then java -jar mapping/artemis-benchmark/target/benchmarks.jar DocumentEntityConverter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DocumentEntityConverterBenchmark {
+
+    private DocumentEntityConverter converter;
+
+    private Order order;
+
+    private DocumentEntity entity;
+
+    @Setup
+    public void setUp() {
+        Reflections reflections = new DefaultReflections();
+        ClassMappings classMappings = new BenchmarkClassMappings();
+        Converters converters = c -> reflections.newInstance(c);
+        converter = new AbstractDocumentEntityConverter() {
+            @Override
+            protected ClassMappings getClassMappings() {
+                return classMappings;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+        };
+
+        Address address = new Address();
+        address.setStreet("Rua Vergueiro");
+        address.setCity("Sao Paulo");
+
+        order = new Order();
+        order.setId(10L);
+        order.setCustomer("Ada");
+        order.setStatus("OPEN");
+        order.setQuantity(3);
+        order.setPrice(new BigDecimal("12.50"));
+        order.setTags(Arrays.asList("book", "gift"));
+        order.setAddress(address);
+
+        entity = converter.toDocument(order);
+    }
+
+    @Benchmark
+    public Object toDocument() {
+        return converter.toDocument(order);
+    }
+
+    @Benchmark
+    public Object toEntity() {
+        return converter.toEntity(Order.class, entity);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.math.BigDecimal;
+
+/**
+ * Stores the {@link BigDecimal} as text, so the benchmarks cover the fields with a converter.
+ */
+public class PriceConverter implements AttributeConverter<BigDecimal, String> {
+
+    @Override
+    public String convertToDatabaseColumn(BigDecimal attribute) {
+        return attribute.toPlainString();
+    }
+
+    @Override
+    public BigDecimal convertToEntityAttribute(String dbData) {
+        return new BigDecimal(dbData);
+    }
+}
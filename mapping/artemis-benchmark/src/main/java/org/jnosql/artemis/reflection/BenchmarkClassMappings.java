@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ClassMappings} to the benchmarks that run without CDI, it creates the mapping on demand
+ * to each class requested.
+ */
+public class BenchmarkClassMappings implements ClassMappings {
+
+    private final Map<Class<?>, ClassMapping> mappings = new ConcurrentHashMap<>();
+
+    private final ClassConverter converter = new ClassConverter(new DefaultReflections());
+
+    @Override
+    public ClassMapping get(Class classEntity) {
+        return mappings.computeIfAbsent(classEntity, converter::create);
+    }
+
+    @Override
+    public ClassMapping findByName(String name) {
+        return mappings.values().stream()
+                .filter(m -> m.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
+    }
+
+    @Override
+    public Optional<ClassMapping> findBySimpleName(String name) {
+        return mappings.values().stream()
+                .filter(m -> m.getClassInstance().getSimpleName().equals(name))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<ClassMapping> findByClassName(String name) {
+        return mappings.values().stream()
+                .filter(m -> m.getClassInstance().getName().equals(name))
+                .findFirst();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the accessors created by each {@link ClassOperation}: reflection, the classes compiled at runtime
+ * and the lambdas linked from method handles. The direct benchmarks are the baseline of plain Java calls.
+ * To run it: mvn -Pbenchmark package and then java -jar mapping/artemis-benchmark/target/benchmarks.jar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ClassOperationBenchmark {
+
+    @Param({"REFLECTION", "COMPILER", "METHOD_HANDLE"})
+    private String operation;
+
+    private InstanceSupplier supplier;
+
+    private FieldReader nameReader;
+
+    private FieldWriter nameWriter;
+
+    private FieldReader yearReader;
+
+    private FieldWriter yearWriter;
+
+    private Book book;
+
+    private String name = "Effective Java";
+
+    private Integer year = 2018;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException, NoSuchFieldException {
+        Reflections reflections = new DefaultReflections();
+        ClassOperation classOperation = create(reflections);
+
+        Field nameField = Book.class.getDeclaredField("name");
+        Field yearField = Book.class.getDeclaredField("year");
+        reflections.makeAccessible(nameField);
+        reflections.makeAccessible(yearField);
+
+        supplier = classOperation.getInstanceSupplierFactory().apply(Book.class.getConstructor());
+        nameReader = classOperation.getFieldReaderFactory().apply(nameField);
+        nameWriter = classOperation.getFieldWriterFactory().apply(nameField);
+        yearReader = classOperation.getFieldReaderFactory().apply(yearField);
+        yearWriter = classOperation.getFieldWriterFactory().apply(yearField);
+
+        book = new Book();
+        book.setName(name);
+        book.setYear(year);
+    }
+
+    @Benchmark
+    public Object newInstance() {
+        return supplier.get();
+    }
+
+    @Benchmark
+    public Object read() {
+        return nameReader.read(book);
+    }
+
+    @Benchmark
+    public Object readPrimitive() {
+        return yearReader.read(book);
+    }
+
+    @Benchmark
+    public Object write() {
+        nameWriter.write(book, name);
+        return book;
+    }
+
+    @Benchmark
+    public Object writePrimitive() {
+        yearWriter.write(book, year);
+        return book;
+    }
+
+    @Benchmark
+    public Object directNewInstance() {
+        return new Book();
+    }
+
+    @Benchmark
+    public Object directRead() {
+        return book.getName();
+    }
+
+    @Benchmark
+    public Object directWrite() {
+        book.setName(name);
+        return book;
+    }
+
+    private ClassOperation create(Reflections reflections) {
+        ClassOperation reflection = new ReflectionClassOperation(reflections);
+        switch (ClassOperationFactory.OperationType.valueOf(operation)) {
+            case COMPILER:
+                JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationBenchmark.class.getClassLoader());
+                return new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+            case METHOD_HANDLE:
+                return new MethodHandleClassOperation(reflection);
+            default:
+                return reflection;
+        }
+    }
+}
@@ -19,18 +19,15 @@ import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFacto
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -43,6 +40,8 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final Map<ClassMapping, FieldReaderPlan[]> readerPlans = new ConcurrentHashMap<>();
+
 
     protected abstract ClassMappings getClassMappings();
 
@@ -90,15 +89,6 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         return DefaultColumnFieldValue.of(value, field);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
-            FieldMapping field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field, this);
-        };
-    }
-
     protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
         ClassMapping mapping = getClassMappings().get(entityClass);
         T instance = mapping.newInstance();
@@ -106,18 +96,68 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     }
 
     private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
+        final Map<String, Column> columnsByName = new HashMap<>(columns.size() * 2);
+        for (Column column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
+
+        for (FieldReaderPlan plan : getReaderPlans(mapping)) {
+            plan.read(instance, columns, columnsByName.get(plan.name), this);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a consumer that reads the field whose name it receives from the columns to the instance.
+     *
+     * @deprecated the fields are read through a plan resolved once per {@link ClassMapping},
+     * this method is kept to the subclasses and will be removed in a next version
+     */
+    @Deprecated
+    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
+        return k -> {
+            FieldMapping field = fieldsGroupByName.get(k);
+            Column column = columns.stream().filter(c -> c.getName().equals(k)).findFirst().orElse(null);
+            new FieldReaderPlan(field, converterFactory.get(field)).read(instance, columns, column, this);
         };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
+    }
 
-        return instance;
+    private FieldReaderPlan[] getReaderPlans(ClassMapping mapping) {
+        FieldReaderPlan[] plans = readerPlans.get(mapping);
+        if (plans == null) {
+            plans = readerPlans.computeIfAbsent(mapping, m -> m.getFields().stream()
+                    .map(f -> new FieldReaderPlan(f, converterFactory.get(f)))
+                    .toArray(FieldReaderPlan[]::new));
+        }
+        return plans;
+    }
+
+    /**
+     * A field of the entity resolved once per {@link ClassMapping}: its column name, the converter
+     * and whether it is read from the whole column list instead of a single column.
+     */
+    private static final class FieldReaderPlan {
+
+        private final String name;
+
+        private final FieldMapping field;
+
+        private final ColumnFieldConverter converter;
+
+        private final boolean elementType;
+
+        private FieldReaderPlan(FieldMapping field, ColumnFieldConverter converter) {
+            this.name = field.getName();
+            this.field = field;
+            this.converter = converter;
+            this.elementType = EMBEDDED.equals(field.getType()) || SUBENTITY.equals(field.getType());
+        }
+
+        private <T> void read(T instance, List<Column> columns, Column column, AbstractColumnEntityConverter entityConverter) {
+            if (column != null || elementType) {
+                converter.convert(instance, columns, column, field, entityConverter);
+            }
+        }
     }
 
 }
@@ -21,6 +21,12 @@ import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.CompletionStages;
+import org.jnosql.diana.api.Flow;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Publishers;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
@@ -30,10 +36,15 @@ import org.jnosql.diana.api.column.ColumnQueryParserAsync;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -48,6 +59,8 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     };
     private static final ColumnQueryParserAsync PARSER = ColumnQueryParserAsync.getParser();
 
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     protected abstract ColumnEntityConverter getConverter();
 
     protected abstract ColumnFamilyManagerAsync getManager();
@@ -56,6 +69,17 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     protected abstract Converters getConverters();
 
+    /**
+     * Returns the executor that converts the database results to entities in the methods that return
+     * {@link CompletionStage}. By default the conversion runs in the thread that completes the database operation,
+     * subclasses might override it to keep the conversion out of the driver threads.
+     *
+     * @return the conversion executor
+     */
+    protected Executor getExecutor() {
+        return DIRECT_EXECUTOR;
+    }
+
     private ColumnObserverParser observer;
 
 
@@ -81,8 +105,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void insert(T entity, Consumer<T> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<ColumnEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().insert(getConverter().toColumn(entity), dianaCallBack);
+        insertAsync(entity).thenAccept(callBack);
     }
 
     @Override
@@ -90,8 +113,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callback, "callBack is required");
-        Consumer<ColumnEntity> dianaCallBack = c -> callback.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().insert(getConverter().toColumn(entity), ttl, dianaCallBack);
+        insertAsync(entity, ttl).thenAccept(callback);
     }
 
     @Override
@@ -104,8 +126,50 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void update(T entity, Consumer<T> callback) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callback, "callBack is required");
-        Consumer<ColumnEntity> dianaCallBack = c -> callback.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().update(getConverter().toColumn(entity), dianaCallBack);
+        updateAsync(entity).thenAccept(callback);
+    }
+
+    @Override
+    public <T> void bulkInsert(Iterable<T> entities, BulkWriteOptions options, Consumer<BulkWriteResult<T>> callBack) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+        bulkInsertAsync(entities, options).thenAccept(callBack);
+    }
+
+    @Override
+    public <T> void bulkUpdate(Iterable<T> entities, BulkWriteOptions options, Consumer<BulkWriteResult<T>> callBack) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+        bulkUpdateAsync(entities, options).thenAccept(callBack);
+    }
+
+    private <T> CompletionStage<BulkWriteResult<T>> bulk(List<T> entities, int offset, BulkWriteOptions options,
+                                                         Function<List<ColumnEntity>,
+                                                                 CompletionStage<BulkWriteResult<ColumnEntity>>> action,
+                                                         List<T> written, List<BulkWriteResult.Failure<T>> failures) {
+        if (offset >= entities.size()) {
+            return CompletableFuture.completedFuture(BulkWriteResult.of(written, failures));
+        }
+        List<T> batch = entities.subList(offset, Math.min(entities.size(), offset + options.getBatchSize()));
+        List<ColumnEntity> converted = batch.stream().map(getConverter()::toColumn).collect(toList());
+        return action.apply(converted).thenComposeAsync(r -> {
+            BulkWriteResult<T> result = r.map(batch,
+                    (entity, e) -> (T) getConverter().toEntity(entity.getClass(), e)).shift(offset);
+            written.addAll(result.getEntities());
+            failures.addAll(result.getFailures());
+            if (options.isOrdered() && result.hasFailures()) {
+                return CompletableFuture.completedFuture(BulkWriteResult.of(written, failures));
+            }
+            return bulk(entities, offset + batch.size(), options, action, written, failures);
+        }, getExecutor());
+    }
+
+    private static <T> List<T> toBulk(Iterable<T> entities) {
+        List<T> list = new ArrayList<>();
+        entities.forEach(list::add);
+        return list;
     }
 
     @Override
@@ -118,20 +182,14 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public void delete(ColumnDeleteQuery query, Consumer<Void> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
-        getManager().delete(query, callback);
+        deleteAsync(query).thenAccept(callback);
     }
 
     @Override
     public <T> void select(ColumnQuery query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
-
-        Consumer<List<ColumnEntity>> dianaCallBack = d -> callback.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
-        getManager().select(query, dianaCallBack);
+        this.<T>selectAsync(query).thenAccept(callback);
     }
 
     @Override
@@ -141,16 +199,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(id, "id is required");
         requireNonNull(callback, "callBack is required");
 
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        FieldMapping idField = classMapping.getId()
-                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
-
-        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
-
-        ColumnQuery query = ColumnQueryBuilder.select().from(classMapping.getName())
-                .where(idField.getName()).eq(value).build();
-
-        singleResult(query, callback);
+        findAsync(entityClass, id).thenAccept(callback);
     }
 
     @Override
@@ -160,9 +209,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(id, "id is required");
         requireNonNull(callback, "callBack is required");
 
-        ColumnDeleteQuery query = getDeleteQuery(entityClass, id);
-
-        delete(query, callback);
+        deleteAsync(entityClass, id).thenAccept(callback);
     }
 
 
@@ -180,28 +227,21 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void query(String query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
-        Consumer<List<ColumnEntity>> mapper = columnEntities ->
-                callback.accept(columnEntities
-                        .stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList()));
-        PARSER.query(query, getManager(), mapper, getObserver());
+        this.<T>queryAsync(query).thenAccept(callback);
     }
 
     @Override
     public <T> void singleResult(String query, Consumer<Optional<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
-        Consumer<List<ColumnEntity>> mapper = columnEntities -> {
-            List<T> entities = columnEntities.stream().map(c -> (T) getConverter().toEntity(c)).collect(toList());
+        this.<T>queryAsync(query).thenApply(entities -> {
             if (entities.isEmpty()) {
-                callback.accept(Optional.empty());
+                return Optional.<T>empty();
+            } else if (entities.size() == 1) {
+                return Optional.ofNullable(entities.get(0));
             }
-            if (entities.size() == 1) {
-                callback.accept(Optional.ofNullable(getConverter().toEntity(columnEntities.get(0))));
-            }
-            throw new UnsupportedOperationException("This query does not return a unique result: " + query);
-        };
-        PARSER.query(query, getManager(), mapper, getObserver());
+            throw new NonUniqueResultException("No unique result found to the query: " + query);
+        }).thenAccept(callback);
     }
 
     @Override
@@ -212,7 +252,8 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     @Override
     public void count(String columnFamily, Consumer<Long> callback){
-        getManager().count(columnFamily, callback);
+        requireNonNull(callback, "callback is required");
+        countAsync(columnFamily).thenAccept(callback);
     }
 
 
@@ -220,10 +261,122 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void count(Class<T> entityClass, Consumer<Long> callback){
         requireNonNull(entityClass, "entity class is required");
         requireNonNull(callback, "callback is required");
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        getManager().count(classMapping.getName(), callback);
+        countAsync(entityClass).thenAccept(callback);
+    }
+
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().insertAsync(getConverter().toColumn(entity))
+                .thenApplyAsync(e -> (T) getConverter().toEntity(entity.getClass(), e), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getManager().insertAsync(getConverter().toColumn(entity), ttl)
+                .thenApplyAsync(e -> (T) getConverter().toEntity(entity.getClass(), e), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().updateAsync(getConverter().toColumn(entity))
+                .thenApplyAsync(e -> (T) getConverter().toEntity(entity.getClass(), e), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<BulkWriteResult<T>> bulkInsertAsync(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return bulk(toBulk(entities), 0, options,
+                b -> CompletionStages.of(c -> getManager().bulkInsert(b, options, c)),
+                new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Override
+    public <T> CompletionStage<BulkWriteResult<T>> bulkUpdateAsync(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return bulk(toBulk(entities), 0, options,
+                b -> CompletionStages.of(c -> getManager().bulkUpdate(b, options, c)),
+                new ArrayList<>(), new ArrayList<>());
     }
 
+    @Override
+    public CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().deleteAsync(query);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> deleteAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return getManager().deleteAsync(getDeleteQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> selectAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().selectAsync(query).thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.map(getManager().selectPublisher(query), e -> (T) getConverter().toEntity(e));
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResultAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().singleResultAsync(query)
+                .thenApplyAsync(o -> o.map(e -> (T) getConverter().toEntity(e)), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> queryAsync(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.<List<ColumnEntity>>of(c -> PARSER.query(query, getManager(), c, getObserver()))
+                .thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResultAsync(getFindQuery(entityClass, id));
+    }
+
+    @Override
+    public CompletionStage<Long> countAsync(String columnFamily) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return getManager().countAsync(columnFamily);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> countAsync(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return getManager().countAsync(getClassMappings().get(entityClass).getName());
+    }
+
+    private <T> List<T> toEntities(List<ColumnEntity> entities) {
+        return entities.stream().map(e -> (T) getConverter().toEntity(e)).collect(toList());
+    }
+
+    private <T, K> ColumnQuery getFindQuery(Class<T> entityClass, K id) {
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        FieldMapping idField = classMapping.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+
+        return ColumnQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
+    }
 
     private <T, K> ColumnDeleteQuery getDeleteQuery(Class<T> entityClass, K id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
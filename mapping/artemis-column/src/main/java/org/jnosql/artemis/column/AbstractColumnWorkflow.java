@@ -14,8 +14,11 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -30,60 +33,55 @@ public abstract class AbstractColumnWorkflow implements ColumnWorkflow {
 
     protected abstract ColumnEntityConverter getConverter();
 
+    @Override
     public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        ColumnEventPersistManager eventManager = getColumnEventPersistManager();
+        if (eventManager.skipsPersistEvents()) {
+            return getConverter().toEntity(entity, action.apply(getConverter().toColumn(entity)));
+        }
+
+        eventManager.firePreEntity(entity);
+        eventManager.firePreColumnEntity(entity);
+        ColumnEntity column = getConverter().toColumn(entity);
+        eventManager.firePreColumn(column);
+        ColumnEntity written = action.apply(column);
+        eventManager.firePostColumn(written);
+        T result = getConverter().toEntity(entity, written);
+        eventManager.firePostEntity(result);
+        eventManager.firePostColumnEntity(result);
+        return result;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getColumnEventPersistManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreColumnEntity = t -> {
-            getColumnEventPersistManager().firePreColumnEntity(t);
-            return t;
-        };
-
-        Function<T, ColumnEntity> converterColumn = t -> getConverter().toColumn(t);
-
-        UnaryOperator<ColumnEntity> firePreColumn = t -> {
-            getColumnEventPersistManager().firePreColumn(t);
-            return t;
-        };
-
-        UnaryOperator<ColumnEntity> firePostColumn = t -> {
-            getColumnEventPersistManager().firePostColumn(t);
-            return t;
-        };
-
-        Function<ColumnEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getColumnEventPersistManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostColumnEntity = t -> {
-            getColumnEventPersistManager().firePostColumnEntity(t);
-            return t;
-        };
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreColumnEntity)
-                .andThen(converterColumn)
-                .andThen(firePreColumn)
-                .andThen(action)
-                .andThen(firePostColumn)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostColumnEntity);
+    @Override
+    public <T> BulkWriteResult<T> flow(List<T> entities, boolean ordered,
+                                       Function<List<ColumnEntity>, BulkWriteResult<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        ColumnEventPersistManager eventManager = getColumnEventPersistManager();
+        List<ColumnEntity> batch = new ArrayList<>(entities.size());
+        if (eventManager.skipsPersistEvents()) {
+            for (T entity : entities) {
+                batch.add(getConverter().toColumn(Objects.requireNonNull(entity, "entity is required")));
+            }
+            return action.apply(batch).map(entities, (entity, written) -> getConverter().toEntity(entity, written));
+        }
+
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            eventManager.firePreEntity(entity);
+            eventManager.firePreColumnEntity(entity);
+            ColumnEntity converted = getConverter().toColumn(entity);
+            eventManager.firePreColumn(converted);
+            batch.add(converted);
+        }
+
+        return action.apply(batch).map(entities, (entity, written) -> {
+            eventManager.firePostColumn(written);
+            T result = getConverter().toEntity(entity, written);
+            eventManager.firePostEntity(result);
+            eventManager.firePostColumnEntity(result);
+            return result;
+        });
     }
 }
@@ -93,4 +93,15 @@ public interface ColumnEventPersistManager {
      * @param query the query
      */
     void firePreDeleteQuery(ColumnDeleteQuery query);
+
+    /**
+     * Checks if the workflow can skip the persist events, it happens when the events are disabled or when there is
+     * not any observer to them, so the entity goes straight to the conversion and to the database.
+     * By default the events are not skipped.
+     *
+     * @return true when neither the entity events nor the column events have observers
+     */
+    default boolean skipsPersistEvents() {
+        return false;
+    }
 }
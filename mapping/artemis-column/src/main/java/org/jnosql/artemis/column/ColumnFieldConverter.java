@@ -18,9 +18,19 @@ import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.column.Column;
 
 import java.util.List;
-import java.util.Optional;
 
 interface ColumnFieldConverter {
-    <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
+
+    /**
+     * Writes the field at the instance
+     *
+     * @param instance  the entity instance
+     * @param columns   all columns of the entity
+     * @param column    the column with the field name, it is null when there is not
+     * @param field     the field
+     * @param converter the converter
+     * @param <T>       the entity type
+     */
+    <T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
                      AbstractColumnEntityConverter converter);
 }
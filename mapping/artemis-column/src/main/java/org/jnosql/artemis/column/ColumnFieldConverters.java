@@ -28,7 +28,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -64,11 +63,11 @@ class ColumnFieldConverters {
     private static class SubEntityConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
+        public <T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
                                 AbstractColumnEntityConverter converter) {
 
-            if (column.isPresent()) {
-                Column subColumn = column.get();
+            if (column != null) {
+                Column subColumn = column;
                 Object value = subColumn.get();
                 if (value instanceof Map) {
                     Map map = (Map) value;
@@ -95,7 +94,7 @@ class ColumnFieldConverters {
 
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+        public <T> void convert(T instance, List<Column> columns, Column column,
                                 FieldMapping field, AbstractColumnEntityConverter converter) {
 
 
@@ -111,9 +110,9 @@ class ColumnFieldConverters {
 
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+        public <T> void convert(T instance, List<Column> columns, Column column,
                                 FieldMapping field, AbstractColumnEntityConverter converter) {
-            Value value = column.get().getValue();
+            Value value = column.getValue();
             Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
             if (optionalConverter.isPresent()) {
 
@@ -130,14 +129,10 @@ class ColumnFieldConverters {
     private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
+        public <T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
                                 AbstractColumnEntityConverter converter) {
 
-            column.ifPresent(convertColumn(instance, field, converter));
-        }
-
-        private <T> Consumer<Column> convertColumn(T instance, FieldMapping field, AbstractColumnEntityConverter converter) {
-            return column -> {
+            if (column != null) {
                 GenericFieldMapping genericField = (GenericFieldMapping) field;
                 Collection collection = genericField.getCollectionInstance();
                 List<List<Column>> embeddable = (List<List<Column>>) column.get();
@@ -146,7 +141,7 @@ class ColumnFieldConverters {
                     collection.add(element);
                 }
                 field.write(instance, collection);
-            };
+            }
         }
     }
 }
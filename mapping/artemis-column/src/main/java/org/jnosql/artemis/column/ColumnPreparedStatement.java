@@ -28,10 +28,19 @@ final class ColumnPreparedStatement implements PreparedStatement {
 
     private final ColumnEntityConverter converter;
 
+    private final Runnable afterExecute;
+
     ColumnPreparedStatement(org.jnosql.diana.api.column.ColumnPreparedStatement preparedStatement,
                             ColumnEntityConverter converter) {
+        this(preparedStatement, converter, () -> {
+        });
+    }
+
+    ColumnPreparedStatement(org.jnosql.diana.api.column.ColumnPreparedStatement preparedStatement,
+                            ColumnEntityConverter converter, Runnable afterExecute) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
+        this.afterExecute = afterExecute;
     }
 
     @Override
@@ -42,13 +51,16 @@ final class ColumnPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> List<T> getResultList() {
-        return preparedStatement.getResultList().stream().map(c -> (T) converter.toEntity(c))
+        List<T> entities = preparedStatement.getResultList().stream().map(c -> (T) converter.toEntity(c))
                 .collect(Collectors.toList());
+        afterExecute.run();
+        return entities;
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
         Optional<ColumnEntity> singleResult = preparedStatement.getSingleResult();
+        afterExecute.run();
         return singleResult.map(converter::toEntity);
     }
 }
@@ -16,7 +16,13 @@ package org.jnosql.artemis.column;
 
 
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.CompletionStages;
+import org.jnosql.diana.api.Cursor;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Publishers;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
@@ -24,6 +30,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -149,6 +156,51 @@ public interface ColumnTemplateAsync {
         StreamSupport.stream(entities.spliterator(), false).forEach(this::update);
     }
 
+    /**
+     * Inserts a bulk of entities asynchronously, by default it's just run for each saving using
+     * {@link ColumnTemplateAsync#insert(Object, Consumer)} or {@link ColumnTemplateAsync#insert(Object, Duration, Consumer)}
+     * when the options has TTL, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @param callBack the callback with the saved entities and the failures
+     * @param <T>      the instance type
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to insert asynchronous
+     * @throws NullPointerException                            when there is null parameter
+     */
+    default <T> void bulkInsert(Iterable<T> entities, BulkWriteOptions options, Consumer<BulkWriteResult<T>> callBack) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+        Optional<Duration> ttl = options.getTtl();
+        if (ttl.isPresent()) {
+            BulkWriteResult.write(entities, options.isOrdered(), (e, c) -> insert(e, ttl.get(), c), callBack);
+        } else {
+            BulkWriteResult.<T>write(entities, options.isOrdered(), this::insert, callBack);
+        }
+    }
+
+    /**
+     * Updates a bulk of entities asynchronously, by default it's just run for each saving using
+     * {@link ColumnTemplateAsync#update(Object, Consumer)},
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @param callBack the callback with the updated entities and the failures
+     * @param <T>      the instance type
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to update asynchronous
+     * @throws NullPointerException                            when there is null parameter
+     */
+    default <T> void bulkUpdate(Iterable<T> entities, BulkWriteOptions options, Consumer<BulkWriteResult<T>> callBack) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+        BulkWriteResult.<T>write(entities, options.isOrdered(), this::update, callBack);
+    }
+
     /**
      * Inserts an entity asynchronously
      *
@@ -314,4 +366,214 @@ public interface ColumnTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Saves an entity asynchronously, by default it adapts {@link ColumnTemplateAsync#insert(Object, Consumer)}
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return the stage with the saved entity
+     * @throws NullPointerException when entity is null
+     */
+    default <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> insert(entity, c));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it adapts
+     * {@link ColumnTemplateAsync#insert(Object, Duration, Consumer)}
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @param <T>    the instance type
+     * @return the stage with the saved entity
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    default <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(c -> insert(entity, ttl, c));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it adapts {@link ColumnTemplateAsync#update(Object, Consumer)}
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return the stage with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    default <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> update(entity, c));
+    }
+
+    /**
+     * Saves entities asynchronously in batches, by default it adapts
+     * {@link ColumnTemplateAsync#bulkInsert(Iterable, BulkWriteOptions, Consumer)}
+     *
+     * @param entities entities to be saved
+     * @param options  the options of the bulk write
+     * @param <T>      the instance type
+     * @return the stage with the result of the bulk write
+     * @throws NullPointerException when there is null parameter
+     */
+    default <T> CompletionStage<BulkWriteResult<T>> bulkInsertAsync(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return CompletionStages.of(c -> bulkInsert(entities, options, c));
+    }
+
+    /**
+     * Updates entities asynchronously in batches, by default it adapts
+     * {@link ColumnTemplateAsync#bulkUpdate(Iterable, BulkWriteOptions, Consumer)}
+     *
+     * @param entities entities to be updated
+     * @param options  the options of the bulk write
+     * @param <T>      the instance type
+     * @return the stage with the result of the bulk write
+     * @throws NullPointerException when there is null parameter
+     */
+    default <T> CompletionStage<BulkWriteResult<T>> bulkUpdateAsync(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return CompletionStages.of(c -> bulkUpdate(entities, options, c));
+    }
+
+    /**
+     * Deletes an entity asynchronously, by default it adapts {@link ColumnTemplateAsync#delete(ColumnDeleteQuery, Consumer)}
+     *
+     * @param query query to delete an entity
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> delete(query, c));
+    }
+
+    /**
+     * Deletes by Id asynchronously, by default it adapts {@link ColumnTemplateAsync#delete(Class, Object, Consumer)}
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return the stage completed when the entity is deleted
+     * @throws NullPointerException                   when either the entityClass or id are null
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityClass does not have the Id annotation
+     */
+    default <T, K> CompletionStage<Void> deleteAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStages.of(c -> delete(entityClass, id, c));
+    }
+
+    /**
+     * Finds entities from query asynchronously, by default it adapts {@link ColumnTemplateAsync#select(ColumnQuery, Consumer)}
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return the stage with the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<List<T>> selectAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> select(query, c));
+    }
+
+    /**
+     * Finds a unique result from query asynchronously, the stage is completed exceptionally with
+     * {@link NonUniqueResultException} when it returns more than one result
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return the stage with the entity found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<Optional<T>> singleResultAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return this.<T>selectAsync(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        });
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} of the entities from query, the entities are sent as the subscriber
+     * requests them. By default it adapts {@link ColumnTemplateAsync#selectAsync(ColumnQuery)}.
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return a publisher of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Flow.Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.fromStage(() -> this.<T>selectAsync(query)
+                .thenApply(entities -> Cursor.of(entities.iterator(), () -> {
+                })));
+    }
+
+    /**
+     * Executes a query asynchronously, by default it adapts {@link ColumnTemplateAsync#query(String, Consumer)}
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the result of the query
+     * @throws NullPointerException when the query is null
+     */
+    default <T> CompletionStage<List<T>> queryAsync(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> query(query, c));
+    }
+
+    /**
+     * Finds by Id asynchronously, by default it adapts {@link ColumnTemplateAsync#find(Class, Object, Consumer)}
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return the stage with the entity found
+     * @throws NullPointerException                   when either the entityClass or id are null
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityClass does not have the Id annotation
+     */
+    default <T, K> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStages.of(c -> find(entityClass, id, c));
+    }
+
+    /**
+     * Returns the number of elements from column family asynchronously, by default it adapts
+     * {@link ColumnTemplateAsync#count(String, Consumer)}
+     *
+     * @param columnFamily the column family
+     * @return the stage with the number of elements
+     * @throws NullPointerException when columnFamily is null
+     */
+    default CompletionStage<Long> countAsync(String columnFamily) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return CompletionStages.of(c -> count(columnFamily, c));
+    }
+
+    /**
+     * Returns the number of elements of the entity asynchronously, by default it adapts
+     * {@link ColumnTemplateAsync#count(Class, Consumer)}
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the stage with the number of elements
+     * @throws NullPointerException when entityClass is null
+     */
+    default <T> CompletionStage<Long> countAsync(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return CompletionStages.of(c -> count(entityClass, c));
+    }
 }
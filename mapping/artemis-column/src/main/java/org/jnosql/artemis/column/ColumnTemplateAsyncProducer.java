@@ -17,6 +17,8 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
+import java.util.concurrent.Executor;
+
 /**
  * The producer of {@link ColumnTemplate}
  */
@@ -32,4 +34,16 @@ public interface ColumnTemplateAsyncProducer {
      */
     <T extends ColumnTemplateAsync> T get(ColumnFamilyManagerAsync columnFamilyManager);
 
+    /**
+     * creates a {@link ColumnTemplateAsync} that converts the results of the methods that return
+     * {@link java.util.concurrent.CompletionStage} to entities using the executor
+     *
+     * @param <T>      the ColumnTemplateAsync instance
+     * @param columnFamilyManager the columnFamilyManager
+     * @param executor the executor that converts the results to entities
+     * @return a new instance
+     * @throws NullPointerException when there is null parameter
+     */
+    <T extends ColumnTemplateAsync> T get(ColumnFamilyManagerAsync columnFamilyManager, Executor executor);
+
 }
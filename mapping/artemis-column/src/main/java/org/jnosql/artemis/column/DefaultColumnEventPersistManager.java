@@ -21,16 +21,25 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnQuery;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObserverUtil.isObserved;
+import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
+import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
+
 /**
- * The default implementation of {@link ColumnEventPersistManager}
+ * The default implementation of {@link ColumnEventPersistManager}.
+ * The observers of each event are resolved once, at the boot, so an event without observers is not fired.
  */
 @ApplicationScoped
 class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
 
+    private static final String SAMPLE = "sample";
+
     @Inject
     private Event<ColumnEntityPrePersist> columnEntityPrePersistEvent;
 
@@ -55,43 +64,96 @@ class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
     @Inject
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean preColumn = true;
+
+    private boolean postColumn = true;
+
+    private boolean preEntity = true;
+
+    private boolean postEntity = true;
+
+    private boolean preColumnEntity = true;
+
+    private boolean postColumnEntity = true;
+
+    private boolean preQuery = true;
+
+    private boolean preDeleteQuery = true;
+
+    @PostConstruct
+    void init() {
+        ColumnEntity entity = ColumnEntity.of(SAMPLE);
+        preColumn = isObserved(beanManager, ColumnEntityPrePersist.of(entity));
+        postColumn = isObserved(beanManager, ColumnEntityPostPersist.of(entity));
+        preEntity = isObserved(beanManager, EntityPrePersist.of(SAMPLE));
+        postEntity = isObserved(beanManager, EntityPostPersit.of(SAMPLE));
+        preColumnEntity = isObserved(beanManager, EntityColumnPrePersist.of(SAMPLE));
+        postColumnEntity = isObserved(beanManager, EntityColumnPostPersist.of(SAMPLE));
+        preQuery = isObserved(beanManager, ColumnQueryExecute.of(select().from(SAMPLE).build()));
+        preDeleteQuery = isObserved(beanManager, ColumnDeleteQueryExecute.of(delete().from(SAMPLE).build()));
+    }
+
     @Override
     public void firePreColumn(ColumnEntity entity) {
-        columnEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        if (preColumn) {
+            columnEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostColumn(ColumnEntity entity) {
-        columnEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        if (postColumn) {
+            columnEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (preEntity) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (postEntity) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreColumnEntity(T entity) {
-        entityColumnPrePersist.fire(EntityColumnPrePersist.of(entity));
+        if (preColumnEntity) {
+            entityColumnPrePersist.fire(EntityColumnPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostColumnEntity(T entity) {
-        entityColumnPostPersist.fire(EntityColumnPostPersist.of(entity));
+        if (postColumnEntity) {
+            entityColumnPostPersist.fire(EntityColumnPostPersist.of(entity));
+        }
     }
 
     @Override
     public void firePreQuery(ColumnQuery query) {
-        columnQueryExecute.fire(ColumnQueryExecute.of(query));
+        if (preQuery) {
+            columnQueryExecute.fire(ColumnQueryExecute.of(query));
+        }
     }
 
     @Override
     public void firePreDeleteQuery(ColumnDeleteQuery query) {
-        columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
+        if (preDeleteQuery) {
+            columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
+        }
+    }
+
+    @Override
+    public boolean skipsPersistEvents() {
+        return !(preColumn || postColumn || preEntity || postEntity || preColumnEntity || postColumnEntity);
     }
 }
@@ -23,6 +23,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link ColumnTemplateAsyncProducer}
@@ -45,6 +46,16 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
         return new ProducerColumnTemplateAsync(converter, columnFamilyManager, classMappings, converters);
     }
 
+    @Override
+    public ColumnTemplateAsync get(ColumnFamilyManagerAsync columnFamilyManager, Executor executor) {
+        Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        ProducerColumnTemplateAsync template = new ProducerColumnTemplateAsync(converter, columnFamilyManager,
+                classMappings, converters);
+        template.executor = executor;
+        return template;
+    }
+
     @Vetoed
     static class ProducerColumnTemplateAsync extends AbstractColumnTemplateAsync {
 
@@ -56,6 +67,8 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
 
         private Converters converters;
 
+        private Executor executor;
+
         ProducerColumnTemplateAsync(ColumnEntityConverter converter, ColumnFamilyManagerAsync columnFamilyManager
         , ClassMappings classMappings, Converters converters) {
             this.converter = converter;
@@ -86,5 +99,13 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected Executor getExecutor() {
+            if (Objects.isNull(executor)) {
+                return super.getExecutor();
+            }
+            return executor;
+        }
     }
 }
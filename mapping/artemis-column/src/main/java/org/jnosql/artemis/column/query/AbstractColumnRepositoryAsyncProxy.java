@@ -20,6 +20,7 @@ import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
@@ -50,9 +51,16 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 ColumnQuery query = getQuery(method, args);
+                if (isPublisher(method)) {
+                    return getTemplate().selectPublisher(query);
+                }
                 return executeQuery(getCallback(args), query);
             case FIND_ALL:
-                return executeQuery(getCallback(args), select().from(getClassMapping().getName()).build());
+                ColumnQuery queryAll = select().from(getClassMapping().getName()).build();
+                if (isPublisher(method)) {
+                    return getTemplate().selectPublisher(queryAll);
+                }
+                return executeQuery(getCallback(args), queryAll);
             case DELETE_BY:
                 ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
                 return executeDelete(getCallback(args), deleteQuery);
@@ -75,6 +83,10 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
 
 
 
+    private boolean isPublisher(Method method) {
+        return Flow.Publisher.class.equals(method.getReturnType());
+    }
+
     private Object executeDelete(Object arg, ColumnDeleteQuery deleteQuery) {
         if (arg instanceof Consumer) {
             getTemplate().delete(deleteQuery, (Consumer) arg);
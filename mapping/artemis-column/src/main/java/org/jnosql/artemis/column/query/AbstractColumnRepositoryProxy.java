@@ -16,16 +16,19 @@ package org.jnosql.artemis.column.query;
 
 
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicQueryMethodReturn;
 import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 
@@ -53,22 +56,11 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQuery(method, args);
-                DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
-                        .withClassSource(typeClass)
-                        .withMethodSource(method).withList(() -> getTemplate().select(query))
-                        .withSingleResult(() -> getTemplate().singleResult(query)).build();
-
-                return dynamicReturn.execute();
+                return executeQuery(method, args, getQuery(method, args));
             case FIND_ALL:
-
                 ColumnQuery queryFindAll = select().from(getClassMapping().getName()).build();
-                DynamicReturn<?> dynamicReturnFindAll = DynamicReturn.builder()
-                        .withClassSource(typeClass)
-                        .withMethodSource(method).withList(() -> getTemplate().select(queryFindAll))
-                        .withSingleResult(() -> getTemplate().singleResult(queryFindAll)).build();
-                return dynamicReturnFindAll.execute();
-
+                return executeQuery(method, args, PaginationUtil.getPagination(args)
+                        .map(p -> getQuery(queryFindAll, p)).orElse(queryFindAll));
             case DELETE_BY:
                 ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
                 getTemplate().delete(deleteQuery);
@@ -76,6 +68,10 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case JNOSQL_QUERY:
+                Optional<Pagination> pagination = PaginationUtil.getPagination(args);
+                if (pagination.isPresent()) {
+                    return executeQuery(method, args, getQuery(method, args, pagination.get()));
+                }
                 DynamicQueryMethodReturn methodReturn = DynamicQueryMethodReturn.builder()
                         .withArgs(args)
                         .withMethod(method)
@@ -89,4 +85,15 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
         }
     }
 
-}
\ No newline at end of file
+    private Object executeQuery(Method method, Object[] args, ColumnQuery query) {
+        DynamicReturn.DefaultDynamicReturnBuilder builder = DynamicReturn.builder()
+                .withClassSource(getClassMapping().getClassInstance())
+                .withMethodSource(method).withList(() -> getTemplate().select(query))
+                .withStream(() -> getTemplate().selectStream(query))
+                .withSingleResult(() -> getTemplate().singleResult(query));
+        PaginationUtil.getPagination(args).ifPresent(p -> builder.withPage(() ->
+                PaginationUtil.toPage(getTemplate().select(query), p, getClassMapping())));
+        return builder.build().execute();
+    }
+
+}
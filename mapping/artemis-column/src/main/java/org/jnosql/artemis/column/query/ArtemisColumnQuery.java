@@ -31,13 +31,20 @@ class ArtemisColumnQuery implements ColumnQuery {
     private final long skip;
     private final ColumnCondition condition;
     private final String columnFamily;
+    private final List<String> columns;
 
     public ArtemisColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition condition, String columnFamily) {
+        this(sorts, limit, skip, condition, columnFamily, emptyList());
+    }
+
+    ArtemisColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition condition, String columnFamily,
+                       List<String> columns) {
         this.sorts = sorts;
         this.limit = limit;
         this.skip = skip;
         this.condition = condition;
         this.columnFamily = columnFamily;
+        this.columns = columns;
     }
 
     @Override
@@ -62,7 +69,7 @@ class ArtemisColumnQuery implements ColumnQuery {
 
     @Override
     public List<String> getColumns() {
-        return emptyList();
+        return columns;
     }
 
     @Override
@@ -84,12 +91,13 @@ class ArtemisColumnQuery implements ColumnQuery {
                 && skip == that.getSkip()
                 && Objects.equals(sorts, that.getSorts())
                 && Objects.equals(condition, that.getCondition().orElse(null))
-                && Objects.equals(columnFamily, that.getColumnFamily());
+                && Objects.equals(columnFamily, that.getColumnFamily())
+                && Objects.equals(columns, that.getColumns());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, columnFamily, emptyList(), sorts, condition);
+        return Objects.hash(limit, skip, columnFamily, columns, sorts, condition);
     }
 
     @Override
@@ -97,7 +105,7 @@ class ArtemisColumnQuery implements ColumnQuery {
         return  "ArtemisColumnQuery{" + "limit=" + limit +
                 ", skip=" + skip +
                 ", columnFamily='" + columnFamily + '\'' +
-                ", columns=" + emptyList() +
+                ", columns=" + columns +
                 ", sorts=" + sorts +
                 ", condition=" + condition +
                 '}';
@@ -17,8 +17,16 @@ package org.jnosql.artemis.column.query;
 import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
 import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.RepositoryReflectionUtils;
+import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.artemis.util.ParamsBinder;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnQuery;
@@ -27,11 +35,17 @@ import org.jnosql.diana.api.column.query.ColumnQueryParams;
 import org.jnosql.diana.api.column.query.DeleteQueryConverter;
 import org.jnosql.diana.api.column.query.SelectQueryConverter;
 import org.jnosql.query.DeleteQuery;
-import org.jnosql.query.Params;
 import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 abstract class BaseColumnRepository {
 
@@ -43,29 +57,103 @@ abstract class BaseColumnRepository {
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, Supplier<ColumnQueryParams>> selectPlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, Supplier<ColumnDeleteQueryParams>> deletePlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, Supplier<ColumnQueryParams>> queryPlans = new ConcurrentHashMap<>();
+
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
-        SelectQueryConverter converter = SelectQueryConverter.get();
-        ColumnQueryParams queryParams = converter.apply(selectQuery, getParser());
+        ColumnQueryParams queryParams = getSelectPlan(method).get();
+        getParamsBinder().bind(queryParams.getParams(), args, method);
         ColumnQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return query;
+        return PaginationUtil.getPagination(args).map(p -> getQuery(query, p)).orElse(query);
+    }
+
+    /**
+     * Returns the select query of the {@link org.jnosql.artemis.Query} annotation with the parameters
+     * annotated with {@link org.jnosql.artemis.Param} and the pagination applied
+     *
+     * @param method     the method
+     * @param args       the method arguments
+     * @param pagination the pagination
+     * @return the query
+     */
+    protected ColumnQuery getQuery(Method method, Object[] args, Pagination pagination) {
+        ColumnQueryParams queryParams = queryPlans.computeIfAbsent(method, m -> {
+            SelectQuery selectQuery = SelectQuerySupplier.getSupplier()
+                    .apply(RepositoryReflectionUtils.INSTANCE.getQuery(m));
+            return SelectQueryConverter.get().compile(selectQuery, getParser());
+        }).get();
+        RepositoryReflectionUtils.INSTANCE.getParams(method, args).forEach(queryParams.getParams()::bind);
+        return getQuery(queryParams.getQuery(), pagination);
+    }
+
+    /**
+     * Applies the pagination to the query: the limit and either the skip or, to the keyset pagination,
+     * the order by the keyset field and the id and the condition to the entities after the last value or,
+     * on the same value, after the last id.
+     *
+     * @param query      the query
+     * @param pagination the pagination
+     * @return the query with the pagination
+     */
+    protected ColumnQuery getQuery(ColumnQuery query, Pagination pagination) {
+        ColumnCondition condition = query.getCondition().orElse(null);
+        List<Sort> sorts = query.getSorts();
+        Optional<Sort> keyset = pagination.getKeyset();
+        if (keyset.isPresent()) {
+            Sort sort = keyset.get();
+            String name = getClassMapping().getColumnField(sort.getName());
+            Optional<FieldMapping> id = PaginationUtil.getTieBreaker(getClassMapping(), sort.getName());
+            sorts = new ArrayList<>();
+            sorts.add(Sort.of(name, sort.getType()));
+            if (id.isPresent()) {
+                sorts.add(Sort.of(id.get().getName(), sort.getType()));
+            }
+            query.getSorts().stream().filter(s -> !s.getName().equals(name))
+                    .filter(s -> !id.isPresent() || !s.getName().equals(id.get().getName()))
+                    .forEach(sorts::add);
+            Optional<Object> lastValue = pagination.getLastValue();
+            if (lastValue.isPresent()) {
+                boolean asc = Sort.SortType.ASC.equals(sort.getType());
+                Column column = Column.of(name,
+                        ConverterUtil.getValue(lastValue.get(), getClassMapping(), sort.getName(), getConverters()));
+                ColumnCondition after = asc ? ColumnCondition.gt(column) : ColumnCondition.lt(column);
+                Optional<Object> lastId = pagination.getLastId();
+                if (id.isPresent() && lastId.isPresent()) {
+                    Column idColumn = Column.of(id.get().getName(),
+                            ConverterUtil.getValue(lastId.get(), getConverters(), id.get()));
+                    after = ColumnCondition.or(after, ColumnCondition.and(ColumnCondition.eq(column),
+                            asc ? ColumnCondition.gt(idColumn) : ColumnCondition.lt(idColumn)));
+                }
+                condition = condition == null ? after : ColumnCondition.and(condition, after);
+            }
+        }
+        return new ArtemisColumnQuery(sorts, pagination.getLimit(), pagination.getSkip(), condition,
+                query.getColumnFamily(), query.getColumns());
     }
 
     protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
-        DeleteQueryConverter converter = DeleteQueryConverter.get();
-        ColumnDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
-        ColumnDeleteQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return query;
+        ColumnDeleteQueryParams queryParams = getDeletePlan(method).get();
+        getParamsBinder().bind(queryParams.getParams(), args, method);
+        return queryParams.getQuery();
     }
 
+    private Supplier<ColumnQueryParams> getSelectPlan(Method method) {
+        return selectPlans.computeIfAbsent(method, m -> {
+            SelectQuery selectQuery = SelectMethodFactory.get().apply(m, getClassMapping().getName());
+            return SelectQueryConverter.get().compile(selectQuery, getParser());
+        });
+    }
+
+    private Supplier<ColumnDeleteQueryParams> getDeletePlan(Method method) {
+        return deletePlans.computeIfAbsent(method, m -> {
+            DeleteQuery deleteQuery = DeleteMethodFactory.get().apply(m, getClassMapping().getName());
+            return DeleteQueryConverter.get().compile(deleteQuery, getParser());
+        });
+    }
 
     protected ColumnObserverParser getParser() {
         if (parser == null) {
@@ -52,14 +52,14 @@ public class MockProducer {
     }
     @Produces
     public ColumnFamilyManagerAsync getColumnFamilyManagerAsync() {
-        return Mockito.mock(ColumnFamilyManagerAsync.class);
+        return Mockito.mock(ColumnFamilyManagerAsync.class, Mockito.CALLS_REAL_METHODS);
     }
 
 
     @Produces
     @Database(value = DatabaseType.COLUMN, provider = "columnRepositoryMock")
     public ColumnFamilyManagerAsync getColumnFamilyManagerAsyncMock() {
-        return Mockito.mock(ColumnFamilyManagerAsync.class);
+        return Mockito.mock(ColumnFamilyManagerAsync.class, Mockito.CALLS_REAL_METHODS);
     }
 
 
@@ -56,7 +56,7 @@ public class ColumnFamilyManagerMock implements UnaryColumnConfiguration {
 
         @Override
         public ColumnFamilyManagerAsync getAsync(String database){
-            return Mockito.mock(ColumnFamilyManagerAsync.class);
+            return Mockito.mock(ColumnFamilyManagerAsync.class, Mockito.CALLS_REAL_METHODS);
         }
 
         @Override
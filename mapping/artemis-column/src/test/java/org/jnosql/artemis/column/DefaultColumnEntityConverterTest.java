@@ -29,6 +29,7 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
@@ -56,6 +57,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -140,6 +142,24 @@ public class DefaultColumnEntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldIgnoreMissingAndUnknownColumnsWhenConvertToEntity() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("name", "Otavio"));
+        entity.add(Column.of("unknown", "value"));
+
+        Person person = converter.toEntity(Person.class, entity);
+        assertEquals("Otavio", person.getName());
+        assertEquals(0, person.getAge());
+        assertNull(person.getPhones());
+
+        entity = ColumnEntity.of("Person");
+        entity.add(Column.of("age", 22));
+        person = converter.toEntity(Person.class, entity);
+        assertNull(person.getName());
+        assertEquals(22, person.getAge());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         ColumnEntity entity = ColumnEntity.of("Actor");
@@ -425,6 +445,19 @@ public class DefaultColumnEntityConverterTest {
         Assertions.assertEquals(contents, entity.find("contents").get().get());
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldFeedObjectByName() {
+        List<Column> columns = asList(Column.of("_id", 12L), Column.of("name", "Otavio"));
+        Map<String, FieldMapping> fields = converter.getClassMappings().get(Person.class).getFieldsGroupByName();
+        Person person = Person.builder().build();
+
+        converter.feedObject(person, columns, fields).accept("name");
+
+        assertEquals("Otavio", person.getName());
+        assertEquals(0L, person.getId());
+    }
+
     private Object getValue(Optional<Column> column) {
         return column.map(Column::getValue).map(Value::get).orElse(null);
     }
@@ -27,11 +27,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultColumnEventPersistManagerTest {
@@ -64,6 +67,9 @@ public class DefaultColumnEventPersistManagerTest {
     @Mock
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     public void shouldFirePreColumn() {
@@ -154,7 +160,26 @@ public class DefaultColumnEventPersistManagerTest {
     }
 
 
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        subject.init();
+        assertTrue(subject.skipsPersistEvents());
+        ColumnEntity entity = ColumnEntity.of("columnFamily");
+        subject.firePreColumn(entity);
+        subject.firePostColumn(entity);
+        subject.firePreEntity(entity);
+        subject.firePostEntity(entity);
+        subject.firePreColumnEntity(entity);
+        subject.firePostColumnEntity(entity);
+        subject.firePreQuery(select().from("columnFamily").build());
+        subject.firePreDeleteQuery(delete().from("columnFamily").build());
+        verifyZeroInteractions(columnEntityPrePersistEvent, columnEntityPostPersistEvent, entityPrePersistEvent,
+                entityPostPersitEvent, entityColumnPrePersist, entityColumnPostPersist, columnQueryExecute,
+                columnDeleteQueryExecute);
+    }
+
     class Jedi {
         private String name;
     }
-}
\ No newline at end of file
+
+}
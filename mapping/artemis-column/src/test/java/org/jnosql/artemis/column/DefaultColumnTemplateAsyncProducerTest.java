@@ -16,13 +16,19 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
+import org.jnosql.diana.api.column.ColumnQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Collections.emptyList;
+import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @ExtendWith(CDIExtension.class)
@@ -45,4 +51,24 @@ public class DefaultColumnTemplateAsyncProducerTest {
         assertNotNull(columnRepository);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        Assertions.assertThrows(NullPointerException.class, () -> producer.get(manager, null));
+    }
+
+    @Test
+    public void shouldConvertInExecutor() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        ColumnQuery query = select().from("Person").build();
+        Mockito.when(manager.selectAsync(query)).thenReturn(CompletableFuture.completedFuture(emptyList()));
+        AtomicInteger counter = new AtomicInteger();
+        ColumnTemplateAsync template = producer.get(manager, r -> {
+            counter.incrementAndGet();
+            r.run();
+        });
+
+        template.selectAsync(query).toCompletableFuture().join();
+        assertEquals(1, counter.get());
+    }
+}
@@ -20,6 +20,7 @@ import org.jnosql.artemis.PreparedStatementAsync;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
@@ -37,8 +38,11 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -52,9 +56,11 @@ import static org.awaitility.Awaitility.await;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(CDIExtension.class)
@@ -93,7 +99,7 @@ public class DefaultColumnTemplateAsyncTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     public void setUp() {
-        managerMock = Mockito.mock(ColumnFamilyManagerAsync.class);
+        managerMock = Mockito.mock(ColumnFamilyManagerAsync.class, Mockito.CALLS_REAL_METHODS);
         ColumnEventPersistManager columnEventPersistManager = Mockito.mock(ColumnEventPersistManager.class);
         captor = ArgumentCaptor.forClass(ColumnEntity.class);
         Instance<ColumnFamilyManagerAsync> instance = Mockito.mock(Instance.class);
@@ -213,7 +219,7 @@ public class DefaultColumnTemplateAsyncTest {
 
         };
         subject.delete(query, callback);
-        verify(managerMock).delete(query, callback);
+        verify(managerMock).delete(Mockito.eq(query), Mockito.any(Consumer.class));
     }
 
     @Test
@@ -237,7 +243,7 @@ public class DefaultColumnTemplateAsyncTest {
         subject.delete(Person.class, 10L, callback);
 
         ArgumentCaptor<ColumnDeleteQuery> queryCaptor = ArgumentCaptor.forClass(ColumnDeleteQuery.class);
-        verify(managerMock).delete(queryCaptor.capture(), Mockito.eq(callback));
+        verify(managerMock).delete(queryCaptor.capture(), Mockito.any(Consumer.class));
 
         ColumnDeleteQuery query = queryCaptor.getValue();
         assertEquals("Person", query.getColumnFamily());
@@ -311,19 +317,16 @@ public class DefaultColumnTemplateAsyncTest {
 
     @Test
     public void shouldReturnErrorWhenThereIsMoreThanOneResultInSingleResult() {
-
-        assertThrows(NonUniqueResultException.class, () -> {
-            ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
-            ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
-            Consumer<Optional<Person>> callback = l -> {
-            };
-            subject.singleResult(query, callback);
-            verify(managerMock).select(Mockito.any(ColumnQuery.class), dianaCallbackCaptor.capture());
-            Consumer<List<ColumnEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
-            dianaCallBack.accept(asList(ColumnEntity.of("Person", asList(columns)),
-                    ColumnEntity.of("Person", asList(columns))));
-
-        });
+        ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ColumnQuery query = select().from("Person").build();
+        AtomicBoolean condition = new AtomicBoolean(false);
+        Consumer<Optional<Person>> callback = p -> condition.set(true);
+        subject.singleResult(query, callback);
+        verify(managerMock).select(Mockito.any(ColumnQuery.class), dianaCallbackCaptor.capture());
+        Consumer<List<ColumnEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
+        dianaCallBack.accept(asList(ColumnEntity.of("Person", asList(columns)),
+                ColumnEntity.of("Person", asList(columns))));
+        assertFalse(condition.get());
     }
 
     @Test
@@ -385,28 +388,18 @@ public class DefaultColumnTemplateAsyncTest {
 
     @Test
     public void shouldReturnErrorFindByIdReturnMoreThanOne() {
+        ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        AtomicBoolean condition = new AtomicBoolean(false);
+        Consumer<Optional<Person>> callback = p -> condition.set(true);
 
-        assertThrows(NonUniqueResultException.class, () -> {
-            ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
-
-            ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
-            AtomicBoolean condition = new AtomicBoolean(false);
-            AtomicReference<Person> atomicReference = new AtomicReference<>();
-            Consumer<Optional<Person>> callback = p -> {
-                condition.set(true);
-                p.ifPresent(atomicReference::set);
-            };
-
-            subject.find(Person.class, 10L, callback);
-            verify(managerMock).select(queryCaptor.capture(), dianaCallbackCaptor.capture());
-            Consumer<List<ColumnEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
-            dianaCallBack.accept(asList(ColumnEntity.of("Person", asList(columns)), ColumnEntity.of("Person", asList(columns))));
-        });
-
+        subject.find(Person.class, 10L, callback);
+        verify(managerMock).select(Mockito.any(ColumnQuery.class), dianaCallbackCaptor.capture());
+        Consumer<List<ColumnEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
+        dianaCallBack.accept(asList(ColumnEntity.of("Person", asList(columns)),
+                ColumnEntity.of("Person", asList(columns))));
+        assertFalse(condition.get());
     }
 
-
-
     @Test
     public void shouldExecuteQuery() {
         Consumer<List<Person>> callback = l ->{};
@@ -441,15 +434,128 @@ public class DefaultColumnTemplateAsyncTest {
 
     @Test
     public void shouldCount() {
-        Consumer<Long> callback = l ->{};
+        ArgumentCaptor<Consumer<Long>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        AtomicReference<Long> atomicReference = new AtomicReference<>();
+        Consumer<Long> callback = atomicReference::set;
         subject.count("Person", callback);
-        verify(managerMock).count("Person", callback);
+        verify(managerMock).count(Mockito.eq("Person"), dianaCallbackCaptor.capture());
+        dianaCallbackCaptor.getValue().accept(10L);
+        assertEquals(Long.valueOf(10L), atomicReference.get());
     }
 
     @Test
     public void shouldCountFromEntityClass() {
-        Consumer<Long> callback = l ->{};
+        ArgumentCaptor<Consumer<Long>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        AtomicReference<Long> atomicReference = new AtomicReference<>();
+        Consumer<Long> callback = atomicReference::set;
         subject.count(Person.class, callback);
-        verify(managerMock).count("Person", callback);
+        verify(managerMock).count(Mockito.eq("Person"), dianaCallbackCaptor.capture());
+        dianaCallbackCaptor.getValue().accept(10L);
+        assertEquals(Long.valueOf(10L), atomicReference.get());
+    }
+
+    @Test
+    public void shouldInsertAsync() {
+        ColumnEntity entity = ColumnEntity.of("Person", asList(columns));
+        Mockito.doReturn(CompletableFuture.completedFuture(entity))
+                .when(managerMock).insertAsync(Mockito.any(ColumnEntity.class));
+
+        Person result = subject.insertAsync(person).toCompletableFuture().join();
+        verify(managerMock).insertAsync(captor.capture());
+        assertEquals("Person", captor.getValue().getName());
+        assertEquals(person.getName(), result.getName());
+    }
+
+    @Test
+    public void shouldUpdateAsync() {
+        ColumnEntity entity = ColumnEntity.of("Person", asList(columns));
+        Mockito.doReturn(CompletableFuture.completedFuture(entity))
+                .when(managerMock).updateAsync(Mockito.any(ColumnEntity.class));
+
+        Person result = subject.updateAsync(person).toCompletableFuture().join();
+        verify(managerMock).updateAsync(captor.capture());
+        assertEquals(person.getName(), result.getName());
+    }
+
+    @Test
+    public void shouldSelectAsync() {
+        ColumnQuery query = select().from("Person").build();
+        Mockito.doReturn(CompletableFuture.completedFuture(singletonList(ColumnEntity.of("Person", asList(columns)))))
+                .when(managerMock).selectAsync(query);
+
+        List<Person> people = subject.<Person>selectAsync(query).toCompletableFuture().join();
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
+    }
+
+    @Test
+    public void shouldFindAsync() {
+        Mockito.doReturn(CompletableFuture.completedFuture(Optional.of(ColumnEntity.of("Person", asList(columns)))))
+                .when(managerMock).singleResultAsync(Mockito.any(ColumnQuery.class));
+
+        Optional<Person> result = subject.findAsync(Person.class, 19L).toCompletableFuture().join();
+        assertEquals("Name", result.map(Person::getName).orElse(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSingleResultAsyncIsNotUnique() {
+        ColumnQuery query = select().from("Person").build();
+        Mockito.doReturn(CompletableFuture.completedFuture(asList(ColumnEntity.of("Person", asList(columns)),
+                ColumnEntity.of("Person", asList(columns)))))
+                .when(managerMock).selectAsync(query);
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> subject.singleResultAsync(query).toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof NonUniqueResultException);
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        Mockito.doReturn(CompletableFuture.completedFuture(null))
+                .when(managerMock).deleteAsync(Mockito.any(ColumnDeleteQuery.class));
+
+        subject.deleteAsync(Person.class, 10L).toCompletableFuture().join();
+        verify(managerMock).deleteAsync(Mockito.any(ColumnDeleteQuery.class));
+    }
+
+    @Test
+    public void shouldCountAsync() {
+        Mockito.doReturn(CompletableFuture.completedFuture(10L))
+                .when(managerMock).countAsync("Person");
+        assertEquals(Long.valueOf(10L), subject.countAsync(Person.class).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldSelectPublisher() {
+        ColumnQuery query = select().from("Person").build();
+        Mockito.doReturn(CompletableFuture.completedFuture(asList(ColumnEntity.of("Person", asList(columns)),
+                ColumnEntity.of("Person", asList(columns)))))
+                .when(managerMock).selectAsync(query);
+        List<Person> people = new ArrayList<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        subject.<Person>selectPublisher(query).subscribe(new Flow.Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                people.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Mockito.verify(managerMock, Mockito.never()).selectAsync(query);
+        subscription.get().request(1);
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
     }
-}
\ No newline at end of file
+}
@@ -16,12 +16,19 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.EntityCache;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.model.Country;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.BulkWriteException;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.BulkWriteResult.Failure;
+import org.jnosql.diana.api.CommunicationException;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
@@ -36,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
@@ -46,6 +54,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
@@ -55,6 +64,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(CDIExtension.class)
 public class DefaultColumnTemplateTest {
@@ -220,6 +230,28 @@ public class DefaultColumnTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldSelectStream() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = select().from("Person").build();
+        when(managerMock.selectStream(query, AbstractColumnTemplate.DEFAULT_FETCH_SIZE))
+                .thenReturn(Stream.of(entity, entity));
+
+        try (Stream<Person> people = subject.selectStream(query)) {
+            verify(columnEventPersistManager).firePreQuery(query);
+            assertEquals(2L, people.peek(p -> assertEquals("Name", p.getName())).count());
+        }
+    }
+
+    @Test
+    public void shouldSelectStreamWithFetchSize() {
+        ColumnQuery query = select().from("Person").build();
+        when(managerMock.selectStream(query, 10)).thenReturn(Stream.empty());
+        assertEquals(0L, subject.selectStream(query, 10).count());
+        verify(managerMock).selectStream(query, 10);
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
@@ -346,4 +378,100 @@ public class DefaultColumnTemplateTest {
         subject.count(Person.class);
         verify(managerMock).count("Person");
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldBulkInsertInBatches() {
+        when(managerMock.supportsBulkWrite()).thenReturn(true);
+        when(managerMock.bulkInsert(any(), any(BulkWriteOptions.class)))
+                .thenAnswer(i -> BulkWriteResult.of((List<ColumnEntity>) i.getArgument(0), emptyList()));
+        BulkWriteOptions options = BulkWriteOptions.builder().withBatchSize(2).build();
+
+        BulkWriteResult<Person> result = subject.bulkInsert(Arrays.asList(person, person, person), options);
+
+        verify(managerMock, times(2)).bulkInsert(any(), Mockito.eq(options));
+        verify(columnEventPersistManager, times(3)).firePreEntity(any(Person.class));
+        verify(columnEventPersistManager, times(3)).firePostEntity(any(Person.class));
+        verify(columnEventPersistManager, times(3)).firePostColumn(any(ColumnEntity.class));
+        assertEquals(3, result.getEntities().size());
+        assertFalse(result.hasFailures());
+    }
+
+    @Test
+    public void shouldStopBulkInsertAtFailedBatch() {
+        when(managerMock.supportsBulkWrite()).thenReturn(true);
+        when(managerMock.bulkInsert(any(), any(BulkWriteOptions.class))).thenAnswer(this::failSecond);
+        BulkWriteOptions options = BulkWriteOptions.builder().withBatchSize(2).build();
+
+        BulkWriteResult<Person> result = subject.bulkInsert(Arrays.asList(person, person, person), options);
+
+        verify(managerMock).bulkInsert(any(), any(BulkWriteOptions.class));
+        assertEquals(1, result.getEntities().size());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(person, result.getFailures().get(0).getEntity());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBulkUpdateFails() {
+        when(managerMock.supportsBulkWrite()).thenReturn(true);
+        when(managerMock.bulkUpdate(any(), any(BulkWriteOptions.class))).thenAnswer(this::failSecond);
+
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class,
+                () -> subject.update(Arrays.asList(person, person)));
+        assertEquals(1, exception.getResult().getFailures().size());
+        verify(managerMock, Mockito.never()).update(any(ColumnEntity.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private BulkWriteResult<ColumnEntity> failSecond(InvocationOnMock invocation) {
+        List<ColumnEntity> entities = invocation.getArgument(0);
+        return BulkWriteResult.of(singletonList(entities.get(0)),
+                singletonList(Failure.of(1, entities.get(1), new CommunicationException("error"))));
+    }
+
+    @Test
+    public void shouldFindFromCache() {
+        ColumnEntity entity = ColumnEntity.of("Country", asList(Column.of("_id", "BR"), Column.of("name", "Brazil")));
+        when(managerMock.singleResult(any(ColumnQuery.class))).thenReturn(Optional.of(entity));
+
+        Optional<Country> country = subject.find(Country.class, "BR");
+        assertEquals("Brazil", country.map(Country::getName).orElse(null));
+        country = subject.find(Country.class, "BR");
+        assertEquals("Brazil", country.map(Country::getName).orElse(null));
+
+        verify(managerMock, times(1)).singleResult(any(ColumnQuery.class));
+        EntityCache<?> cache = subject.getCache(Country.class).orElseThrow(IllegalStateException::new);
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertFalse(subject.getCache(Person.class).isPresent());
+    }
+
+    @Test
+    public void shouldInvalidateCacheWhenUpdate() {
+        ColumnEntity entity = ColumnEntity.of("Country", asList(Column.of("_id", "BR"), Column.of("name", "Brazil")));
+        when(managerMock.singleResult(any(ColumnQuery.class))).thenReturn(Optional.of(entity));
+        when(managerMock.update(any(ColumnEntity.class))).thenReturn(entity);
+
+        subject.find(Country.class, "BR");
+        subject.update(new Country("BR", "Brasil"));
+        subject.find(Country.class, "BR");
+
+        verify(managerMock, times(2)).singleResult(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldInvalidateCacheWhenDelete() {
+        ColumnEntity entity = ColumnEntity.of("Country", asList(Column.of("_id", "BR"), Column.of("name", "Brazil")));
+        when(managerMock.singleResult(any(ColumnQuery.class))).thenReturn(Optional.of(entity));
+
+        subject.find(Country.class, "BR");
+        subject.delete(Country.class, "BR");
+        subject.find(Country.class, "BR");
+        subject.delete(ColumnQueryBuilder.delete().from("Country").build());
+        subject.find(Country.class, "BR");
+
+        verify(managerMock, times(3)).singleResult(any(ColumnQuery.class));
+    }
+
+}
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.BulkWriteResult.Failure;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,10 +25,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -73,4 +84,72 @@ public class DefaultColumnWorkflowTest {
         verify(converter).toColumn(any());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldSkipEventsWhenThereIsNotObserver() {
+        when(columnEventPersistManager.skipsPersistEvents()).thenReturn(true);
+        UnaryOperator<ColumnEntity> action = t -> t;
+        subject.flow(Person.builder().withId(1L).withAge().withName("Ada").build(), action);
+
+        verify(columnEventPersistManager, never()).firePreColumn(any());
+        verify(columnEventPersistManager, never()).firePostColumn(any());
+        verify(columnEventPersistManager, never()).firePreEntity(any());
+        verify(columnEventPersistManager, never()).firePostEntity(any());
+        verify(columnEventPersistManager, never()).firePreColumnEntity(any());
+        verify(columnEventPersistManager, never()).firePostColumnEntity(any());
+        verify(converter).toColumn(any(Object.class));
+    }
+
+    @Test
+    public void shouldFlowEachEntityWhenTheWorkflowDoesNotHaveBatch() {
+        ColumnWorkflow workflow = new ColumnWorkflow() {
+            @Override
+            public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
+                action.apply(ColumnEntity.of(entity.toString()));
+                return entity;
+            }
+        };
+
+        Function<List<ColumnEntity>, BulkWriteResult<ColumnEntity>> action = batch -> {
+            ColumnEntity entity = batch.get(0);
+            if ("b".equals(entity.getName())) {
+                return BulkWriteResult.of(emptyList(), singletonList(Failure.of(0, entity, new RuntimeException())));
+            }
+            return BulkWriteResult.of(batch, emptyList());
+        };
+        BulkWriteResult<String> result = workflow.flow(asList("a", "b", "c"), false, action);
+
+        assertEquals(asList("a", "c"), result.getEntities());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("b", result.getFailures().get(0).getEntity());
+    }
+
+    @Test
+    public void shouldStopAtTheFirstFailureWhenTheBatchIsOrdered() {
+        List<String> flowed = new ArrayList<>();
+        ColumnWorkflow workflow = new ColumnWorkflow() {
+            @Override
+            public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
+                flowed.add(entity.toString());
+                action.apply(ColumnEntity.of(entity.toString()));
+                return entity;
+            }
+        };
+
+        Function<List<ColumnEntity>, BulkWriteResult<ColumnEntity>> action = batch -> {
+            ColumnEntity entity = batch.get(0);
+            if ("b".equals(entity.getName())) {
+                return BulkWriteResult.of(emptyList(), singletonList(Failure.of(0, entity, new RuntimeException())));
+            }
+            return BulkWriteResult.of(batch, emptyList());
+        };
+        BulkWriteResult<String> result = workflow.flow(asList("a", "b", "c"), true, action);
+
+        assertEquals(singletonList("a"), result.getEntities());
+        assertEquals(asList("a", "b"), flowed);
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("b", result.getFailures().get(0).getEntity());
+    }
+
+}
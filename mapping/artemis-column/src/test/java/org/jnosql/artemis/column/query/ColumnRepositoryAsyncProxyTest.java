@@ -25,6 +25,7 @@ import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
@@ -206,6 +207,21 @@ public class ColumnRepositoryAsyncProxyTest {
     }
 
 
+    @Test
+    public void shouldFindByNameWithPublisher() {
+        Flow.Publisher<Person> publisher = Mockito.mock(Flow.Publisher.class);
+        when(template.<Person>selectPublisher(any(ColumnQuery.class))).thenReturn(publisher);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        assertEquals(publisher, personRepository.findByAge(20));
+        verify(template).selectPublisher(captor.capture());
+        ColumnQuery query = captor.getValue();
+        ColumnCondition condition = query.getCondition().get();
+        assertEquals("Person", query.getColumnFamily());
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Column.of("age", 20), condition.getColumn());
+    }
+
     @Test
     public void shouldFindById() {
         Consumer<Optional<Person>> callBack = p -> {
@@ -273,6 +289,8 @@ public class ColumnRepositoryAsyncProxyTest {
 
         void findByNameOrderByAgeDesc(String name, Consumer<List<Person>> callBack);
 
+        Flow.Publisher<Person> findByAge(Integer age);
+
         @Query("select * from Person")
         void findByQuery();
 
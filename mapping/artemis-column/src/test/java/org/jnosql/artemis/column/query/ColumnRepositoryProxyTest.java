@@ -17,6 +17,8 @@ package org.jnosql.artemis.column.query;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Page;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Param;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.Query;
@@ -25,6 +27,7 @@ import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
@@ -49,6 +52,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.jnosql.diana.api.Condition.AND;
@@ -58,6 +62,7 @@ import static org.jnosql.diana.api.Condition.GREATER_THAN;
 import static org.jnosql.diana.api.Condition.LESSER_EQUALS_THAN;
 import static org.jnosql.diana.api.Condition.LESSER_THAN;
 import static org.jnosql.diana.api.Condition.LIKE;
+import static org.jnosql.diana.api.Condition.OR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -208,12 +213,12 @@ public class ColumnRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.selectStream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).selectStream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -484,6 +489,108 @@ public class ColumnRepositoryProxyTest {
         verify(statement).bind("id", "Ada");
     }
 
+    @Test
+    public void shouldFindByNameWithPagination() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(emptyList());
+
+        personRepository.findByName("Ada", Pagination.of(10, 2));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(10L, query.getSkip());
+        assertEquals(2L, query.getLimit());
+        assertEquals(Column.of("name", "Ada"), query.getCondition().get().getColumn());
+    }
+
+    @Test
+    public void shouldFindByAgeWithKeyset() {
+        Sort sort = Sort.of("id", Sort.SortType.ASC);
+        Person ada = Person.builder().withId(3L).withAge(20).withName("Ada").build();
+        Person poliana = Person.builder().withId(5L).withAge(20).withName("Poliana").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(asList(ada, poliana));
+
+        Page<Person> page = personRepository.findByAge(20, Pagination.keyset(sort, 2L, 2));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0L, query.getSkip());
+        assertEquals(2L, query.getLimit());
+        assertEquals(singletonList(Sort.of("_id", Sort.SortType.ASC)), query.getSorts());
+        ColumnCondition condition = query.getCondition().get();
+        assertEquals(AND, condition.getCondition());
+        List<ColumnCondition> conditions = condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(EQUALS, conditions.get(0).getCondition());
+        assertEquals(GREATER_THAN, conditions.get(1).getCondition());
+        assertEquals(Column.of("_id", 2L), conditions.get(1).getColumn());
+
+        assertEquals(asList(ada, poliana), page.getContent());
+        assertEquals(Pagination.keyset(sort, 5L, 2), page.next());
+    }
+
+    @Test
+    public void shouldFindByAgeWithKeysetAndTheIdAsTieBreaker() {
+        Sort sort = Sort.of("name", Sort.SortType.DESC);
+        Person ada = Person.builder().withId(3L).withAge(20).withName("Ada").build();
+        Person poliana = Person.builder().withId(5L).withAge(20).withName("Poliana").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(asList(ada, poliana));
+
+        Page<Person> page = personRepository.findByAge(20, Pagination.keyset(sort, "Ana", 7L, 2));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(asList(Sort.of("name", Sort.SortType.DESC), Sort.of("_id", Sort.SortType.DESC)),
+                query.getSorts());
+        List<ColumnCondition> conditions = query.getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(EQUALS, conditions.get(0).getCondition());
+        ColumnCondition after = conditions.get(1);
+        assertEquals(OR, after.getCondition());
+        List<ColumnCondition> tie = after.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(LESSER_THAN, tie.get(0).getCondition());
+        assertEquals(Column.of("name", "Ana"), tie.get(0).getColumn());
+        List<ColumnCondition> sameName = tie.get(1).getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(Column.of("name", "Ana"), sameName.get(0).getColumn());
+        assertEquals(EQUALS, sameName.get(0).getCondition());
+        assertEquals(LESSER_THAN, sameName.get(1).getCondition());
+        assertEquals(Column.of("_id", 7L), sameName.get(1).getColumn());
+
+        assertEquals(Pagination.keyset(sort, "Poliana", 5L, 2), page.next());
+    }
+
+    @Test
+    public void shouldFindAllWithPage() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(emptyList());
+
+        Page<Person> page = personRepository.findAll(Pagination.of(5, 5));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals("Person", query.getColumnFamily());
+        assertEquals(5L, query.getSkip());
+        assertEquals(5L, query.getLimit());
+        assertFalse(page.hasContent());
+        assertEquals(Pagination.of(5, 5), page.next());
+    }
+
+    @Test
+    public void shouldFindByQueryWithPagination() {
+        Person ada = Person.builder().withId(3L).withAge(20).withName("Ada").build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(singletonList(ada));
+
+        Page<Person> page = personRepository.findByQuery("Ada", Pagination.of(0, 1));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(1L, query.getLimit());
+        assertEquals(Column.of("name", "Ada"), query.getCondition().get().getColumn());
+        assertEquals(singletonList(ada), page.getContent());
+        assertEquals(Pagination.of(1, 1), page.next());
+    }
+
     interface PersonRepository extends Repository<Person, Long> {
 
         List<Person> findAll();
@@ -520,5 +627,14 @@ public class ColumnRepositoryProxyTest {
 
         @Query("select * from Person where id = @id")
         Optional<Person> findByQuery(@Param("id") String id);
+
+        List<Person> findByName(String name, Pagination pagination);
+
+        Page<Person> findByAge(Integer age, Pagination pagination);
+
+        Page<Person> findAll(Pagination pagination);
+
+        @Query("select * from Person where name = @name")
+        Page<Person> findByQuery(@Param("name") String name, Pagination pagination);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies that the entity is kept at the second-level cache of the templates, so the find by id reads it from the
+ * memory instead of the database. The cache is invalidated when the template writes or deletes the entity,
+ * thus it fits to entities that are read much more than written.
+ * <p>Each template instance has its own cache, so the writes done by another template, by the asynchronous templates
+ * or straight on the database manager do not invalidate it: the cache might return the old entity until
+ * the {@link Cacheable#ttl()} expires.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * The maximum number of entities in the cache
+     *
+     * @return the cache size
+     */
+    int size() default 1_000;
+
+    /**
+     * The time that an entity stays in the cache, zero means the entity expires only by eviction or invalidation.
+     * The default is one minute, it bounds how long the cache returns an entity that was written without
+     * passing through the template.
+     *
+     * @return the time to live
+     */
+    long ttl() default 60L;
+
+    /**
+     * The unit of {@link Cacheable#ttl()}
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+final class DefaultPage<T> implements Page<T> {
+
+    private final List<T> content;
+
+    private final Pagination pagination;
+
+    private final Pagination next;
+
+    DefaultPage(List<T> content, Pagination pagination, Pagination next) {
+        this.content = Collections.unmodifiableList(content);
+        this.pagination = pagination;
+        this.next = next;
+    }
+
+    @Override
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+    @Override
+    public Pagination next() {
+        return next;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultPage)) {
+            return false;
+        }
+        DefaultPage<?> that = (DefaultPage<?>) o;
+        return Objects.equals(content, that.content) &&
+                Objects.equals(pagination, that.pagination);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, pagination);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultPage{" + "content=" + content +
+                ", pagination=" + pagination +
+                ", next=" + next +
+                '}';
+    }
+}
@@ -43,7 +43,7 @@ class DefaultPagination implements Pagination {
         if (this == o) {
             return true;
         }
-        if (o == null || Pagination.class != o.getClass()) {
+        if (!(o instanceof DefaultPagination)) {
             return false;
         }
         Pagination that = (Pagination) o;
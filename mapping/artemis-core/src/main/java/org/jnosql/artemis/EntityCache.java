@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded and concurrent second-level cache of the entities read by id, it is enabled to an entity with
+ * {@link Cacheable}. The entries expire after the time to live and, when the cache reaches its capacity,
+ * the entries that were not read since the last sweep are evicted (a CLOCK approximation of LRU).
+ * An invalidation also discards the values that were being loaded while it happened, so a load that started
+ * before a write never puts the old value back into the cache.
+ *
+ * @param <V> the value type
+ */
+public final class EntityCache<V> {
+
+    private final Map<Object, Entry<V>> store = new ConcurrentHashMap<>();
+
+    private final Queue<Entry<V>> clock = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger clockSize = new AtomicInteger();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final int capacity;
+
+    private final Duration ttl;
+
+    private EntityCache(int capacity, Duration ttl) {
+        this.capacity = capacity;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the entity cached to the id, when it is either absent or expired the loader is called and its value,
+     * when present, is cached.
+     *
+     * @param id     the id
+     * @param loader the loader used only when the id is not cached
+     * @return the cached or loaded value
+     * @throws NullPointerException when there is null parameter or the loader returns null
+     */
+    public Optional<V> get(Object id, Function<Object, Optional<V>> loader) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(loader, "loader is required");
+
+        Entry<V> entry = store.get(id);
+        if (entry != null) {
+            if (!entry.isExpired()) {
+                entry.used = true;
+                hits.increment();
+                return Optional.of(entry.value);
+            }
+            store.remove(id, entry);
+        }
+        misses.increment();
+        long stamp = version.get();
+        Optional<V> value = Objects.requireNonNull(loader.apply(id), "loader cannot return null");
+        value.ifPresent(v -> put(id, v, stamp));
+        return value;
+    }
+
+    private void put(Object id, V value, long stamp) {
+        Entry<V> entry = new Entry<>(id, value, ttl.isZero() ? 0L : System.nanoTime() + ttl.toNanos());
+        store.put(id, entry);
+        if (version.get() != stamp) {
+            store.remove(id, entry);
+            return;
+        }
+        clock.offer(entry);
+        if (clockSize.incrementAndGet() > capacity * 2) {
+            clock.removeIf(e -> store.get(e.id) != e);
+            clockSize.set(clock.size());
+        }
+        if (store.size() > capacity) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        while (store.size() > capacity) {
+            Entry<V> entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+            clockSize.decrementAndGet();
+            if (store.get(entry.id) != entry) {
+                continue;
+            }
+            if (entry.used) {
+                entry.used = false;
+                clock.offer(entry);
+                clockSize.incrementAndGet();
+            } else if (store.remove(entry.id, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the entity from the cache
+     *
+     * @param id the id
+     * @throws NullPointerException when id is null
+     */
+    public void invalidate(Object id) {
+        Objects.requireNonNull(id, "id is required");
+        version.incrementAndGet();
+        store.remove(id);
+    }
+
+    /**
+     * Removes all the entities of this cache, the statistics are kept
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        store.clear();
+        clock.clear();
+        clockSize.set(0);
+    }
+
+    /**
+     * @return the number of cached entities
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * @return the maximum number of entities
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the time that an entity stays in the cache, {@link Duration#ZERO} when it does not expire
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that required the loader
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entities removed to respect the capacity
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCache{" + "size=" + size() +
+                ", capacity=" + capacity +
+                ", ttl=" + ttl +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param capacity the maximum number of entities
+     * @param ttl      the time that an entity stays in the cache, {@link Duration#ZERO} to never expire
+     * @param <V>      the value type
+     * @return a new cache
+     * @throws NullPointerException     when ttl is null
+     * @throws IllegalArgumentException when capacity is lesser than one or ttl is negative
+     */
+    public static <V> EntityCache<V> of(int capacity, Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be greater than zero");
+        }
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative");
+        }
+        return new EntityCache<>(capacity, ttl);
+    }
+
+    /**
+     * Creates a cache from the {@link Cacheable} settings of an entity
+     *
+     * @param cacheable the annotation
+     * @param <V>       the value type
+     * @return a new cache
+     * @throws NullPointerException     when cacheable is null
+     * @throws IllegalArgumentException when the size is lesser than one or the ttl is negative
+     */
+    public static <V> EntityCache<V> of(Cacheable cacheable) {
+        Objects.requireNonNull(cacheable, "cacheable is required");
+        return of(cacheable.size(), Duration.ofNanos(cacheable.unit().toNanos(cacheable.ttl())));
+    }
+
+    private static final class Entry<V> {
+
+        private final Object id;
+
+        private final V value;
+
+        private final long expiresAt;
+
+        private volatile boolean used;
+
+        private Entry(Object id, V value, long expiresAt) {
+            this.id = id;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return expiresAt != 0L && System.nanoTime() - expiresAt >= 0L;
+        }
+    }
+}
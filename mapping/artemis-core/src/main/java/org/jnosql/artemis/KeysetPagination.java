@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.diana.api.Sort;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link Pagination} that selects the entities after the last value of the keyset field and,
+ * when there is the last id, after the last id on the same value
+ */
+final class KeysetPagination implements Pagination {
+
+    private final Sort sort;
+
+    private final Object lastValue;
+
+    private final Object lastId;
+
+    private final long limit;
+
+    KeysetPagination(Sort sort, Object lastValue, Object lastId, long limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be greater than zero");
+        }
+        this.sort = sort;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+        this.limit = limit;
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return 0;
+    }
+
+    @Override
+    public Optional<Sort> getKeyset() {
+        return Optional.of(sort);
+    }
+
+    @Override
+    public Optional<Object> getLastValue() {
+        return Optional.ofNullable(lastValue);
+    }
+
+    @Override
+    public Optional<Object> getLastId() {
+        return Optional.ofNullable(lastId);
+    }
+
+    @Override
+    public Pagination next(Object lastValue) {
+        Objects.requireNonNull(lastValue, "lastValue is required");
+        return new KeysetPagination(sort, lastValue, null, limit);
+    }
+
+    @Override
+    public Pagination next(Object lastValue, Object lastId) {
+        Objects.requireNonNull(lastValue, "lastValue is required");
+        Objects.requireNonNull(lastId, "lastId is required");
+        return new KeysetPagination(sort, lastValue, lastId, limit);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPagination)) {
+            return false;
+        }
+        KeysetPagination that = (KeysetPagination) o;
+        return limit == that.limit &&
+                Objects.equals(sort, that.sort) &&
+                Objects.equals(lastValue, that.lastValue) &&
+                Objects.equals(lastId, that.lastId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sort, lastValue, lastId, limit);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPagination{" + "sort=" + sort +
+                ", lastValue=" + lastValue +
+                ", lastId=" + lastId +
+                ", limit=" + limit +
+                '}';
+    }
+}
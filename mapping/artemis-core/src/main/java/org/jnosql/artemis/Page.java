@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A page of entities from a repository method that receives a {@link Pagination}
+ *
+ * @param <T> the entity type
+ */
+public interface Page<T> {
+
+    /**
+     * Returns the pagination that selected this page
+     *
+     * @return the pagination
+     */
+    Pagination getPagination();
+
+    /**
+     * Returns the entities of this page
+     *
+     * @return the entities
+     */
+    List<T> getContent();
+
+    /**
+     * Returns the pagination of the next page, when this page is empty it returns the pagination of this page
+     *
+     * @return the pagination of the next page
+     */
+    Pagination next();
+
+    /**
+     * Checks if this page has entities
+     *
+     * @return true when the page has entities
+     */
+    default boolean hasContent() {
+        return !getContent().isEmpty();
+    }
+
+    /**
+     * Returns the entities of this page as {@link Stream}
+     *
+     * @return the entities as stream
+     */
+    default Stream<T> stream() {
+        return getContent().stream();
+    }
+
+    /**
+     * Creates a page
+     *
+     * @param content    the entities of the page
+     * @param pagination the pagination that selected the page
+     * @param next       the pagination of the next page
+     * @param <T>        the entity type
+     * @return a new {@link Page} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    static <T> Page<T> of(List<T> content, Pagination pagination, Pagination next) {
+        Objects.requireNonNull(content, "content is required");
+        Objects.requireNonNull(pagination, "pagination is required");
+        Objects.requireNonNull(next, "next is required");
+        return new DefaultPage<>(content, pagination, next);
+    }
+}
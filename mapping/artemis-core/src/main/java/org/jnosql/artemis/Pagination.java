@@ -14,8 +14,20 @@
  */
 package org.jnosql.artemis;
 
+import org.jnosql.diana.api.Sort;
+
+import java.util.Objects;
+import java.util.Optional;
+
 /**
- * Interface for pagination information.
+ * Interface for pagination information. A pagination is either an offset pagination, that skips the entities
+ * of the previous pages, or a keyset pagination, that orders the query by a field and selects the entities
+ * after the last value seen, so a deep page costs the same as the first one.
+ * The keyset field should be unique; when it is not, the entities that tie on the last value of a page are told apart
+ * by the id: the query is ordered by the id after the keyset field and selects the entities after the last value
+ * and, on the same value, after the last id. Without the last id, e.g. {@link #keyset(Sort, Object, long)}, the
+ * entities that tie on the last value are skipped.
+ * A repository method receives it as its last parameter.
  */
 public interface Pagination {
 
@@ -33,6 +45,60 @@ public interface Pagination {
      */
     long getSkip();
 
+    /**
+     * Returns the sort of the keyset pagination, the query is ordered by this field and selects the entities
+     * after {@link Pagination#getLastValue()}. It is empty to the offset pagination.
+     *
+     * @return the keyset sort
+     */
+    default Optional<Sort> getKeyset() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the value of the keyset field at the last entity of the previous page,
+     * it is empty at the first page and to the offset pagination.
+     *
+     * @return the last value
+     */
+    default Optional<Object> getLastValue() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the id at the last entity of the previous page to the keyset pagination, it tells apart the entities
+     * with the same keyset value. It is empty at the first page, to the offset pagination and when the keyset field
+     * is the id itself.
+     *
+     * @return the last id
+     */
+    default Optional<Object> getLastId() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the pagination of the next page
+     *
+     * @param lastValue the value of the keyset field at the last entity of this page, the offset pagination
+     *                  ignores it
+     * @return the pagination of the next page
+     */
+    default Pagination next(Object lastValue) {
+        return of(getSkip() + getLimit(), getLimit());
+    }
+
+    /**
+     * Returns the pagination of the next page
+     *
+     * @param lastValue the value of the keyset field at the last entity of this page, the offset pagination
+     *                  ignores it
+     * @param lastId    the id at the last entity of this page, the offset pagination ignores it
+     * @return the pagination of the next page
+     */
+    default Pagination next(Object lastValue, Object lastId) {
+        return next(lastValue);
+    }
+
     /**
      * Creates a default pagination
      *
@@ -43,4 +109,53 @@ public interface Pagination {
     static Pagination of(long start, long limit) {
         return new DefaultPagination(limit, start);
     }
+
+    /**
+     * Creates the first page of a keyset pagination
+     *
+     * @param sort  the field, with its java name, and the order of the keyset
+     * @param limit the limit
+     * @return the pagination instance
+     * @throws NullPointerException     when sort is null
+     * @throws IllegalArgumentException when limit is not positive
+     */
+    static Pagination keyset(Sort sort, long limit) {
+        Objects.requireNonNull(sort, "sort is required");
+        return new KeysetPagination(sort, null, null, limit);
+    }
+
+    /**
+     * Creates a keyset pagination that starts after the last value, the keyset field must be unique,
+     * otherwise the entities that tie on the last value are skipped, {@link #keyset(Sort, Object, Object, long)}
+     *
+     * @param sort      the field, with its java name, and the order of the keyset
+     * @param lastValue the value of the keyset field at the last entity of the previous page
+     * @param limit     the limit
+     * @return the pagination instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when limit is not positive
+     */
+    static Pagination keyset(Sort sort, Object lastValue, long limit) {
+        Objects.requireNonNull(sort, "sort is required");
+        Objects.requireNonNull(lastValue, "lastValue is required");
+        return new KeysetPagination(sort, lastValue, null, limit);
+    }
+
+    /**
+     * Creates a keyset pagination that starts after the last value and, on the same value, after the last id
+     *
+     * @param sort      the field, with its java name, and the order of the keyset
+     * @param lastValue the value of the keyset field at the last entity of the previous page
+     * @param lastId    the id at the last entity of the previous page
+     * @param limit     the limit
+     * @return the pagination instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when limit is not positive
+     */
+    static Pagination keyset(Sort sort, Object lastValue, Object lastId, long limit) {
+        Objects.requireNonNull(sort, "sort is required");
+        Objects.requireNonNull(lastValue, "lastValue is required");
+        Objects.requireNonNull(lastId, "lastId is required");
+        return new KeysetPagination(sort, lastValue, lastId, limit);
+    }
 }
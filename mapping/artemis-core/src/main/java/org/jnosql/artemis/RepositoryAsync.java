@@ -35,6 +35,8 @@ import java.util.function.Consumer;
  * <p><b>OrderBy</b></p>
  * <p><b>OrderBy____Desc</b></p>
  * <p><b>OrderBy_____ASC</b></p>
+ * The findBy methods receive a {@link java.util.function.Consumer} as the last parameter to the callback, or they
+ * return an {@link org.jnosql.diana.api.Flow.Publisher} that sends the entities as its subscriber requests them.
  *
  * @param <T>  the bean type
  * @param <K> the K type
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Collection;
+
+/**
+ * A {@link ClassOperation} that prepares the accessors of several classes at once, e.g. in a single compilation,
+ * it is used at the CDI startup before the {@link ClassMapping} of the entities are created.
+ */
+interface BatchClassOperation extends ClassOperation {
+
+    /**
+     * Prepares the accessors to the constructors and fields, so the factories of this operation
+     * return them without creating them again.
+     *
+     * @param constructors the constructors
+     * @param fields       the fields
+     */
+    void prepare(Collection<Constructor<?>> constructors, Collection<Field> fields);
+}
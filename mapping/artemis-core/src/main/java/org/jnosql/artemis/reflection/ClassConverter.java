@@ -18,17 +18,22 @@ import org.jnosql.artemis.Convert;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toConcurrentMap;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
@@ -46,11 +51,12 @@ class ClassConverter {
 
     private InstanceSupplierFactory instanceSupplierFactory;
 
+    private ClassOperation classOperation;
+
 
     @Inject
     ClassConverter(Reflections reflections) {
-        ClassOperation classOperation = ClassOperationFactory.INSTANCE.get();
-
+        this.classOperation = ClassOperationFactory.INSTANCE.get();
         this.reflections = reflections;
         this.readerFactory = classOperation.getFieldReaderFactory();
         this.writerFactory = classOperation.getFieldWriterFactory();
@@ -60,6 +66,31 @@ class ClassConverter {
     ClassConverter() {
     }
 
+    /**
+     * Creates the {@link ClassMapping} to each class, the accessors of all of them are prepared at once,
+     * e.g. within a single compilation, and then the mappings are created in parallel.
+     *
+     * @param classes the classes
+     * @return the mappings grouped by class
+     */
+    Map<Class<?>, ClassMapping> create(Collection<Class<?>> classes) {
+        if (classOperation instanceof BatchClassOperation) {
+            List<Constructor<?>> constructors = new ArrayList<>();
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> entityClass : classes) {
+                fields.addAll(reflections.getFields(entityClass));
+                try {
+                    constructors.add(reflections.makeAccessible(entityClass));
+                } catch (ConstructorException exp) {
+                    LOGGER.log(Level.FINEST, "The class does not have a default constructor", exp);
+                }
+            }
+            ((BatchClassOperation) classOperation).prepare(constructors, fields);
+        }
+        return classes.parallelStream().distinct()
+                .collect(toConcurrentMap(Function.identity(), this::create));
+    }
+
     public ClassMapping create(Class<?> entityClass) {
 
         long start = System.currentTimeMillis();
@@ -89,7 +120,7 @@ class ClassConverter {
                 .build();
 
         long end = System.currentTimeMillis() - start;
-        LOGGER.info(String.format("Scanned %s loaded with time %d ms", entityClass.getName(), end));
+        LOGGER.fine(String.format("Scanned %s loaded with time %d ms", entityClass.getName(), end));
         return mapping;
     }
 
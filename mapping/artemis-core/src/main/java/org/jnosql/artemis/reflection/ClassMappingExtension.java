@@ -20,26 +20,38 @@ import org.jnosql.artemis.Entity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 
 import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
 
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
- * This extension will load all Classes and put in a map.
+ * This extension collects the classes at the discovery and creates all of them at once after it,
+ * then it puts them in a map.
  * Where the key is {@link Class#getName()} and the value is {@link ClassMapping}
  */
 @ApplicationScoped
 public class ClassMappingExtension implements Extension {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingExtension.class.getName());
+
     private final Map<String, ClassMapping> mappings = new ConcurrentHashMap<>();
 
     private final Map<Class<?>, ClassMapping> classes = new ConcurrentHashMap<>();
 
+    private final Collection<Class<?>> entities = ConcurrentHashMap.newKeySet();
+
+    private final Collection<Class<?>> embeddables = ConcurrentHashMap.newKeySet();
+
     private final ClassConverter classConverter;
 
     {
@@ -56,18 +68,34 @@ public class ClassMappingExtension implements Extension {
 
         AnnotatedType<T> annotatedType = target.getAnnotatedType();
         if (annotatedType.isAnnotationPresent(Entity.class)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
-            mappings.put(classMapping.getName(), classMapping);
-            classes.put(javaClass, classMapping);
+            entities.add(annotatedType.getJavaClass());
         } else if (isSubElement(annotatedType)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
-            classes.put(javaClass, classMapping);
+            embeddables.add(annotatedType.getJavaClass());
         }
 
     }
 
+    /**
+     * Creates the {@link ClassMapping} of all classes found in the discovery at once
+     *
+     * @param afterBeanDiscovery the event
+     */
+    public void loadMappings(@Observes final AfterBeanDiscovery afterBeanDiscovery) {
+        long start = System.currentTimeMillis();
+
+        List<Class<?>> scanned = new ArrayList<>(entities);
+        scanned.addAll(embeddables);
+        Map<Class<?>, ClassMapping> mappingsByClass = classConverter.create(scanned);
+
+        classes.putAll(mappingsByClass);
+        entities.stream().map(mappingsByClass::get)
+                .forEach(m -> mappings.put(m.getName(), m));
+
+        long end = System.currentTimeMillis() - start;
+        LOGGER.info(String.format("Scanned %d entities and %d embeddable classes with time %d ms",
+                entities.size(), embeddables.size(), end));
+    }
+
     private <T> boolean isSubElement(AnnotatedType<T> annotatedType) {
         return annotatedType.isAnnotationPresent(Embeddable.class);
     }
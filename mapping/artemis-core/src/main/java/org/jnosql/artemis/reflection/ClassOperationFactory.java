@@ -14,18 +14,25 @@
  */
 package org.jnosql.artemis.reflection;
 
-import java.util.Optional;
+import javax.tools.ToolProvider;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.ServiceLoader;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.StreamSupport;
 
+import static java.util.stream.Collectors.toList;
+
 enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     INSTANCE;
 
     private static final String DISABLE_COMPILER = "artemis.reclection.disableCompiler";
 
+    private static final String OPERATION = "artemis.reflection.operation";
+
     private static final String LOG_MESSAGE = "It will use the compiler optimizations to access the class instead" +
             " of reflections. To disable it set artemis.reclection.disableCompiler as true.";
 
@@ -35,10 +42,9 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private final ClassOperation reflection = new ReflectionClassOperation(reflections);
 
-    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
-            .class.getClassLoader());
+    private ClassOperation compiler;
 
-    private final ClassOperation compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+    private ClassOperation methodHandle;
 
 
     public Reflections getReflections() {
@@ -51,23 +57,69 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
         LOGGER.info("Logging the operation factory");
         ServiceLoader<ClassOperation> serviceLoader = ServiceLoader.load(ClassOperation.class);
 
-        Optional<ClassOperation> classOperation = StreamSupport.stream(serviceLoader.spliterator(), false)
-                .findFirst();
+        List<ClassOperation> operations = StreamSupport.stream(serviceLoader.spliterator(), false)
+                .collect(toList());
 
-        if (classOperation.isPresent()) {
-            ClassOperation operation = classOperation.get();
-            LOGGER.info("ClassOperation found: " + operation.getClass());
-            return operation;
-        } else {
+        if (operations.isEmpty()) {
             LOGGER.info("ClassOperation does not found, using the default implementation");
-            boolean isDisableCompiler = Boolean.valueOf(System.getProperty(DISABLE_COMPILER));
-            if (isDisableCompiler) {
-                LOGGER.fine(LOG_MESSAGE);
+            return getDefaultOperation();
+        }
+        operations.forEach(o -> LOGGER.info("ClassOperation found: " + o.getClass()));
+        return new CompositeClassOperation(operations, getDefaultOperation());
+    }
+
+    private synchronized ClassOperation getDefaultOperation() {
+        boolean isDisableCompiler = Boolean.valueOf(System.getProperty(DISABLE_COMPILER));
+        if (isDisableCompiler) {
+            LOGGER.fine(LOG_MESSAGE);
+            return reflection;
+        }
+        switch (getOperation()) {
+            case REFLECTION:
                 return reflection;
-            }
-            return compiler;
+            case METHOD_HANDLE:
+                return getMethodHandle();
+            default:
+                return getCompiler();
+        }
+    }
+
+    private ClassOperation getCompiler() {
+        if (ToolProvider.getSystemJavaCompiler() == null) {
+            LOGGER.info("The system Java compiler was not found, using method handles to the accessors" +
+                    " that were not generated at compile time");
+            return getMethodHandle();
+        }
+        if (compiler == null) {
+            JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory.class.getClassLoader());
+            compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+        }
+        return compiler;
+    }
+
+    private ClassOperation getMethodHandle() {
+        if (methodHandle == null) {
+            methodHandle = new MethodHandleClassOperation(reflection);
         }
+        return methodHandle;
+    }
 
+    private static OperationType getOperation() {
+        String operation = System.getProperty(OPERATION, OperationType.COMPILER.name());
+        try {
+            return OperationType.valueOf(operation.trim().toUpperCase(Locale.US).replace('-', '_'));
+        } catch (IllegalArgumentException exp) {
+            LOGGER.warning("The operation " + operation + " defined at " + OPERATION + " is invalid, the options are: "
+                    + Arrays.toString(OperationType.values()) + ". Using the compiler operation");
+            return OperationType.COMPILER;
+        }
+    }
 
+    /**
+     * The strategies to create the accessors that were not generated at compile time,
+     * it is defined with the artemis.reflection.operation system property.
+     */
+    enum OperationType {
+        COMPILER, METHOD_HANDLE, REFLECTION
     }
 }
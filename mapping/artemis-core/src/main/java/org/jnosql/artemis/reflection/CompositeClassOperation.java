@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link ClassOperation} that asks the {@link ClassOperation} found by {@link java.util.ServiceLoader}
+ * first, e.g. the ones generated at compile time, and uses the fallback when none of them
+ * returns the accessor.
+ */
+final class CompositeClassOperation implements BatchClassOperation {
+
+    private final List<ClassOperation> operations;
+
+    private final ClassOperation fallback;
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    CompositeClassOperation(List<ClassOperation> operations, ClassOperation fallback) {
+        this.operations = operations;
+        this.fallback = fallback;
+        this.instanceSupplierFactory = c -> find(operations, ClassOperation::getInstanceSupplierFactory, c)
+                .orElseGet(() -> fallback.getInstanceSupplierFactory().apply(c));
+        this.fieldWriterFactory = f -> find(operations, ClassOperation::getFieldWriterFactory, f)
+                .orElseGet(() -> fallback.getFieldWriterFactory().apply(f));
+        this.fieldReaderFactory = f -> find(operations, ClassOperation::getFieldReaderFactory, f)
+                .orElseGet(() -> fallback.getFieldReaderFactory().apply(f));
+    }
+
+    @Override
+    public void prepare(Collection<Constructor<?>> constructors, Collection<Field> fields) {
+        if (fallback instanceof BatchClassOperation) {
+            List<Constructor<?>> missingConstructors = constructors.stream()
+                    .filter(c -> !find(operations, ClassOperation::getInstanceSupplierFactory, c).isPresent())
+                    .collect(toList());
+            List<Field> missingFields = fields.stream()
+                    .filter(f -> !find(operations, ClassOperation::getFieldReaderFactory, f).isPresent()
+                            || !find(operations, ClassOperation::getFieldWriterFactory, f).isPresent())
+                    .collect(toList());
+            ((BatchClassOperation) fallback).prepare(missingConstructors, missingFields);
+        }
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+
+    private static <T, R> Optional<R> find(List<ClassOperation> operations,
+                                            Function<ClassOperation, ? extends Function<T, R>> factory,
+                                            T element) {
+        return operations.stream()
+                .map(o -> factory.apply(o).apply(element))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+}
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.lang.reflect.Method;
@@ -21,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -80,13 +83,19 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
 
     private final Supplier<List<T>> list;
 
+    private final Supplier<Stream<T>> stream;
+
+    private final Supplier<Page<T>> page;
+
 
     private DynamicReturn(Class<T> classSource, Method methodSource, Supplier<Optional<T>> singleResult,
-                          Supplier<List<T>> list) {
+                          Supplier<List<T>> list, Supplier<Stream<T>> stream, Supplier<Page<T>> page) {
         this.classSource = classSource;
         this.methodSource = methodSource;
         this.singleResult = singleResult;
         this.list = list;
+        this.stream = stream;
+        this.page = page;
     }
 
     /**
@@ -125,6 +134,24 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
         return list.get();
     }
 
+    /**
+     * Returns the result as {@link Stream}
+     *
+     * @return the result as {@link Stream}
+     */
+    Stream<T> stream() {
+        return stream.get();
+    }
+
+    /**
+     * Returns the result as {@link Page}
+     *
+     * @return the result as {@link Page}
+     */
+    Page<T> page() {
+        return page.get();
+    }
+
 
     /**
      * Creates a builder to DynamicReturn
@@ -149,6 +176,10 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
 
         private Supplier<List<?>> list;
 
+        private Supplier<Stream<?>> stream;
+
+        private Supplier<Page<?>> page;
+
         private DefaultDynamicReturnBuilder() {
         }
 
@@ -173,7 +204,32 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
         }
 
         /**
-         * Creates a {@link DynamicReturn} from the parameters, all fields are required
+         * Defines the lazy result to the methods that return {@link Stream}, when it is not defined
+         * the stream is created from the list result supplier
+         *
+         * @param stream the stream result supplier
+         * @return this builder
+         */
+        public DefaultDynamicReturnBuilder withStream(Supplier<Stream<?>> stream) {
+            this.stream = stream;
+            return this;
+        }
+
+        /**
+         * Defines the result to the methods that return {@link Page}, when it is not defined
+         * these methods fail with {@link DynamicQueryException}
+         *
+         * @param page the page result supplier
+         * @return this builder
+         */
+        public DefaultDynamicReturnBuilder withPage(Supplier<Page<?>> page) {
+            this.page = page;
+            return this;
+        }
+
+        /**
+         * Creates a {@link DynamicReturn} from the parameters, all fields are required but the stream and the
+         * page result suppliers
          *
          * @return a new instance
          * @throws NullPointerException when there is null atributes
@@ -184,7 +240,14 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
             requireNonNull(singleResult, "the single result supplier is required");
             requireNonNull(list, "the list result supplier is required");
 
-            return new DynamicReturn(classSource, methodSource, singleResult, list);
+            Supplier<List<?>> listSupplier = list;
+            Supplier<Stream<?>> streamSupplier = stream == null ? () -> listSupplier.get().stream() : stream;
+            Method method = methodSource;
+            Supplier<Page<?>> pageSupplier = page == null ? () -> {
+                throw new DynamicQueryException("To return Page the method must have a Pagination as its last "
+                        + "parameter: " + method);
+            } : page;
+            return new DynamicReturn(classSource, methodSource, singleResult, list, streamSupplier, pageSupplier);
         }
     }
 
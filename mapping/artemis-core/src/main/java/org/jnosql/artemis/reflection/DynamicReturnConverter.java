@@ -15,6 +15,7 @@
 package org.jnosql.artemis.reflection;
 
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Page;
 import org.jnosql.artemis.PreparedStatement;
 
 import java.lang.reflect.Method;
@@ -71,7 +72,9 @@ enum DynamicReturnConverter {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(dynamic.list());
         } else if (Stream.class.equals(returnType)) {
-            return dynamic.list().stream();
+            return dynamic.stream();
+        } else if (Page.class.equals(returnType)) {
+            return dynamic.page();
         } else if (Deque.class.equals(returnType)) {
             return new ArrayDeque<>(dynamic.list());
         } else if (NavigableSet.class.equals(returnType) || SortedSet.class.equals(returnType)) {
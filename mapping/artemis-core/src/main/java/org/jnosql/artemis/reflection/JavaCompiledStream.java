@@ -30,6 +30,12 @@ final class JavaCompiledStream extends SimpleJavaFileObject {
         super(URI.create("bytes:///" + fullClassName), Kind.CLASS);
     }
 
+    public JavaCompiledStream(String fullClassName, byte[] classBytes) {
+        this(fullClassName);
+        this.classOutputStream = new ByteArrayOutputStream(classBytes.length);
+        this.classOutputStream.write(classBytes, 0, classBytes.length);
+    }
+
     @Override
     public InputStream openInputStream() {
         return new ByteArrayInputStream(getClassBytes());
@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An opt-in cache on disk to the classes compiled by {@link JavaCompilerFacade}, so a new JVM loads the accessors
+ * instead of calling the compiler again. It is enabled when the {@value #CACHE_DIRECTORY} system property defines
+ * a directory. Each compiled class is stored with a key that is the hash of its source code,
+ * of the bytecode of the class that it accesses and of its interface, and of the Java version, a change in any of them
+ * produces a new key and the stale file is replaced.
+ * Since the cached classes are loaded without compiling again, the directory and the class files must be owned by
+ * the current user and must not be writable by other users, otherwise the cache is disabled or the file is ignored.
+ */
+final class JavaCompilerCache {
+
+    static final String CACHE_DIRECTORY = "artemis.reflection.cacheDirectory";
+
+    private static final Logger LOGGER = Logger.getLogger(JavaCompilerCache.class.getName());
+
+    private static final String EXTENSION = ".class";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final JavaCompilerCache DISABLED = new JavaCompilerCache(null);
+
+    private final Path directory;
+
+    private final ClassValue<Optional<byte[]>> bytecodeHashes = new ClassValue<Optional<byte[]>>() {
+        @Override
+        protected Optional<byte[]> computeValue(Class<?> type) {
+            return readBytecode(type).map(JavaCompilerCache::digest);
+        }
+    };
+
+    private JavaCompilerCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the compiled class of the source when it is cached with the same key
+     *
+     * @param source the source
+     * @return the class bytes or {@link Optional#empty()} when the source is not cached
+     */
+    Optional<byte[]> get(JavaSource<?> source) {
+        Optional<Path> file = getFile(source);
+        if (!file.isPresent() || !Files.isRegularFile(file.get())) {
+            return Optional.empty();
+        }
+        try {
+            if (!isPrivate(file.get())) {
+                LOGGER.warning("The cached class " + file.get() + " is ignored, it must be owned by the current user "
+                        + "and must not be writable by other users");
+                return Optional.empty();
+            }
+            return Optional.of(Files.readAllBytes(file.get()));
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINE, "Error when tries to read the cached class " + file.get(), exp);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the compiled class of the source and removes the files of the same source with another key
+     *
+     * @param source     the source
+     * @param classBytes the compiled class
+     */
+    void put(JavaSource<?> source, byte[] classBytes) {
+        Optional<Path> file = getFile(source);
+        if (!file.isPresent()) {
+            return;
+        }
+        try {
+            removeStale(source, file.get());
+            Path temp = Files.createTempFile(directory, source.getName(), ".tmp");
+            Files.write(temp, classBytes);
+            try {
+                Files.move(temp, file.get(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exp) {
+                Files.move(temp, file.get(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINE, "Error when tries to write the cached class " + file.get(), exp);
+        }
+    }
+
+    boolean isEnabled() {
+        return directory != null;
+    }
+
+    private Optional<Path> getFile(JavaSource<?> source) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        return source.getDeclaringClass()
+                .flatMap(bytecodeHashes::get)
+                .map(hash -> {
+                    MessageDigest digest = getDigest();
+                    digest.update(hash);
+                    bytecodeHashes.get(source.getType()).ifPresent(digest::update);
+                    digest.update(source.getJavaSource().getBytes(StandardCharsets.UTF_8));
+                    digest.update(System.getProperty("java.specification.version", "").getBytes(StandardCharsets.UTF_8));
+                    return directory.resolve(source.getName() + '-' + toHex(digest.digest()) + EXTENSION);
+                });
+    }
+
+    private void removeStale(JavaSource<?> source, Path file) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                p -> p.getFileName().toString().startsWith(source.getName() + '-'))) {
+            for (Path stale : files) {
+                if (!stale.equals(file)) {
+                    Files.deleteIfExists(stale);
+                }
+            }
+        }
+    }
+
+    private static boolean isPrivate(Path path) throws IOException {
+        String user = System.getProperty("user.name", "");
+        String owner = Files.getOwner(path).getName();
+        if (!owner.equals(user) && !owner.endsWith("\\" + user)) {
+            return false;
+        }
+        PosixFileAttributeView view = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+        if (view == null) {
+            return true;
+        }
+        Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+        return !permissions.contains(PosixFilePermission.GROUP_WRITE)
+                && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+    }
+
+    private static Optional<byte[]> readBytecode(Class<?> type) {
+        String resource = type.getName().substring(type.getName().lastIndexOf('.') + 1) + EXTENSION;
+        try (InputStream stream = type.getResourceAsStream(resource)) {
+            if (stream == null) {
+                return Optional.empty();
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] data = new byte[4096];
+            int read;
+            while ((read = stream.read(data, 0, data.length)) != -1) {
+                buffer.write(data, 0, read);
+            }
+            return Optional.of(buffer.toByteArray());
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINE, "Error when tries to read the bytecode of the class " + type.getName(), exp);
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] digest(byte[] value) {
+        return getDigest().digest(value);
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exp) {
+            throw new IllegalStateException("The SHA-256 algorithm is required", exp);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int index = 0; index < bytes.length; index++) {
+            int value = bytes[index] & 0xFF;
+            chars[index * 2] = HEX[value >>> 4];
+            chars[index * 2 + 1] = HEX[value & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Creates the cache from the {@value #CACHE_DIRECTORY} system property
+     *
+     * @return the cache, that is disabled when the property is not defined or the directory cannot be created
+     */
+    static JavaCompilerCache of() {
+        String directory = System.getProperty(CACHE_DIRECTORY);
+        if (directory == null || directory.trim().isEmpty()) {
+            return DISABLED;
+        }
+        return of(Paths.get(directory.trim()));
+    }
+
+    /**
+     * Creates the cache at the directory
+     *
+     * @param directory the directory
+     * @return the cache, that is disabled when the directory cannot be created, is owned by another user
+     * or is writable by other users
+     */
+    static JavaCompilerCache of(Path directory) {
+        try {
+            Path cacheDirectory = Files.createDirectories(directory);
+            if (!isPrivate(cacheDirectory)) {
+                LOGGER.warning("The directory " + directory + " cannot be used to cache the compiled accessors, "
+                        + "it must be owned by the current user and must not be writable by other users");
+                return DISABLED;
+            }
+            return new JavaCompilerCache(cacheDirectory);
+        } catch (IOException exp) {
+            LOGGER.log(Level.WARNING, "The directory " + directory + " cannot be used to cache the compiled accessors", exp);
+            return DISABLED;
+        }
+    }
+}
@@ -14,12 +14,13 @@
  */
 package org.jnosql.artemis.reflection;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class JavaCompilerClassLoader extends ClassLoader {
 
-    private final Map<String, JavaCompiledStream> fileObjectMap = new HashMap<>();
+    private final Map<String, JavaCompiledStream> fileObjectMap = new ConcurrentHashMap<>();
 
     public JavaCompilerClassLoader(ClassLoader parent) {
         super(parent);
@@ -39,4 +40,16 @@ final class JavaCompilerClassLoader extends ClassLoader {
         fileObjectMap.put(qualifiedName, fileObject);
     }
 
+    public boolean contains(String qualifiedName) {
+        return fileObjectMap.containsKey(qualifiedName);
+    }
+
+    public Optional<byte[]> getClassBytes(String qualifiedName) {
+        return Optional.ofNullable(fileObjectMap.get(qualifiedName)).map(JavaCompiledStream::getClassBytes);
+    }
+
+    public void remove(String qualifiedName) {
+        fileObjectMap.remove(qualifiedName);
+    }
+
 }
\ No newline at end of file
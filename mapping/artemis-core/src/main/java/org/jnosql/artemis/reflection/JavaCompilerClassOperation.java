@@ -14,16 +14,25 @@
  */
 package org.jnosql.artemis.reflection;
 
-final class JavaCompilerClassOperation implements ClassOperation {
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
-    private final InstanceSupplierFactory instanceSupplierFactory;
+final class JavaCompilerClassOperation implements BatchClassOperation {
 
-    private final FieldWriterFactory fieldWriterFactory;
+    private final JavaCompilerInstanceSupplierFactory instanceSupplierFactory;
 
-    private final FieldReaderFactory fieldReaderFactory;
+    private final JavaCompilerFieldWriterFactory fieldWriterFactory;
+
+    private final JavaCompilerFieldReaderFactory fieldReaderFactory;
+
+    private final JavaCompilerFacade compilerFacade;
 
 
     JavaCompilerClassOperation(ClassOperation fallback, Reflections reflections, JavaCompilerFacade compilerFacade) {
+        this.compilerFacade = compilerFacade;
         this.instanceSupplierFactory = new JavaCompilerInstanceSupplierFactory(compilerFacade, reflections,
                 fallback.getInstanceSupplierFactory());
         this.fieldWriterFactory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections,
@@ -32,6 +41,17 @@ final class JavaCompilerClassOperation implements ClassOperation {
                 fallback.getFieldReaderFactory());
     }
 
+    @Override
+    public void prepare(Collection<Constructor<?>> constructors, Collection<Field> fields) {
+        List<JavaSource<?>> sources = new ArrayList<>();
+        constructors.forEach(c -> instanceSupplierFactory.getSource(c).ifPresent(sources::add));
+        fields.forEach(f -> {
+            fieldReaderFactory.getSource(f).ifPresent(sources::add);
+            fieldWriterFactory.getSource(f).ifPresent(sources::add);
+        });
+        compilerFacade.applyAll(sources);
+    }
+
     @Override
     public InstanceSupplierFactory getInstanceSupplierFactory() {
         return instanceSupplierFactory;
@@ -22,7 +22,11 @@ import javax.tools.JavaFileManager;
 import javax.tools.ToolProvider;
 import java.io.IOException;
 import java.security.PrivilegedAction;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,8 +46,14 @@ final class JavaCompilerFacade {
     private final JavaCompilerClassLoader classLoader;
     private final JavaCompiler compiler;
     private final DiagnosticCollector<javax.tools.JavaFileObject> diagnosticCollector;
+    private final JavaCompilerCache cache;
 
     public JavaCompilerFacade(ClassLoader loader) {
+        this(loader, JavaCompilerCache.of());
+    }
+
+    JavaCompilerFacade(ClassLoader loader, JavaCompilerCache cache) {
+        this.cache = cache;
         this.compiler = Optional.ofNullable(ToolProvider.getSystemJavaCompiler())
                 .orElseThrow(() -> new IllegalStateException("Cannot find the system Java compiler"));
 
@@ -54,6 +64,9 @@ final class JavaCompilerFacade {
 
     public <T> Optional<Class<? extends T>> apply(JavaSource<T> source) {
         try {
+            if (classLoader.contains(source.getName()) || loadFromCache(source)) {
+                return Optional.of(load(source));
+            }
             return Optional.of(compile(source));
         } catch (CompilerAccessException exp) {
             LOGGER.info(exp.getMessage());
@@ -64,6 +77,42 @@ final class JavaCompilerFacade {
         }
     }
 
+    /**
+     * Compiles the sources that were not compiled yet within a single compilation task, so {@link #apply(JavaSource)}
+     * loads them without calling the compiler again. When the task fails, nothing is thrown,
+     * the sources are compiled one by one on {@link #apply(JavaSource)} that reports the error to each one.
+     *
+     * @param sources the sources
+     */
+    public synchronized void applyAll(Collection<? extends JavaSource<?>> sources) {
+        Map<String, JavaSource<?>> pending = new LinkedHashMap<>();
+        sources.stream().filter(s -> !classLoader.contains(s.getName()))
+                .filter(s -> !loadFromCache(s))
+                .forEach(s -> pending.putIfAbsent(s.getName(), s));
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<JavaFileObject> fileObjects = pending.values().stream()
+                .map(s -> new JavaFileObject(s.getName(), s.getJavaSource()))
+                .collect(Collectors.toList());
+
+        DiagnosticCollector<javax.tools.JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileManager standardFileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        try (GeneratedJavaFileManager javaFileManager = new GeneratedJavaFileManager(standardFileManager, classLoader)) {
+            CompilationTask task = compiler.getTask(null, javaFileManager, diagnostics,
+                    null, null, fileObjects);
+            if (task.call()) {
+                pending.values().forEach(this::store);
+            } else {
+                LOGGER.fine(String.format("The compilation of %d accessors failed, they will be compiled one by one: %s",
+                        fileObjects.size(), diagnostics.getDiagnostics()));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "The compilation of the accessors failed because the "
+                    + JavaFileManager.class.getSimpleName() + " didn't close.", e);
+        }
+    }
+
     private synchronized <T> Class<? extends T> compile(JavaSource<T> source) {
         JavaFileObject fileObject = new JavaFileObject(source.getSimpleName(), source.getJavaSource());
 
@@ -80,6 +129,37 @@ final class JavaCompilerFacade {
             throw new CompilerAccessException("The generated class (" + source.getSimpleName() + ") failed to compile because the "
                     + JavaFileManager.class.getSimpleName() + " didn't close.", e);
         }
+        Class<? extends T> compiledClass = load(source);
+        store(source);
+        return compiledClass;
+    }
+
+    private boolean loadFromCache(JavaSource<?> source) {
+        if (!cache.isEnabled()) {
+            return false;
+        }
+        Optional<byte[]> classBytes = cache.get(source);
+        if (!classBytes.isPresent()) {
+            return false;
+        }
+        classLoader.addJavaFileObject(source.getName(), new JavaCompiledStream(source.getName(), classBytes.get()));
+        try {
+            load(source);
+            return true;
+        } catch (CompilerAccessException | LinkageError exp) {
+            LOGGER.log(Level.FINE, "The cached class (" + source.getName() + ") cannot be loaded, it will be compiled", exp);
+            classLoader.remove(source.getName());
+            return false;
+        }
+    }
+
+    private void store(JavaSource<?> source) {
+        if (cache.isEnabled()) {
+            classLoader.getClassBytes(source.getName()).ifPresent(b -> cache.put(source, b));
+        }
+    }
+
+    private <T> Class<? extends T> load(JavaSource<T> source) {
         try {
             Class<T> compiledClass = (Class<T>) classLoader.loadClass(source.getName());
             if (!source.getType().isAssignableFrom(compiledClass)) {
@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,27 +50,35 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
 
     @Override
     public FieldReader apply(Field field) {
-
-        Class<?> declaringClass = field.getDeclaringClass();
-        Optional<String> methodName = getMethodName(declaringClass, field);
-
-        return methodName.map(compile(declaringClass))
+        return getSource(field).map(this::compile)
                 .orElseGet(() -> fallback.apply(field));
-
     }
 
-    private Function<String, FieldReader> compile(Class<?> declaringClass) {
-        return method -> {
+    /**
+     * Returns the source code of the {@link FieldReader} to the field, when it has a public getter and the class is not nested
+     *
+     * @param field the field
+     * @return the source code or {@link Optional#empty()} when the field requires the fallback
+     */
+    Optional<JavaSource<FieldReader>> getSource(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (declaringClass.getEnclosingClass() != null) {
+            return Optional.empty();
+        }
+        return getMethodName(declaringClass, field).map(method -> {
             String packageName = declaringClass.getPackage().getName();
 
             String simpleName = declaringClass.getSimpleName() + "$" + method;
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$" + method;
             String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance, method);
-            FieldReaderJavaSource source = new FieldReaderJavaSource(name, simpleName, javaSource);
-            Optional<Class<? extends FieldReader>> reader = compilerFacade.apply(source);
-            return reader.map(reflections::newInstance).orElse(null);
-        };
+            return new FieldReaderJavaSource(name, simpleName, javaSource, declaringClass);
+        });
+    }
+
+    private FieldReader compile(JavaSource<FieldReader> source) {
+        Optional<Class<? extends FieldReader>> reader = compilerFacade.apply(source);
+        return reader.map(reflections::newInstance).orElse(null);
     }
 
     private Optional<String> getMethodName(Class<?> declaringClass, Field field) {
@@ -96,11 +103,14 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
 
         private final String javaSource;
 
+        private final Class<?> declaringClass;
+
 
-        FieldReaderJavaSource(String name, String simpleName, String javaSource) {
+        FieldReaderJavaSource(String name, String simpleName, String javaSource, Class<?> declaringClass) {
             this.name = name;
             this.simpleName = simpleName;
             this.javaSource = javaSource;
+            this.declaringClass = declaringClass;
         }
 
         @Override
@@ -122,5 +132,10 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
         public Class<FieldReader> getType() {
             return FieldReader.class;
         }
+
+        @Override
+        public Optional<Class<?>> getDeclaringClass() {
+            return Optional.of(declaringClass);
+        }
     }
 }
@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,28 +50,36 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
 
     @Override
     public FieldWriter apply(Field field) {
-
-        Class<?> declaringClass = field.getDeclaringClass();
-        Optional<String> methodName = getMethodName(declaringClass, field);
-
-        return methodName.map(compile(declaringClass, field.getType()))
+        return getSource(field).map(this::compile)
                 .orElseGet(() -> fallback.apply(field));
     }
 
-    private Function<String, FieldWriter> compile(Class<?> declaringClass, Class<?> type) {
-        return method -> {
+    /**
+     * Returns the source code of the {@link FieldWriter} to the field, when it has a public setter and the class is not nested
+     *
+     * @param field the field
+     * @return the source code or {@link Optional#empty()} when the field requires the fallback
+     */
+    Optional<JavaSource<FieldWriter>> getSource(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (declaringClass.getEnclosingClass() != null || field.getType().getCanonicalName() == null) {
+            return Optional.empty();
+        }
+        return getMethodName(declaringClass, field).map(method -> {
             String packageName = declaringClass.getPackage().getName();
             String simpleName = declaringClass.getSimpleName() + "$" + method;
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$" + method;
-            String typeCast = type.getName();
+            String typeCast = field.getType().getCanonicalName();
             String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName,
                     newInstance, method, typeCast);
+            return new FieldWriterJavaSource(name, simpleName, javaSource, declaringClass);
+        });
+    }
 
-            FieldWriterJavaSource source = new FieldWriterJavaSource(name, simpleName, javaSource);
-            Optional<Class<? extends FieldWriter>> reader =  compilerFacade.apply(source);
-            return reader.map(reflections::newInstance).orElse(null);
-        };
+    private FieldWriter compile(JavaSource<FieldWriter> source) {
+        Optional<Class<? extends FieldWriter>> writer = compilerFacade.apply(source);
+        return writer.map(reflections::newInstance).orElse(null);
     }
 
     private Optional<String> getMethodName(Class<?> declaringClass, Field field) {
@@ -97,11 +104,14 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
 
         private final String javaSource;
 
+        private final Class<?> declaringClass;
+
 
-        FieldWriterJavaSource(String name, String simpleName, String javaSource) {
+        FieldWriterJavaSource(String name, String simpleName, String javaSource, Class<?> declaringClass) {
             this.name = name;
             this.simpleName = simpleName;
             this.javaSource = javaSource;
+            this.declaringClass = declaringClass;
         }
 
         @Override
@@ -123,5 +133,10 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
         public Class<FieldWriter> getType() {
             return FieldWriter.class;
         }
+
+        @Override
+        public Optional<Class<?>> getDeclaringClass() {
+            return Optional.of(declaringClass);
+        }
     }
 }
@@ -44,21 +44,34 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
 
     @Override
     public InstanceSupplier apply(Constructor<?> constructor) {
+        Optional<JavaSource<InstanceSupplier>> source = getSource(constructor);
+        if (source.isPresent()) {
+            Optional<Class<? extends InstanceSupplier>> supplier = compilerFacade.apply(source.get());
+            return supplier.map(reflections::newInstance).orElse(null);
+        }
+
+        LOGGER.fine(String.format("The constructor to the class %s is not public or the class is nested, using fallback with Reflectioin",
+                constructor.getDeclaringClass().getName()));
+        return fallback.apply(constructor);
+    }
+
+    /**
+     * Returns the source code of the {@link InstanceSupplier} to the constructor, when it is public and the class is not nested
+     *
+     * @param constructor the constructor
+     * @return the source code or {@link Optional#empty()} when the constructor requires the fallback
+     */
+    Optional<JavaSource<InstanceSupplier>> getSource(Constructor<?> constructor) {
         Class<?> declaringClass = constructor.getDeclaringClass();
-        if (Modifier.isPublic(constructor.getModifiers())) {
+        if (Modifier.isPublic(constructor.getModifiers()) && declaringClass.getEnclosingClass() == null) {
             String packageName = declaringClass.getPackage().getName();
             String simpleName = declaringClass.getSimpleName() + "$InstanceSupplier";
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$InstanceSupplier";
             String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance);
-            InstanceJavaSource source = new InstanceJavaSource(name, simpleName, javaSource);
-            Optional<Class<? extends InstanceSupplier>> supplier = compilerFacade.apply(source);
-            return supplier.map(reflections::newInstance).orElse(null);
+            return Optional.of(new InstanceJavaSource(name, simpleName, javaSource, declaringClass));
         }
-
-        LOGGER.fine(String.format("The constructor to the class %s is not public, using fallback with Reflectioin",
-                declaringClass.getName()));
-        return fallback.apply(constructor);
+        return Optional.empty();
     }
 
     private static final class InstanceJavaSource implements JavaSource<InstanceSupplier> {
@@ -69,11 +82,14 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
 
         private final String javaSource;
 
+        private final Class<?> declaringClass;
+
 
-        InstanceJavaSource(String name, String simpleName, String javaSource) {
+        InstanceJavaSource(String name, String simpleName, String javaSource, Class<?> declaringClass) {
             this.name = name;
             this.simpleName = simpleName;
             this.javaSource = javaSource;
+            this.declaringClass = declaringClass;
         }
 
         @Override
@@ -95,5 +111,10 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
         public Class<InstanceSupplier> getType() {
             return InstanceSupplier.class;
         }
+
+        @Override
+        public Optional<Class<?>> getDeclaringClass() {
+            return Optional.of(declaringClass);
+        }
     }
 }
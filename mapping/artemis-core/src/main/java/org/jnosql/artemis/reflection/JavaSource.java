@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import java.util.Optional;
+
 /**
  * The Java source code to be compiled.
  *
@@ -48,4 +50,14 @@ interface JavaSource<T> {
      * @return the Super class from the source code
      */
     Class<T> getType();
+
+    /**
+     * Returns the class that the source code accesses, its bytecode is part of the key
+     * of the compiled class at the {@link JavaCompilerCache}
+     *
+     * @return the class accessed or {@link Optional#empty()} when the compiled class cannot be cached
+     */
+    default Optional<Class<?>> getDeclaringClass() {
+        return Optional.empty();
+    }
 }
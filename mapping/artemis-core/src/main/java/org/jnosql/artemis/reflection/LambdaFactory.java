@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Creates the functional interfaces of the {@link ClassOperation} from direct method handles
+ * through the {@link LambdaMetafactory}, so the JVM links them as it does to a lambda expression.
+ */
+enum LambdaFactory {
+
+    INSTANCE;
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    /**
+     * Checks if the class is visible from this class loader, the lambda classes are defined
+     * within it, so a class out of it cannot be linked.
+     *
+     * @param type the class
+     * @return true if the class is visible
+     */
+    boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, LambdaFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError exp) {
+            return false;
+        }
+    }
+
+    /**
+     * Unreflects the method with the lookup of this class
+     *
+     * @param method the method
+     * @return the method handle
+     * @throws IllegalAccessException when the method is not accessible
+     */
+    MethodHandle unreflect(Method method) throws IllegalAccessException {
+        return lookup.unreflect(method);
+    }
+
+    /**
+     * Unreflects the constructor with the lookup of this class
+     *
+     * @param constructor the constructor
+     * @return the method handle
+     * @throws IllegalAccessException when the constructor is not accessible
+     */
+    MethodHandle unreflect(Constructor<?> constructor) throws IllegalAccessException {
+        return lookup.unreflectConstructor(constructor);
+    }
+
+    /**
+     * Creates an instance of the functional interface that calls the method handle.
+     *
+     * @param type         the functional interface
+     * @param name         the name of the abstract method
+     * @param erasedType   the erased signature of the abstract method
+     * @param handle       the direct method handle to call
+     * @param concreteType the signature of the abstract method with the types of the method handle
+     * @param <T>          the functional interface type
+     * @return the instance of the functional interface
+     * @throws Throwable when the JVM cannot link the lambda
+     */
+    <T> T create(Class<T> type, String name, MethodType erasedType, MethodHandle handle,
+                 MethodType concreteType) throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(type),
+                erasedType, handle, concreteType);
+        return type.cast(site.getTarget().invoke());
+    }
+}
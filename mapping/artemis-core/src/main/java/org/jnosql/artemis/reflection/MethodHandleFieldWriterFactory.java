@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldWriterFactory} implementation that links the setter accessor of the standard Java convention
+ * with the {@link java.lang.invoke.LambdaMetafactory}, otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldWriterFactory.class.getName());
+
+    private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final FieldWriterFactory fallback;
+
+    MethodHandleFieldWriterFactory(FieldWriterFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        return getMethod(declaringClass, field)
+                .map(this::create)
+                .orElseGet(() -> fallback.apply(field));
+    }
+
+    private FieldWriter create(Method method) {
+        try {
+            MethodHandle handle = LambdaFactory.INSTANCE.unreflect(method);
+            MethodType concreteType = MethodType.methodType(void.class, method.getDeclaringClass(),
+                    MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType());
+            return LambdaFactory.INSTANCE.create(FieldWriter.class, "write", WRITE_TYPE, handle, concreteType);
+        } catch (Throwable exp) {
+            LOGGER.log(Level.FINE, "The setter method " + method + " cannot be linked, using the fallback with reflection", exp);
+            return null;
+        }
+    }
+
+    private Optional<Method> getMethod(Class<?> declaringClass, Field field) {
+        try {
+            Method writeMethod = new PropertyDescriptor(field.getName(), declaringClass).getWriteMethod();
+            if (Modifier.isPublic(writeMethod.getModifiers())
+                    && Modifier.isPublic(writeMethod.getDeclaringClass().getModifiers())
+                    && LambdaFactory.INSTANCE.isVisible(writeMethod.getDeclaringClass())) {
+                return Optional.of(writeMethod);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "A setter method does not exist to the field: "
+                    + field.getName() + " within class " + declaringClass.getName() + " using the fallback with reflection", e);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that links the public constructor
+ * with the {@link java.lang.invoke.LambdaMetafactory}, otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInstanceSupplierFactory.class.getName());
+
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class);
+
+    private final InstanceSupplierFactory fallback;
+
+    MethodHandleInstanceSupplierFactory(InstanceSupplierFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        if (Modifier.isPublic(constructor.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())
+                && LambdaFactory.INSTANCE.isVisible(declaringClass)) {
+            try {
+                MethodHandle handle = LambdaFactory.INSTANCE.unreflect(constructor);
+                return LambdaFactory.INSTANCE.create(InstanceSupplier.class, "get", GET_TYPE, handle,
+                        MethodType.methodType(declaringClass));
+            } catch (Throwable exp) {
+                LOGGER.log(Level.FINE, "The constructor to the class " + declaringClass.getName()
+                        + " cannot be linked, using fallback with reflection", exp);
+            }
+        } else {
+            LOGGER.fine(String.format("The constructor to the class %s is not public, using fallback with reflection",
+                    declaringClass.getName()));
+        }
+        return fallback.apply(constructor);
+    }
+}
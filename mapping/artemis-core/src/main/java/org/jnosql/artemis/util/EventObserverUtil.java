@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.EntityPrePersist;
+
+import javax.enterprise.inject.spi.BeanManager;
+import java.util.Objects;
+
+/**
+ * Utilitarian class to the event persist managers, it checks once, at the boot, if the events have observers,
+ * so the workflows skip the events that nobody listens instead of resolving the observers at each operation.
+ */
+public final class EventObserverUtil {
+
+    /**
+     * The system property that disables the events of the templates, when it is true the workflows neither create
+     * nor fire the persist and query events, whether they have observers or not. The only exception is the
+     * {@link EntityPrePersist} observed by the artemis-validation module, which still validates the entities;
+     * that event then reaches all its observers.
+     */
+    public static final String EVENTS_DISABLED = "jnosql.events.disabled";
+
+    private static final String VALIDATION_OBSERVER = "org.jnosql.artemis.validation.EntityObserver";
+
+    private EventObserverUtil() {
+    }
+
+    /**
+     * Checks if the events are disabled by the {@link EventObserverUtil#EVENTS_DISABLED} system property
+     *
+     * @return true when the events are disabled
+     */
+    public static boolean isDisabled() {
+        return Boolean.getBoolean(EVENTS_DISABLED);
+    }
+
+    /**
+     * Checks if an event has at least one observer, the observers are resolved by the event runtime type,
+     * thus the event instance is just a sample of the kind that will be fired.
+     *
+     * @param beanManager the bean manager
+     * @param event       a sample of the event
+     * @return false when there is not any observer to the event, or when the events are disabled and the event is
+     * not validated
+     * @throws NullPointerException when either beanManager or event is null
+     */
+    public static boolean isObserved(BeanManager beanManager, Object event) {
+        Objects.requireNonNull(beanManager, "beanManager is required");
+        Objects.requireNonNull(event, "event is required");
+        if (isDisabled()) {
+            return event instanceof EntityPrePersist && beanManager.resolveObserverMethods(event).stream()
+                    .anyMatch(o -> VALIDATION_OBSERVER.equals(o.getBeanClass().getName()));
+        }
+        return !beanManager.resolveObserverMethods(event).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Page;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Utilitarian class to the repository methods that receive a {@link Pagination} as their last parameter
+ */
+public final class PaginationUtil {
+
+    private PaginationUtil() {
+    }
+
+    /**
+     * Returns the {@link Pagination} at the last parameter of a repository method
+     *
+     * @param args the method arguments, it might be null
+     * @return the pagination or {@link Optional#empty()} when the last argument is not a pagination
+     */
+    public static Optional<Pagination> getPagination(Object[] args) {
+        if (args == null || args.length == 0) {
+            return Optional.empty();
+        }
+        Object last = args[args.length - 1];
+        if (last instanceof Pagination) {
+            return Optional.of((Pagination) last);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates the {@link Page} of the entities selected with the pagination, the next pagination of
+     * a keyset pagination starts after the value of the keyset field and the id at the last entity
+     *
+     * @param content    the entities
+     * @param pagination the pagination that selected the entities
+     * @param mapping    the class mapping of the entities
+     * @param <T>        the entity type
+     * @return the page
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when the keyset field does not exist or its value is null at the last entity
+     */
+    public static <T> Page<T> toPage(List<T> content, Pagination pagination, ClassMapping mapping) {
+        Objects.requireNonNull(content, "content is required");
+        Objects.requireNonNull(pagination, "pagination is required");
+        Objects.requireNonNull(mapping, "mapping is required");
+        if (content.isEmpty()) {
+            return Page.of(content, pagination, pagination);
+        }
+        T last = content.get(content.size() - 1);
+        Object lastValue = pagination.getKeyset()
+                .map(sort -> getFieldMapping(mapping, sort.getName()).read(last))
+                .orElse(null);
+        if (pagination.getKeyset().isPresent() && lastValue == null) {
+            throw new DynamicQueryException("The keyset field cannot be null at the last entity of the page: "
+                    + pagination.getKeyset().get().getName());
+        }
+        Object lastId = pagination.getKeyset()
+                .flatMap(sort -> getTieBreaker(mapping, sort.getName()))
+                .map(id -> id.read(last))
+                .orElse(null);
+        Pagination next = lastId == null ? pagination.next(lastValue) : pagination.next(lastValue, lastId);
+        return Page.of(content, pagination, next);
+    }
+
+    /**
+     * Returns the id field that tells apart the entities with the same value of the keyset field
+     *
+     * @param mapping the class mapping
+     * @param name    the java name of the keyset field
+     * @return the id field or {@link Optional#empty()} when the entity has no id or the keyset field is the id
+     */
+    public static Optional<FieldMapping> getTieBreaker(ClassMapping mapping, String name) {
+        return mapping.getId().filter(id -> !id.getFieldName().equals(name));
+    }
+
+    /**
+     * Returns the {@link FieldMapping} of the keyset field
+     *
+     * @param mapping the class mapping
+     * @param name    the java field name
+     * @return the field mapping
+     * @throws DynamicQueryException when the field does not exist
+     */
+    public static FieldMapping getFieldMapping(ClassMapping mapping, String name) {
+        return mapping.getFieldMapping(name).orElseThrow(() ->
+                new DynamicQueryException(String.format("The keyset field %s does not exist in the entity %s",
+                        name, mapping.getClassInstance())));
+    }
+}
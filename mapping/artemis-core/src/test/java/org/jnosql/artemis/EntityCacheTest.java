@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityCacheTest {
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> EntityCache.of(10, null));
+        Assertions.assertThrows(NullPointerException.class, () -> EntityCache.of(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EntityCache.of(0, Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EntityCache.of(10, Duration.ofSeconds(-1L)));
+        EntityCache<String> cache = EntityCache.of(10, Duration.ZERO);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null, id -> Optional.of("Ada")));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get("id", null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.invalidate(null));
+    }
+
+    @Test
+    public void shouldCacheValue() {
+        AtomicInteger counter = new AtomicInteger();
+        EntityCache<String> cache = EntityCache.of(10, Duration.ZERO);
+        assertEquals(Optional.of("Ada"), cache.get(1L, id -> load(counter, "Ada")));
+        assertEquals(Optional.of("Ada"), cache.get(1L, id -> load(counter, "Ada")));
+        assertEquals(1, counter.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheAbsentValue() {
+        AtomicInteger counter = new AtomicInteger();
+        EntityCache<String> cache = EntityCache.of(10, Duration.ZERO);
+        assertFalse(cache.get(1L, id -> load(counter, null)).isPresent());
+        assertFalse(cache.get(1L, id -> load(counter, null)).isPresent());
+        assertEquals(2, counter.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldExpireValue() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        EntityCache<String> cache = EntityCache.of(10, Duration.ofMillis(1L));
+        cache.get(1L, id -> load(counter, "Ada"));
+        Thread.sleep(10L);
+        cache.get(1L, id -> load(counter, "Ada"));
+        assertEquals(2, counter.get());
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldRespectCapacity() {
+        EntityCache<String> cache = EntityCache.of(10, Duration.ZERO);
+        IntStream.range(0, 100).forEach(i -> cache.get(i, id -> Optional.of(id.toString())));
+        assertTrue(cache.size() <= 10);
+        assertEquals(90L, cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldInvalidate() {
+        AtomicInteger counter = new AtomicInteger();
+        EntityCache<String> cache = EntityCache.of(10, Duration.ZERO);
+        cache.get(1L, id -> load(counter, "Ada"));
+        cache.get(2L, id -> load(counter, "Grace"));
+        cache.invalidate(1L);
+        assertEquals(1, cache.size());
+        cache.get(1L, id -> load(counter, "Ada"));
+        assertEquals(3, counter.get());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheValueLoadedDuringInvalidation() {
+        EntityCache<String> cache = EntityCache.of(10, Duration.ZERO);
+        Optional<String> value = cache.get(1L, id -> {
+            cache.invalidate(id);
+            return Optional.of("Ada");
+        });
+        assertEquals(Optional.of("Ada"), value);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldCreateFromCacheable() {
+        EntityCache<String> cache = EntityCache.of(Country.class.getAnnotation(Cacheable.class));
+        assertEquals(5, cache.getCapacity());
+        assertEquals(Duration.ofMinutes(2L), cache.getTtl());
+    }
+
+    @Test
+    public void shouldExpireByDefault() {
+        EntityCache<String> cache = EntityCache.of(DefaultCountry.class.getAnnotation(Cacheable.class));
+        assertEquals(1_000, cache.getCapacity());
+        assertEquals(Duration.ofMinutes(1L), cache.getTtl());
+    }
+
+    private static Optional<String> load(AtomicInteger counter, String value) {
+        counter.incrementAndGet();
+        return Optional.ofNullable(value);
+    }
+
+    @Cacheable(size = 5, ttl = 2L, unit = TimeUnit.MINUTES)
+    private static class Country {
+    }
+
+    @Cacheable
+    private static class DefaultCountry {
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.diana.api.Sort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PaginationTest {
+
+    @Test
+    public void shouldCreateOffsetPagination() {
+        Pagination pagination = Pagination.of(10, 5);
+        assertEquals(10L, pagination.getSkip());
+        assertEquals(5L, pagination.getLimit());
+        assertFalse(pagination.getKeyset().isPresent());
+        assertEquals(Pagination.of(10, 5), pagination);
+        assertEquals(Pagination.of(15, 5), pagination.next(null));
+    }
+
+    @Test
+    public void shouldCreateKeysetPagination() {
+        Sort sort = Sort.of("name", Sort.SortType.ASC);
+        Pagination pagination = Pagination.keyset(sort, 10);
+        assertEquals(0L, pagination.getSkip());
+        assertEquals(10L, pagination.getLimit());
+        assertEquals(Optional.of(sort), pagination.getKeyset());
+        assertFalse(pagination.getLastValue().isPresent());
+
+        Pagination next = pagination.next("Ada");
+        assertEquals(Optional.of("Ada"), next.getLastValue());
+        assertEquals(Pagination.keyset(sort, "Ada", 10), next);
+        assertNotEquals(Pagination.of(0, 10), next);
+    }
+
+    @Test
+    public void shouldCreateKeysetPaginationWithLastId() {
+        Sort sort = Sort.of("name", Sort.SortType.ASC);
+        Pagination pagination = Pagination.keyset(sort, 10);
+        assertFalse(pagination.getLastId().isPresent());
+
+        Pagination next = pagination.next("Ada", 12L);
+        assertEquals(Optional.of("Ada"), next.getLastValue());
+        assertEquals(Optional.of(12L), next.getLastId());
+        assertEquals(Pagination.keyset(sort, "Ada", 12L, 10), next);
+        assertNotEquals(Pagination.keyset(sort, "Ada", 10), next);
+        assertFalse(next.next("Ada").getLastId().isPresent());
+        assertEquals(Pagination.of(10, 10), Pagination.of(0, 10).next("Ada", 12L));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetIsInvalid() {
+        Sort sort = Sort.of("name", Sort.SortType.ASC);
+        Assertions.assertThrows(NullPointerException.class, () -> Pagination.keyset(null, 10));
+        Assertions.assertThrows(NullPointerException.class, () -> Pagination.keyset(sort, null, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Pagination.keyset(sort, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> Pagination.keyset(sort, 10).next(null));
+        Assertions.assertThrows(NullPointerException.class, () -> Pagination.keyset(sort, "Ada", null, 10));
+        Assertions.assertThrows(NullPointerException.class, () -> Pagination.keyset(sort, 10).next("Ada", null));
+    }
+
+    @Test
+    public void shouldCreatePage() {
+        Page<String> page = Page.of(singletonList("Ada"), Pagination.of(0, 1), Pagination.of(1, 1));
+        assertTrue(page.hasContent());
+        assertEquals(singletonList("Ada"), page.getContent());
+        assertEquals(1L, page.stream().count());
+        assertEquals(Pagination.of(0, 1), page.getPagination());
+        assertEquals(Pagination.of(1, 1), page.next());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> page.getContent().add("Poliana"));
+    }
+}
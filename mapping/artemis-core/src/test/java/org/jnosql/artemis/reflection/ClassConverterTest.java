@@ -27,7 +27,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -54,6 +56,19 @@ public class ClassConverterTest {
 
     }
 
+    @Test
+    public void shouldCreateClassMappings() {
+        Map<Class<?>, ClassMapping> mappings = classConverter.create(Arrays.asList(Person.class, Actor.class,
+                Director.class, Person.class));
+
+        assertEquals(3, mappings.size());
+        assertEquals("Person", mappings.get(Person.class).getName());
+        assertEquals("Actor", mappings.get(Actor.class).getName());
+        assertEquals(Director.class, mappings.get(Director.class).getClassInstance());
+        assertThat(mappings.get(Actor.class).getFieldsName(),
+                containsInAnyOrder("_id", "name", "age", "phones", "movieCharacter", "movieRating"));
+    }
+
     @Test
     public void shouldCreateClassMapping2() {
         ClassMapping classMapping = classConverter.create(Actor.class);
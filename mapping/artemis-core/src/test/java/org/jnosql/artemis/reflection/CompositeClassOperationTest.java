@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+class CompositeClassOperationTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final ClassOperation fallback = new ReflectionClassOperation(reflections);
+
+    @Test
+    public void shouldUseOperationFirst() throws NoSuchFieldException {
+        FieldReader reader = bean -> "generated";
+        ClassOperation operation = new CompositeClassOperation(Collections.singletonList(new EmptyClassOperation() {
+            @Override
+            public FieldReaderFactory getFieldReaderFactory() {
+                return f -> reader;
+            }
+        }), fallback);
+
+        Field bar = Foo.class.getDeclaredField("bar");
+        Assertions.assertSame(reader, operation.getFieldReaderFactory().apply(bar));
+    }
+
+    @Test
+    public void shouldUseFallbackWhenOperationReturnsNull() throws NoSuchFieldException, NoSuchMethodException {
+        ClassOperation operation = new CompositeClassOperation(Collections.singletonList(new EmptyClassOperation()),
+                fallback);
+
+        Foo foo = new Foo();
+        Field bar = Foo.class.getDeclaredField("bar");
+        reflections.makeAccessible(bar);
+        operation.getFieldWriterFactory().apply(bar).write(foo, "bar");
+        Assertions.assertEquals("bar", operation.getFieldReaderFactory().apply(bar).read(foo));
+        Object instance = operation.getInstanceSupplierFactory().apply(Foo.class.getConstructor()).get();
+        Assertions.assertTrue(instance instanceof Foo);
+    }
+
+    private static class EmptyClassOperation implements ClassOperation {
+
+        @Override
+        public InstanceSupplierFactory getInstanceSupplierFactory() {
+            return c -> null;
+        }
+
+        @Override
+        public FieldWriterFactory getFieldWriterFactory() {
+            return f -> null;
+        }
+
+        @Override
+        public FieldReaderFactory getFieldReaderFactory() {
+            return f -> null;
+        }
+    }
+}
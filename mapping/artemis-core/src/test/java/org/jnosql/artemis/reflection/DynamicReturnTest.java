@@ -15,6 +15,8 @@
 package org.jnosql.artemis.reflection;
 
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Page;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.junit.jupiter.api.Assertions;
@@ -221,6 +223,53 @@ class DynamicReturnTest {
         Assertions.assertEquals(new Person("Ada"), persons.iterator().next());
     }
 
+    @Test
+    public void shouldReturnLazyStream() throws NoSuchMethodException {
+
+        Method method = getMethod(PersonRepository.class, "getStream");
+        Supplier<List<?>> list = () -> {
+            throw new IllegalStateException("The list should not be loaded");
+        };
+        Supplier<Optional<?>> singlResult = DynamicReturn.toSingleResult(method).apply(list);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withMethodSource(method).withList(list)
+                .withStream(() -> Stream.of(new Person("Ada")))
+                .withSingleResult(singlResult).build();
+        Object execute = dynamicReturn.execute();
+        Assertions.assertTrue(execute instanceof Stream);
+        Stream<Person> persons = (Stream) execute;
+        Assertions.assertEquals(new Person("Ada"), persons.iterator().next());
+    }
+
+    @Test
+    public void shouldReturnPage() throws NoSuchMethodException {
+
+        Method method = getMethod(PersonRepository.class, "getPage");
+        Supplier<List<?>> list = () -> singletonList(new Person("Ada"));
+        Supplier<Optional<?>> singlResult = DynamicReturn.toSingleResult(method).apply(list);
+        Page<Person> page = Page.of(singletonList(new Person("Ada")), Pagination.of(0, 1), Pagination.of(1, 1));
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withMethodSource(method).withList(list)
+                .withPage(() -> page)
+                .withSingleResult(singlResult).build();
+        Assertions.assertEquals(page, dynamicReturn.execute());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNotPage() throws NoSuchMethodException {
+
+        Method method = getMethod(PersonRepository.class, "getPage");
+        Supplier<List<?>> list = () -> singletonList(new Person("Ada"));
+        Supplier<Optional<?>> singlResult = DynamicReturn.toSingleResult(method).apply(list);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withMethodSource(method).withList(list)
+                .withSingleResult(singlResult).build();
+        Assertions.assertThrows(DynamicQueryException.class, dynamicReturn::execute);
+    }
+
     @Test
     public void shouldReturnSortedSet() throws NoSuchMethodException {
 
@@ -365,6 +414,8 @@ class DynamicReturnTest {
         NavigableSet<Person> getNavigableSet();
 
         Deque<Person> getDeque();
+
+        Page<Person> getPage();
     }
 
 
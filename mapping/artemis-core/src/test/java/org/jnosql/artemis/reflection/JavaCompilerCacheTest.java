@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JavaCompilerCacheTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        Assertions.assertFalse(JavaCompilerCache.of().isEnabled());
+    }
+
+    @Test
+    public void shouldStoreCompiledClass(@TempDir Path directory) throws Exception {
+        JavaCompilerCache cache = JavaCompilerCache.of(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClassLoader(), cache));
+
+        FieldReader reader = compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        List<Path> files = list(directory);
+        Assertions.assertEquals(1, files.size());
+        Assertions.assertTrue(files.get(0).getFileName().toString().startsWith(source.getName() + '-'));
+        Assertions.assertArrayEquals(Files.readAllBytes(files.get(0)), cache.get(source).get());
+
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        Assertions.assertEquals("bar", reader.read(foo));
+    }
+
+    @Test
+    public void shouldLoadCachedClass(@TempDir Path directory) throws Exception {
+        JavaCompilerCache cache = JavaCompilerCache.of(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClassLoader(), cache));
+        compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        Path file = list(directory).get(0);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+
+        FieldReader reader = compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        Foo foo = new Foo();
+        foo.setBar("cached");
+        Assertions.assertEquals("cached", reader.read(foo));
+        Assertions.assertEquals(modified, Files.getLastModifiedTime(file).toMillis());
+        Assertions.assertEquals(1, list(directory).size());
+    }
+
+    @Test
+    public void shouldCompileWhenCachedClassIsInvalid(@TempDir Path directory) throws Exception {
+        JavaCompilerCache cache = JavaCompilerCache.of(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClassLoader(), cache));
+        compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        Files.write(list(directory).get(0), new byte[]{1, 2, 3});
+
+        FieldReader reader = compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        Assertions.assertEquals("bar", reader.read(foo));
+    }
+
+    @Test
+    public void shouldReplaceStaleClass(@TempDir Path directory) throws Exception {
+        JavaCompilerCache cache = JavaCompilerCache.of(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClassLoader(), cache));
+        Path stale = directory.resolve(source.getName() + "-stale.class");
+        Files.write(stale, new byte[]{1, 2, 3});
+
+        compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        List<Path> files = list(directory);
+        Assertions.assertEquals(1, files.size());
+        Assertions.assertNotEquals(stale, files.get(0));
+    }
+
+    @Test
+    public void shouldBeDisabledWhenDirectoryIsWritableByOthers(@TempDir Path directory) throws Exception {
+        assumePosix(directory);
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        Assertions.assertFalse(JavaCompilerCache.of(directory).isEnabled());
+    }
+
+    @Test
+    public void shouldIgnoreCachedClassWritableByOthers(@TempDir Path directory) throws Exception {
+        assumePosix(directory);
+        JavaCompilerCache cache = JavaCompilerCache.of(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClassLoader(), cache));
+        compile(new JavaCompilerFacade(getClassLoader(), cache), source);
+        Assertions.assertTrue(cache.get(source).isPresent());
+
+        Files.setPosixFilePermissions(list(directory).get(0), PosixFilePermissions.fromString("rw-rw-rw-"));
+        Assertions.assertFalse(cache.get(source).isPresent());
+    }
+
+    private static void assumePosix(Path directory) {
+        Assumptions.assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null);
+    }
+
+    private JavaSource<FieldReader> getSource(JavaCompilerFacade compilerFacade) throws NoSuchFieldException {
+        JavaCompilerFieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections,
+                new ReflectionFieldReaderFactory(reflections));
+        Field field = Foo.class.getDeclaredField("bar");
+        return factory.getSource(field).get();
+    }
+
+    private FieldReader compile(JavaCompilerFacade compilerFacade, JavaSource<FieldReader> source) {
+        Class<? extends FieldReader> readerClass = compilerFacade.apply(source).get();
+        Assertions.assertNotEquals(getClassLoader(), readerClass.getClassLoader());
+        return reflections.newInstance(readerClass);
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static ClassLoader getClassLoader() {
+        return JavaCompilerCacheTest.class.getClassLoader();
+    }
+}
@@ -17,6 +17,8 @@ package org.jnosql.artemis.reflection;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 public class JavaCompilerFacadeTest {
@@ -31,4 +33,27 @@ public class JavaCompilerFacadeTest {
         Object bar = propertyReader.apply(foo);
         Assertions.assertEquals("bar", bar);
     }
+
+    @Test
+    public void shouldCompileSourcesAtOnce() throws NoSuchFieldException {
+        JavaCompilerFacade compilerFacade = new JavaCompilerFacade(JavaCompilerFacadeTest.class.getClassLoader());
+        Reflections reflections = new DefaultReflections();
+        JavaCompilerFieldReaderFactory readerFactory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections,
+                new ReflectionFieldReaderFactory(reflections));
+        JavaCompilerFieldWriterFactory writerFactory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections,
+                new ReflectionFieldWriterFactory(reflections));
+        Field field = Foo.class.getDeclaredField("bar");
+
+        JavaSource<FieldReader> readerSource = readerFactory.getSource(field).get();
+        JavaSource<FieldWriter> writerSource = writerFactory.getSource(field).get();
+        compilerFacade.applyAll(Arrays.asList(readerSource, writerSource, readerSource));
+
+        Class<? extends FieldReader> readerClass = compilerFacade.apply(readerSource).get();
+        Assertions.assertSame(readerClass, compilerFacade.apply(readerSource).get());
+        Assertions.assertTrue(compilerFacade.apply(writerSource).isPresent());
+
+        Foo foo = new Foo();
+        writerFactory.apply(field).write(foo, "bar");
+        Assertions.assertEquals("bar", readerFactory.apply(field).read(foo));
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.EntityPostPersit;
+import org.jnosql.artemis.EntityPrePersist;
+import org.jnosql.artemis.validation.EntityObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EventObserverUtilTest {
+
+    @AfterEach
+    public void after() {
+        System.clearProperty(EventObserverUtil.EVENTS_DISABLED);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        Assertions.assertThrows(NullPointerException.class, () -> EventObserverUtil.isObserved(null, "event"));
+        Assertions.assertThrows(NullPointerException.class, () -> EventObserverUtil.isObserved(beanManager, null));
+    }
+
+    @Test
+    public void shouldReturnFalseWhenThereIsNotObserver() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        when(beanManager.resolveObserverMethods(any())).thenReturn(Collections.emptySet());
+        assertFalse(EventObserverUtil.isObserved(beanManager, EntityPrePersist.of("entity")));
+    }
+
+    @Test
+    public void shouldReturnTrueWhenThereIsObserver() {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        ObserverMethod<Object> observer = Mockito.mock(ObserverMethod.class);
+        when(beanManager.resolveObserverMethods(any())).thenReturn(Collections.singleton(observer));
+        assertTrue(EventObserverUtil.isObserved(beanManager, EntityPrePersist.of("entity")));
+    }
+
+    @Test
+    public void shouldNotResolveWhenEventsAreDisabled() {
+        System.setProperty(EventObserverUtil.EVENTS_DISABLED, "true");
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        assertTrue(EventObserverUtil.isDisabled());
+        assertFalse(EventObserverUtil.isObserved(beanManager, EntityPostPersit.of("entity")));
+        verify(beanManager, never()).resolveObserverMethods(any());
+    }
+
+    @Test
+    public void shouldNotObservePrePersistWhenEventsAreDisabled() {
+        System.setProperty(EventObserverUtil.EVENTS_DISABLED, "true");
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        ObserverMethod<Object> observer = Mockito.mock(ObserverMethod.class);
+        when(observer.getBeanClass()).thenReturn((Class) EventObserverUtilTest.class);
+        when(beanManager.resolveObserverMethods(any())).thenReturn(Collections.singleton(observer));
+        assertFalse(EventObserverUtil.isObserved(beanManager, EntityPrePersist.of("entity")));
+    }
+
+    @Test
+    public void shouldKeepTheValidationWhenEventsAreDisabled() {
+        System.setProperty(EventObserverUtil.EVENTS_DISABLED, "true");
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        ObserverMethod<Object> observer = Mockito.mock(ObserverMethod.class);
+        when(observer.getBeanClass()).thenReturn((Class) EntityObserver.class);
+        when(beanManager.resolveObserverMethods(any())).thenReturn(Collections.singleton(observer));
+        assertTrue(EventObserverUtil.isObserved(beanManager, EntityPrePersist.of("entity")));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Page;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.Sort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(CDIExtension.class)
+public class PaginationUtilTest {
+
+    @Inject
+    private ClassMappings mappings;
+
+    @Test
+    public void shouldFindPaginationAtLastArgument() {
+        Pagination pagination = Pagination.of(0, 10);
+        assertEquals(Optional.of(pagination), PaginationUtil.getPagination(new Object[]{"Ada", pagination}));
+        assertFalse(PaginationUtil.getPagination(new Object[]{pagination, "Ada"}).isPresent());
+        assertFalse(PaginationUtil.getPagination(new Object[0]).isPresent());
+        assertFalse(PaginationUtil.getPagination(null).isPresent());
+    }
+
+    @Test
+    public void shouldCreatePageWithOffset() {
+        ClassMapping mapping = mappings.get(Person.class);
+        Pagination pagination = Pagination.of(0, 2);
+        Page<Person> page = PaginationUtil.toPage(asList(person(1L), person(2L)), pagination, mapping);
+        assertEquals(Pagination.of(2, 2), page.next());
+    }
+
+    @Test
+    public void shouldCreatePageWithKeyset() {
+        ClassMapping mapping = mappings.get(Person.class);
+        Sort sort = Sort.of("id", Sort.SortType.DESC);
+        Page<Person> page = PaginationUtil.toPage(asList(person(9L), person(7L)), Pagination.keyset(sort, 2),
+                mapping);
+        assertEquals(Pagination.keyset(sort, 7L, 2), page.next());
+    }
+
+    @Test
+    public void shouldCreatePageWithKeysetAndLastId() {
+        ClassMapping mapping = mappings.get(Person.class);
+        Sort sort = Sort.of("name", Sort.SortType.ASC);
+        Page<Person> page = PaginationUtil.toPage(asList(person(9L), person(7L)), Pagination.keyset(sort, 2),
+                mapping);
+        assertEquals(Pagination.keyset(sort, "Ada", 7L, 2), page.next());
+    }
+
+    @Test
+    public void shouldKeepPaginationWhenPageIsEmpty() {
+        ClassMapping mapping = mappings.get(Person.class);
+        Pagination pagination = Pagination.keyset(Sort.of("id", Sort.SortType.ASC), 2);
+        assertEquals(pagination, PaginationUtil.toPage(emptyList(), pagination, mapping).next());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetFieldDoesNotExist() {
+        ClassMapping mapping = mappings.get(Person.class);
+        Pagination pagination = Pagination.keyset(Sort.of("unknown", Sort.SortType.ASC), 2);
+        Assertions.assertThrows(DynamicQueryException.class,
+                () -> PaginationUtil.toPage(asList(person(1L)), pagination, mapping));
+    }
+
+    private static Person person(long id) {
+        return Person.builder().withId(id).withName("Ada").build();
+    }
+}
@@ -14,8 +14,11 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -33,61 +36,53 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     @Override
     public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        DocumentEventPersistManager eventManager = getDocumentEventPersistManager();
+        if (eventManager.skipsPersistEvents()) {
+            return getConverter().toEntity(entity, action.apply(getConverter().toDocument(entity)));
+        }
+
+        eventManager.firePreEntity(entity);
+        eventManager.firePreDocumentEntity(entity);
+        DocumentEntity document = getConverter().toDocument(entity);
+        eventManager.firePreDocument(document);
+        DocumentEntity written = action.apply(document);
+        eventManager.firePostDocument(written);
+        T result = getConverter().toEntity(entity, written);
+        eventManager.firePostEntity(result);
+        eventManager.firePostDocumentEntity(result);
+        return result;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getDocumentEventPersistManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreDocumentEntity = t -> {
-            getDocumentEventPersistManager().firePreDocumentEntity(t);
-            return t;
-        };
-
-
-        Function<T, DocumentEntity> converterDocument = t -> getConverter().toDocument(t);
-
-        UnaryOperator<DocumentEntity> firePreDocument = t -> {
-            getDocumentEventPersistManager().firePreDocument(t);
-            return t;
-        };
-
-        UnaryOperator<DocumentEntity> firePostDocument = t -> {
-            getDocumentEventPersistManager().firePostDocument(t);
-            return t;
-        };
-
-        Function<DocumentEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getDocumentEventPersistManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostDocumentEntity = t -> {
-            getDocumentEventPersistManager().firePostDocumentEntity(t);
-            return t;
-        };
-
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreDocumentEntity)
-                .andThen(converterDocument)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostDocumentEntity);
+    @Override
+    public <T> BulkWriteResult<T> flow(List<T> entities, boolean ordered,
+                                       Function<List<DocumentEntity>, BulkWriteResult<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        DocumentEventPersistManager eventManager = getDocumentEventPersistManager();
+        List<DocumentEntity> batch = new ArrayList<>(entities.size());
+        if (eventManager.skipsPersistEvents()) {
+            for (T entity : entities) {
+                batch.add(getConverter().toDocument(Objects.requireNonNull(entity, "entity is required")));
+            }
+            return action.apply(batch).map(entities, (entity, written) -> getConverter().toEntity(entity, written));
+        }
+
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            eventManager.firePreEntity(entity);
+            eventManager.firePreDocumentEntity(entity);
+            DocumentEntity converted = getConverter().toDocument(entity);
+            eventManager.firePreDocument(converted);
+            batch.add(converted);
+        }
+
+        return action.apply(batch).map(entities, (entity, written) -> {
+            eventManager.firePostDocument(written);
+            T result = getConverter().toEntity(entity, written);
+            eventManager.firePostEntity(result);
+            eventManager.firePostDocumentEntity(result);
+            return result;
+        });
     }
-}
\ No newline at end of file
+}
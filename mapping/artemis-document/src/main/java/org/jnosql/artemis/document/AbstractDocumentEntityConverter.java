@@ -14,23 +14,22 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
+import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -47,20 +46,27 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final Map<ClassMapping, FieldReaderPlan[]> readerPlans = new ConcurrentHashMap<>();
+
+    private final Map<ClassMapping, FieldWriterPlan[]> writerPlans = new ConcurrentHashMap<>();
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
         DocumentEntity entity = DocumentEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
+        writeFields(entityInstance, mapping, entity);
         return entity;
+    }
 
+    private void writeFields(Object instance, ClassMapping mapping, DocumentEntity entity) {
+        for (FieldWriterPlan plan : getWriterPlans(mapping)) {
+            Object value = plan.field.read(instance);
+            if (value != null) {
+                plan.write(value, entity, this);
+            }
+        }
     }
 
     @Override
@@ -79,6 +85,11 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
         return convertEntity(entity.getDocuments(), mapping, entityInstance);
     }
 
+    protected DocumentFieldValue to(FieldMapping field, Object entityInstance) {
+        Object value = field.read(entityInstance);
+        return DefaultDocumentFieldValue.of(value, field);
+    }
+
     protected <T> T toEntity(Class<T> entityClass, List<Document> documents) {
         ClassMapping mapping = getClassMappings().get(entityClass);
         T instance = mapping.newInstance();
@@ -96,35 +107,144 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
     }
 
     private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
-
+        final Map<String, Document> documentsByName = new HashMap<>(documents.size() * 2);
+        for (Document document : documents) {
+            documentsByName.putIfAbsent(document.getName(), document);
+        }
+
+        for (FieldReaderPlan plan : getReaderPlans(mapping)) {
+            plan.read(instance, documents, documentsByName.get(plan.name), this);
+        }
         return instance;
     }
 
+    /**
+     * Returns a consumer that reads the field whose name it receives from the documents to the instance.
+     *
+     * @deprecated the fields are read through a plan resolved once per {@link ClassMapping},
+     * this method is kept to the subclasses and will be removed in a next version
+     */
+    @Deprecated
     protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
         return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
-
             FieldMapping field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field, this);
+            Document document = documents.stream().filter(c -> c.getName().equals(k)).findFirst().orElse(null);
+            new FieldReaderPlan(field, converterFactory.get(field)).read(instance, documents, document, this);
         };
     }
 
+    private FieldReaderPlan[] getReaderPlans(ClassMapping mapping) {
+        FieldReaderPlan[] plans = readerPlans.get(mapping);
+        if (plans == null) {
+            plans = readerPlans.computeIfAbsent(mapping, m -> m.getFields().stream()
+                    .map(f -> new FieldReaderPlan(f, converterFactory.get(f)))
+                    .toArray(FieldReaderPlan[]::new));
+        }
+        return plans;
+    }
 
-    private DocumentFieldValue to(FieldMapping field, Object entityInstance) {
-        Object value = field.read(entityInstance);
-        return DefaultDocumentFieldValue.of(value, field);
+    private FieldWriterPlan[] getWriterPlans(ClassMapping mapping) {
+        FieldWriterPlan[] plans = writerPlans.get(mapping);
+        if (plans == null) {
+            plans = writerPlans.computeIfAbsent(mapping, m -> m.getFields().stream()
+                    .map(f -> new FieldWriterPlan(f, getConverters()))
+                    .toArray(FieldWriterPlan[]::new));
+        }
+        return plans;
+    }
+
+    /**
+     * A field of the entity resolved once per {@link ClassMapping}: its document name, the converter
+     * and whether it is read from the whole document list instead of a single document.
+     */
+    private static final class FieldReaderPlan {
+
+        private final String name;
+
+        private final FieldMapping field;
+
+        private final DocumentFieldConverter converter;
+
+        private final boolean elementType;
+
+        private FieldReaderPlan(FieldMapping field, DocumentFieldConverter converter) {
+            this.name = field.getName();
+            this.field = field;
+            this.converter = converter;
+            this.elementType = EMBEDDED.equals(field.getType()) || SUBENTITY.equals(field.getType());
+        }
+
+        private <T> void read(T instance, List<Document> documents, Document document, AbstractDocumentEntityConverter entityConverter) {
+            if (document != null || elementType) {
+                converter.convert(instance, documents, document, field, entityConverter);
+            }
+        }
+    }
+
+    /**
+     * A field of the entity resolved once per {@link ClassMapping} to write it as document: how the value
+     * is written and, when the field has one, the {@link AttributeConverter} instance.
+     */
+    private static final class FieldWriterPlan {
+
+        private final String name;
+
+        private final FieldMapping field;
+
+        private final WriterType type;
+
+        private final AttributeConverter<Object, Object> attributeConverter;
+
+        @SuppressWarnings("unchecked")
+        private FieldWriterPlan(FieldMapping field, Converters converters) {
+            this.name = field.getName();
+            this.field = field;
+            this.type = WriterType.of(field);
+            this.attributeConverter = field.getConverter()
+                    .map(c -> (AttributeConverter<Object, Object>) converters.get(c))
+                    .orElse(null);
+        }
+
+        private void write(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter) {
+            switch (type) {
+                case EMBEDDED:
+                    converter.writeFields(value, converter.getClassMappings().get(value.getClass()), entity);
+                    return;
+                case SUBENTITY:
+                    entity.add(Document.of(name, converter.toDocument(value).getDocuments()));
+                    return;
+                case EMBEDDABLE_COLLECTION:
+                    List<List<Document>> documents = new ArrayList<>();
+                    for (Object element : (Iterable<?>) value) {
+                        documents.add(converter.toDocument(element).getDocuments());
+                    }
+                    entity.add(Document.of(name, documents));
+                    return;
+                default:
+                    if (attributeConverter == null) {
+                        entity.add(Document.of(name, value));
+                    } else {
+                        entity.add(Document.of(name, attributeConverter.convertToDatabaseColumn(value)));
+                    }
+            }
+        }
+    }
+
+    private enum WriterType {
+        EMBEDDED, SUBENTITY, EMBEDDABLE_COLLECTION, DEFAULT;
+
+        private static WriterType of(FieldMapping field) {
+            switch (field.getType()) {
+                case EMBEDDED:
+                    return EMBEDDED;
+                case SUBENTITY:
+                    return SUBENTITY;
+                case COLLECTION:
+                    return ((GenericFieldMapping) field).isEmbeddable() ? EMBEDDABLE_COLLECTION : DEFAULT;
+                default:
+                    return DEFAULT;
+            }
+        }
     }
 
 
@@ -15,13 +15,18 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.Cacheable;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.EntityCache;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.BulkWriteException;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
@@ -32,12 +37,17 @@ import org.jnosql.diana.api.document.DocumentQueryParser;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -48,9 +58,21 @@ import static java.util.stream.Collectors.toList;
  */
 public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
+    /**
+     * The system property to define the fetch size of {@link AbstractDocumentTemplate#selectStream(DocumentQuery)}
+     */
+    public static final String FETCH_SIZE = "jnosql.document.fetch.size";
+
+    /**
+     * The default fetch size when the system property is not defined
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1_000;
+
 
     private static final DocumentQueryParser PARSER = DocumentQueryParser.getParser();
 
+    private static final int DEFAULT_CAPACITY = 1_000;
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentCollectionManager getManager();
@@ -69,6 +91,8 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     private DocumentObserverParser columnQueryParser;
 
+    private final Map<String, Optional<EntityCache<DocumentEntity>>> caches = new ConcurrentHashMap<>();
+
 
     private DocumentObserverParser getObserver() {
         if (Objects.isNull(columnQueryParser)) {
@@ -81,7 +105,7 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     @Override
     public <T> T insert(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, insert);
+        return invalidate(getWorkflow().flow(entity, insert));
     }
 
 
@@ -89,14 +113,88 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     public <T> T insert(T entity, Duration ttl) {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return getWorkflow().flow(entity, e -> getManager().insert(e, ttl));
+        return invalidate(getWorkflow().flow(entity, e -> getManager().insert(e, ttl)));
     }
 
 
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, update);
+        return invalidate(getWorkflow().flow(entity, update));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        if (getManager().supportsBulkWrite()) {
+            return getEntities(bulkInsert(entities, BulkWriteOptions.defaults()));
+        }
+        return DocumentTemplate.super.insert(entities);
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        if (getManager().supportsBulkWrite()) {
+            return getEntities(bulkInsert(entities, BulkWriteOptions.builder().withTtl(ttl).build()));
+        }
+        return DocumentTemplate.super.insert(entities, ttl);
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        if (getManager().supportsBulkWrite()) {
+            return getEntities(bulkUpdate(entities, BulkWriteOptions.defaults()));
+        }
+        return DocumentTemplate.super.update(entities);
+    }
+
+    @Override
+    public <T> BulkWriteResult<T> bulkInsert(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return bulk(entities, options, b -> getManager().bulkInsert(b, options));
+    }
+
+    @Override
+    public <T> BulkWriteResult<T> bulkUpdate(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return bulk(entities, options, b -> getManager().bulkUpdate(b, options));
+    }
+
+    private <T> BulkWriteResult<T> bulk(Iterable<T> entities, BulkWriteOptions options,
+                                        Function<List<DocumentEntity>, BulkWriteResult<DocumentEntity>> action) {
+        List<T> written = new ArrayList<>();
+        List<BulkWriteResult.Failure<T>> failures = new ArrayList<>();
+        List<T> batch = new ArrayList<>(Math.min(options.getBatchSize(), DEFAULT_CAPACITY));
+        int offset = 0;
+        Iterator<T> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == options.getBatchSize() || !iterator.hasNext()) {
+                BulkWriteResult<T> result = getWorkflow().flow(batch, options.isOrdered(), action).shift(offset);
+                batch.forEach(this::invalidate);
+                written.addAll(result.getEntities());
+                failures.addAll(result.getFailures());
+                if (options.isOrdered() && result.hasFailures()) {
+                    break;
+                }
+                offset += batch.size();
+                batch.clear();
+            }
+        }
+        return BulkWriteResult.of(written, failures);
+    }
+
+    private <T> List<T> getEntities(BulkWriteResult<T> result) {
+        if (result.hasFailures()) {
+            throw new BulkWriteException("There are " + result.getFailures().size()
+                    + " entities that were not written in the bulk", result);
+        }
+        return result.getEntities();
     }
 
 
@@ -105,6 +203,7 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         Objects.requireNonNull(query, "query is required");
         getPersistManager().firePreDeleteQuery(query);
         getManager().delete(query);
+        caches.getOrDefault(query.getDocumentCollection(), Optional.empty()).ifPresent(EntityCache::invalidateAll);
     }
 
     @Override
@@ -116,6 +215,30 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         return entities.stream().map(function).collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Stream<T> selectStream(DocumentQuery query) {
+        return selectStream(query, getFetchSize());
+    }
+
+    @Override
+    public <T> Stream<T> selectStream(DocumentQuery query, int fetchSize) {
+        requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        return getManager().selectStream(query, fetchSize).map(function);
+    }
+
+    /**
+     * Returns the number of entities fetched per request by {@link AbstractDocumentTemplate#selectStream(DocumentQuery)}.
+     * The default value is {@value #DEFAULT_FETCH_SIZE} and might be overwritten with the {@value #FETCH_SIZE}
+     * system property.
+     *
+     * @return the fetch size
+     */
+    protected int getFetchSize() {
+        return Math.max(1, Integer.getInteger(FETCH_SIZE, DEFAULT_FETCH_SIZE));
+    }
+
     @Override
     public <T, K> Optional<T> find(Class<T> entityClass, K id) {
         requireNonNull(entityClass, "entityClass is required");
@@ -125,12 +248,58 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        Optional<EntityCache<DocumentEntity>> cache = getCache(classMapping);
+        if (cache.isPresent()) {
+            return cache.get().get(value, v -> load(classMapping, idField, v))
+                    .map(e -> getConverter().toEntity(entityClass, e));
+        }
         DocumentQuery query = DocumentQueryBuilder.select().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
 
         return singleResult(query);
     }
 
+    private Optional<DocumentEntity> load(ClassMapping classMapping, FieldMapping idField, Object value) {
+        DocumentQuery query = DocumentQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
+        getPersistManager().firePreQuery(query);
+        return getManager().singleResult(query);
+    }
+
+    @Override
+    public <T> Optional<EntityCache<?>> getCache(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return getCache(getClassMappings().get(entityClass)).map(c -> c);
+    }
+
+    private Optional<EntityCache<DocumentEntity>> getCache(ClassMapping classMapping) {
+        return caches.computeIfAbsent(classMapping.getName(), k -> Optional
+                .ofNullable(classMapping.getClassInstance().getAnnotation(Cacheable.class)).map(EntityCache::of));
+    }
+
+    private <T> T invalidate(T entity) {
+        if (caches.isEmpty()) {
+            return entity;
+        }
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        Optional<EntityCache<DocumentEntity>> cache = caches.getOrDefault(classMapping.getName(), Optional.empty());
+        if (cache.isPresent()) {
+            Optional<FieldMapping> idField = classMapping.getId();
+            Object id = idField.map(f -> f.read(entity)).orElse(null);
+            if (id == null) {
+                cache.get().invalidateAll();
+            } else {
+                cache.get().invalidate(ConverterUtil.getValue(id, classMapping, idField.get().getFieldName(),
+                        getConverters()));
+            }
+        }
+        return entity;
+    }
+
+    private void invalidateAll() {
+        caches.values().forEach(c -> c.ifPresent(EntityCache::invalidateAll));
+    }
+
     @Override
     public <T, K> void delete(Class<T> entityClass, K id) {
         requireNonNull(entityClass, "entityClass is required");
@@ -150,8 +319,12 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     @Override
     public <T> List<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList());
+        List<T> entities = PARSER.query(query, getManager(), getObserver()).stream()
+                .map(c -> (T) getConverter().toEntity(c)).collect(toList());
+        if (!isSelect(query)) {
+            invalidateAll();
+        }
+        return entities;
     }
 
     @Override
@@ -168,7 +341,16 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     @Override
     public PreparedStatement prepare(String query) {
-        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        org.jnosql.diana.api.document.DocumentPreparedStatement preparedStatement =
+                PARSER.prepare(query, getManager(), getObserver());
+        if (isSelect(query)) {
+            return new DocumentPreparedStatement(preparedStatement, getConverter());
+        }
+        return new DocumentPreparedStatement(preparedStatement, getConverter(), this::invalidateAll);
+    }
+
+    private static boolean isSelect(String query) {
+        return query.trim().regionMatches(true, 0, "select", 0, "select".length());
     }
 
 
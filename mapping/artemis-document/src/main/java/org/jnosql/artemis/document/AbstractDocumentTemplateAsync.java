@@ -22,6 +22,12 @@ import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.CompletionStages;
+import org.jnosql.diana.api.Flow;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Publishers;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
@@ -31,10 +37,15 @@ import org.jnosql.diana.api.document.DocumentQueryParserAsync;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -51,6 +62,8 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     private static final DocumentQueryParserAsync PARSER = DocumentQueryParserAsync.getParser();
 
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentCollectionManagerAsync getManager();
@@ -59,6 +72,17 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     protected abstract Converters getConverters();
 
+    /**
+     * Returns the executor that converts the database results to entities in the methods that return
+     * {@link CompletionStage}. By default the conversion runs in the thread that completes the database operation,
+     * subclasses might override it to keep the conversion out of the driver threads.
+     *
+     * @return the conversion executor
+     */
+    protected Executor getExecutor() {
+        return DIRECT_EXECUTOR;
+    }
+
     private DocumentObserverParser observer;
 
 
@@ -84,8 +108,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void insert(T entity, Consumer<T> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().insert(getConverter().toDocument(entity), dianaCallBack);
+        insertAsync(entity).thenAccept(callBack);
     }
 
     @Override
@@ -93,8 +116,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().insert(getConverter().toDocument(entity), ttl, dianaCallBack);
+        insertAsync(entity, ttl).thenAccept(callBack);
     }
 
     @Override
@@ -107,8 +129,50 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void update(T entity, Consumer<T> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().update(getConverter().toDocument(entity), dianaCallBack);
+        updateAsync(entity).thenAccept(callBack);
+    }
+
+    @Override
+    public <T> void bulkInsert(Iterable<T> entities, BulkWriteOptions options, Consumer<BulkWriteResult<T>> callBack) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+        bulkInsertAsync(entities, options).thenAccept(callBack);
+    }
+
+    @Override
+    public <T> void bulkUpdate(Iterable<T> entities, BulkWriteOptions options, Consumer<BulkWriteResult<T>> callBack) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+        bulkUpdateAsync(entities, options).thenAccept(callBack);
+    }
+
+    private <T> CompletionStage<BulkWriteResult<T>> bulk(List<T> entities, int offset, BulkWriteOptions options,
+                                                         Function<List<DocumentEntity>,
+                                                                 CompletionStage<BulkWriteResult<DocumentEntity>>> action,
+                                                         List<T> written, List<BulkWriteResult.Failure<T>> failures) {
+        if (offset >= entities.size()) {
+            return CompletableFuture.completedFuture(BulkWriteResult.of(written, failures));
+        }
+        List<T> batch = entities.subList(offset, Math.min(entities.size(), offset + options.getBatchSize()));
+        List<DocumentEntity> converted = batch.stream().map(getConverter()::toDocument).collect(toList());
+        return action.apply(converted).thenComposeAsync(r -> {
+            BulkWriteResult<T> result = r.map(batch,
+                    (entity, e) -> (T) getConverter().toEntity(entity.getClass(), e)).shift(offset);
+            written.addAll(result.getEntities());
+            failures.addAll(result.getFailures());
+            if (options.isOrdered() && result.hasFailures()) {
+                return CompletableFuture.completedFuture(BulkWriteResult.of(written, failures));
+            }
+            return bulk(entities, offset + batch.size(), options, action, written, failures);
+        }, getExecutor());
+    }
+
+    private static <T> List<T> toBulk(Iterable<T> entities) {
+        List<T> list = new ArrayList<>();
+        entities.forEach(list::add);
+        return list;
     }
 
     @Override
@@ -121,20 +185,14 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public void delete(DocumentDeleteQuery query, Consumer<Void> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
-        getManager().delete(query, callback);
+        deleteAsync(query).thenAccept(callback);
     }
 
     @Override
     public <T> void select(DocumentQuery query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
-
-        Consumer<List<DocumentEntity>> dianaCallBack = d -> callback.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
-        getManager().select(query, dianaCallBack);
+        this.<T>selectAsync(query).thenAccept(callback);
     }
 
 
@@ -145,15 +203,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(id, "id is required");
         requireNonNull(callBack, "callBack is required");
 
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        FieldMapping idField = classMapping.getId()
-                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
-
-        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
-        DocumentQuery query = DocumentQueryBuilder.select().from(classMapping.getName())
-                .where(idField.getName()).eq(value).build();
-
-        singleResult(query, callBack);
+        findAsync(entityClass, id).thenAccept(callBack);
     }
 
     @Override
@@ -163,8 +213,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(id, "id is required");
         requireNonNull(callBack, "callBack is required");
 
-        DocumentDeleteQuery query = getDeleteQuery(entityClass, id);
-        delete(query, callBack);
+        deleteAsync(entityClass, id).thenAccept(callBack);
     }
 
     @Override
@@ -183,26 +232,21 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void query(String query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
-        Consumer<List<DocumentEntity>> mapper = columnEntities -> callback.accept(columnEntities.stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList()));
-        PARSER.query(query, getManager(), mapper, getObserver());
+        this.<T>queryAsync(query).thenAccept(callback);
     }
 
     @Override
     public <T> void singleResult(String query, Consumer<Optional<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
-        Consumer<List<DocumentEntity>> mapper = columnEntities -> {
-            List<T> entities = columnEntities.stream().map(c -> (T) getConverter().toEntity(c)).collect(toList());
+        this.<T>queryAsync(query).thenApply(entities -> {
             if (entities.isEmpty()) {
-                callback.accept(Optional.empty());
-            }
-            if (entities.size() == 1) {
-                callback.accept(Optional.ofNullable(getConverter().toEntity(columnEntities.get(0))));
+                return Optional.<T>empty();
+            } else if (entities.size() == 1) {
+                return Optional.ofNullable(entities.get(0));
             }
-            throw new UnsupportedOperationException("This query does not return a unique result: " + query);
-        };
-        PARSER.query(query, getManager(), mapper, getObserver());
+            throw new NonUniqueResultException("No unique result found to the query: " + query);
+        }).thenAccept(callback);
     }
 
     @Override
@@ -213,15 +257,128 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     @Override
     public void count(String documentCollection, Consumer<Long> callback) {
-        getManager().count(documentCollection, callback);
+        requireNonNull(callback, "callback is required");
+        countAsync(documentCollection).thenAccept(callback);
     }
 
     @Override
     public <T> void count(Class<T> entityClass, Consumer<Long> callback) {
-        Objects.requireNonNull(entityClass, "entityClass is required");
-        Objects.requireNonNull(callback, "callback is required");
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(callback, "callback is required");
+        countAsync(entityClass).thenAccept(callback);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().insertAsync(getConverter().toDocument(entity))
+                .thenApplyAsync(e -> (T) getConverter().toEntity(entity.getClass(), e), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getManager().insertAsync(getConverter().toDocument(entity), ttl)
+                .thenApplyAsync(e -> (T) getConverter().toEntity(entity.getClass(), e), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().updateAsync(getConverter().toDocument(entity))
+                .thenApplyAsync(e -> (T) getConverter().toEntity(entity.getClass(), e), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<BulkWriteResult<T>> bulkInsertAsync(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return bulk(toBulk(entities), 0, options,
+                b -> CompletionStages.of(c -> getManager().bulkInsert(b, options, c)),
+                new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Override
+    public <T> CompletionStage<BulkWriteResult<T>> bulkUpdateAsync(Iterable<T> entities, BulkWriteOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return bulk(toBulk(entities), 0, options,
+                b -> CompletionStages.of(c -> getManager().bulkUpdate(b, options, c)),
+                new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(DocumentDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().deleteAsync(query);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> deleteAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return getManager().deleteAsync(getDeleteQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> selectAsync(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().selectAsync(query).thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> selectPublisher(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.map(getManager().selectPublisher(query), e -> (T) getConverter().toEntity(e));
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResultAsync(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().singleResultAsync(query)
+                .thenApplyAsync(o -> o.map(e -> (T) getConverter().toEntity(e)), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> queryAsync(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.<List<DocumentEntity>>of(c -> PARSER.query(query, getManager(), c, getObserver()))
+                .thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResultAsync(getFindQuery(entityClass, id));
+    }
+
+    @Override
+    public CompletionStage<Long> countAsync(String documentCollection) {
+        requireNonNull(documentCollection, "documentCollection is required");
+        return getManager().countAsync(documentCollection);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> countAsync(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return getManager().countAsync(getClassMappings().get(entityClass).getName());
+    }
+
+    private <T> List<T> toEntities(List<DocumentEntity> entities) {
+        return entities.stream().map(e -> (T) getConverter().toEntity(e)).collect(toList());
+    }
+
+    private <T, K> DocumentQuery getFindQuery(Class<T> entityClass, K id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
-        getManager().count(classMapping.getName(), callback);
+        FieldMapping idField = classMapping.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+
+        return DocumentQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
     }
 
     private <T, K> DocumentDeleteQuery getDeleteQuery(Class<T> entityClass, K id) {
@@ -21,16 +21,25 @@ import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObserverUtil.isObserved;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+
 /**
- * The default implementation of {@link DocumentEventPersistManager}
+ * The default implementation of {@link DocumentEventPersistManager}.
+ * The observers of each event are resolved once, at the boot, so an event without observers is not fired.
  */
 @ApplicationScoped
 class DefaultDocumentEventPersistManager implements DocumentEventPersistManager {
 
+    private static final String SAMPLE = "sample";
+
     @Inject
     private Event<DocumentEntityPrePersist> documentEntityPrePersistEvent;
 
@@ -55,43 +64,96 @@ class DefaultDocumentEventPersistManager implements DocumentEventPersistManager
     @Inject
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean preDocument = true;
+
+    private boolean postDocument = true;
+
+    private boolean preEntity = true;
+
+    private boolean postEntity = true;
+
+    private boolean preDocumentEntity = true;
+
+    private boolean postDocumentEntity = true;
+
+    private boolean preQuery = true;
+
+    private boolean preDeleteQuery = true;
+
+    @PostConstruct
+    void init() {
+        DocumentEntity entity = DocumentEntity.of(SAMPLE);
+        preDocument = isObserved(beanManager, DocumentEntityPrePersist.of(entity));
+        postDocument = isObserved(beanManager, DocumentEntityPostPersist.of(entity));
+        preEntity = isObserved(beanManager, EntityPrePersist.of(SAMPLE));
+        postEntity = isObserved(beanManager, EntityPostPersit.of(SAMPLE));
+        preDocumentEntity = isObserved(beanManager, EntityDocumentPrePersist.of(SAMPLE));
+        postDocumentEntity = isObserved(beanManager, EntityDocumentPostPersist.of(SAMPLE));
+        preQuery = isObserved(beanManager, DocumentQueryExecute.of(select().from(SAMPLE).build()));
+        preDeleteQuery = isObserved(beanManager, DocumentDeleteQueryExecute.of(delete().from(SAMPLE).build()));
+    }
+
     @Override
     public void firePreDocument(DocumentEntity entity) {
-        documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        if (preDocument) {
+            documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostDocument(DocumentEntity entity) {
-        documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        if (postDocument) {
+            documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (preEntity) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (postEntity) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreDocumentEntity(T entity) {
-        entityDocumentPrePersist.fire(EntityDocumentPrePersist.of(entity));
+        if (preDocumentEntity) {
+            entityDocumentPrePersist.fire(EntityDocumentPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostDocumentEntity(T entity) {
-        entityDocumentPostPersist.fire(EntityDocumentPostPersist.of(entity));
+        if (postDocumentEntity) {
+            entityDocumentPostPersist.fire(EntityDocumentPostPersist.of(entity));
+        }
     }
 
     @Override
     public void firePreQuery(DocumentQuery query) {
-        documentQueryExecute.fire(DocumentQueryExecute.of(query));
+        if (preQuery) {
+            documentQueryExecute.fire(DocumentQueryExecute.of(query));
+        }
     }
 
     @Override
     public void firePreDeleteQuery(DocumentDeleteQuery query) {
-        documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
+        if (preDeleteQuery) {
+            documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
+        }
+    }
+
+    @Override
+    public boolean skipsPersistEvents() {
+        return !(preDocument || postDocument || preEntity || postEntity || preDocumentEntity || postDocumentEntity);
     }
 }
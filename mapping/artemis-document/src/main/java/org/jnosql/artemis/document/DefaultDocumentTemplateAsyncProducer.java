@@ -23,6 +23,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link DocumentTemplateAsyncProducer}
@@ -46,6 +47,16 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
         return new ProducerAbstractDocumentTemplateAsync(converter, collectionManager, classMappings, converters);
     }
 
+    @Override
+    public DocumentTemplateAsync get(DocumentCollectionManagerAsync collectionManager, Executor executor) {
+        Objects.requireNonNull(collectionManager, "collectionManager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        ProducerAbstractDocumentTemplateAsync template = new ProducerAbstractDocumentTemplateAsync(converter,
+                collectionManager, classMappings, converters);
+        template.executor = executor;
+        return template;
+    }
+
     @Vetoed
     static class ProducerAbstractDocumentTemplateAsync extends AbstractDocumentTemplateAsync {
 
@@ -57,6 +68,8 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
 
         private Converters converters;
 
+        private Executor executor;
+
         ProducerAbstractDocumentTemplateAsync(DocumentEntityConverter converter,
                                               DocumentCollectionManagerAsync manager,
                                               ClassMappings classMappings,
@@ -89,5 +102,13 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected Executor getExecutor() {
+            if (Objects.isNull(executor)) {
+                return super.getExecutor();
+            }
+            return executor;
+        }
     }
 }
@@ -18,10 +18,19 @@ import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.document.Document;
 
 import java.util.List;
-import java.util.Optional;
 
 interface DocumentFieldConverter {
 
-    <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldMapping field,
+    /**
+     * Writes the field at the instance
+     *
+     * @param instance  the entity instance
+     * @param documents all documents of the entity
+     * @param document  the document with the field name, it is null when there is not
+     * @param field     the field
+     * @param converter the converter
+     * @param <T>       the entity type
+     */
+    <T> void convert(T instance, List<Document> documents, Document document, FieldMapping field,
                      AbstractDocumentEntityConverter converter);
 }
@@ -28,7 +28,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -63,11 +62,11 @@ class DocumentFieldConverters {
     private static class SubEntityConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
 
-            if (document.isPresent()) {
-                Document sudDocument = document.get();
+            if (document != null) {
+                Document sudDocument = document;
                 Object value = sudDocument.get();
                 if (value instanceof Map) {
                     Map map = (Map) value;
@@ -94,7 +93,7 @@ class DocumentFieldConverters {
 
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
 
             Field nativeField = field.getNativeField();
@@ -107,9 +106,9 @@ class DocumentFieldConverters {
     private static class DefaultConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
-            Value value = document.get().getValue();
+            Value value = document.getValue();
 
             Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
             if (optionalConverter.isPresent()) {
@@ -125,13 +124,9 @@ class DocumentFieldConverters {
     private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
-            document.ifPresent(convertDocument(instance, field, converter));
-        }
-
-        private <T> Consumer<Document> convertDocument(T instance, FieldMapping field, AbstractDocumentEntityConverter converter) {
-            return document -> {
+            if (document != null) {
                 GenericFieldMapping genericField = (GenericFieldMapping) field;
                 Collection collection = genericField.getCollectionInstance();
                 List<List<Document>> embeddable = (List<List<Document>>) document.get();
@@ -140,7 +135,7 @@ class DocumentFieldConverters {
                     collection.add(element);
                 }
                 field.write(instance, collection);
-            };
+            }
         }
     }
 
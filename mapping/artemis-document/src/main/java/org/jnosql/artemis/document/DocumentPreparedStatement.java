@@ -28,10 +28,19 @@ final class DocumentPreparedStatement implements PreparedStatement {
 
     private final DocumentEntityConverter converter;
 
+    private final Runnable afterExecute;
+
     DocumentPreparedStatement(org.jnosql.diana.api.document.DocumentPreparedStatement preparedStatement,
                               DocumentEntityConverter converter) {
+        this(preparedStatement, converter, () -> {
+        });
+    }
+
+    DocumentPreparedStatement(org.jnosql.diana.api.document.DocumentPreparedStatement preparedStatement,
+                              DocumentEntityConverter converter, Runnable afterExecute) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
+        this.afterExecute = afterExecute;
     }
 
     @Override
@@ -42,13 +51,16 @@ final class DocumentPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> List<T> getResultList() {
-        return preparedStatement.getResultList().stream().map(c -> (T) converter.toEntity(c))
+        List<T> entities = preparedStatement.getResultList().stream().map(c -> (T) converter.toEntity(c))
                 .collect(Collectors.toList());
+        afterExecute.run();
+        return entities;
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
         Optional<DocumentEntity> singleResult = preparedStatement.getSingleResult();
+        afterExecute.run();
         return singleResult.map(converter::toEntity);
     }
 }
\ No newline at end of file
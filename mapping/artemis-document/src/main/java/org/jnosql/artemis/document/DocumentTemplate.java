@@ -15,7 +15,11 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.Cacheable;
+import org.jnosql.artemis.EntityCache;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
@@ -24,6 +28,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -113,6 +118,44 @@ public interface DocumentTemplate {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(toList());
     }
 
+    /**
+     * Inserts a bulk of entities, by default it's just run for each saving using
+     * {@link DocumentTemplate#insert(Object)} or {@link DocumentTemplate#insert(Object, Duration)} when the options has TTL,
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @param <T>      the instance type
+     * @return the result with the saved entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default <T> BulkWriteResult<T> bulkInsert(Iterable<T> entities, BulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Optional<Duration> ttl = options.getTtl();
+        if (ttl.isPresent()) {
+            return BulkWriteResult.write(entities, options.isOrdered(), e -> insert(e, ttl.get()));
+        }
+        return BulkWriteResult.write(entities, options.isOrdered(), this::insert);
+    }
+
+    /**
+     * Updates a bulk of entities, by default it's just run for each saving using
+     * {@link DocumentTemplate#update(Object)},
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @param <T>      the instance type
+     * @return the result with the updated entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default <T> BulkWriteResult<T> bulkUpdate(Iterable<T> entities, BulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return BulkWriteResult.write(entities, options.isOrdered(), this::update);
+    }
+
     /**
      * Deletes an entity
      *
@@ -131,6 +174,42 @@ public interface DocumentTemplate {
      */
     <T> List<T> select(DocumentQuery query);
 
+    /**
+     * Finds entities from query lazily, each entity is converted when the stream reaches it instead of
+     * loading the whole result in memory. The stream might hold a database cursor, so it should be closed after its use.
+     * By default it is the stream of {@link DocumentTemplate#select(DocumentQuery)}.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query as a stream
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> selectStream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.<T>select(query).stream();
+    }
+
+    /**
+     * Finds entities from query lazily, fetching fetchSize entities per request to the database.
+     * The stream might hold a database cursor, so it should be closed after its use.
+     * By default it is the stream of {@link DocumentTemplate#select(DocumentQuery)}.
+     *
+     * @param query     - query to figure out entities
+     * @param fetchSize the number of entities fetched per request to the database
+     * @param <T>       the instance type
+     * @return entities found by query as a stream
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when fetchSize is not positive
+     * @see org.jnosql.diana.api.document.DocumentCollectionManager#selectStream(DocumentQuery, int)
+     */
+    default <T> Stream<T> selectStream(DocumentQuery query, int fetchSize) {
+        Objects.requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero");
+        }
+        return this.<T>select(query).stream();
+    }
+
     /**
      * Executes a query then bring the result as a {@link List}
      *
@@ -227,4 +306,18 @@ public interface DocumentTemplate {
         throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
     }
 
+    /**
+     * Returns the second-level cache that {@link DocumentTemplate#find(Class, Object)} uses to the entity,
+     * it exists only to the entities annotated with {@link Cacheable}, and it gives the hit and miss statistics.
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the cache or {@link Optional#empty()} when the entity is not cached
+     * @throws NullPointerException when entityClass is null
+     */
+    default <T> Optional<EntityCache<?>> getCache(Class<T> entityClass) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        return Optional.empty();
+    }
+
 }
@@ -17,6 +17,8 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
+import java.util.concurrent.Executor;
+
 
 /**
  * The producer of {@link DocumentTemplateAsync}
@@ -33,4 +35,16 @@ public interface DocumentTemplateAsyncProducer {
      */
     <T extends DocumentTemplateAsync> T get(DocumentCollectionManagerAsync collectionManager);
 
+    /**
+     * creates a {@link DocumentTemplateAsync} that converts the results of the methods that return
+     * {@link java.util.concurrent.CompletionStage} to entities using the executor
+     *
+     * @param <T>      the DocumentTemplateAsync instance
+     * @param collectionManager the collectionManager
+     * @param executor the executor that converts the results to entities
+     * @return a new instance
+     * @throws NullPointerException when there is null parameter
+     */
+    <T extends DocumentTemplateAsync> T get(DocumentCollectionManagerAsync collectionManager, Executor executor);
+
 }
@@ -15,10 +15,17 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.diana.api.BulkWriteResult;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.Collections.singletonList;
+
 /**
  * This implementation defines the workflow to insert an Entity on {@link DocumentTemplate}.
  * The default implementation follows:
@@ -44,4 +51,46 @@ public interface DocumentWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action);
+
+    /**
+     * Executes the workflow to a batch of entities: the events and the conversion of every entity happen
+     * before the action, that receives the whole batch, and the events after the action happen to each
+     * written entity.
+     *
+     * <p>The default implementation runs {@link #flow(Object, UnaryOperator)} to each entity with a batch of one.
+     * When the write is ordered it stops at the first failure, otherwise a failure does not stop the next entities;
+     * the implementations should override it to send the whole batch at once.
+     *
+     * @param entities the entities of the batch
+     * @param ordered  whether the write stops at the first failure, see {@link org.jnosql.diana.api.BulkWriteOptions}
+     * @param action   the alteration to be executed on database with the whole batch
+     * @param <T>      the entity type
+     * @return the result with the written entities and the failures
+     * @throws NullPointerException when there is null parameter
+     */
+    default <T> BulkWriteResult<T> flow(List<T> entities, boolean ordered,
+                                       Function<List<DocumentEntity>, BulkWriteResult<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        List<T> written = new ArrayList<>(entities.size());
+        List<BulkWriteResult.Failure<T>> failures = new ArrayList<>();
+        for (int index = 0; index < entities.size(); index++) {
+            T entity = entities.get(index);
+            try {
+                written.add(flow(entity, e -> {
+                    BulkWriteResult<DocumentEntity> result = action.apply(singletonList(e));
+                    if (result.hasFailures()) {
+                        throw result.getFailures().get(0).getCause();
+                    }
+                    return result.getEntities().get(0);
+                }));
+            } catch (RuntimeException exception) {
+                failures.add(BulkWriteResult.Failure.of(index, entity, exception));
+                if (ordered) {
+                    break;
+                }
+            }
+        }
+        return BulkWriteResult.of(written, failures);
+    }
 }
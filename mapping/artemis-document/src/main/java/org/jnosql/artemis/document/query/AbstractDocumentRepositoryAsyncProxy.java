@@ -20,6 +20,7 @@ import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
@@ -50,6 +51,9 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 DocumentQuery query = getQuery(method, args);
+                if (Flow.Publisher.class.equals(method.getReturnType())) {
+                    return getTemplate().selectPublisher(query);
+                }
                 return executeQuery(getCallBack(args), query);
             case DELETE_BY:
                 DocumentDeleteQuery deleteQuery = getDeleteQuery(method, args);
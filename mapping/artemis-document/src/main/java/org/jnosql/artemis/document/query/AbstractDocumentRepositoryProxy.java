@@ -15,16 +15,19 @@
 package org.jnosql.artemis.document.query;
 
 
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicQueryMethodReturn;
 import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 
@@ -50,20 +53,11 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQuery(method, args);
-                DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
-                        .withClassSource(typeClass)
-                        .withMethodSource(method).withList(() -> getTemplate().select(query))
-                        .withSingleResult(() -> getTemplate().singleResult(query)).build();
-
-                return dynamicReturn.execute();
+                return executeQuery(method, args, getQuery(method, args));
             case FIND_ALL:
                 DocumentQuery queryFindAll = select().from(getClassMapping().getName()).build();
-                DynamicReturn<?> dynamicReturnFindAll = DynamicReturn.builder()
-                        .withClassSource(typeClass)
-                        .withMethodSource(method).withList(() -> getTemplate().select(queryFindAll))
-                        .withSingleResult(() -> getTemplate().singleResult(queryFindAll)).build();
-                return dynamicReturnFindAll.execute();
+                return executeQuery(method, args, PaginationUtil.getPagination(args)
+                        .map(p -> getQuery(queryFindAll, p)).orElse(queryFindAll));
             case DELETE_BY:
                 DocumentDeleteQuery documentDeleteQuery = getDeleteQuery(method, args);
                 getTemplate().delete(documentDeleteQuery);
@@ -71,6 +65,10 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case JNOSQL_QUERY:
+                Optional<Pagination> pagination = PaginationUtil.getPagination(args);
+                if (pagination.isPresent()) {
+                    return executeQuery(method, args, getQuery(method, args, pagination.get()));
+                }
                 DynamicQueryMethodReturn methodReturn = DynamicQueryMethodReturn.builder()
                         .withArgs(args)
                         .withMethod(method)
@@ -83,4 +81,15 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
         }
     }
 
+    private Object executeQuery(Method method, Object[] args, DocumentQuery query) {
+        DynamicReturn.DefaultDynamicReturnBuilder builder = DynamicReturn.builder()
+                .withClassSource(getClassMapping().getClassInstance())
+                .withMethodSource(method).withList(() -> getTemplate().select(query))
+                .withStream(() -> getTemplate().selectStream(query))
+                .withSingleResult(() -> getTemplate().singleResult(query));
+        PaginationUtil.getPagination(args).ifPresent(p -> builder.withPage(() ->
+                PaginationUtil.toPage(getTemplate().select(query), p, getClassMapping())));
+        return builder.build().execute();
+    }
+
 }
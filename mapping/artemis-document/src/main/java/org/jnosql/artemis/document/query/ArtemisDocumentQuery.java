@@ -29,13 +29,20 @@ class ArtemisDocumentQuery implements DocumentQuery {
     private final long skip;
     private final DocumentCondition condition;
     private final String documentCollection;
+    private final List<String> documents;
 
     ArtemisDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition condition, String documentCollection) {
+        this(sorts, limit, skip, condition, documentCollection, Collections.emptyList());
+    }
+
+    ArtemisDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition condition, String documentCollection,
+                         List<String> documents) {
         this.sorts = sorts;
         this.limit = limit;
         this.skip = skip;
         this.condition = condition;
         this.documentCollection = documentCollection;
+        this.documents = documents;
     }
 
     @Override
@@ -65,7 +72,7 @@ class ArtemisDocumentQuery implements DocumentQuery {
 
     @Override
     public List<String> getDocuments() {
-        return Collections.emptyList();
+        return documents;
     }
 
     @Override
@@ -81,12 +88,13 @@ class ArtemisDocumentQuery implements DocumentQuery {
                 skip == that.getSkip() &&
                 Objects.equals(sorts, that.getSorts()) &&
                 Objects.equals(condition, that.getCondition().orElse(null)) &&
-                Objects.equals(documentCollection, that.getDocumentCollection());
+                Objects.equals(documentCollection, that.getDocumentCollection()) &&
+                Objects.equals(documents, that.getDocuments());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, documentCollection, condition, sorts, Collections.emptyList());
+        return Objects.hash(limit, skip, documentCollection, condition, sorts, documents);
     }
 
     @Override
@@ -96,7 +104,7 @@ class ArtemisDocumentQuery implements DocumentQuery {
                 ", documentCollection='" + documentCollection + '\'' +
                 ", condition=" + condition +
                 ", sorts=" + sorts +
-                ", documents=" + Collections.emptyList() +
+                ", documents=" + documents +
                 '}';
     }
 }
@@ -17,8 +17,16 @@ package org.jnosql.artemis.document.query;
 import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
 import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.RepositoryReflectionUtils;
+import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.artemis.util.ParamsBinder;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentQuery;
@@ -27,11 +35,17 @@ import org.jnosql.diana.api.document.query.DocumentDeleteQueryParams;
 import org.jnosql.diana.api.document.query.DocumentQueryParams;
 import org.jnosql.diana.api.document.query.SelectQueryConverter;
 import org.jnosql.query.DeleteQuery;
-import org.jnosql.query.Params;
 import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 abstract class BaseDocumentRepository {
 
@@ -44,29 +58,103 @@ abstract class BaseDocumentRepository {
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, Supplier<DocumentQueryParams>> selectPlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, Supplier<DocumentDeleteQueryParams>> deletePlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, Supplier<DocumentQueryParams>> queryPlans = new ConcurrentHashMap<>();
+
 
     protected DocumentQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
-        SelectQueryConverter converter = SelectQueryConverter.get();
-        DocumentQueryParams queryParams = converter.apply(selectQuery, getParser());
+        DocumentQueryParams queryParams = getSelectPlan(method).get();
+        getParamsBinder().bind(queryParams.getParams(), args, method);
         DocumentQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return query;
+        return PaginationUtil.getPagination(args).map(p -> getQuery(query, p)).orElse(query);
+    }
+
+    /**
+     * Returns the select query of the {@link org.jnosql.artemis.Query} annotation with the parameters
+     * annotated with {@link org.jnosql.artemis.Param} and the pagination applied
+     *
+     * @param method     the method
+     * @param args       the method arguments
+     * @param pagination the pagination
+     * @return the query
+     */
+    protected DocumentQuery getQuery(Method method, Object[] args, Pagination pagination) {
+        DocumentQueryParams queryParams = queryPlans.computeIfAbsent(method, m -> {
+            SelectQuery selectQuery = SelectQuerySupplier.getSupplier()
+                    .apply(RepositoryReflectionUtils.INSTANCE.getQuery(m));
+            return SelectQueryConverter.get().compile(selectQuery, getParser());
+        }).get();
+        RepositoryReflectionUtils.INSTANCE.getParams(method, args).forEach(queryParams.getParams()::bind);
+        return getQuery(queryParams.getQuery(), pagination);
+    }
+
+    /**
+     * Applies the pagination to the query: the limit and either the skip or, to the keyset pagination,
+     * the order by the keyset field and the id and the condition to the entities after the last value or,
+     * on the same value, after the last id.
+     *
+     * @param query      the query
+     * @param pagination the pagination
+     * @return the query with the pagination
+     */
+    protected DocumentQuery getQuery(DocumentQuery query, Pagination pagination) {
+        DocumentCondition condition = query.getCondition().orElse(null);
+        List<Sort> sorts = query.getSorts();
+        Optional<Sort> keyset = pagination.getKeyset();
+        if (keyset.isPresent()) {
+            Sort sort = keyset.get();
+            String name = getClassMapping().getColumnField(sort.getName());
+            Optional<FieldMapping> id = PaginationUtil.getTieBreaker(getClassMapping(), sort.getName());
+            sorts = new ArrayList<>();
+            sorts.add(Sort.of(name, sort.getType()));
+            if (id.isPresent()) {
+                sorts.add(Sort.of(id.get().getName(), sort.getType()));
+            }
+            query.getSorts().stream().filter(s -> !s.getName().equals(name))
+                    .filter(s -> !id.isPresent() || !s.getName().equals(id.get().getName()))
+                    .forEach(sorts::add);
+            Optional<Object> lastValue = pagination.getLastValue();
+            if (lastValue.isPresent()) {
+                boolean asc = Sort.SortType.ASC.equals(sort.getType());
+                Document document = Document.of(name,
+                        ConverterUtil.getValue(lastValue.get(), getClassMapping(), sort.getName(), getConverters()));
+                DocumentCondition after = asc ? DocumentCondition.gt(document) : DocumentCondition.lt(document);
+                Optional<Object> lastId = pagination.getLastId();
+                if (id.isPresent() && lastId.isPresent()) {
+                    Document idDocument = Document.of(id.get().getName(),
+                            ConverterUtil.getValue(lastId.get(), getConverters(), id.get()));
+                    after = DocumentCondition.or(after, DocumentCondition.and(DocumentCondition.eq(document),
+                            asc ? DocumentCondition.gt(idDocument) : DocumentCondition.lt(idDocument)));
+                }
+                condition = condition == null ? after : DocumentCondition.and(condition, after);
+            }
+        }
+        return new ArtemisDocumentQuery(sorts, pagination.getLimit(), pagination.getSkip(), condition,
+                query.getDocumentCollection(), query.getDocuments());
     }
 
     protected DocumentDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
-        DeleteQueryConverter converter = DeleteQueryConverter.get();
-        DocumentDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
-        DocumentDeleteQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return query;
+        DocumentDeleteQueryParams queryParams = getDeletePlan(method).get();
+        getParamsBinder().bind(queryParams.getParams(), args, method);
+        return queryParams.getQuery();
     }
 
+    private Supplier<DocumentQueryParams> getSelectPlan(Method method) {
+        return selectPlans.computeIfAbsent(method, m -> {
+            SelectQuery selectQuery = SelectMethodFactory.get().apply(m, getClassMapping().getName());
+            return SelectQueryConverter.get().compile(selectQuery, getParser());
+        });
+    }
+
+    private Supplier<DocumentDeleteQueryParams> getDeletePlan(Method method) {
+        return deletePlans.computeIfAbsent(method, m -> {
+            DeleteQuery deleteQuery = DeleteMethodFactory.get().apply(m, getClassMapping().getName());
+            return DeleteQueryConverter.get().compile(deleteQuery, getParser());
+        });
+    }
 
     protected DocumentObserverParser getParser() {
         if (parser == null) {
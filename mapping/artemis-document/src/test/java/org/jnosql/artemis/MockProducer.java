@@ -76,14 +76,14 @@ public class MockProducer {
 
     @Produces
     public DocumentCollectionManagerAsync getDocumentCollectionManagerAsync() {
-        return Mockito.mock(DocumentCollectionManagerAsync.class);
+        return Mockito.mock(DocumentCollectionManagerAsync.class, Mockito.CALLS_REAL_METHODS);
     }
 
 
     @Produces
     @Database(value = DatabaseType.DOCUMENT, provider = "documentRepositoryMock")
     public DocumentCollectionManagerAsync getDocumentCollectionManagerAsyncMock() {
-        return Mockito.mock(DocumentCollectionManagerAsync.class);
+        return Mockito.mock(DocumentCollectionManagerAsync.class, Mockito.CALLS_REAL_METHODS);
     }
 
     @Produces
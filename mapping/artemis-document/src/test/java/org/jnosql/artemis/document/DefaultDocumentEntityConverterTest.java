@@ -29,6 +29,7 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
@@ -52,12 +53,15 @@ import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(CDIExtension.class)
 public class DefaultDocumentEntityConverterTest {
@@ -127,6 +131,24 @@ public class DefaultDocumentEntityConverterTest {
     }
 
 
+    @Test
+    public void shouldIgnoreMissingAndUnknownDocumentsWhenConvertToEntity() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("name", "Otavio"));
+        entity.add(Document.of("unknown", "value"));
+
+        Person person = converter.toEntity(Person.class, entity);
+        assertEquals("Otavio", person.getName());
+        assertEquals(0, person.getAge());
+        assertNull(person.getPhones());
+
+        entity = DocumentEntity.of("Person");
+        entity.add(Document.of("age", 22));
+        person = converter.toEntity(Person.class, entity);
+        assertNull(person.getName());
+        assertEquals(22, person.getAge());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         DocumentEntity entity = DocumentEntity.of("Actor");
@@ -427,6 +449,31 @@ public class DefaultDocumentEntityConverterTest {
         Assertions.assertEquals(contents, entity.find("contents").get().get());
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldFeedObjectByName() {
+        List<Document> documents = asList(Document.of("_id", 12L), Document.of("name", "Otavio"));
+        Map<String, FieldMapping> fields = converter.getClassMappings().get(Person.class).getFieldsGroupByName();
+        Person person = Person.builder().build();
+
+        converter.feedObject(person, documents, fields).accept("name");
+
+        assertEquals("Otavio", person.getName());
+        assertEquals(0L, person.getId());
+    }
+
+    @Test
+    public void shouldConvertFieldValueToDocument() {
+        Person person = Person.builder().withId(12).withName("Otavio").build();
+        FieldMapping field = converter.getClassMappings().get(Person.class).getFieldsGroupByName().get("name");
+
+        DocumentFieldValue fieldValue = converter.to(field, person);
+
+        assertTrue(fieldValue.isNotEmpty());
+        assertEquals(singletonList(Document.of("name", "Otavio")),
+                fieldValue.toDocument(converter, converter.getConverters()));
+    }
+
     private Object getValue(Optional<Document> document) {
         return document.map(Document::getValue).map(Value::get).orElse(null);
     }
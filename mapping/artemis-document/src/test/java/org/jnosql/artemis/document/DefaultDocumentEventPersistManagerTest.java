@@ -27,11 +27,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultDocumentEventPersistManagerTest {
@@ -63,6 +66,9 @@ public class DefaultDocumentEventPersistManagerTest {
     @Mock
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     public void shouldFirePreDocument() {
@@ -152,8 +158,26 @@ public class DefaultDocumentEventPersistManagerTest {
     }
 
 
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        subject.init();
+        assertTrue(subject.skipsPersistEvents());
+        DocumentEntity entity = DocumentEntity.of("collection");
+        subject.firePreDocument(entity);
+        subject.firePostDocument(entity);
+        subject.firePreEntity(entity);
+        subject.firePostEntity(entity);
+        subject.firePreDocumentEntity(entity);
+        subject.firePostDocumentEntity(entity);
+        subject.firePreQuery(select().from("collection").build());
+        subject.firePreDeleteQuery(delete().from("collection").build());
+        verifyZeroInteractions(documentEntityPrePersistEvent, documentEntityPostPersistEvent,
+                entityPrePersistEvent, entityPostPersitEvent, entityDocumentPrePersist, entityDocumentPostPersist,
+                documentQueryExecute, documentDeleteQueryExecute);
+    }
+
     class Jedi {
         private String name;
     }
 
-}
\ No newline at end of file
+}
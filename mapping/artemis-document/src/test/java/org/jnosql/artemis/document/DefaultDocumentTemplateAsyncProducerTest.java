@@ -16,13 +16,19 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
+import org.jnosql.diana.api.document.DocumentQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Collections.emptyList;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 
@@ -44,4 +50,25 @@ public class DefaultDocumentTemplateAsyncProducerTest {
         DocumentTemplateAsync documentRepository = producer.get(manager);
         assertNotNull(documentRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        Assertions.assertThrows(NullPointerException.class, () -> producer.get(manager, null));
+    }
+
+    @Test
+    public void shouldConvertInExecutor() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        DocumentQuery query = select().from("Person").build();
+        Mockito.when(manager.selectAsync(query)).thenReturn(CompletableFuture.completedFuture(emptyList()));
+        AtomicInteger counter = new AtomicInteger();
+        DocumentTemplateAsync template = producer.get(manager, r -> {
+            counter.incrementAndGet();
+            r.run();
+        });
+
+        template.selectAsync(query).toCompletableFuture().join();
+        assertEquals(1, counter.get());
+    }
+}
@@ -20,6 +20,7 @@ import org.jnosql.artemis.PreparedStatementAsync;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
@@ -36,8 +37,11 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -51,9 +55,11 @@ import static org.awaitility.Awaitility.await;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -94,7 +100,7 @@ public class DefaultDocumentTemplateAsyncTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     public void setUp() {
-        managerMock = Mockito.mock(DocumentCollectionManagerAsync.class);
+        managerMock = Mockito.mock(DocumentCollectionManagerAsync.class, Mockito.CALLS_REAL_METHODS);
         DocumentEventPersistManager documentEventPersistManager = Mockito.mock(DocumentEventPersistManager.class);
         captor = ArgumentCaptor.forClass(DocumentEntity.class);
         Instance<DocumentCollectionManagerAsync> instance = Mockito.mock(Instance.class);
@@ -222,7 +228,7 @@ public class DefaultDocumentTemplateAsyncTest {
 
         };
         subject.delete(query, callback);
-        verify(managerMock).delete(query, callback);
+        verify(managerMock).delete(Mockito.eq(query), Mockito.any(Consumer.class));
     }
 
     @Test
@@ -246,7 +252,7 @@ public class DefaultDocumentTemplateAsyncTest {
         subject.delete(Person.class, 10L, callback);
 
         ArgumentCaptor<DocumentDeleteQuery> queryCaptor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
-        verify(managerMock).delete(queryCaptor.capture(), Mockito.eq(callback));
+        verify(managerMock).delete(queryCaptor.capture(), Mockito.any(Consumer.class));
 
         DocumentDeleteQuery query = queryCaptor.getValue();
         assertEquals("Person", query.getDocumentCollection());
@@ -320,19 +326,16 @@ public class DefaultDocumentTemplateAsyncTest {
 
     @Test
     public void shouldReturnErrorWhenThereIsMoreThanOneResultInSingleResult() {
-
-        assertThrows(NonUniqueResultException.class, () -> {
-            ArgumentCaptor<Consumer<List<DocumentEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
-            DocumentQuery query = select().from("Person").build();
-            Consumer<Optional<Person>> callback = l -> {
-            };
-            subject.singleResult(query, callback);
-            verify(managerMock).select(Mockito.any(DocumentQuery.class), dianaCallbackCaptor.capture());
-            Consumer<List<DocumentEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
-            dianaCallBack.accept(asList(DocumentEntity.of("Person", asList(documents)),
-                    DocumentEntity.of("Person", asList(documents))));
-
-        });
+        ArgumentCaptor<Consumer<List<DocumentEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        DocumentQuery query = select().from("Person").build();
+        AtomicBoolean condition = new AtomicBoolean(false);
+        Consumer<Optional<Person>> callback = p -> condition.set(true);
+        subject.singleResult(query, callback);
+        verify(managerMock).select(Mockito.any(DocumentQuery.class), dianaCallbackCaptor.capture());
+        Consumer<List<DocumentEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
+        dianaCallBack.accept(asList(DocumentEntity.of("Person", asList(documents)),
+                DocumentEntity.of("Person", asList(documents))));
+        assertFalse(condition.get());
     }
 
     @Test
@@ -394,25 +397,16 @@ public class DefaultDocumentTemplateAsyncTest {
 
     @Test
     public void shouldReturnErrorFindByIdReturnMoreThanOne() {
+        ArgumentCaptor<Consumer<List<DocumentEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        AtomicBoolean condition = new AtomicBoolean(false);
+        Consumer<Optional<Person>> callback = p -> condition.set(true);
 
-        assertThrows(NonUniqueResultException.class, () -> {
-            ArgumentCaptor<Consumer<List<DocumentEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
-
-            ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
-            AtomicBoolean condition = new AtomicBoolean(false);
-            AtomicReference<Person> atomicReference = new AtomicReference<>();
-            Consumer<Optional<Person>> callback = p -> {
-                condition.set(true);
-                p.ifPresent(atomicReference::set);
-            };
-
-            subject.find(Person.class, 10L, callback);
-            verify(managerMock).select(queryCaptor.capture(), dianaCallbackCaptor.capture());
-            Consumer<List<DocumentEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
-            dianaCallBack.accept(asList(DocumentEntity.of("Person", asList(documents)),
-                    DocumentEntity.of("Person", asList(documents))));
-        });
-
+        subject.find(Person.class, 10L, callback);
+        verify(managerMock).select(Mockito.any(DocumentQuery.class), dianaCallbackCaptor.capture());
+        Consumer<List<DocumentEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
+        dianaCallBack.accept(asList(DocumentEntity.of("Person", asList(documents)),
+                DocumentEntity.of("Person", asList(documents))));
+        assertFalse(condition.get());
     }
 
     @Test
@@ -449,16 +443,128 @@ public class DefaultDocumentTemplateAsyncTest {
 
     @Test
     public void shouldCount() {
-        Consumer<Long> callback = l ->{};
+        ArgumentCaptor<Consumer<Long>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        AtomicReference<Long> atomicReference = new AtomicReference<>();
+        Consumer<Long> callback = atomicReference::set;
         subject.count("Person", callback);
-        verify(managerMock).count("Person", callback);
+        verify(managerMock).count(Mockito.eq("Person"), dianaCallbackCaptor.capture());
+        dianaCallbackCaptor.getValue().accept(10L);
+        assertEquals(Long.valueOf(10L), atomicReference.get());
     }
 
     @Test
     public void shouldCountFromEntityClass() {
-        Consumer<Long> callback = l ->{};
+        ArgumentCaptor<Consumer<Long>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        AtomicReference<Long> atomicReference = new AtomicReference<>();
+        Consumer<Long> callback = atomicReference::set;
         subject.count(Person.class, callback);
-        verify(managerMock).count("Person", callback);
+        verify(managerMock).count(Mockito.eq("Person"), dianaCallbackCaptor.capture());
+        dianaCallbackCaptor.getValue().accept(10L);
+        assertEquals(Long.valueOf(10L), atomicReference.get());
+    }
+
+    @Test
+    public void shouldInsertAsync() {
+        DocumentEntity entity = DocumentEntity.of("Person", asList(documents));
+        Mockito.doReturn(CompletableFuture.completedFuture(entity))
+                .when(managerMock).insertAsync(Mockito.any(DocumentEntity.class));
+
+        Person result = subject.insertAsync(person).toCompletableFuture().join();
+        verify(managerMock).insertAsync(captor.capture());
+        assertEquals("Person", captor.getValue().getName());
+        assertEquals(person.getName(), result.getName());
+    }
+
+    @Test
+    public void shouldUpdateAsync() {
+        DocumentEntity entity = DocumentEntity.of("Person", asList(documents));
+        Mockito.doReturn(CompletableFuture.completedFuture(entity))
+                .when(managerMock).updateAsync(Mockito.any(DocumentEntity.class));
+
+        Person result = subject.updateAsync(person).toCompletableFuture().join();
+        verify(managerMock).updateAsync(captor.capture());
+        assertEquals(person.getName(), result.getName());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldSelectAsync() {
+        DocumentQuery query = select().from("Person").build();
+        Mockito.doReturn(CompletableFuture.completedFuture(singletonList(DocumentEntity.of("Person", asList(documents)))))
+                .when(managerMock).selectAsync(query);
+
+        List<Person> people = subject.<Person>selectAsync(query).toCompletableFuture().join();
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
+    }
+
+    @Test
+    public void shouldFindAsync() {
+        Mockito.doReturn(CompletableFuture.completedFuture(Optional.of(DocumentEntity.of("Person", asList(documents)))))
+                .when(managerMock).singleResultAsync(Mockito.any(DocumentQuery.class));
+
+        Optional<Person> result = subject.findAsync(Person.class, 19L).toCompletableFuture().join();
+        assertEquals("Name", result.map(Person::getName).orElse(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSingleResultAsyncIsNotUnique() {
+        DocumentQuery query = select().from("Person").build();
+        Mockito.doReturn(CompletableFuture.completedFuture(asList(DocumentEntity.of("Person", asList(documents)),
+                DocumentEntity.of("Person", asList(documents)))))
+                .when(managerMock).selectAsync(query);
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> subject.singleResultAsync(query).toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof NonUniqueResultException);
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        Mockito.doReturn(CompletableFuture.completedFuture(null))
+                .when(managerMock).deleteAsync(Mockito.any(DocumentDeleteQuery.class));
+
+        subject.deleteAsync(Person.class, 10L).toCompletableFuture().join();
+        verify(managerMock).deleteAsync(Mockito.any(DocumentDeleteQuery.class));
+    }
+
+    @Test
+    public void shouldCountAsync() {
+        Mockito.doReturn(CompletableFuture.completedFuture(10L))
+                .when(managerMock).countAsync("Person");
+        assertEquals(Long.valueOf(10L), subject.countAsync(Person.class).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldSelectPublisher() {
+        DocumentQuery query = select().from("Person").build();
+        Mockito.doReturn(CompletableFuture.completedFuture(asList(DocumentEntity.of("Person", asList(documents)),
+                DocumentEntity.of("Person", asList(documents)))))
+                .when(managerMock).selectAsync(query);
+        List<Person> people = new ArrayList<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        subject.<Person>selectPublisher(query).subscribe(new Flow.Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                people.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Mockito.verify(managerMock, Mockito.never()).selectAsync(query);
+        subscription.get().request(1);
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
+    }
+}
@@ -16,12 +16,19 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.EntityCache;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.model.Country;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.BulkWriteException;
+import org.jnosql.diana.api.BulkWriteOptions;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.BulkWriteResult.Failure;
+import org.jnosql.diana.api.CommunicationException;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
@@ -35,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
@@ -45,6 +53,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
@@ -227,6 +236,28 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldSelectStream() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        DocumentQuery query = select().from("Person").build();
+        when(managerMock.selectStream(query, AbstractDocumentTemplate.DEFAULT_FETCH_SIZE))
+                .thenReturn(Stream.of(entity, entity));
+
+        try (Stream<Person> people = subject.selectStream(query)) {
+            verify(documentEventPersistManager).firePreQuery(query);
+            assertEquals(2L, people.peek(p -> assertEquals("Name", p.getName())).count());
+        }
+    }
+
+    @Test
+    public void shouldSelectStreamWithFetchSize() {
+        DocumentQuery query = select().from("Person").build();
+        when(managerMock.selectStream(query, 10)).thenReturn(Stream.empty());
+        assertEquals(0L, subject.selectStream(query, 10).count());
+        verify(managerMock).selectStream(query, 10);
+    }
+
 
     @Test
     public void shouldReturnSingleResult() {
@@ -353,5 +384,99 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).count("Person");
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldBulkInsertInBatches() {
+        when(managerMock.supportsBulkWrite()).thenReturn(true);
+        when(managerMock.bulkInsert(any(), any(BulkWriteOptions.class)))
+                .thenAnswer(i -> BulkWriteResult.of((List<DocumentEntity>) i.getArgument(0), emptyList()));
+        BulkWriteOptions options = BulkWriteOptions.builder().withBatchSize(2).build();
+
+        BulkWriteResult<Person> result = subject.bulkInsert(Arrays.asList(person, person, person), options);
+
+        verify(managerMock, times(2)).bulkInsert(any(), Mockito.eq(options));
+        verify(documentEventPersistManager, times(3)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, times(3)).firePostEntity(any(Person.class));
+        verify(documentEventPersistManager, times(3)).firePostDocument(any(DocumentEntity.class));
+        assertEquals(3, result.getEntities().size());
+        assertFalse(result.hasFailures());
+    }
+
+    @Test
+    public void shouldStopBulkInsertAtFailedBatch() {
+        when(managerMock.supportsBulkWrite()).thenReturn(true);
+        when(managerMock.bulkInsert(any(), any(BulkWriteOptions.class))).thenAnswer(this::failSecond);
+        BulkWriteOptions options = BulkWriteOptions.builder().withBatchSize(2).build();
+
+        BulkWriteResult<Person> result = subject.bulkInsert(Arrays.asList(person, person, person), options);
+
+        verify(managerMock).bulkInsert(any(), any(BulkWriteOptions.class));
+        assertEquals(1, result.getEntities().size());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(person, result.getFailures().get(0).getEntity());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBulkUpdateFails() {
+        when(managerMock.supportsBulkWrite()).thenReturn(true);
+        when(managerMock.bulkUpdate(any(), any(BulkWriteOptions.class))).thenAnswer(this::failSecond);
+
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class,
+                () -> subject.update(Arrays.asList(person, person)));
+        assertEquals(1, exception.getResult().getFailures().size());
+        verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private BulkWriteResult<DocumentEntity> failSecond(InvocationOnMock invocation) {
+        List<DocumentEntity> entities = invocation.getArgument(0);
+        return BulkWriteResult.of(singletonList(entities.get(0)),
+                singletonList(Failure.of(1, entities.get(1), new CommunicationException("error"))));
+    }
+
+    @Test
+    public void shouldFindFromCache() {
+        DocumentEntity entity = DocumentEntity.of("Country", asList(Document.of("_id", "BR"), Document.of("name", "Brazil")));
+        when(managerMock.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(entity));
+
+        Optional<Country> country = subject.find(Country.class, "BR");
+        assertEquals("Brazil", country.map(Country::getName).orElse(null));
+        country = subject.find(Country.class, "BR");
+        assertEquals("Brazil", country.map(Country::getName).orElse(null));
+
+        verify(managerMock, times(1)).singleResult(any(DocumentQuery.class));
+        EntityCache<?> cache = subject.getCache(Country.class).orElseThrow(IllegalStateException::new);
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertFalse(subject.getCache(Person.class).isPresent());
+    }
+
+    @Test
+    public void shouldInvalidateCacheWhenUpdate() {
+        DocumentEntity entity = DocumentEntity.of("Country", asList(Document.of("_id", "BR"), Document.of("name", "Brazil")));
+        when(managerMock.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(entity));
+        when(managerMock.update(any(DocumentEntity.class))).thenReturn(entity);
+
+        subject.find(Country.class, "BR");
+        subject.update(new Country("BR", "Brasil"));
+        subject.find(Country.class, "BR");
+
+        verify(managerMock, times(2)).singleResult(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldInvalidateCacheWhenDelete() {
+        DocumentEntity entity = DocumentEntity.of("Country", asList(Document.of("_id", "BR"), Document.of("name", "Brazil")));
+        when(managerMock.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(entity));
+
+        subject.find(Country.class, "BR");
+        subject.delete(Country.class, "BR");
+        subject.find(Country.class, "BR");
+        subject.delete(delete().from("Country").build());
+        subject.find(Country.class, "BR");
+
+        verify(managerMock, times(3)).singleResult(any(DocumentQuery.class));
+    }
 
-}
\ No newline at end of file
+}
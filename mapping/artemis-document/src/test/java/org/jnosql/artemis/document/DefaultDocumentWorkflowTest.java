@@ -15,6 +15,8 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.BulkWriteResult;
+import org.jnosql.diana.api.BulkWriteResult.Failure;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,10 +25,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -73,4 +84,72 @@ public class DefaultDocumentWorkflowTest {
         verify(converter).toDocument(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldSkipEventsWhenThereIsNotObserver() {
+        when(columnEventPersistManager.skipsPersistEvents()).thenReturn(true);
+        UnaryOperator<DocumentEntity> action = t -> t;
+        subject.flow(Person.builder().withId(1L).withAge().withName("Ada").build(), action);
+
+        verify(columnEventPersistManager, never()).firePreDocument(any());
+        verify(columnEventPersistManager, never()).firePostDocument(any());
+        verify(columnEventPersistManager, never()).firePreEntity(any());
+        verify(columnEventPersistManager, never()).firePostEntity(any());
+        verify(columnEventPersistManager, never()).firePreDocumentEntity(any());
+        verify(columnEventPersistManager, never()).firePostDocumentEntity(any());
+        verify(converter).toDocument(any(Object.class));
+    }
+
+    @Test
+    public void shouldFlowEachEntityWhenTheWorkflowDoesNotHaveBatch() {
+        DocumentWorkflow workflow = new DocumentWorkflow() {
+            @Override
+            public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
+                action.apply(DocumentEntity.of(entity.toString()));
+                return entity;
+            }
+        };
+
+        Function<List<DocumentEntity>, BulkWriteResult<DocumentEntity>> action = batch -> {
+            DocumentEntity entity = batch.get(0);
+            if ("b".equals(entity.getName())) {
+                return BulkWriteResult.of(emptyList(), singletonList(Failure.of(0, entity, new RuntimeException())));
+            }
+            return BulkWriteResult.of(batch, emptyList());
+        };
+        BulkWriteResult<String> result = workflow.flow(asList("a", "b", "c"), false, action);
+
+        assertEquals(asList("a", "c"), result.getEntities());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("b", result.getFailures().get(0).getEntity());
+    }
+
+    @Test
+    public void shouldStopAtTheFirstFailureWhenTheBatchIsOrdered() {
+        List<String> flowed = new ArrayList<>();
+        DocumentWorkflow workflow = new DocumentWorkflow() {
+            @Override
+            public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
+                flowed.add(entity.toString());
+                action.apply(DocumentEntity.of(entity.toString()));
+                return entity;
+            }
+        };
+
+        Function<List<DocumentEntity>, BulkWriteResult<DocumentEntity>> action = batch -> {
+            DocumentEntity entity = batch.get(0);
+            if ("b".equals(entity.getName())) {
+                return BulkWriteResult.of(emptyList(), singletonList(Failure.of(0, entity, new RuntimeException())));
+            }
+            return BulkWriteResult.of(batch, emptyList());
+        };
+        BulkWriteResult<String> result = workflow.flow(asList("a", "b", "c"), true, action);
+
+        assertEquals(singletonList("a"), result.getEntities());
+        assertEquals(asList("a", "b"), flowed);
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("b", result.getFailures().get(0).getEntity());
+    }
+
+}
@@ -58,7 +58,7 @@ public class DocumentCollectionManagerMock implements UnaryDocumentConfiguration
 
         @Override
         public DocumentCollectionManagerAsync getAsync(String database) {
-            return Mockito.mock(DocumentCollectionManagerAsync.class);
+            return Mockito.mock(DocumentCollectionManagerAsync.class, Mockito.CALLS_REAL_METHODS);
         }
 
         @Override
@@ -25,6 +25,7 @@ import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Flow;
 import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
@@ -208,6 +209,21 @@ public class DocumentRepositoryAsyncProxyTest {
 
     }
 
+    @Test
+    public void shouldFindByNameWithPublisher() {
+        Flow.Publisher<Person> publisher = Mockito.mock(Flow.Publisher.class);
+        when(template.<Person>selectPublisher(any(DocumentQuery.class))).thenReturn(publisher);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        assertEquals(publisher, personRepository.findByAge(20));
+        verify(template).selectPublisher(captor.capture());
+        DocumentQuery query = captor.getValue();
+        DocumentCondition condition = query.getCondition().get();
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Document.of("age", 20), condition.getDocument());
+    }
+
     @Test
     public void shouldFindById() {
         ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
@@ -279,6 +295,8 @@ public class DocumentRepositoryAsyncProxyTest {
 
         void findByNameOrderByAgeDesc(String name, Consumer<List<Person>> callBack);
 
+        Flow.Publisher<Person> findByAge(Integer age);
+
         @Query("select * from Person")
         void findByQuery();
 
@@ -26,15 +26,16 @@ import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.Value;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -43,6 +44,9 @@ import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 
 abstract class AbstractGraphConverter implements GraphConverter {
 
+    private final Map<ClassMapping, FieldReaderPlan[]> readerPlans = new ConcurrentHashMap<>();
+
+    private final Map<String, ClassMapping> mappingsByLabel = new ConcurrentHashMap<>();
 
     protected abstract ClassMappings getClassMappings();
 
@@ -53,7 +57,41 @@ abstract class AbstractGraphConverter implements GraphConverter {
     @Override
     public <T> Vertex toVertex(T entity) {
         requireNonNull(entity, "entity is required");
+        return toVertex(entity, true);
+    }
+
+    @Override
+    public <T> Vertex toNewVertex(T entity) {
+        requireNonNull(entity, "entity is required");
+        return toVertex(entity, false);
+    }
 
+    /**
+     * Finds the vertices from the id
+     *
+     * @param id the vertex id
+     * @return the vertices found
+     */
+    protected Iterator<Vertex> getVertices(Object id) {
+        return getGraph().vertices(id);
+    }
+
+    /**
+     * Creates a new vertex
+     *
+     * @param label the vertex label
+     * @param id    the vertex id, or null to let the graph create it
+     * @return the new vertex
+     */
+    protected Vertex addVertex(String label, Object id) {
+        if (id == null) {
+            return getGraph().addVertex(label);
+        }
+        return getGraph().addVertex(org.apache.tinkerpop.gremlin.structure.T.label, label,
+                org.apache.tinkerpop.gremlin.structure.T.id, id);
+    }
+
+    private <T> Vertex toVertex(T entity, boolean lookup) {
         ClassMapping mapping = getClassMappings().get(entity.getClass());
         String label = mapping.getName();
 
@@ -63,15 +101,13 @@ abstract class AbstractGraphConverter implements GraphConverter {
 
         Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
         final Function<Property, Vertex> findVertexOrCreateWithId = p -> {
-            Iterator<Vertex> vertices = getGraph().vertices(p.value());
-            return vertices.hasNext() ? vertices.next() :
-                    getGraph().addVertex(org.apache.tinkerpop.gremlin.structure.T.label, label,
-                            org.apache.tinkerpop.gremlin.structure.T.id, p.value());
+            Iterator<Vertex> vertices = lookup ? getVertices(p.value()) : Collections.emptyIterator();
+            return vertices.hasNext() ? vertices.next() : addVertex(label, p.value());
         };
 
         Vertex vertex = id.map(i -> i.toElement(getConverters()))
                 .map(findVertexOrCreateWithId)
-                .orElseGet(() -> getGraph().addVertex(label));
+                .orElseGet(() -> addVertex(label, null));
 
         fields.stream().filter(FieldGraph::isNotId)
                 .flatMap(f -> f.toElements(this, getConverters()).stream())
@@ -96,11 +132,26 @@ abstract class AbstractGraphConverter implements GraphConverter {
     @Override
     public <T> T toEntity(Vertex vertex) {
         requireNonNull(vertex, "vertex is required");
-        ClassMapping mapping = getClassMappings().findByName(vertex.label());
+        ClassMapping mapping = getClassMapping(vertex.label());
 
-        List<Property> properties = vertex.keys().stream().map(k -> DefaultProperty.of(k, vertex.value(k))).collect(toList());
+        T entity = toEntity((Class<T>) mapping.getClassInstance(), getProperties(vertex));
+        feedId(vertex.id(), entity);
+        return entity;
+    }
+
+    @Override
+    public <T> T toEntityFromValueMap(Map<Object, Object> valueMap) {
+        requireNonNull(valueMap, "valueMap is required");
+        ClassMapping mapping = getClassMapping((String) valueMap.get(org.apache.tinkerpop.gremlin.structure.T.label));
+
+        List<Property> properties = new ArrayList<>(valueMap.size());
+        for (Map.Entry<Object, Object> entry : valueMap.entrySet()) {
+            if (entry.getKey() instanceof String) {
+                properties.add(DefaultProperty.of((String) entry.getKey(), getValue(entry.getValue())));
+            }
+        }
         T entity = toEntity((Class<T>) mapping.getClassInstance(), properties);
-        feedId(vertex, entity);
+        feedId(valueMap.get(org.apache.tinkerpop.gremlin.structure.T.id), entity);
         return entity;
     }
 
@@ -109,9 +160,8 @@ abstract class AbstractGraphConverter implements GraphConverter {
         requireNonNull(entityClass, "entityClass is required");
         requireNonNull(vertex, "vertex is required");
 
-        List<Property> properties = vertex.keys().stream().map(k -> DefaultProperty.of(k, vertex.value(k))).collect(toList());
-        T entity = toEntity(entityClass, properties);
-        feedId(vertex, entity);
+        T entity = toEntity(entityClass, getProperties(vertex));
+        feedId(vertex.id(), entity);
         return entity;
     }
 
@@ -120,11 +170,9 @@ abstract class AbstractGraphConverter implements GraphConverter {
         requireNonNull(entityInstance, "entityInstance is required");
         requireNonNull(vertex, "vertex is required");
 
-        List<Property> properties = vertex.keys().stream().map(k -> DefaultProperty.of(k, vertex.value(k))).collect(toList());
-
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        convertEntity(properties, mapping, entityInstance);
-        feedId(vertex, entityInstance);
+        convertEntity(getProperties(vertex), mapping, entityInstance);
+        feedId(vertex.id(), entityInstance);
         return entityInstance;
 
     }
@@ -148,12 +196,31 @@ abstract class AbstractGraphConverter implements GraphConverter {
         throw new EntityNotFoundException("Edge does not found in the database with id: " + id);
     }
 
-    private <T> void feedId(Vertex vertex, T entity) {
+    private ClassMapping getClassMapping(String label) {
+        ClassMapping mapping = mappingsByLabel.get(label);
+        if (mapping == null) {
+            mapping = mappingsByLabel.computeIfAbsent(label, getClassMappings()::findByName);
+        }
+        return mapping;
+    }
+
+    private List<Property> getProperties(Vertex vertex) {
+        List<Property> properties = new ArrayList<>();
+        vertex.properties().forEachRemaining(p -> properties.add(DefaultProperty.of(p.key(), p.value())));
+        return properties;
+    }
+
+    private static Object getValue(Object value) {
+        if (value instanceof List && ((List<?>) value).size() == 1) {
+            return ((List<?>) value).get(0);
+        }
+        return value;
+    }
+
+    private <T> void feedId(Object vertexId, T entity) {
         ClassMapping mapping = getClassMappings().get(entity.getClass());
         Optional<FieldMapping> id = mapping.getId();
 
-
-        Object vertexId = vertex.id();
         if (Objects.nonNull(vertexId) && id.isPresent()) {
             FieldMapping fieldMapping = id.get();
 
@@ -176,40 +243,36 @@ abstract class AbstractGraphConverter implements GraphConverter {
     }
 
     private <T> T convertEntity(List<Property> elements, ClassMapping mapping, T instance) {
+        final Map<String, Property> elementsByKey = new HashMap<>(elements.size() * 2);
+        for (Property element : elements) {
+            elementsByKey.putIfAbsent(element.key(), element);
+        }
 
-        Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        List<String> names = elements.stream()
-                .map(Property::key)
-                .sorted()
-                .collect(toList());
-        Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
-
+        for (FieldReaderPlan plan : getReaderPlans(mapping)) {
+            if (plan.embedded) {
+                setEmbeddedField(instance, elements, plan.field);
+            } else {
+                Property element = elementsByKey.get(plan.name);
+                if (element != null) {
+                    setSingleField(instance, element, plan.field);
+                }
+            }
+        }
         return instance;
     }
 
-    private <T> Consumer<String> feedObject(T instance, List<Property> elements,
-                                            Map<String, FieldMapping> fieldsGroupByName) {
-        return k -> {
-            Optional<Property> element = elements
-                    .stream()
-                    .filter(c -> c.key().equals(k))
-                    .findFirst();
-
-            FieldMapping field = fieldsGroupByName.get(k);
-            if (EMBEDDED.equals(field.getType())) {
-                setEmbeddedField(instance, elements, field);
-            } else {
-                setSingleField(instance, element, field);
-            }
-        };
+    private FieldReaderPlan[] getReaderPlans(ClassMapping mapping) {
+        FieldReaderPlan[] plans = readerPlans.get(mapping);
+        if (plans == null) {
+            plans = readerPlans.computeIfAbsent(mapping, m -> m.getFields().stream()
+                    .map(FieldReaderPlan::new)
+                    .toArray(FieldReaderPlan[]::new));
+        }
+        return plans;
     }
 
-    private <T> void setSingleField(T instance, Optional<Property> element, FieldMapping field) {
-        Object value = element.get().value();
+    private <T> void setSingleField(T instance, Property element, FieldMapping field) {
+        Object value = element.value();
         Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
         if (converter.isPresent()) {
             AttributeConverter attributeConverter = getConverters().get(converter.get());
@@ -229,4 +292,23 @@ abstract class AbstractGraphConverter implements GraphConverter {
         Object value = field.read(entityInstance);
         return FieldGraph.of(value, field);
     }
+
+    /**
+     * A field of the entity resolved once per {@link ClassMapping}: its property key
+     * and whether it is read from the whole property list instead of a single property.
+     */
+    private static final class FieldReaderPlan {
+
+        private final String name;
+
+        private final FieldMapping field;
+
+        private final boolean embedded;
+
+        private FieldReaderPlan(FieldMapping field) {
+            this.name = field.getName();
+            this.field = field;
+            this.embedded = EMBEDDED.equals(field.getType());
+        }
+    }
 }
@@ -79,7 +79,9 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         checkId(entity);
         UnaryOperator<Vertex> save = v -> v;
 
-        return getFlow().flow(entity, save);
+        T result = getFlow().flow(entity, save);
+        TransactionScope.onMutation();
+        return result;
     }
 
     @Override
@@ -92,7 +94,9 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         getVertex(entity).orElseThrow(() -> new EntityNotFoundException("Entity does not find in the update"));
 
         UnaryOperator<Vertex> update = e -> getConverter().toVertex(entity);
-        return getFlow().flow(entity, update);
+        T result = getFlow().flow(entity, update);
+        TransactionScope.onMutation();
+        return result;
     }
 
     @Override
@@ -100,6 +104,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(idValue, "id is required");
         List<Vertex> vertices = getTraversal().V(idValue).toList();
         vertices.forEach(Vertex::remove);
+        TransactionScope.onMutation();
 
     }
 
@@ -108,6 +113,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(idEdge, "idEdge is required");
         List<Edge> edges = getTraversal().E(idEdge).toList();
         edges.forEach(Edge::remove);
+        TransactionScope.onMutation();
     }
 
     @Override
@@ -149,7 +155,11 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
                 .out(label).has(id, inVertex.id()).inE(label).filter(predicate).tryNext();
 
         return edge.<EdgeEntity>map(edge1 -> new DefaultEdgeEntity<>(edge1, incoming, outgoing))
-                .orElseGet(() -> new DefaultEdgeEntity<>(outVertex.addEdge(label, inVertex), incoming, outgoing));
+                .orElseGet(() -> {
+                    Edge created = outVertex.addEdge(label, inVertex);
+                    TransactionScope.onMutation();
+                    return new DefaultEdgeEntity<>(created, incoming, outgoing);
+                });
 
 
     }
@@ -227,6 +237,16 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         return getGraph().tx();
     }
 
+    @Override
+    public GraphBulkLoader bulk() {
+        GraphTraversalSource traversal = getTraversal();
+        Transaction transaction = null;
+        if (traversal.getGraph().features().graph().supportsTransactions()) {
+            transaction = getTransaction();
+        }
+        return new DefaultGraphBulkLoader(traversal, transaction, getConverter(), getClassMappings());
+    }
+
 
     @Override
     public <T> List<T> query(String gremlin) {
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -29,18 +30,36 @@ import static java.util.stream.Collectors.toList;
 
 class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
-    private final O outgoing;
+    private final Supplier<O> outgoing;
 
     private final Edge edge;
 
-    private final I incoming;
+    private final Supplier<I> incoming;
 
     DefaultEdgeEntity(Edge edge, I incoming, O outgoing) {
+        this(edge, LazySupplier.resolved(incoming), LazySupplier.resolved(outgoing));
+    }
+
+    private DefaultEdgeEntity(Edge edge, Supplier<I> incoming, Supplier<O> outgoing) {
         this.edge = edge;
         this.incoming = incoming;
         this.outgoing = outgoing;
     }
 
+    /**
+     * Creates an edge whose incoming and outgoing entities are only converted on the first access
+     *
+     * @param edge     the edge
+     * @param incoming the incoming entity supplier
+     * @param outgoing the outgoing entity supplier
+     * @param <O>      the outgoing type
+     * @param <I>      the incoming type
+     * @return the edge entity
+     */
+    static <O, I> DefaultEdgeEntity<O, I> lazy(Edge edge, Supplier<I> incoming, Supplier<O> outgoing) {
+        return new DefaultEdgeEntity<>(edge, new LazySupplier<>(incoming), new LazySupplier<>(outgoing));
+    }
+
     @Override
     public Value getId() {
         return Value.of(edge.id());
@@ -53,12 +72,12 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
     @Override
     public I getIncoming() {
-        return incoming;
+        return incoming.get();
     }
 
     @Override
     public O getOutgoing() {
-        return outgoing;
+        return outgoing.get();
     }
 
     @Override
@@ -125,21 +144,57 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
             return false;
         }
         DefaultEdgeEntity<?, ?> that = (DefaultEdgeEntity<?, ?>) o;
-        return Objects.equals(edge, that.edge) &&
-                Objects.equals(incoming, that.incoming) &&
-                Objects.equals(outgoing, that.outgoing);
+        return Objects.equals(edge, that.edge);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(edge, incoming, outgoing);
+        return Objects.hashCode(edge);
     }
 
     @Override
     public String toString() {
-        return  String.valueOf(outgoing) +
+        return  outgoing +
                 "---" + edge.label() +
                 " --->" + incoming;
     }
 
+    private static final class LazySupplier<T> implements Supplier<T> {
+
+        private final Supplier<T> supplier;
+
+        private volatile T value;
+
+        private LazySupplier(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private static <T> LazySupplier<T> resolved(T value) {
+            LazySupplier<T> supplier = new LazySupplier<>(() -> value);
+            supplier.value = value;
+            return supplier;
+        }
+
+        @Override
+        public T get() {
+            T result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = requireNonNull(supplier.get(), "the entity is required");
+                        value = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            T result = value;
+            return result == null ? "<not loaded>" : result.toString();
+        }
+    }
+
 }
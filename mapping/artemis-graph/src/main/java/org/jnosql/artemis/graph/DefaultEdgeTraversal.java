@@ -20,7 +20,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.util.List;
 import java.util.Optional;
@@ -87,7 +86,7 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
     public EdgeTraversal filter(Predicate<EdgeEntity> predicate) {
         requireNonNull(predicate, "predicat is required");
 
-        Predicate<Traverser<Edge>> p = e -> predicate.test(converter.toEdgeEntity(e.get()));
+        Predicate<Traverser<Edge>> p = e -> predicate.test(toLazyEdgeEntity(e.get()));
         return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.filter(p)), converter);
     }
 
@@ -136,24 +135,21 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Optional<EdgeEntity> getSingleResult() {
-        List<EdgeEntity> result = getResultList();
-
-        if(result.isEmpty()) {
-            return Optional.empty();
-        }else if(result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Edge traversal query returns more than one result");
+        Optional<Edge> edge = TraversalUtil.singleResult(flow.apply(supplier.get()),
+                "The Edge traversal query returns more than one result");
+        return edge.map(converter::toEdgeEntity);
     }
 
     @Override
     public List<EdgeEntity> getResultList() {
-        return stream().collect(toList());
+        try (Stream<Edge> stream = TraversalUtil.stream(flow.apply(supplier.get()))) {
+            return stream.map(converter::toEdgeEntity).collect(toList());
+        }
     }
 
     @Override
     public Stream<EdgeEntity> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(converter::toEdgeEntity);
+        return TraversalUtil.stream(flow.apply(supplier.get())).map(this::toLazyEdgeEntity);
     }
 
     @Override
@@ -161,6 +157,11 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
         return flow.apply(supplier.get()).next(limit).stream().map(converter::toEdgeEntity);
     }
 
+    private EdgeEntity toLazyEdgeEntity(Edge edge) {
+        return DefaultEdgeEntity.lazy(edge, () -> converter.toEntity(edge.inVertex()),
+                () -> converter.toEntity(edge.outVertex()));
+    }
+
     @Override
     public ValueMapTraversal valueMap(String... propertyKeys) {
         return new DefaultValueMapTraversal(supplier, flow.andThen(g -> g.valueMap(propertyKeys)));
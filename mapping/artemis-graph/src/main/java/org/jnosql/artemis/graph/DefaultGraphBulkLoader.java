@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.EntityNotFoundException;
+import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default implementation of {@link GraphBulkLoader}. The vertices inserted or found in the current batch are kept
+ * by id, so the edges between them do not look the vertices up again; they are released at each batch.
+ */
+class DefaultGraphBulkLoader implements GraphBulkLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(DefaultGraphBulkLoader.class.getName());
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+    private final GraphTraversalSource traversal;
+
+    private final Transaction transaction;
+
+    private final GraphConverter converter;
+
+    private final ClassMappings classMappings;
+
+    private final Map<Object, Vertex> vertices = new HashMap<>();
+
+    private final long start = System.nanoTime();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private boolean insertOnly;
+
+    private boolean committed;
+
+    private int pending;
+
+    private long vertexCount;
+
+    private long edgeCount;
+
+    private long commitCount;
+
+    DefaultGraphBulkLoader(GraphTraversalSource traversal, Transaction transaction, GraphConverter converter,
+                           ClassMappings classMappings) {
+        this.traversal = traversal;
+        this.transaction = transaction;
+        this.converter = converter;
+        this.classMappings = classMappings;
+    }
+
+    @Override
+    public GraphBulkLoader batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public GraphBulkLoader insertOnly() {
+        this.insertOnly = true;
+        return this;
+    }
+
+    @Override
+    public <T> Object insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        checkNotCommitted();
+        Vertex vertex = insertOnly ? converter.toNewVertex(entity) : converter.toVertex(entity);
+        vertices.put(vertex.id(), vertex);
+        vertexCount++;
+        added();
+        return vertex.id();
+    }
+
+    @Override
+    public <T> GraphBulkLoader insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        entities.forEach(this::insert);
+        return this;
+    }
+
+    @Override
+    public <O, I> GraphBulkLoader edge(O outgoing, String label, I incoming) {
+        requireNonNull(outgoing, "outgoing is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(incoming, "incoming is required");
+        Object outgoingId = getId(outgoing).read(outgoing);
+        Object incomingId = getId(incoming).read(incoming);
+        if (outgoingId == null) {
+            throw new IllegalStateException("outgoing Id field is required");
+        }
+        if (incomingId == null) {
+            throw new IllegalStateException("incoming Id field is required");
+        }
+        return edgeById(outgoingId, label, incomingId);
+    }
+
+    @Override
+    public GraphBulkLoader edgeById(Object outgoingId, String label, Object incomingId) {
+        requireNonNull(outgoingId, "outgoingId is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(incomingId, "incomingId is required");
+        checkNotCommitted();
+
+        Vertex outVertex = getVertex(outgoingId, "Outgoing");
+        Vertex inVertex = getVertex(incomingId, "Incoming");
+        if (insertOnly || !hasEdge(outVertex, label, inVertex)) {
+            outVertex.addEdge(label, inVertex);
+            edgeCount++;
+            added();
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        vertices.clear();
+        if (pending == 0) {
+            return;
+        }
+        pending = 0;
+        if (transaction != null) {
+            transaction.commit();
+            commitCount++;
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Bulk load: %d vertices, %d edges, %.2f elements/s",
+                    vertexCount, edgeCount, getThroughput()));
+        }
+    }
+
+    @Override
+    public void commit() {
+        checkNotCommitted();
+        flush();
+        committed = true;
+    }
+
+    @Override
+    public long getVertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public long getCommitCount() {
+        return commitCount;
+    }
+
+    @Override
+    public Duration getElapsedTime() {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    @Override
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - start;
+        if (elapsed <= 0) {
+            return 0D;
+        }
+        return (vertexCount + edgeCount) * NANOS_PER_SECOND / elapsed;
+    }
+
+    @Override
+    public void close() {
+        vertices.clear();
+        if (committed || pending == 0) {
+            return;
+        }
+        LOGGER.warning(String.format("Bulk load was not committed, rolling back the last %d elements", pending));
+        pending = 0;
+        if (transaction != null) {
+            transaction.rollback();
+        }
+    }
+
+    private void checkNotCommitted() {
+        if (committed) {
+            throw new IllegalStateException("The bulk load is already committed");
+        }
+    }
+
+    private void added() {
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+
+    private Vertex getVertex(Object id, String name) {
+        Vertex vertex = vertices.get(id);
+        if (vertex == null) {
+            vertex = TraversalUtil.first(traversal.V(id))
+                    .orElseThrow(() -> new EntityNotFoundException(name + " entity does not found: " + id));
+            vertices.put(id, vertex);
+        }
+        return vertex;
+    }
+
+    private boolean hasEdge(Vertex outVertex, String label, Vertex inVertex) {
+        Iterator<Edge> edges = outVertex.edges(Direction.OUT, label);
+        while (edges.hasNext()) {
+            if (edges.next().inVertex().id().equals(inVertex.id())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> FieldMapping getId(T entity) {
+        ClassMapping mapping = classMappings.get(entity.getClass());
+        return mapping.getId().orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+    }
+}
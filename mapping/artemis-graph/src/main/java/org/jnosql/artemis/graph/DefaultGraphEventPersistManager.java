@@ -18,13 +18,22 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObserverUtil.isObserved;
+
+/**
+ * The default implementation of {@link GraphEventPersistManager}.
+ * The observers of each event are resolved once, at the boot, so an event without observers is not fired.
+ */
 @ApplicationScoped
 class DefaultGraphEventPersistManager implements GraphEventPersistManager {
 
+    private static final String SAMPLE = "sample";
 
     @Inject
     private Event<GraphEntityPrePersist> graphEntityPrePersistEvent;
@@ -44,33 +53,75 @@ class DefaultGraphEventPersistManager implements GraphEventPersistManager {
     @Inject
     private Event<EntityGraphPostPersist> entityGraphPostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean preGraph = true;
+
+    private boolean postGraph = true;
+
+    private boolean preEntity = true;
+
+    private boolean postEntity = true;
+
+    private boolean preGraphEntity = true;
+
+    private boolean postGraphEntity = true;
+
+    @PostConstruct
+    void init() {
+        preGraph = isObserved(beanManager, new DefaultGraphEntityPrePersist(null));
+        postGraph = isObserved(beanManager, new DefaultGraphEntityPostPersist(null));
+        preEntity = isObserved(beanManager, EntityPrePersist.of(SAMPLE));
+        postEntity = isObserved(beanManager, EntityPostPersit.of(SAMPLE));
+        preGraphEntity = isObserved(beanManager, EntityGraphPrePersist.of(SAMPLE));
+        postGraphEntity = isObserved(beanManager, EntityGraphPostPersist.of(SAMPLE));
+    }
+
     @Override
     public void firePreGraph(Vertex entity) {
-        graphEntityPrePersistEvent.fire(GraphEntityPrePersist.of(entity));
+        if (preGraph) {
+            graphEntityPrePersistEvent.fire(GraphEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostGraph(Vertex entity) {
-        graphEntityPostPersistEvent.fire(GraphEntityPostPersist.of(entity));
+        if (postGraph) {
+            graphEntityPostPersistEvent.fire(GraphEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (preEntity) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (postEntity) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreGraphEntity(T entity) {
-        entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        if (preGraphEntity) {
+            entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostGraphEntity(T entity) {
-        entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        if (postGraphEntity) {
+            entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        }
+    }
+
+    @Override
+    public boolean skipsPersistEvents() {
+        return !(preGraph || postGraph || preEntity || postEntity || preGraphEntity || postGraphEntity);
     }
 }
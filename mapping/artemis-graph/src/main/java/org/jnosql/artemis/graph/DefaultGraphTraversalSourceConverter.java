@@ -17,22 +17,16 @@ package org.jnosql.artemis.graph;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
-import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.EntityNotFoundException;
-import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 /**
  * A default implementation to GraphTraversalSourceOperation
@@ -75,36 +69,18 @@ class DefaultGraphTraversalSourceConverter extends AbstractGraphConverter {
     }
 
     @Override
-    public <T> Vertex toVertex(T entity) {
-        requireNonNull(entity, "entity is required");
-
-        ClassMapping mapping = getClassMappings().get(entity.getClass());
-        String label = mapping.getName();
-
-        List<FieldGraph> fields = mapping.getFields().stream()
-                .map(f -> to(f, entity))
-                .filter(FieldGraph::isNotEmpty).collect(toList());
-
-        Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
-
-        final Function<Property, Vertex> findVertexOrCreateWithId = p -> {
-            Iterator<Vertex> vertices = getTraversalSource().V(p.value());
-            return vertices.hasNext() ? vertices.next() :
-                    getTraversalSource().addV(label)
-                            .property(org.apache.tinkerpop.gremlin.structure.T.id, p.value())
-                            .next();
-        };
-
-        Vertex vertex = id.map(i -> i.toElement(getConverters()))
-                .map(findVertexOrCreateWithId)
-                .orElseGet(() -> getTraversalSource().addV(label).next());
-
-        fields.stream().filter(FieldGraph::isNotId)
-                .flatMap(f -> f.toElements(this, getConverters()).stream())
-                .forEach(p -> vertex.property(p.key(), p.value()));
-
-        return vertex;
+    protected Iterator<Vertex> getVertices(Object id) {
+        return getTraversalSource().V(id);
+    }
 
+    @Override
+    protected Vertex addVertex(String label, Object id) {
+        if (id == null) {
+            return getTraversalSource().addV(label).next();
+        }
+        return getTraversalSource().addV(label)
+                .property(org.apache.tinkerpop.gremlin.structure.T.id, id)
+                .next();
     }
 
     @Override
@@ -18,7 +18,6 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.inject.Inject;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -42,56 +41,20 @@ class DefaultGraphWorkflow implements GraphWorkflow {
 
     @Override
     public <T> T flow(T entity, UnaryOperator<Vertex> action) {
-        Function<T, T> flow = getFlow(entity, action);
-        return flow.apply(entity);
-    }
-
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<Vertex> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            graphEventPersistManager.firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreGraphEntity = t -> {
-            graphEventPersistManager.firePreGraphEntity(t);
-            return t;
-        };
-
-        Function<T, Vertex> converterGraph = t -> converter.toVertex(t);
-
-        UnaryOperator<Vertex> firePreGraph = t -> {
-            graphEventPersistManager.firePreGraph(t);
-            return t;
-        };
-
-        UnaryOperator<Vertex> firePostGraph = t -> {
-            graphEventPersistManager.firePostGraph(t);
-            return t;
-        };
-
-        Function<Vertex, T> converterEntity = t -> converter.toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            graphEventPersistManager.firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostGraphEntity = t -> {
-            graphEventPersistManager.firePostGraphEntity(t);
-            return t;
-        };
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreGraphEntity)
-                .andThen(converterGraph)
-                .andThen(firePreGraph)
-                .andThen(action)
-                .andThen(firePostGraph)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostGraphEntity);
+        Objects.requireNonNull(entity, "entity is required");
+        if (graphEventPersistManager.skipsPersistEvents()) {
+            return converter.toEntity(entity, action.apply(converter.toVertex(entity)));
+        }
+
+        graphEventPersistManager.firePreEntity(entity);
+        graphEventPersistManager.firePreGraphEntity(entity);
+        Vertex vertex = converter.toVertex(entity);
+        graphEventPersistManager.firePreGraph(vertex);
+        Vertex written = action.apply(vertex);
+        graphEventPersistManager.firePostGraph(written);
+        T result = converter.toEntity(entity, written);
+        graphEventPersistManager.firePostEntity(result);
+        graphEventPersistManager.firePostGraphEntity(result);
+        return result;
     }
 }
@@ -35,6 +35,8 @@ final class DefaultPreparedStatement implements PreparedStatement {
 
     private final GraphTraversalSource traversalSource;
 
+    private GremlinScript script;
+
     DefaultPreparedStatement(GremlinExecutor executor, String gremlin, GraphTraversalSource traversalSource) {
         this.executor = executor;
         this.gremlin = gremlin;
@@ -52,7 +54,10 @@ final class DefaultPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> List<T> getResultList() {
-        return executor.executeGremlin(traversalSource, gremlin, params);
+        if (script == null) {
+            script = executor.prepare(gremlin);
+        }
+        return executor.executeGremlin(traversalSource, gremlin, script, params);
     }
 
     @Override
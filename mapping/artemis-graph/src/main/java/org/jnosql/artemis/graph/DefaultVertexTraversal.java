@@ -20,9 +20,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Entity;
-import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -176,39 +176,39 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Optional<T> next() {
-        Optional<Vertex> vertex = flow.apply(supplier.get()).tryNext();
-        return vertex.map(converter::toEntity);
+        Optional<Map<Object, Object>> vertex = properties().tryNext();
+        return vertex.map(converter::toEntityFromValueMap);
     }
 
     @Override
     public <T> Stream<T> stream() {
-        return flow.apply(supplier.get()).toList().stream()
-                .map(converter::toEntity);
+        return TraversalUtil.stream(properties())
+                .map(converter::toEntityFromValueMap);
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
-        List<T> result = getResultList();
-
-        if (result.isEmpty()) {
-            return Optional.empty();
-        } else if (result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Vertex traversal query returns more than one result");
+        Optional<Map<Object, Object>> vertex = TraversalUtil.singleResult(properties(),
+                "The Vertex traversal query returns more than one result");
+        return vertex.map(converter::toEntityFromValueMap);
     }
 
     @Override
     public <T> List<T> getResultList() {
-        Stream<T> stream = stream();
-        return stream.collect(Collectors.toList());
+        try (Stream<T> stream = stream()) {
+            return stream.collect(Collectors.toList());
+        }
     }
 
     @Override
     public <T> Stream<T> next(int limit) {
-        return flow.apply(supplier.get())
+        return properties()
                 .next(limit).stream()
-                .map(converter::toEntity);
+                .map(converter::toEntityFromValueMap);
+    }
+
+    private GraphTraversal<Vertex, Map<Object, Object>> properties() {
+        return flow.apply(supplier.get()).valueMap(true);
     }
 
     @Override
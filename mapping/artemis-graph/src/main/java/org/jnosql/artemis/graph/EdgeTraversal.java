@@ -105,7 +105,10 @@ public interface EdgeTraversal extends EdgeConditionTraversal {
     VertexTraversal bothV();
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the elements are read from the traversal on demand
+     * and closing the stream closes the traversal. The incoming and outgoing entities of each edge are also
+     * read on demand, at the first access, so in a transactional graph they must be accessed before
+     * the transaction is finished.
      *
      * @return the entity result as {@link Stream}
      */
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.time.Duration;
+
+/**
+ * A loader to insert a large amount of vertices and edges, it is created by {@link GraphTemplate#bulk()}.
+ * Unlike the {@link GraphTemplate}, it neither fires the persist events nor converts the vertices back to entities,
+ * it commits the transaction every {@link GraphBulkLoader#batchSize(int)} elements when the graph supports
+ * transactions and, in the {@link GraphBulkLoader#insertOnly()} mode, it skips the checks of existing vertices
+ * and edges. The last batch is committed only by {@link GraphBulkLoader#commit()}, so when the loading fails
+ * before it, {@link GraphBulkLoader#close()} rolls the last batch back instead of committing part of it.
+ * <pre>{@code
+ * try (GraphBulkLoader loader = template.bulk().batchSize(10_000).insertOnly()) {
+ *     Object ada = loader.insert(new Person("Ada"));
+ *     Object matrix = loader.insert(new Movie("Matrix"));
+ *     loader.edgeById(ada, "watch", matrix);
+ *     loader.commit();
+ * }
+ * }</pre>
+ */
+public interface GraphBulkLoader extends AutoCloseable {
+
+    /**
+     * The default amount of elements between the commits
+     */
+    int DEFAULT_BATCH_SIZE = 1_000;
+
+    /**
+     * Defines the amount of vertices and edges inserted between the commits
+     *
+     * @param batchSize the batch size
+     * @return this loader
+     * @throws IllegalArgumentException when batchSize is negative or zero
+     */
+    GraphBulkLoader batchSize(int batchSize);
+
+    /**
+     * Enables the insert-only mode: the entities are inserted as new vertices without looking for an existing
+     * vertex with the same id and the edges are created without looking for an existing edge with the same label
+     * between the two vertices.
+     *
+     * @return this loader
+     */
+    GraphBulkLoader insertOnly();
+
+    /**
+     * Inserts an entity as a vertex, an entity without id gets the id generated by the graph
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the vertex id
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the loader is already committed
+     */
+    <T> Object insert(T entity);
+
+    /**
+     * Inserts the entities as vertices
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return this loader
+     * @throws NullPointerException  when entities is null
+     * @throws IllegalStateException when the loader is already committed
+     */
+    <T> GraphBulkLoader insert(Iterable<T> entities);
+
+    /**
+     * Creates an edge between the vertices of two entities, the vertices are found from the id fields of
+     * the entities, so the entities are not reloaded.
+     *
+     * @param outgoing the outgoing entity
+     * @param label    the edge label
+     * @param incoming the incoming entity
+     * @param <O>      the outgoing type
+     * @param <I>      the incoming type
+     * @return this loader
+     * @throws NullPointerException    when either outgoing, label or incoming is null
+     * @throws IllegalStateException   when either outgoing or incoming id is null or the loader is already committed
+     * @throws org.jnosql.artemis.IdNotFoundException when either outgoing or incoming has no id field
+     * @throws org.jnosql.artemis.EntityNotFoundException when there is not a vertex to either outgoing or incoming
+     */
+    <O, I> GraphBulkLoader edge(O outgoing, String label, I incoming);
+
+    /**
+     * Creates an edge between two vertices from their ids
+     *
+     * @param outgoingId the outgoing vertex id
+     * @param label      the edge label
+     * @param incomingId the incoming vertex id
+     * @return this loader
+     * @throws NullPointerException    when either outgoingId, label or incomingId is null
+     * @throws IllegalStateException   when the loader is already committed
+     * @throws org.jnosql.artemis.EntityNotFoundException when there is not a vertex to either outgoingId or incomingId
+     */
+    GraphBulkLoader edgeById(Object outgoingId, String label, Object incomingId);
+
+    /**
+     * Commits the elements inserted since the last commit, when the graph supports transactions
+     */
+    void flush();
+
+    /**
+     * Commits the last batch and finishes the loading, the loader does not accept elements after it
+     *
+     * @throws IllegalStateException when the loader is already committed
+     */
+    void commit();
+
+    /**
+     * Returns the amount of vertices inserted
+     *
+     * @return the vertex count
+     */
+    long getVertexCount();
+
+    /**
+     * Returns the amount of edges created
+     *
+     * @return the edge count
+     */
+    long getEdgeCount();
+
+    /**
+     * Returns the amount of commits done
+     *
+     * @return the commit count
+     */
+    long getCommitCount();
+
+    /**
+     * Returns the time since the loader was created
+     *
+     * @return the elapsed time
+     */
+    Duration getElapsedTime();
+
+    /**
+     * Returns the amount of vertices and edges loaded per second
+     *
+     * @return the throughput
+     */
+    double getThroughput();
+
+    /**
+     * Rolls the last batch back when the loader is not committed, {@link GraphBulkLoader#commit()}.
+     * When the graph does not support transactions, the elements are already in the graph.
+     */
+    @Override
+    void close();
+}
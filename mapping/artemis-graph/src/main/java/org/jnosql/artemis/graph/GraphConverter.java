@@ -17,8 +17,12 @@ package org.jnosql.artemis.graph;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public interface GraphConverter {
 
@@ -32,6 +36,20 @@ public interface GraphConverter {
      */
     <T> Vertex toVertex(T entity);
 
+    /**
+     * Converts entity object to a new TinkerPop Vertex, unlike {@link GraphConverter#toVertex(Object)}
+     * it does not look for an existing vertex with the same id, so it is meant to entities known as new,
+     * such as in a bulk load.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the new ThinkerPop Vertex with the entity values
+     * @throws NullPointerException when entity is null
+     */
+    default <T> Vertex toNewVertex(T entity) {
+        return toVertex(entity);
+    }
+
     /**
      * Converts vertex to an entity
      *
@@ -42,6 +60,33 @@ public interface GraphConverter {
      */
     <T> T toEntity(Vertex vertex);
 
+    /**
+     * Converts the properties of a vertex, as returned by the {@code valueMap(true)} step, to an entity,
+     * so a traversal fetches all the properties of each vertex in a single step.
+     * By default it adapts {@link GraphConverter#toEntity(Vertex)} with a detached copy of the vertex.
+     *
+     * @param valueMap the vertex properties with the {@link org.apache.tinkerpop.gremlin.structure.T#id}
+     *                 and {@link org.apache.tinkerpop.gremlin.structure.T#label} tokens
+     * @param <T>      the entity type
+     * @return a entity instance
+     * @throws NullPointerException when valueMap is null
+     */
+    default <T> T toEntityFromValueMap(Map<Object, Object> valueMap) {
+        Objects.requireNonNull(valueMap, "valueMap is required");
+        Vertex vertex = StarGraph.open().addVertex(
+                org.apache.tinkerpop.gremlin.structure.T.id, valueMap.get(org.apache.tinkerpop.gremlin.structure.T.id),
+                org.apache.tinkerpop.gremlin.structure.T.label,
+                valueMap.get(org.apache.tinkerpop.gremlin.structure.T.label));
+        valueMap.forEach((key, value) -> {
+            if (key instanceof String) {
+                Object property = value instanceof List && ((List<?>) value).size() == 1 ? ((List<?>) value).get(0)
+                        : value;
+                vertex.property(VertexProperty.Cardinality.single, (String) key, property);
+            }
+        });
+        return toEntity(vertex);
+    }
+
     /**
      * Converts vertex to an entity
      *
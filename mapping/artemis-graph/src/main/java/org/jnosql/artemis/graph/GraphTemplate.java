@@ -232,6 +232,13 @@ public interface GraphTemplate {
      */
     Transaction getTransaction();
 
+    /**
+     * Creates a loader to insert a large amount of vertices and edges in batches.
+     *
+     * @return a new {@link GraphBulkLoader}
+     */
+    GraphBulkLoader bulk();
+
 
     /**
      * Executes a Gremlin gremlin then bring the result as a {@link List}
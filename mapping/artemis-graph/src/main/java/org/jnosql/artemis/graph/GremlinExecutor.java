@@ -21,19 +21,41 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.script.Bindings;
-import javax.script.ScriptEngine;
+import javax.script.CompiledScript;
 import javax.script.ScriptException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+/**
+ * The executor of the Gremlin queries. Each distinct query is prepared once, either parsed into traversal steps by the
+ * {@link GremlinParser} or compiled by the Groovy script engine, and kept in a cache bounded by size, thus the
+ * repeated queries skip the Groovy compilation and the parameters are only given as bindings.
+ */
 final class GremlinExecutor {
 
+    /**
+     * The system property that disables the {@link GremlinParser}, when it is true every query is compiled by the
+     * Groovy script engine.
+     */
+    static final String PARSER_DISABLED = "jnosql.gremlin.parser.disabled";
 
-    private final GraphConverter converter;
+    private static final int CACHE_SIZE = 1_000;
+
+    private static final GremlinGroovyScriptEngine ENGINE = new GremlinGroovyScriptEngine();
 
-    private static final ScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+    private static final Map<String, GremlinScript> SCRIPTS = Collections.synchronizedMap(
+            new LinkedHashMap<String, GremlinScript>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, GremlinScript> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private final GraphConverter converter;
 
     GremlinExecutor(GraphConverter converter) {
         this.converter = converter;
@@ -44,12 +66,13 @@ final class GremlinExecutor {
     }
 
     <T> List<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
-        try {
-            Bindings bindings = ENGINE.createBindings();
-            bindings.put("g", traversalSource);
-            params.forEach(bindings::put);
+        return executeGremlin(traversalSource, gremlin, prepare(gremlin), params);
+    }
 
-            Object eval = ENGINE.eval(gremlin, bindings);
+    <T> List<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, GremlinScript script,
+                               Map<String, Object> params) {
+        try {
+            Object eval = script.eval(traversalSource, params);
             if (eval instanceof GraphTraversal) {
                 return convertToList(((GraphTraversal) eval).toList());
             }
@@ -62,6 +85,42 @@ final class GremlinExecutor {
         }
     }
 
+    /**
+     * Returns the prepared query from the cache, or parses or compiles it when it is not there yet.
+     *
+     * @param gremlin the query
+     * @return the prepared query
+     * @throws GremlinQueryException when the query cannot be compiled
+     */
+    GremlinScript prepare(String gremlin) {
+        GremlinScript script = SCRIPTS.get(gremlin);
+        if (script == null) {
+            script = compile(gremlin);
+            SCRIPTS.put(gremlin, script);
+        }
+        return script;
+    }
+
+    private static GremlinScript compile(String gremlin) {
+        if (!Boolean.getBoolean(PARSER_DISABLED)) {
+            Optional<GremlinScript> script = GremlinParser.parse(gremlin);
+            if (script.isPresent()) {
+                return script.get();
+            }
+        }
+        try {
+            CompiledScript script = ENGINE.compile(gremlin);
+            return (traversalSource, params) -> {
+                Bindings bindings = ENGINE.createBindings();
+                bindings.put("g", traversalSource);
+                params.forEach(bindings::put);
+                return script.eval(bindings);
+            };
+        } catch (ScriptException e) {
+            throw new GremlinQueryException("There is an error when executed the gremlin query: " + gremlin, e);
+        }
+    }
+
     private <T> List<T> convertToList(Iterable<?> iterable) {
         List<T> entities = new ArrayList<>();
 
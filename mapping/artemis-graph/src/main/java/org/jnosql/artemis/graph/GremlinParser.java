@@ -0,0 +1,401 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.jsr223.CoreImports;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A parser to a restricted subset of Gremlin that creates the traversal steps straight, without the Groovy
+ * script engine, e.g.: {@code g.V().hasLabel('Person').has('name', name).out('knows').limit(10)}.
+ * The query must start at either {@code g.V()} or {@code g.E()} and every argument must be a string, an integer,
+ * a boolean or a parameter name; any other construction, such as closures, predicates or decimal numbers,
+ * is not supported and then the query goes to the script engine. A parameter name that is also a name imported
+ * by the script engine, e.g. {@code id} or {@code label}, goes to the script engine as well, since there the import
+ * wins over the binding.
+ */
+final class GremlinParser {
+
+    private static final List<String> NO_ARGUMENT_STEPS = Arrays.asList("outV", "inV", "bothV", "otherV", "count",
+            "id", "label", "dedup", "toList");
+
+    private static final List<String> LABEL_STEPS = Arrays.asList("out", "in", "both", "outE", "inE", "bothE",
+            "values");
+
+    private static final Set<String> IMPORTED_NAMES = importedNames();
+
+    private final String gremlin;
+
+    private int position;
+
+    private GremlinParser(String gremlin) {
+        this.gremlin = gremlin;
+    }
+
+    /**
+     * Parses a Gremlin query
+     *
+     * @param gremlin the query
+     * @return the query as traversal steps or {@link Optional#empty()} when the query is not supported
+     */
+    static Optional<GremlinScript> parse(String gremlin) {
+        try {
+            return Optional.of(new GremlinParser(gremlin).parseQuery());
+        } catch (UnsupportedGremlinException exp) {
+            return Optional.empty();
+        }
+    }
+
+    private GremlinScript parseQuery() {
+        expect("g");
+        expect(".");
+        String source = identifier();
+        if (!"V".equals(source) && !"E".equals(source)) {
+            throw new UnsupportedGremlinException();
+        }
+        List<Argument> sourceArguments = arguments();
+        List<Step> steps = new ArrayList<>();
+        while (hasNext()) {
+            expect(".");
+            steps.add(step(identifier(), arguments()));
+        }
+        int toList = steps.indexOf(Step.TO_LIST);
+        if (toList >= 0 && toList != steps.size() - 1) {
+            throw new UnsupportedGremlinException();
+        }
+
+        return (traversalSource, params) -> {
+            Object[] ids = resolve(sourceArguments, params);
+            GraphTraversal<?, ?> traversal = "V".equals(source) ? traversalSource.V(ids) : traversalSource.E(ids);
+            for (Step step : steps) {
+                traversal = step.apply(traversal, resolve(step.arguments, params));
+            }
+            return traversal;
+        };
+    }
+
+    private Step step(String name, List<Argument> arguments) {
+        int size = arguments.size();
+        if (NO_ARGUMENT_STEPS.contains(name) && size == 0) {
+            return "toList".equals(name) ? Step.TO_LIST : new Step(name, arguments, noArgumentStep(name));
+        }
+        if (LABEL_STEPS.contains(name)) {
+            return new Step(name, arguments, labelStep(name));
+        }
+        switch (name) {
+            case "has":
+                if (size == 1) {
+                    return new Step(name, arguments, (t, a) -> t.has(string(a[0])));
+                } else if (size == 2) {
+                    return new Step(name, arguments, (t, a) -> t.has(string(a[0]), a[1]));
+                } else if (size == 3) {
+                    return new Step(name, arguments, (t, a) -> t.has(string(a[0]), string(a[1]), a[2]));
+                }
+                break;
+            case "hasNot":
+                if (size == 1) {
+                    return new Step(name, arguments, (t, a) -> t.hasNot(string(a[0])));
+                }
+                break;
+            case "hasLabel":
+                if (size >= 1) {
+                    return new Step(name, arguments, (t, a) -> t.hasLabel(string(a[0]), strings(a, 1)));
+                }
+                break;
+            case "hasId":
+                if (size >= 1) {
+                    return new Step(name, arguments, (t, a) -> t.hasId(a[0], Arrays.copyOfRange(a, 1, a.length)));
+                }
+                break;
+            case "limit":
+                if (size == 1) {
+                    return new Step(name, arguments, (t, a) -> t.limit(number(a[0])));
+                }
+                break;
+            case "skip":
+                if (size == 1) {
+                    return new Step(name, arguments, (t, a) -> t.skip(number(a[0])));
+                }
+                break;
+            case "range":
+                if (size == 2) {
+                    return new Step(name, arguments, (t, a) -> t.range(number(a[0]), number(a[1])));
+                }
+                break;
+            default:
+        }
+        throw new UnsupportedGremlinException();
+    }
+
+    private static BiFunction<GraphTraversal<?, ?>, Object[], GraphTraversal<?, ?>> noArgumentStep(String name) {
+        switch (name) {
+            case "outV":
+                return (t, a) -> t.outV();
+            case "inV":
+                return (t, a) -> t.inV();
+            case "bothV":
+                return (t, a) -> t.bothV();
+            case "otherV":
+                return (t, a) -> t.otherV();
+            case "count":
+                return (t, a) -> t.count();
+            case "id":
+                return (t, a) -> t.id();
+            case "label":
+                return (t, a) -> t.label();
+            default:
+                return (t, a) -> t.dedup();
+        }
+    }
+
+    private static BiFunction<GraphTraversal<?, ?>, Object[], GraphTraversal<?, ?>> labelStep(String name) {
+        switch (name) {
+            case "out":
+                return (t, a) -> t.out(strings(a, 0));
+            case "in":
+                return (t, a) -> t.in(strings(a, 0));
+            case "both":
+                return (t, a) -> t.both(strings(a, 0));
+            case "outE":
+                return (t, a) -> t.outE(strings(a, 0));
+            case "inE":
+                return (t, a) -> t.inE(strings(a, 0));
+            case "bothE":
+                return (t, a) -> t.bothE(strings(a, 0));
+            default:
+                return (t, a) -> t.values(strings(a, 0));
+        }
+    }
+
+    private List<Argument> arguments() {
+        expect("(");
+        List<Argument> arguments = new ArrayList<>();
+        if (next(")")) {
+            return arguments;
+        }
+        do {
+            arguments.add(argument());
+        } while (next(","));
+        expect(")");
+        return arguments;
+    }
+
+    private Argument argument() {
+        skipWhitespace();
+        if (position >= gremlin.length()) {
+            throw new UnsupportedGremlinException();
+        }
+        char current = gremlin.charAt(position);
+        if (current == '\'' || current == '"') {
+            return Argument.value(text(current));
+        }
+        if (current == '-' || Character.isDigit(current)) {
+            return Argument.value(integer());
+        }
+        String identifier = identifier();
+        if ("true".equals(identifier) || "false".equals(identifier)) {
+            return Argument.value(Boolean.valueOf(identifier));
+        }
+        if ("null".equals(identifier) || "g".equals(identifier) || IMPORTED_NAMES.contains(identifier)) {
+            throw new UnsupportedGremlinException();
+        }
+        return Argument.param(identifier);
+    }
+
+    private String text(char quote) {
+        int end = gremlin.indexOf(quote, position + 1);
+        if (end < 0) {
+            throw new UnsupportedGremlinException();
+        }
+        String text = gremlin.substring(position + 1, end);
+        if (text.indexOf('\\') >= 0 || (quote == '"' && text.indexOf('$') >= 0)) {
+            throw new UnsupportedGremlinException();
+        }
+        position = end + 1;
+        return text;
+    }
+
+    private Number integer() {
+        boolean negative = gremlin.charAt(position) == '-';
+        int start = negative ? position + 1 : position;
+        int end = start;
+        while (end < gremlin.length() && Character.isDigit(gremlin.charAt(end))) {
+            end++;
+        }
+        if (end == start || end - start > 18) {
+            throw new UnsupportedGremlinException();
+        }
+        long value = Long.parseLong(gremlin.substring(start, end));
+        value = negative ? -value : value;
+        position = end;
+        if (position < gremlin.length() && Character.toUpperCase(gremlin.charAt(position)) == 'L') {
+            position++;
+            return value;
+        }
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private String identifier() {
+        skipWhitespace();
+        int start = position;
+        while (position < gremlin.length() && (Character.isLetterOrDigit(gremlin.charAt(position))
+                || gremlin.charAt(position) == '_')) {
+            position++;
+        }
+        if (start == position || Character.isDigit(gremlin.charAt(start))) {
+            throw new UnsupportedGremlinException();
+        }
+        return gremlin.substring(start, position);
+    }
+
+    private void expect(String token) {
+        if (!next(token)) {
+            throw new UnsupportedGremlinException();
+        }
+    }
+
+    private boolean next(String token) {
+        skipWhitespace();
+        if (gremlin.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasNext() {
+        skipWhitespace();
+        return position < gremlin.length();
+    }
+
+    private void skipWhitespace() {
+        while (position < gremlin.length() && Character.isWhitespace(gremlin.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static Set<String> importedNames() {
+        Set<String> names = new HashSet<>();
+        CoreImports.getEnumImports().forEach(e -> names.add(e.name()));
+        CoreImports.getClassImports().forEach(c -> names.add(c.getSimpleName()));
+        return names;
+    }
+
+    private static Object[] resolve(List<Argument> arguments, Map<String, Object> params) {
+        Object[] values = new Object[arguments.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = arguments.get(index).get(params);
+        }
+        return values;
+    }
+
+    private static String string(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        throw new GremlinQueryException("The argument must be a String: " + value);
+    }
+
+    private static String[] strings(Object[] values, int start) {
+        String[] strings = new String[values.length - start];
+        for (int index = start; index < values.length; index++) {
+            strings[index - start] = string(values[index]);
+        }
+        return strings;
+    }
+
+    private static long number(Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        throw new GremlinQueryException("The argument must be an integer number: " + value);
+    }
+
+    private static final class Argument {
+
+        private final Object value;
+
+        private final String param;
+
+        private Argument(Object value, String param) {
+            this.value = value;
+            this.param = param;
+        }
+
+        Object get(Map<String, Object> params) {
+            if (param == null) {
+                return value;
+            }
+            if (!params.containsKey(param)) {
+                throw new GremlinQueryException("There is not a value to the parameter: " + param);
+            }
+            return params.get(param);
+        }
+
+        static Argument value(Object value) {
+            return new Argument(value, null);
+        }
+
+        static Argument param(String param) {
+            return new Argument(null, param);
+        }
+    }
+
+    private static final class Step {
+
+        private static final Step TO_LIST = new Step("toList", new ArrayList<>(), (t, a) -> t);
+
+        private final String name;
+
+        private final List<Argument> arguments;
+
+        private final BiFunction<GraphTraversal<?, ?>, Object[], GraphTraversal<?, ?>> step;
+
+        private Step(String name, List<Argument> arguments,
+                     BiFunction<GraphTraversal<?, ?>, Object[], GraphTraversal<?, ?>> step) {
+            this.name = name;
+            this.arguments = arguments;
+            this.step = step;
+        }
+
+        GraphTraversal<?, ?> apply(GraphTraversal<?, ?> traversal, Object[] values) {
+            return step.apply(traversal, values);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final class UnsupportedGremlinException extends RuntimeException {
+
+        private UnsupportedGremlinException() {
+            super(null, null, false, false);
+        }
+    }
+}
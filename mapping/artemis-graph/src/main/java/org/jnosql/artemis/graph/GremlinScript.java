@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+
+import javax.script.ScriptException;
+import java.util.Map;
+
+/**
+ * A Gremlin query ready to be executed, either compiled by the script engine or parsed into traversal steps,
+ * the parameters are given only as bindings, so the same instance is reused to every execution of the query.
+ */
+@FunctionalInterface
+interface GremlinScript {
+
+    /**
+     * Executes the query
+     *
+     * @param traversalSource the traversal source bound as "g"
+     * @param params          the parameters of the query
+     * @return the result of the query
+     * @throws ScriptException when there is an error in the script engine
+     */
+    Object eval(GraphTraversalSource traversalSource, Map<String, Object> params) throws ScriptException;
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+
+import java.util.Optional;
+
+/**
+ * The transaction started by the outermost {@link Transactional} method of a thread, it keeps the depth of
+ * the transactional methods that joined it and the mutations done since the last commit.
+ */
+final class TransactionScope {
+
+    private static final ThreadLocal<TransactionScope> CURRENT = new ThreadLocal<>();
+
+    private final Transaction transaction;
+
+    private final int commitEvery;
+
+    private int depth;
+
+    private int mutations;
+
+    private boolean rollbackOnly;
+
+    private TransactionScope(Transaction transaction, int commitEvery) {
+        this.transaction = transaction;
+        this.commitEvery = commitEvery;
+    }
+
+    /**
+     * Returns the transaction scope of the current thread
+     *
+     * @return the scope or {@link Optional#empty()} when there is not a transactional method running
+     */
+    static Optional<TransactionScope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Starts a transaction scope in the current thread
+     *
+     * @param transaction the transaction
+     * @param commitEvery the amount of mutations between the commits, or zero to commit only at the end
+     * @return the new scope
+     */
+    static TransactionScope begin(Transaction transaction, int commitEvery) {
+        TransactionScope scope = new TransactionScope(transaction, commitEvery);
+        scope.depth = 1;
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Informs the scope of the current thread, if there is one, that a mutation was done
+     */
+    static void onMutation() {
+        TransactionScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.mutated();
+        }
+    }
+
+    void join() {
+        depth++;
+    }
+
+    void leave() {
+        depth--;
+        if (depth == 0) {
+            CURRENT.remove();
+        }
+    }
+
+    void commit() {
+        if (rollbackOnly) {
+            rollback();
+            throw new IllegalStateException("The transaction was rolled back because a method that joined it failed");
+        }
+        try {
+            transaction.commit();
+        } catch (RuntimeException exception) {
+            rollback();
+            throw exception;
+        }
+    }
+
+    void rollback() {
+        transaction.rollback();
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    void setRollbackOnly() {
+        this.rollbackOnly = true;
+    }
+
+    boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    private void mutated() {
+        if (commitEvery > 0 && !rollbackOnly && ++mutations >= commitEvery) {
+            mutations = 0;
+            transaction.commit();
+            transaction.open();
+        }
+    }
+}
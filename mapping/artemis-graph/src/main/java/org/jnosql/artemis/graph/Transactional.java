@@ -15,6 +15,7 @@
 package org.jnosql.artemis.graph;
 
 
+import javax.enterprise.util.Nonbinding;
 import javax.interceptor.InterceptorBinding;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -26,9 +27,49 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * The Transactional annotation provides the application the ability to declaratively
  * control transaction boundaries on CDI managed beans. {@link org.apache.tinkerpop.gremlin.structure.Transaction}
+ * Only the outermost boundary of a thread commits, so a transactional method that calls another one
+ * keeps a single unit of work.
  */
 @InterceptorBinding
 @Target({METHOD, TYPE})
 @Retention(RUNTIME)
 public @interface Transactional {
-}
\ No newline at end of file
+
+    /**
+     * The propagation of the transaction
+     *
+     * @return the propagation, by default {@link Propagation#REQUIRED}
+     */
+    @Nonbinding
+    Propagation value() default Propagation.REQUIRED;
+
+    /**
+     * Commits the transaction every time the amount of mutations done through the {@link GraphTemplate}
+     * reaches this value, it is meant to long-running batch methods; it applies when the method starts the
+     * transaction. When it is zero, the transaction is committed only at the end of the method.
+     *
+     * @return the amount of mutations between the commits
+     */
+    @Nonbinding
+    int commitEvery() default 0;
+
+    /**
+     * The propagation of a transaction boundary when there is already a transaction in the thread
+     */
+    enum Propagation {
+        /**
+         * Joins the current transaction, or starts a new one when there is not.
+         */
+        REQUIRED,
+        /**
+         * Starts a transaction that is committed or rolled back at the end of the method, it throws
+         * {@link IllegalStateException} when there is a current transaction: the TinkerPop transactions are bound
+         * to the thread and cannot be suspended, so the commit would take the mutations of the caller with it.
+         */
+        REQUIRES_NEW,
+        /**
+         * Joins the current transaction, it throws {@link IllegalStateException} when there is not.
+         */
+        MANDATORY
+    }
+}
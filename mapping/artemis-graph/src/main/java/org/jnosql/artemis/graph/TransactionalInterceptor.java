@@ -24,6 +24,8 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 import javax.annotation.Priority;
+import java.lang.reflect.Method;
+import java.util.Optional;
 
 
 @Transactional
@@ -37,20 +39,66 @@ class TransactionalInterceptor {
 
     @AroundInvoke
     public Object manageTransaction(InvocationContext context) throws Exception {
+        Transactional transactional = getTransactional(context);
+        Transactional.Propagation propagation = transactional == null ? Transactional.Propagation.REQUIRED
+                : transactional.value();
+        Optional<TransactionScope> current = TransactionScope.current();
+
+        if (current.isPresent() && Transactional.Propagation.REQUIRES_NEW.equals(propagation)) {
+            throw new IllegalStateException("The method " + context.getMethod()
+                    + " requires a new transaction, but there is one in progress that cannot be suspended");
+        }
+        if (current.isPresent()) {
+            return join(context, current.get());
+        }
+        if (!current.isPresent() && Transactional.Propagation.MANDATORY.equals(propagation)) {
+            throw new IllegalStateException("The method " + context.getMethod()
+                    + " requires a transaction, but there is not one in progress");
+        }
+
         Transaction transaction = graph.get().tx();
         if (!transaction.isOpen()) {
             transaction.open();
         }
+        TransactionScope scope = TransactionScope.begin(transaction,
+                transactional == null ? 0 : transactional.commitEvery());
         try {
-            Object proceed = context.proceed();
-            transaction.commit();
+            Object proceed = proceed(context, scope);
+            scope.commit();
             return proceed;
+        } finally {
+            scope.leave();
+        }
+    }
+
+    private Object proceed(InvocationContext context, TransactionScope scope) throws Exception {
+        try {
+            return context.proceed();
         } catch (Exception exception) {
-            transaction.rollback();
+            scope.rollback();
             throw exception;
         }
+    }
 
+    private Object join(InvocationContext context, TransactionScope scope) throws Exception {
+        scope.join();
+        try {
+            return context.proceed();
+        } catch (Exception exception) {
+            scope.setRollbackOnly();
+            throw exception;
+        } finally {
+            scope.leave();
+        }
     }
 
+    private static Transactional getTransactional(InvocationContext context) {
+        Method method = context.getMethod();
+        Transactional transactional = method.getAnnotation(Transactional.class);
+        if (transactional == null) {
+            transactional = method.getDeclaringClass().getAnnotation(Transactional.class);
+        }
+        return transactional;
+    }
 
 }
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.jnosql.diana.api.NonUniqueResultException;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Utilitarian class to the traversals, it reads the results straight from the TinkerPop {@link Traversal} iterator,
+ * thus the elements are fetched and converted on demand instead of being loaded into a list first.
+ */
+final class TraversalUtil {
+
+    private TraversalUtil() {
+    }
+
+    /**
+     * Creates a lazy stream from a traversal, the traversal is closed when the stream is closed.
+     *
+     * @param traversal the traversal
+     * @param <E>       the element type
+     * @return the stream
+     */
+    static <E> Stream<E> stream(Traversal<?, E> traversal) {
+        return traversal.toStream().onClose(() -> close(traversal));
+    }
+
+    /**
+     * Returns the single element of a traversal, it reads at most two elements and then closes the traversal.
+     *
+     * @param traversal the traversal
+     * @param message   the message to the exception when there is more than one element
+     * @param <E>       the element type
+     * @return the element or {@link Optional#empty()} when the traversal is empty
+     * @throws NonUniqueResultException when the traversal returns more than one element
+     */
+    static <E> Optional<E> singleResult(Traversal<?, E> traversal, String message) {
+        try {
+            if (!traversal.hasNext()) {
+                return Optional.empty();
+            }
+            E element = traversal.next();
+            if (traversal.hasNext()) {
+                throw new NonUniqueResultException(message);
+            }
+            return Optional.of(element);
+        } finally {
+            close(traversal);
+        }
+    }
+
+    /**
+     * Returns the first element of a traversal, it reads at most one element and then closes the traversal.
+     *
+     * @param traversal the traversal
+     * @param <E>       the element type
+     * @return the element or {@link Optional#empty()} when the traversal is empty
+     */
+    static <E> Optional<E> first(Traversal<?, E> traversal) {
+        try {
+            if (!traversal.hasNext()) {
+                return Optional.empty();
+            }
+            return Optional.of(traversal.next());
+        } finally {
+            close(traversal);
+        }
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception exp) {
+            throw new GremlinQueryException("There is an error when the traversal was closed", exp);
+        }
+    }
+}
@@ -27,7 +27,8 @@ public interface ValueMapTraversal {
 
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the elements are read from the traversal on demand
+     * and closing the stream closes the traversal
      *
      * @return the entity result as {@link Stream}
      */
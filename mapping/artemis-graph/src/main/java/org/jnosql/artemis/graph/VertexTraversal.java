@@ -142,7 +142,8 @@ public interface VertexTraversal extends VertexConditionTraversal {
     <T> Optional<T> next();
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the elements are read from the traversal on demand
+     * and closing the stream closes the traversal
      *
      * @param <T> the entity type
      * @return the entity result as {@link Stream}
@@ -14,9 +14,12 @@
  */
 package org.jnosql.artemis.graph.query;
 
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.GraphConverter;
 import org.jnosql.artemis.graph.GraphTemplate;
@@ -24,6 +27,7 @@ import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.DynamicQueryMethodReturn;
 import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.util.PaginationUtil;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -31,6 +35,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -73,11 +78,15 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
             case DELETE_BY:
                 return executeDeleteMethod(method, args);
             case FIND_ALL:
-                return findAll(method, typeClass);
+                return findAll(method, args, typeClass);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case UNKNOWN:
             case JNOSQL_QUERY:
+                if (PaginationUtil.getPagination(args).isPresent()) {
+                    throw new DynamicQueryException("The Gremlin queries do not support Pagination, "
+                            + "use the range step at the query instead: " + method);
+                }
                 DynamicQueryMethodReturn methodReturn = DynamicQueryMethodReturn.builder()
                         .withArgs(args)
                         .withMethod(method)
@@ -91,17 +100,26 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
         }
     }
 
-    private Object findAll(Method method, Class<?> typeClass) {
+    private Object findAll(Method method, Object[] args, Class<?> typeClass) {
 
-        Supplier<List<?>> querySupplier = () ->
-                getGraph().traversal().V()
-                        .hasLabel(getClassMapping().getName())
-                        .toList()
-                        .stream()
-                        .map(getConverter()::toEntity)
-                        .collect(toList());
+        Supplier<List<?>> querySupplier = () -> {
+            GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V()
+                    .hasLabel(getClassMapping().getName());
+            Optional<Pagination> pagination = PaginationUtil.getPagination(args);
+            List<Vertex> vertices;
+            if (pagination.isPresent()) {
+                GraphQueryMethod queryMethod = new GraphQueryMethod(getClassMapping(), traversal,
+                        getConverters(), method, args);
+                vertices = converter.paginate(queryMethod, traversal, emptyList(), pagination.get());
+            } else {
+                vertices = traversal.toList();
+            }
+            return vertices.stream()
+                    .map(getConverter()::toEntity)
+                    .collect(toList());
+        };
 
-        return converter(method, typeClass, querySupplier);
+        return converter(method, args, typeClass, querySupplier);
     }
 
     private Object findById(Method method, Object[] args, Class<?> typeClass) {
@@ -117,21 +135,22 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
                     .collect(toList());
         };
 
-        return converter(method, typeClass, querySupplier);
+        return converter(method, args, typeClass, querySupplier);
     }
 
-    private Object converter(Method method, Class<?> typeClass, Supplier<List<?>> querySupplier) {
+    private Object converter(Method method, Object[] args, Class<?> typeClass, Supplier<List<?>> querySupplier) {
         Supplier<Optional<?>> singleSupplier =
                 DynamicReturn.toSingleResult(method).apply(querySupplier);
 
-        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+        DynamicReturn.DefaultDynamicReturnBuilder builder = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
                 .withList(querySupplier)
-                .withSingleResult(singleSupplier)
-                .build();
+                .withSingleResult(singleSupplier);
+        PaginationUtil.getPagination(args).ifPresent(p -> builder.withPage(() ->
+                PaginationUtil.toPage(querySupplier.get(), p, getClassMapping())));
 
-        return dynamicReturn.execute();
+        return builder.build().execute();
     }
 
     private Object executeDeleteMethod(Method method, Object[] args) {
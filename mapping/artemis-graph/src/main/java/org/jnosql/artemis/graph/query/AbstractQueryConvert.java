@@ -24,32 +24,27 @@ import org.jnosql.query.ConditionValue;
 import org.jnosql.query.Operator;
 import org.jnosql.query.Where;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import static java.util.Collections.singletonList;
+
+/**
+ * The base of the converters from the repository method to a traversal. The traversal starts at the label of the
+ * entity and the conditions of a top-level AND become has steps, the equality ones first, so the providers can
+ * fold them into the vertex lookup and use their label and property indexes; the conditions that cannot become a
+ * has step, such as OR and NOT, are filters after them.
+ */
 abstract class AbstractQueryConvert {
 
 
     protected GraphTraversal<Vertex, Vertex> getPredicate(GraphQueryMethod graphQuery, Condition condition,
                                                         ClassMapping mapping) {
         Operator operator = condition.getOperator();
-        String name = condition.getName();
-        String nativeName = mapping.getColumnField(name);
         switch (operator) {
-            case EQUALS:
-                return __.has(nativeName, P.eq(graphQuery.getValue(name)));
-            case GREATER_THAN:
-                return __.has(nativeName, P.gt(graphQuery.getValue(name)));
-            case GREATER_EQUALS_THAN:
-                return __.has(nativeName, P.gte(graphQuery.getValue(name)));
-            case LESSER_THAN:
-                return __.has(nativeName, P.lt(graphQuery.getValue(name)));
-            case LESSER_EQUALS_THAN:
-                return __.has(nativeName, P.lte(graphQuery.getValue(name)));
-            case BETWEEN:
-                return __.has(nativeName, P.between(graphQuery.getValue(name), graphQuery.getValue(name)));
-            case IN:
-                return __.has(nativeName, P.within(graphQuery.getInValue(name)));
             case NOT:
                 Condition notCondition = ((ConditionValue) condition.getValue()).get().get(0);
                 return __.not(getPredicate(graphQuery, notCondition, mapping));
@@ -62,9 +57,32 @@ abstract class AbstractQueryConvert {
                         .map(c -> getPredicate(graphQuery, c, mapping)).reduce(GraphTraversal::or)
                         .orElseThrow(() -> new UnsupportedOperationException("There is an inconsistency at the OR operator"));
             default:
-                throw new UnsupportedOperationException("There is not support to the type " + operator + " in graph");
-
+                String nativeName = mapping.getColumnField(condition.getName());
+                return getP(graphQuery, condition).map(p -> __.<Vertex>has(nativeName, p))
+                        .orElseThrow(() -> new UnsupportedOperationException("There is not support to the type "
+                                + operator + " in graph"));
+        }
+    }
 
+    private Optional<P<?>> getP(GraphQueryMethod graphQuery, Condition condition) {
+        String name = condition.getName();
+        switch (condition.getOperator()) {
+            case EQUALS:
+                return Optional.of(P.eq(graphQuery.getValue(name)));
+            case GREATER_THAN:
+                return Optional.of(P.gt(graphQuery.getValue(name)));
+            case GREATER_EQUALS_THAN:
+                return Optional.of(P.gte(graphQuery.getValue(name)));
+            case LESSER_THAN:
+                return Optional.of(P.lt(graphQuery.getValue(name)));
+            case LESSER_EQUALS_THAN:
+                return Optional.of(P.lte(graphQuery.getValue(name)));
+            case BETWEEN:
+                return Optional.of(P.between(graphQuery.getValue(name), graphQuery.getValue(name)));
+            case IN:
+                return Optional.of(P.within(graphQuery.getInValue(name)));
+            default:
+                return Optional.empty();
         }
     }
 
@@ -73,13 +91,30 @@ abstract class AbstractQueryConvert {
                                                                ClassMapping mapping) {
 
         GraphTraversal<Vertex, Vertex> traversal = graphQuery.getTraversal();
+        traversal.hasLabel(mapping.getName());
         Optional<Where> whereOptional = whereSupplier.get();
 
         if (whereOptional.isPresent()) {
-            Where where = whereOptional.get();
+            Condition condition = whereOptional.get().getCondition();
+            List<Condition> conditions = Operator.AND.equals(condition.getOperator()) ?
+                    ((ConditionValue) condition.getValue()).get() : singletonList(condition);
 
-            Condition condition = where.getCondition();
-            traversal.filter(getPredicate(graphQuery, condition, mapping));
+            List<Consumer<GraphTraversal<Vertex, Vertex>>> equals = new ArrayList<>();
+            List<Consumer<GraphTraversal<Vertex, Vertex>>> ranges = new ArrayList<>();
+            List<GraphTraversal<Vertex, Vertex>> filters = new ArrayList<>();
+            for (Condition c : conditions) {
+                Optional<P<?>> predicate = getP(graphQuery, c);
+                if (predicate.isPresent()) {
+                    String nativeName = mapping.getColumnField(c.getName());
+                    boolean equality = Operator.EQUALS.equals(c.getOperator()) || Operator.IN.equals(c.getOperator());
+                    (equality ? equals : ranges).add(t -> t.has(nativeName, predicate.get()));
+                } else {
+                    filters.add(getPredicate(graphQuery, c, mapping));
+                }
+            }
+            equals.forEach(has -> has.accept(traversal));
+            ranges.forEach(has -> has.accept(traversal));
+            filters.forEach(traversal::filter);
         }
         return traversal;
     }
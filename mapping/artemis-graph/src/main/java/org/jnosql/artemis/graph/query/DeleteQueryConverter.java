@@ -14,24 +14,26 @@
  */
 package org.jnosql.artemis.graph.query;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.query.DeleteQuery;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 final class DeleteQueryConverter extends AbstractQueryConvert implements Function<GraphQueryMethod, List<Vertex>> {
 
+    private final Map<Method, DeleteQuery> queries = new ConcurrentHashMap<>();
+
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery) {
-        DeleteMethodFactory factory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = factory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
+        DeleteQuery deleteQuery = queries.computeIfAbsent(graphQuery.getMethod(),
+                m -> DeleteMethodFactory.get().apply(m, graphQuery.getEntityName()));
         ClassMapping mapping = graphQuery.getMapping();
-        GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, deleteQuery::getWhere, mapping);
-        traversal.hasLabel(mapping.getName());
-        return traversal.toList();
+        return getGraphTraversal(graphQuery, deleteQuery::getWhere, mapping).toList();
     }
 }
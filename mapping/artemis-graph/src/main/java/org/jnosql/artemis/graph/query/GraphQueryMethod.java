@@ -18,11 +18,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.PaginationUtil;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -68,6 +71,14 @@ final class GraphQueryMethod {
         return ConverterUtil.getValue(value, mapping, name, converters);
     }
 
+    public Object getValue(String name, Object value) {
+        return ConverterUtil.getValue(value, mapping, name, converters);
+    }
+
+    public Optional<Pagination> getPagination() {
+        return PaginationUtil.getPagination(args);
+    }
+
     public  Collection<?> getInValue(String name) {
         Object value = getValue();
         if(value instanceof Iterable<?>) {
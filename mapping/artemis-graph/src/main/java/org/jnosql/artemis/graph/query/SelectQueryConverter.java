@@ -14,14 +14,25 @@
  */
 package org.jnosql.artemis.graph.query;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.Sort;
 
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -30,37 +41,88 @@ import static org.apache.tinkerpop.gremlin.process.traversal.Order.incr;
 
 final class SelectQueryConverter extends AbstractQueryConvert implements Function<GraphQueryMethod, List<Vertex>> {
 
+    private final Map<Method, SelectQuery> queries = new ConcurrentHashMap<>();
 
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery) {
 
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery query = selectMethodFactory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
+        SelectQuery query = queries.computeIfAbsent(graphQuery.getMethod(),
+                m -> SelectMethodFactory.get().apply(m, graphQuery.getEntityName()));
         ClassMapping mapping = graphQuery.getMapping();
 
         GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::getWhere, mapping);
 
-        if (query.getSkip() > 0) {
-            traversal.skip(query.getSkip());
+        Optional<Pagination> pagination = graphQuery.getPagination();
+        if (pagination.isPresent()) {
+            return paginate(graphQuery, traversal, query.getOrderBy(), pagination.get());
         }
 
-        if (query.getLimit() > 0) {
-            return traversal.next((int) query.getLimit());
-        }
-        query.getOrderBy().forEach(getSort(traversal, mapping));
-        traversal.hasLabel(mapping.getName());
-        return traversal.toList();
+        Map<Object, Order> orders = new LinkedHashMap<>();
+        query.getOrderBy().forEach(getSort(orders, mapping));
+        return select(traversal, orders, query.getSkip(), query.getLimit());
     }
 
+    /**
+     * Selects the page of the traversal, the order by the keyset field and then by the vertex id, that tells apart
+     * the vertices with the same keyset value, comes before the order of the query
+     */
+    List<Vertex> paginate(GraphQueryMethod graphQuery, GraphTraversal<Vertex, Vertex> traversal,
+                          List<Sort> orderBy, Pagination pagination) {
 
-    private Consumer<Sort> getSort(GraphTraversal<Vertex, Vertex> traversal, ClassMapping mapping) {
-        return o -> {
-            if (Sort.SortType.ASC.equals(o.getType())) {
-                traversal.order().by(mapping.getColumnField(o.getName()), incr);
+        ClassMapping mapping = graphQuery.getMapping();
+        Map<Object, Order> orders = new LinkedHashMap<>();
+        Optional<org.jnosql.diana.api.Sort> keyset = pagination.getKeyset();
+        if (keyset.isPresent()) {
+            String field = keyset.get().getName();
+            String name = mapping.getColumnField(field);
+            boolean asc = org.jnosql.diana.api.Sort.SortType.ASC.equals(keyset.get().getType());
+            boolean tieBreaker = PaginationUtil.getTieBreaker(mapping, field).isPresent();
+            Optional<Object> lastValue = pagination.getLastValue().map(v -> graphQuery.getValue(field, v));
+            Optional<Object> lastId = pagination.getLastId().filter(i -> tieBreaker);
+            if (lastValue.isPresent() && lastId.isPresent()) {
+                Object value = lastValue.get();
+                Object id = lastId.get();
+                traversal.or(__.has(name, asc ? P.gt(value) : P.lt(value)),
+                        __.has(name, value).hasId(asc ? P.gt(id) : P.lt(id)));
             } else {
-                traversal.order().by(mapping.getColumnField(o.getName()), decr);
+                lastValue.ifPresent(v -> traversal.has(name, asc ? P.gt(v) : P.lt(v)));
             }
-        };
+            orders.put(name, asc ? incr : decr);
+            if (tieBreaker) {
+                orders.put(T.id, asc ? incr : decr);
+            }
+        }
+        orderBy.forEach(getSort(orders, mapping));
+        return select(traversal, orders, pagination.getSkip(), pagination.getLimit());
+    }
+
+    /**
+     * Appends a single order step, with a by modulator to each field, and then the skip and the limit,
+     * so the range is taken from the ordered vertices.
+     */
+    private List<Vertex> select(GraphTraversal<Vertex, Vertex> traversal, Map<?, Order> orders,
+                                long skip, long limit) {
+        if (!orders.isEmpty()) {
+            traversal.order();
+            orders.forEach((name, order) -> {
+                if (name instanceof T) {
+                    traversal.by((T) name, order);
+                } else {
+                    traversal.by((String) name, order);
+                }
+            });
+        }
+        if (limit > 0) {
+            traversal.range(skip, skip + limit);
+        } else if (skip > 0) {
+            traversal.skip(skip);
+        }
+        return traversal.toList();
+    }
+
+    private Consumer<Sort> getSort(Map<Object, Order> orders, ClassMapping mapping) {
+        return o -> orders.putIfAbsent(mapping.getColumnField(o.getName()),
+                Sort.SortType.ASC.equals(o.getType()) ? incr : decr);
     }
 
 }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
@@ -37,6 +38,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 abstract class AbstractGraphConverterTest {
 
@@ -207,6 +215,64 @@ abstract class AbstractGraphConverterTest {
         assertEquals(1999L, matrix.getYear());
     }
 
+    @Test
+    public void shouldReadPropertiesOnceWhenToEntity() {
+        Vertex ada = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Vertex vertex = mock(Vertex.class, delegatesTo(ada));
+        Person person = getConverter().toEntity(vertex);
+
+        assertEquals("Ada", person.getName());
+        assertEquals(22, person.getAge());
+        verify(vertex, times(1)).properties();
+        verify(vertex, never()).value(any(String.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenValueMapIsNull() {
+        assertThrows(NullPointerException.class, () -> getConverter().toEntityFromValueMap(null));
+    }
+
+    @Test
+    public void shouldToEntityFromValueMap() {
+        Vertex vertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Map<Object, Object> valueMap = getGraph().traversal().V(vertex.id()).valueMap(true).next();
+        Person person = getConverter().toEntityFromValueMap(valueMap);
+
+        assertEquals(vertex.id(), person.getId());
+        assertEquals("Ada", person.getName());
+        assertEquals(22, person.getAge());
+    }
+
+    @Test
+    public void shouldToEntityFromValueMapByDefault() {
+        GraphConverter converter = mock(GraphConverter.class);
+        when(converter.toEntityFromValueMap(any())).thenCallRealMethod();
+        when(converter.toEntity(any(Vertex.class))).thenAnswer(i -> getConverter().toEntity(i.<Vertex>getArgument(0)));
+        Vertex vertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Map<Object, Object> valueMap = getGraph().traversal().V(vertex.id()).valueMap(true).next();
+        Person person = converter.toEntityFromValueMap(valueMap);
+
+        assertEquals(vertex.id(), person.getId());
+        assertEquals("Ada", person.getName());
+        assertEquals(22, person.getAge());
+    }
+
+    @Test
+    public void shouldConvertEdgeEndpointsWhenToEdgeEntity() {
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Edge edge = mock(Edge.class, delegatesTo(adaVertex.addEdge("watch", matrixVertex)));
+
+        EdgeEntity edgeEntity = getConverter().toEdgeEntity(edge);
+        verify(edge, times(1)).outVertex();
+        verify(edge, times(1)).inVertex();
+
+        Person ada = edgeEntity.getOutgoing();
+        assertSame(ada, edgeEntity.getOutgoing());
+        assertEquals("Ada", ada.getName());
+        verify(edge, times(1)).outVertex();
+    }
+
     @Test
     public void shouldReturnToEdgeErrorWhenIsNull() {
         assertThrows(NullPointerException.class, () -> getConverter().toEdge(null));
@@ -260,6 +260,26 @@ public abstract class AbstractGraphTemplateTest {
         assertNotNull(transaction);
     }
 
+    @Test
+    public void shouldBulkLoad() {
+        Object otavio;
+        Object poliana;
+        try (GraphBulkLoader loader = getGraphTemplate().bulk().batchSize(2)) {
+            otavio = loader.insert(builder().withAge().withName("Otavio").build());
+            poliana = loader.insert(builder().withAge().withName("Poliana").build());
+            loader.edgeById(otavio, "knows", poliana);
+            loader.edgeById(otavio, "knows", poliana);
+            loader.commit();
+            assertEquals(2L, loader.getVertexCount());
+            assertEquals(1L, loader.getEdgeCount());
+        }
+
+        assertEquals(2L, getGraphTemplate().count("Person"));
+        assertEquals(1L, getGraphTemplate().getTraversalVertex(otavio).outE("knows").count());
+        assertEquals(poliana, getGraphTemplate().getTraversalVertex(otavio).out("knows").<Person>next()
+                .map(Person::getId).get());
+    }
+
     @Test
     public void shouldExecuteQuery() {
         Person person = builder().withAge()
@@ -15,7 +15,11 @@
 package org.jnosql.artemis.graph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.graph.cdi.CDIExtension;
 import org.jnosql.artemis.graph.model.Animal;
 import org.jnosql.artemis.graph.model.Book;
@@ -23,7 +27,9 @@ import org.jnosql.artemis.graph.model.Person;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
 
+import javax.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -34,16 +40,26 @@ import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(CDIExtension.class)
 public class DefaultEdgeTraversalTest extends AbstractTraversalTest {
 
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private GraphConverter converter;
+
 
     @Test
     public void shouldReturnErrorWhenEdgeIdIsNull() {
@@ -459,5 +475,46 @@ public class DefaultEdgeTraversalTest extends AbstractTraversalTest {
         assertEquals(1L, count);
     }
 
+    @Test
+    public void shouldNotConvertTheEndpointsInThePredicate() {
+        GraphConverter spy = Mockito.spy(converter);
+        EdgeTraversal traversal = new DefaultEdgeTraversal(() -> graph.traversal().E(),
+                g -> (GraphTraversal<Vertex, Edge>) g, spy);
+
+        long count = traversal.filter(e -> e.get("motivation").map(v -> "love".equals(v.get())).orElse(false))
+                .count();
+        assertEquals(1L, count);
+        verify(spy, never()).toEdgeEntity(Mockito.any(Edge.class));
+        verify(spy, never()).toEntity(Mockito.any(Vertex.class));
+    }
+
+    @Test
+    public void shouldReadTheEndpointsOnDemandInThePredicate() {
+        long count = graphTemplate.getTraversalEdge()
+                .filter(e -> e.<Person>getOutgoing().getName().equals(poliana.getName())).count();
+        assertEquals(1L, count);
+    }
+
+    @Test
+    public void shouldReadTheEndpointsOnDemandWhenStream() {
+        try (Stream<EdgeEntity> stream = graphTemplate.getTraversalEdge(reads.getId().get()).stream()) {
+            EdgeEntity edge = stream.findFirst().get();
+            assertEquals(reads, edge);
+            assertEquals(reads.hashCode(), edge.hashCode());
+            assertThat(edge.toString(), containsString("<not loaded>"));
+
+            Person person = edge.getOutgoing();
+            Book book = edge.getIncoming();
+            assertEquals(otavio.getName(), person.getName());
+            assertEquals(effectiveJava.getName(), book.getName());
+        }
+    }
+
+    @Test
+    public void shouldReadTheEndpointsWhenGetResultList() {
+        List<EdgeEntity> edges = graphTemplate.getTraversalEdge(reads.getId().get()).getResultList();
+        assertEquals(1, edges.size());
+        assertThat(edges.get(0).toString(), not(containsString("<not loaded>")));
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,326 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.EntityNotFoundException;
+import org.jnosql.artemis.graph.cdi.CDIExtension;
+import org.jnosql.artemis.graph.model.Person;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.jnosql.artemis.graph.model.Person.builder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(CDIExtension.class)
+class DefaultGraphBulkLoaderTest {
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
+    private Graph graph;
+
+    private GraphConverter converter;
+
+    private InMemoryTransaction transaction;
+
+    @BeforeEach
+    public void setUp() {
+        graph = TinkerGraph.open();
+        Instance<Graph> instance = mock(Instance.class);
+        when(instance.get()).thenReturn(graph);
+        converter = new DefaultGraphConverter(classMappings, converters, instance);
+        transaction = new InMemoryTransaction(graph);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @Test
+    public void shouldCommitEveryBatch() {
+        GraphBulkLoader loader = loader().batchSize(2);
+        loader.insert(Arrays.asList(person("Ada"), person("Poliana"), person("Otavio"),
+                person("Bruce"), person("Natasha")));
+        assertEquals(2, transaction.commits);
+
+        loader.commit();
+        loader.close();
+        assertEquals(3, transaction.commits);
+        assertEquals(0, transaction.rollbacks);
+        assertEquals(5L, loader.getVertexCount());
+        assertEquals(3L, loader.getCommitCount());
+        assertEquals(5L, countVertices());
+        assertTrue(loader.getThroughput() > 0);
+    }
+
+    @Test
+    public void shouldCommitTheLastPartialBatch() {
+        try (GraphBulkLoader loader = loader().batchSize(2)) {
+            loader.insert(Arrays.asList(person("Ada"), person("Poliana"), person("Otavio")));
+            loader.commit();
+        }
+        assertEquals(2, transaction.commits);
+        assertEquals(0, transaction.rollbacks);
+        assertEquals(3L, countVertices());
+    }
+
+    @Test
+    public void shouldRollbackTheLastBatchWhenItFails() {
+        GraphBulkLoader loader = loader().batchSize(2);
+        assertThrows(IllegalStateException.class, () -> {
+            try (GraphBulkLoader bulk = loader) {
+                bulk.insert(Arrays.asList(person("Ada"), person("Poliana"), person("Otavio")));
+                throw new IllegalStateException("the loading failed");
+            }
+        });
+        assertEquals(1, transaction.commits);
+        assertEquals(1, transaction.rollbacks);
+        assertEquals(1L, loader.getCommitCount());
+        assertEquals(2L, countVertices());
+    }
+
+    @Test
+    public void shouldNotCommitWhenThereIsNotTransaction() {
+        GraphBulkLoader loader = new DefaultGraphBulkLoader(graph.traversal(), null, converter, classMappings)
+                .batchSize(1);
+        loader.insert(person("Ada"));
+        loader.commit();
+        loader.close();
+        assertEquals(1L, loader.getVertexCount());
+        assertEquals(0L, loader.getCommitCount());
+        assertEquals(1L, countVertices());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIsAlreadyCommitted() {
+        GraphBulkLoader loader = loader();
+        loader.insert(person("Ada"));
+        loader.commit();
+        assertThrows(IllegalStateException.class, () -> loader.insert(person("Poliana")));
+        assertThrows(IllegalStateException.class, () -> loader.edgeById(1L, "knows", 2L));
+        assertThrows(IllegalStateException.class, loader::commit);
+        loader.close();
+        assertEquals(0, transaction.rollbacks);
+        assertEquals(1L, countVertices());
+    }
+
+    @Test
+    public void shouldInsertEntityWithoutId() {
+        GraphBulkLoader loader = loader();
+        Object id = loader.insert(person("Ada"));
+        loader.commit();
+        assertEquals("Ada", graph.vertices(id).next().value("name"));
+        assertEquals(1L, loader.getVertexCount());
+    }
+
+    @Test
+    public void shouldUpdateTheVertexWithTheSameId() {
+        GraphBulkLoader loader = loader();
+        loader.insert(builder().withId(1L).withName("Ada").build());
+        loader.insert(builder().withId(1L).withName("Ada Lovelace").build());
+        loader.commit();
+        assertEquals(1L, countVertices());
+        assertEquals("Ada Lovelace", graph.vertices(1L).next().value("name"));
+    }
+
+    @Test
+    public void shouldInsertOnly() {
+        GraphBulkLoader loader = loader().insertOnly();
+        Object ada = loader.insert(person("Ada"));
+        Object poliana = loader.insert(person("Poliana"));
+        loader.edgeById(ada, "knows", poliana);
+        loader.edgeById(ada, "knows", poliana);
+        loader.commit();
+
+        assertEquals(2L, countVertices());
+        assertEquals(2L, loader.getEdgeCount());
+        assertEquals(2L, graph.traversal().V(ada).outE("knows").count().next().longValue());
+    }
+
+    @Test
+    public void shouldNotDuplicateEdge() {
+        GraphBulkLoader loader = loader();
+        Object ada = loader.insert(person("Ada"));
+        Object poliana = loader.insert(person("Poliana"));
+        loader.edgeById(ada, "knows", poliana);
+        loader.edgeById(ada, "knows", poliana);
+        loader.commit();
+
+        assertEquals(1L, loader.getEdgeCount());
+        assertEquals(1L, graph.traversal().V(ada).outE("knows").count().next().longValue());
+    }
+
+    @Test
+    public void shouldFindTheEdgeVerticesById() {
+        Person ada = builder().withId(1L).withName("Ada").build();
+        Person poliana = builder().withId(2L).withName("Poliana").build();
+        graph.addVertex(T.id, 1L, "name", "Ada");
+        graph.addVertex(T.id, 2L, "name", "Poliana");
+
+        GraphBulkLoader loader = loader();
+        loader.edge(ada, "knows", poliana);
+        loader.commit();
+
+        Vertex vertex = graph.traversal().V(1L).out("knows").next();
+        assertEquals(2L, vertex.id());
+        assertEquals(1L, loader.getEdgeCount());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenVertexDoesNotExist() {
+        GraphBulkLoader loader = loader();
+        assertThrows(EntityNotFoundException.class, () -> loader.edgeById(1L, "knows", 2L));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenEdgeEntityHasNotId() {
+        GraphBulkLoader loader = loader();
+        assertThrows(IllegalStateException.class, () -> loader.edge(person("Ada"), "knows", person("Poliana")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        GraphBulkLoader loader = loader();
+        assertThrows(IllegalArgumentException.class, () -> loader.batchSize(0));
+    }
+
+    private GraphBulkLoader loader() {
+        return new DefaultGraphBulkLoader(graph.traversal(), transaction, converter, classMappings);
+    }
+
+    private long countVertices() {
+        return graph.traversal().V().count().next();
+    }
+
+    private static Person person(String name) {
+        return builder().withAge().withName(name).build();
+    }
+
+    /**
+     * A transaction over a TinkerGraph, which does not support transactions: the commit keeps the ids of the
+     * elements in the graph and the rollback removes the elements added since the last commit.
+     */
+    private static final class InMemoryTransaction implements Transaction {
+
+        private final Graph graph;
+
+        private Set<Object> vertexIds;
+
+        private Set<Object> edgeIds;
+
+        private int commits;
+
+        private int rollbacks;
+
+        private InMemoryTransaction(Graph graph) {
+            this.graph = graph;
+            snapshot();
+        }
+
+        @Override
+        public void commit() {
+            snapshot();
+            commits++;
+        }
+
+        @Override
+        public void rollback() {
+            graph.edges().forEachRemaining(e -> {
+                if (!edgeIds.contains(e.id())) {
+                    e.remove();
+                }
+            });
+            graph.vertices().forEachRemaining(v -> {
+                if (!vertexIds.contains(v.id())) {
+                    v.remove();
+                }
+            });
+            rollbacks++;
+        }
+
+        private void snapshot() {
+            vertexIds = new HashSet<>(graph.traversal().V().id().toList());
+            edgeIds = new HashSet<>(graph.traversal().E().id().toList());
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public <G extends Graph> G createThreadedTx() {
+            throw Exceptions.threadedTransactionsNotSupported();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void readWrite() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public Transaction onReadWrite(Consumer<Transaction> consumer) {
+            return this;
+        }
+
+        @Override
+        public Transaction onClose(Consumer<Transaction> consumer) {
+            return this;
+        }
+
+        @Override
+        public void addTransactionListener(Consumer<Status> listener) {
+        }
+
+        @Override
+        public void removeTransactionListener(Consumer<Status> listener) {
+        }
+
+        @Override
+        public void clearTransactionListeners() {
+        }
+    }
+}
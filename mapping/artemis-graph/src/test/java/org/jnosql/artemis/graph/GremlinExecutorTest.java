@@ -34,6 +34,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(CDIExtension.class)
 class GremlinExecutorTest {
@@ -172,4 +173,21 @@ class GremlinExecutorTest {
         List<String> names = people.stream().map(Person::getName).collect(Collectors.toList());
         assertThat(names, containsInAnyOrder("Bruce Banner"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldExecuteTheSameQueryWithDifferentParams() {
+        String gremlin = "g.V().has('name', name).toList()";
+        List<Person> bruce = executor.executeGremlin(graph.traversal(), gremlin, singletonMap("name", "Bruce Banner"));
+        List<Person> natasha = executor.executeGremlin(graph.traversal(), gremlin,
+                singletonMap("name", "Natasha Romanoff"));
+
+        assertEquals("Bruce Banner", bruce.get(0).getName());
+        assertEquals("Natasha Romanoff", natasha.get(0).getName());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamIsMissing() {
+        assertThrows(GremlinQueryException.class, () ->
+                executor.executeGremlin(graph.traversal(), "g.V().has('name', name)"));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.script.Bindings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GremlinParserTest {
+
+    private static final GremlinGroovyScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+
+    private Graph graph;
+
+    private Vertex ada;
+
+    private Vertex alan;
+
+    @BeforeEach
+    public void setUp() {
+        graph = TinkerGraph.open();
+        ada = graph.addVertex("Person");
+        ada.property("name", "Ada");
+        ada.property("age", 30);
+        alan = graph.addVertex("Person");
+        alan.property("name", "Alan");
+        alan.property("age", 41L);
+        Vertex book = graph.addVertex("Book");
+        book.property("name", "Computing Machinery");
+        ada.addEdge("knows", alan).property("active", true);
+        alan.addEdge("reads", book).property("active", false);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"g.V()", "g.E().toList()", "g.V().in(param).toList()", "g.V( ).count( )",
+            "g.V().hasLabel('Person').has('name', \"Ada\").out('knows').limit(10)",
+            "g.V(1L, 2).has('age', age).values('name')", "g.E().has('active', true).outV().dedup()"})
+    public void shouldParse(String gremlin) {
+        assertTrue(GremlinParser.parse(gremlin).isPresent());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"g.V().valueMap('name')", "g.V().has('age', gt(30))", "g.V().toList().size()",
+            "g.V().has('age', 1.5)", "g.V().has('name', \"$name\")", "g.V().map{it}", "g.V().toList().count()",
+            "g.addV('Person')", "g.V().has('name', null)", "g.V().has('name', 'Ada'", "g.V().hasId(id)",
+            "g.V().hasLabel(label)", "g.V().values(key)", "g.V().has('name', T)"})
+    public void shouldNotParse(String gremlin) {
+        assertFalse(GremlinParser.parse(gremlin).isPresent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    public void shouldReturnTheSameResultOfTheScriptEngine(String gremlin, Map<String, Object> params)
+            throws Exception {
+        Map<String, Object> bindings = resolve(params);
+        GraphTraversalSource traversalSource = graph.traversal();
+        Object parsed = GremlinParser.parse(gremlin).get().eval(traversalSource, bindings);
+
+        Bindings engineBindings = ENGINE.createBindings();
+        engineBindings.put("g", traversalSource);
+        engineBindings.putAll(bindings);
+        Object evaluated = ENGINE.eval(gremlin, engineBindings);
+
+        assertEquals(toList(evaluated), toList(parsed), gremlin);
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("g.V().has('age', 30).values('name')", Collections.emptyMap()),
+                Arguments.of("g.V().has('age', 30L).values('name')", Collections.emptyMap()),
+                Arguments.of("g.V().has('age', 41).values('name')", Collections.emptyMap()),
+                Arguments.of("g.V().has('age', 41L).values('name')", Collections.emptyMap()),
+                Arguments.of("g.V().has('age', age).values('name')", Collections.singletonMap("age", 41L)),
+                Arguments.of("g.V().hasId(person).values('name')", Collections.singletonMap("person", "ada")),
+                Arguments.of("g.V().hasId(person, other).values('name')", params("person", "ada", "other", "alan")),
+                Arguments.of("g.V(person).values('name')", Collections.singletonMap("person", "alan")),
+                Arguments.of("g.V(person, other).values('name')", params("person", "ada", "other", "alan")),
+                Arguments.of("g.V().hasLabel('Person').count()", Collections.emptyMap()),
+                Arguments.of("g.E().has('active', true).count()", Collections.emptyMap()),
+                Arguments.of("g.V().hasLabel('Person').has('name', name).out('knows').values('name').toList()",
+                        Collections.singletonMap("name", "Ada")),
+                Arguments.of("g.V().hasLabel(type).outE().inV().dedup().values('name')",
+                        Collections.singletonMap("type", "Person")),
+                Arguments.of("g.E().label().dedup()", Collections.emptyMap()));
+    }
+
+    private Map<String, Object> resolve(Map<String, Object> params) {
+        Map<String, Object> bindings = new HashMap<>(params);
+        bindings.replaceAll((key, value) -> {
+            if ("ada".equals(value)) {
+                return ada.id();
+            }
+            return "alan".equals(value) ? alan.id() : value;
+        });
+        return bindings;
+    }
+
+    private static Map<String, Object> params(Object... values) {
+        Map<String, Object> params = new HashMap<>();
+        for (int index = 0; index < values.length; index += 2) {
+            params.put(values[index].toString(), values[index + 1]);
+        }
+        return params;
+    }
+
+    private static List<Object> toList(Object result) {
+        if (result instanceof Iterator) {
+            List<Object> values = new ArrayList<>();
+            ((Iterator<?>) result).forEachRemaining(values::add);
+            return values;
+        }
+        if (result instanceof List) {
+            return new ArrayList<>((List<?>) result);
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.enterprise.inject.Instance;
+import javax.interceptor.InvocationContext;
+import java.util.concurrent.Callable;
+
+import static org.jnosql.artemis.graph.Transactional.Propagation.MANDATORY;
+import static org.jnosql.artemis.graph.Transactional.Propagation.REQUIRES_NEW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionalInterceptorTest {
+
+    @InjectMocks
+    private TransactionalInterceptor interceptor;
+
+    @Mock
+    private Instance<Graph> graph;
+
+    @Mock
+    private Graph tinkerpop;
+
+    @Mock
+    private Transaction transaction;
+
+    @Test
+    public void shouldCommitOnlyAtTheOutermostMethod() throws Exception {
+        mockTransaction();
+        Object result = interceptor.manageTransaction(context("required", () -> {
+            assertEquals(1, TransactionScope.current().get().getDepth());
+            return interceptor.manageTransaction(context("required", () -> {
+                assertEquals(2, TransactionScope.current().get().getDepth());
+                verify(transaction, never()).commit();
+                return "inner";
+            }));
+        }));
+
+        assertEquals("inner", result);
+        verify(transaction).open();
+        verify(transaction, times(1)).commit();
+        assertFalse(TransactionScope.current().isPresent());
+    }
+
+    @Test
+    public void shouldRollbackWhenJoinedMethodFails() throws Exception {
+        mockTransaction();
+        assertThrows(IllegalStateException.class, () -> interceptor.manageTransaction(context("required", () -> {
+            try {
+                interceptor.manageTransaction(context("required", () -> {
+                    throw new IllegalArgumentException();
+                }));
+            } catch (IllegalArgumentException exp) {
+                return "swallowed";
+            }
+            return "inner";
+        })));
+
+        verify(transaction, never()).commit();
+        verify(transaction).rollback();
+        assertFalse(TransactionScope.current().isPresent());
+    }
+
+    @Test
+    public void shouldRollbackWhenMethodFails() throws Exception {
+        mockTransaction();
+        assertThrows(IllegalArgumentException.class, () -> interceptor.manageTransaction(context("required", () -> {
+            throw new IllegalArgumentException();
+        })));
+
+        verify(transaction, never()).commit();
+        verify(transaction).rollback();
+        assertFalse(TransactionScope.current().isPresent());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMandatoryHasNotTransaction() {
+        assertThrows(IllegalStateException.class, () -> interceptor.manageTransaction(context("mandatory",
+                () -> "mandatory")));
+        verify(graph, never()).get();
+    }
+
+    @Test
+    public void shouldJoinWhenMandatory() throws Exception {
+        mockTransaction();
+        interceptor.manageTransaction(context("required", () ->
+                interceptor.manageTransaction(context("mandatory", () -> "mandatory"))));
+        verify(transaction, times(1)).commit();
+    }
+
+    @Test
+    public void shouldCommitWhenRequiresNew() throws Exception {
+        mockTransaction();
+        interceptor.manageTransaction(context("requiresNew", () -> {
+            assertEquals(1, TransactionScope.current().get().getDepth());
+            return "new";
+        }));
+        verify(transaction, times(1)).commit();
+        assertFalse(TransactionScope.current().isPresent());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenRequiresNewHasTransaction() throws Exception {
+        mockTransaction();
+        assertThrows(IllegalStateException.class, () -> interceptor.manageTransaction(context("required", () ->
+                interceptor.manageTransaction(context("requiresNew", () -> "new")))));
+
+        verify(transaction, never()).commit();
+        verify(transaction).rollback();
+        assertFalse(TransactionScope.current().isPresent());
+    }
+
+    @Test
+    public void shouldCommitEveryMutations() throws Exception {
+        mockTransaction();
+        interceptor.manageTransaction(context("batch", () -> {
+            for (int index = 0; index < 5; index++) {
+                TransactionScope.onMutation();
+            }
+            verify(transaction, times(2)).commit();
+            return "batch";
+        }));
+        verify(transaction, times(3)).commit();
+    }
+
+    @Test
+    public void shouldIgnoreMutationsOutOfTransaction() {
+        TransactionScope.onMutation();
+        assertFalse(TransactionScope.current().isPresent());
+    }
+
+    private void mockTransaction() {
+        when(graph.get()).thenReturn(tinkerpop);
+        when(tinkerpop.tx()).thenReturn(transaction);
+    }
+
+    private static InvocationContext context(String method, Callable<Object> proceed) throws Exception {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.getMethod()).thenReturn(Service.class.getMethod(method));
+        lenient().when(context.proceed()).then(i -> proceed.call());
+        return context;
+    }
+
+    public static class Service {
+
+        @Transactional
+        public void required() {
+        }
+
+        @Transactional(REQUIRES_NEW)
+        public void requiresNew() {
+        }
+
+        @Transactional(MANDATORY)
+        public void mandatory() {
+        }
+
+        @Transactional(commitEvery = 2)
+        public void batch() {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TraversalUtilTest {
+
+    private Traversal<Object, String> traversal;
+
+    @BeforeEach
+    public void setUp() {
+        traversal = mock(Traversal.class);
+    }
+
+    @Test
+    public void shouldReadStreamOnDemand() throws Exception {
+        when(traversal.toStream()).thenReturn(Stream.of("Ada", "Poliana", "Otavio"));
+        try (Stream<String> stream = TraversalUtil.stream(traversal)) {
+            assertEquals("Ada", stream.findFirst().get());
+            verify(traversal, times(0)).close();
+        }
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnSingleResult() throws Exception {
+        when(traversal.hasNext()).thenReturn(true, false);
+        when(traversal.next()).thenReturn("Ada");
+        assertEquals(Optional.of("Ada"), TraversalUtil.singleResult(traversal, "error"));
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNotResult() throws Exception {
+        when(traversal.hasNext()).thenReturn(false);
+        assertFalse(TraversalUtil.singleResult(traversal, "error").isPresent());
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsMoreThanOneResult() throws Exception {
+        when(traversal.hasNext()).thenReturn(true, true);
+        when(traversal.next()).thenReturn("Ada");
+        assertThrows(NonUniqueResultException.class, () -> TraversalUtil.singleResult(traversal, "error"));
+        verify(traversal, times(1)).next();
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnFirstResult() throws Exception {
+        when(traversal.hasNext()).thenReturn(true, true);
+        when(traversal.next()).thenReturn("Ada", "Poliana");
+        assertEquals(Optional.of("Ada"), TraversalUtil.first(traversal));
+        verify(traversal, times(1)).next();
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnEmptyFirstWhenThereIsNotResult() throws Exception {
+        when(traversal.hasNext()).thenReturn(false);
+        assertFalse(TraversalUtil.first(traversal).isPresent());
+        verify(traversal).close();
+    }
+}
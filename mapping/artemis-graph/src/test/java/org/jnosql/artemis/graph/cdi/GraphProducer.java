@@ -17,6 +17,7 @@ package org.jnosql.artemis.graph.cdi;
 import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jGraph;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.jnosql.artemis.Database;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.graph.GraphTraversalSourceSupplier;
@@ -62,8 +63,10 @@ public class GraphProducer {
         when(vertex.label()).thenReturn("Person");
         when(vertex.id()).thenReturn(10L);
         when(graphMock.vertices(10L)).thenReturn(Collections.<Vertex>emptyList().iterator());
-        when(vertex.keys()).thenReturn(singleton("name"));
-        when(vertex.value("name")).thenReturn("nameMock");
+        VertexProperty<Object> name = mock(VertexProperty.class);
+        when(name.key()).thenReturn("name");
+        when(name.value()).thenReturn("nameMock");
+        when(vertex.properties()).thenAnswer(i -> singleton(name).iterator());
         when(graphMock.addVertex(Mockito.anyString())).thenReturn(vertex);
 
         return graphMock;
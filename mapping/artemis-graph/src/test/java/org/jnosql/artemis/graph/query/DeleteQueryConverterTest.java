@@ -14,10 +14,11 @@
  */
 package org.jnosql.artemis.graph.query;
 
-import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.Converters;
@@ -26,6 +27,7 @@ import org.jnosql.artemis.graph.cdi.CDIExtension;
 import org.jnosql.artemis.graph.model.Person;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -52,13 +54,16 @@ class DeleteQueryConverterTest {
     @Inject
     private Converters converters;
 
-    @Inject
     private Graph graph;
 
     @BeforeEach
     public void setUp() {
-        graph.traversal().E().toList().forEach(Edge::remove);
-        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph = TinkerGraph.open();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        graph.close();
     }
 
     @ParameterizedTest(name = "Should parser the query {0}")
@@ -230,6 +235,28 @@ class DeleteQueryConverterTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"deleteByAgeGreaterThanAndName"})
+    public void shouldPutLabelAndEqualityFirst(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Animal", "name", "Ada", "age", 50);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{30, "Ada"});
+
+        List<Vertex> vertices = converter.apply(queryMethod);
+        assertEquals(1, vertices.size());
+        assertEquals(Integer.valueOf(40), vertices.get(0).value("age"));
+
+        List<String> steps = queryMethod.getTraversal().asAdmin().getBytecode().getStepInstructions().stream()
+                .map(Bytecode.Instruction::getOperator).collect(Collectors.toList());
+        assertEquals(Arrays.asList("V", "hasLabel", "has", "has"), steps);
+    }
+
     private void checkEquals(String methodName) {
         Method method = Stream.of(PersonRepository.class.getMethods())
                 .filter(m -> m.getName().equals(methodName)).findFirst().get();
@@ -274,6 +301,8 @@ class DeleteQueryConverterTest {
         List<Person> deleteByAgeIn(List<Integer> ages);
 
         List<Person> deleteByNameIn(List<String> names);
+
+        List<Person> deleteByAgeGreaterThanAndName(Integer age, String name);
     }
 
 }
\ No newline at end of file
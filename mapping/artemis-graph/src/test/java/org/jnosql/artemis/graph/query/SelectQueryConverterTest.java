@@ -14,21 +14,31 @@
  */
 package org.jnosql.artemis.graph.query;
 
-import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.cdi.CDIExtension;
 import org.jnosql.artemis.graph.model.Person;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.Sort;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import javax.inject.Inject;
@@ -40,6 +50,8 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 @ExtendWith(CDIExtension.class)
 class SelectQueryConverterTest {
@@ -53,13 +65,16 @@ class SelectQueryConverterTest {
     @Inject
     private Converters converters;
 
-    @Inject
     private Graph graph;
 
     @BeforeEach
     public void setUp() {
-        graph.traversal().E().toList().forEach(Edge::remove);
-        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph = TinkerGraph.open();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        graph.close();
     }
 
     @ParameterizedTest(name = "Should parser the query {0}")
@@ -229,6 +244,28 @@ class SelectQueryConverterTest {
         MatcherAssert.assertThat(names, Matchers.contains("Poliana", "Otavio", "Ada"));
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByAgeGreaterThanOrderByName"})
+    public void shouldNotSkipTheTiesOfTheKeyset(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        Vertex otavio = graph.addVertex(T.label, "Person", "name", "Otavio", "age", 25);
+        Vertex poliana = graph.addVertex(T.label, "Person", "name", "Poliana", "age", 25);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Person", "name", "Grace", "age", 20);
+        ClassMapping mapping = mappings.get(Person.class);
+        Sort sort = Sort.of("age", Sort.SortType.ASC);
+        Pagination pagination = Pagination.keyset(sort, 25, otavio.id(), 2);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{10, pagination});
+
+        List<Vertex> vertices = converter.apply(queryMethod);
+        assertEquals(Arrays.asList(poliana.id(), "Ada"), Arrays.asList(vertices.get(0).id(),
+                vertices.get(1).value("name")));
+        assertEquals(2, vertices.size());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"findByAgeLessThanOrderByNameDescAgeAsc"})
     public void shouldRunQuery10(String methodName) {
@@ -292,6 +329,123 @@ class SelectQueryConverterTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByAgeGreaterThanAndName"})
+    public void shouldPutLabelAndEqualityFirst(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Animal", "name", "Ada", "age", 50);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{30, "Ada"});
+
+        List<Vertex> vertices = converter.apply(queryMethod);
+        assertEquals(1, vertices.size());
+        assertEquals(Integer.valueOf(40), vertices.get(0).value("age"));
+
+        List<Bytecode.Instruction> steps = queryMethod.getTraversal().asAdmin().getBytecode().getStepInstructions();
+        assertEquals(Arrays.asList("V", "hasLabel", "has", "has"), steps.stream()
+                .map(Bytecode.Instruction::getOperator).collect(Collectors.toList()));
+        assertEquals("Person", steps.get(1).getArguments()[0]);
+        assertEquals("name", steps.get(2).getArguments()[0]);
+        assertEquals("age", steps.get(3).getArguments()[0]);
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByAgeGreaterThanOrderByName"})
+    public void shouldOrderBeforeRange(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 25);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{10, Pagination.of(1, 1)});
+
+        List<Vertex> vertices = converter.apply(queryMethod);
+        assertEquals(1, vertices.size());
+        assertEquals("Otavio", vertices.get(0).value("name"));
+
+        List<String> steps = queryMethod.getTraversal().asAdmin().getBytecode().getStepInstructions().stream()
+                .map(Bytecode.Instruction::getOperator).collect(Collectors.toList());
+        assertEquals(Arrays.asList("V", "hasLabel", "has", "order", "by", "range"), steps);
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByAgeLessThanOrderByNameDescAgeAsc"})
+    public void shouldUseSingleOrderStep(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{100});
+
+        converter.apply(queryMethod);
+        List<String> steps = queryMethod.getTraversal().asAdmin().getBytecode().getStepInstructions().stream()
+                .map(Bytecode.Instruction::getOperator).collect(Collectors.toList());
+        assertEquals(Arrays.asList("V", "hasLabel", "has", "order", "by", "by"), steps);
+    }
+
+
+    @ParameterizedTest(name = "Should verify the steps of {0}")
+    @MethodSource("steps")
+    public void shouldVerifyTheSteps(String methodName, Object[] args, List<String> expected) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, args);
+
+        converter.apply(queryMethod);
+        List<String> steps = queryMethod.getTraversal().asAdmin().getBytecode().getStepInstructions().stream()
+                .map(Bytecode.Instruction::getOperator).collect(Collectors.toList());
+        assertEquals(expected, steps);
+    }
+
+    @ParameterizedTest(name = "Should fold the label and the equality of {0} into the graph step")
+    @ValueSource(strings = {"findByAgeGreaterThanAndName"})
+    public void shouldFoldLabelAndEqualityIntoGraphStep(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{30, "Ada"});
+
+        converter.apply(queryMethod);
+        Traversal.Admin<Vertex, Vertex> traversal = queryMethod.getTraversal().asAdmin();
+        assertTrue(traversal.isLocked());
+        Step<?, ?> start = traversal.getStartStep();
+        assertTrue(start instanceof TinkerGraphStep);
+        List<String> keys = ((TinkerGraphStep<?, ?>) start).getHasContainers().stream()
+                .map(HasContainer::getKey).collect(Collectors.toList());
+        assertEquals(Arrays.asList(T.label.getAccessor(), "name", "age"), keys);
+    }
+
+    static Stream<Arguments> steps() {
+        return Stream.of(
+                arguments("findByName", new Object[]{"Ada"}, Arrays.asList("V", "hasLabel", "has")),
+                arguments("findByNameNotEquals", new Object[]{"Ada"}, Arrays.asList("V", "hasLabel", "filter")),
+                arguments("findByAgeLessThan", new Object[]{30}, Arrays.asList("V", "hasLabel", "has")),
+                arguments("findByAgeBetween", new Object[]{20, 30}, Arrays.asList("V", "hasLabel", "has")),
+                arguments("findByNameIn", new Object[]{Arrays.asList("Ada", "Otavio")},
+                        Arrays.asList("V", "hasLabel", "has")),
+                arguments("findByAgeGreaterThanAndName", new Object[]{30, "Ada"},
+                        Arrays.asList("V", "hasLabel", "has", "has")),
+                arguments("findByAgeLessThanOrderByName", new Object[]{30},
+                        Arrays.asList("V", "hasLabel", "has", "order", "by")),
+                arguments("findByAgeGreaterThanOrderByName", new Object[]{10, Pagination.of(1, 1)},
+                        Arrays.asList("V", "hasLabel", "has", "order", "by", "range")));
+    }
+
     private void checkEquals(String methodName) {
         Method method = Stream.of(PersonRepository.class.getMethods())
                 .filter(m -> m.getName().equals(methodName)).findFirst().get();
@@ -336,6 +490,10 @@ class SelectQueryConverterTest {
         List<Person> findByAgeIn(List<Integer> ages);
 
         List<Person> findByNameIn(List<String> names);
+
+        List<Person> findByAgeGreaterThanAndName(Integer age, String name);
+
+        List<Person> findByAgeGreaterThanOrderByName(Integer age, Pagination pagination);
     }
 
 }
\ No newline at end of file
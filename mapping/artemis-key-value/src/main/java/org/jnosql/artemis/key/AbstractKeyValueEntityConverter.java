@@ -23,7 +23,10 @@ import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 
@@ -63,17 +66,39 @@ public abstract class AbstractKeyValueEntityConverter implements KeyValueEntityC
         return bean;
     }
 
-    private <T> Object getKey(Object key, Class<T> entityClass, boolean toEntity) {
+    @Override
+    public <T> List<T> toEntities(Class<T> entityClass, List<KeyValueEntity<?>> entities) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(entities, "entities is required");
+
         FieldMapping id = getId(entityClass);
+        Function<Object, Object> keyConverter = getKeyConverter(id, true);
+        List<T> beans = new ArrayList<>(entities.size());
+        for (KeyValueEntity<?> entity : entities) {
+            T bean = entity.getValue().get(entityClass);
+            if (Objects.nonNull(bean)) {
+                id.write(bean, keyConverter.apply(entity.getKey()));
+            }
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    private <T> Object getKey(Object key, Class<T> entityClass, boolean toEntity) {
+        return getKeyConverter(getId(entityClass), toEntity).apply(key);
+    }
+
+    private Function<Object, Object> getKeyConverter(FieldMapping id, boolean toEntity) {
         if (id.getConverter().isPresent()) {
             AttributeConverter attributeConverter = getConverters().get(id.getConverter().get());
             if(toEntity) {
-                return attributeConverter.convertToEntityAttribute(key);
+                return attributeConverter::convertToEntityAttribute;
             } else {
-                return attributeConverter.convertToDatabaseColumn(key);
+                return attributeConverter::convertToDatabaseColumn;
             }
         } else {
-            return Value.of(key).get(id.getNativeField().getType());
+            Class<?> type = id.getNativeField().getType();
+            return key -> Value.of(key).get(type);
         }
     }
 
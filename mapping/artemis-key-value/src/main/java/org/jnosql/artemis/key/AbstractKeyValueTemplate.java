@@ -22,13 +22,15 @@ import org.jnosql.diana.api.key.BucketManager;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -39,6 +41,26 @@ import static java.util.stream.Collectors.toList;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    /**
+     * The system property to define the maximum number of keys fetched in a single request
+     */
+    public static final String CHUNK_SIZE = "jnosql.key.value.chunk.size";
+
+    /**
+     * The default chunk size when the system property is not defined
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    /**
+     * The system property to define the maximum number of chunks fetched in parallel by the default executor
+     */
+    public static final String CHUNK_THREADS = "jnosql.key.value.chunk.threads";
+
+    /**
+     * The default number of chunks fetched in parallel when the system property is not defined
+     */
+    public static final int DEFAULT_CHUNK_THREADS = 4;
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -85,12 +107,71 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> entityClass) {
         requireNonNull(keys, "keys is required");
         requireNonNull(entityClass, "entity class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(entityClass, e.get()))
-                .collect(Collectors.toList());
+
+        List<K> bulk = new ArrayList<>();
+        keys.forEach(bulk::add);
+        int chunkSize = getChunkSize();
+        if (bulk.size() <= chunkSize) {
+            return getConverter().toEntities(entityClass, getAll(bulk));
+        }
+        List<CompletableFuture<List<KeyValueEntity<?>>>> chunks = new ArrayList<>();
+        for (int start = 0; start < bulk.size(); start += chunkSize) {
+            List<K> chunk = bulk.subList(start, Math.min(bulk.size(), start + chunkSize));
+            chunks.add(CompletableFuture.supplyAsync(() -> getAll(chunk), getExecutor()));
+        }
+        List<KeyValueEntity<?>> entities = new ArrayList<>(bulk.size());
+        for (CompletableFuture<List<KeyValueEntity<?>>> chunk : chunks) {
+            entities.addAll(join(chunk));
+        }
+        return getConverter().toEntities(entityClass, entities);
+    }
+
+    /**
+     * Returns the executor that fetches the chunks of keys of {@link #get(Iterable, Class)}.
+     * By default the chunks are fetched in parallel by a shared pool of daemon threads, bounded to
+     * {@value #DEFAULT_CHUNK_THREADS} threads or to the {@value #CHUNK_THREADS} system property; subclasses might
+     * override it to use an executor managed by the application.
+     *
+     * @return the executor of the chunks
+     */
+    protected Executor getExecutor() {
+        return ChunkExecutor.INSTANCE;
+    }
+
+    /**
+     * Returns the maximum number of keys sent to the {@link BucketManager#getAll(Iterable)} at once, when
+     * there are more keys they are split in chunks fetched by the {@link #getExecutor()}. The default value is
+     * {@value #DEFAULT_CHUNK_SIZE} and might be overwritten with the {@value #CHUNK_SIZE} system property.
+     *
+     * @return the chunk size
+     */
+    protected int getChunkSize() {
+        return Math.max(1, Integer.getInteger(CHUNK_SIZE, DEFAULT_CHUNK_SIZE));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private <K> List<KeyValueEntity<?>> getAll(List<K> keys) {
+        List<Optional<Value>> values = getManager().getAll(keys);
+        if (values.size() != keys.size()) {
+            throw new IllegalStateException(String.format("The bucket manager returned %d values to %d keys",
+                    values.size(), keys.size()));
+        }
+        List<KeyValueEntity<?>> entities = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            K key = keys.get(index);
+            values.get(index).ifPresent(v -> entities.add(KeyValueEntity.of(key, v)));
+        }
+        return entities;
     }
 
     @Override
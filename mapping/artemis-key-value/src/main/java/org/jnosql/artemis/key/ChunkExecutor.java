@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default executor of the chunks of keys of {@link AbstractKeyValueTemplate#get(Iterable, Class)}.
+ * It is a bounded pool of daemon threads, dedicated to these blocking requests, whose idle threads are released
+ * after a minute.
+ */
+enum ChunkExecutor implements Executor {
+
+    INSTANCE;
+
+    private final ThreadPoolExecutor executor;
+
+    ChunkExecutor() {
+        int threads = Math.max(1, Integer.getInteger(AbstractKeyValueTemplate.CHUNK_THREADS,
+                AbstractKeyValueTemplate.DEFAULT_CHUNK_THREADS));
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 1L, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "jnosql-key-value-chunk-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+}
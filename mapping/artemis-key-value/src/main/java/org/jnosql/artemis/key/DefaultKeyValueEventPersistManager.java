@@ -19,11 +19,21 @@ import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObserverUtil.isObserved;
+
+/**
+ * The default implementation of {@link KeyValueEventPersistManager}.
+ * The observers of each event are resolved once, at the boot, so an event without observers is not fired.
+ */
 class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager {
 
+    private static final String SAMPLE = "sample";
+
     @Inject
     private Event<KeyValueEntityPrePersist> keyValueEntityPrePersistEvent;
 
@@ -42,34 +52,76 @@ class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager
     @Inject
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean preKeyValue = true;
+
+    private boolean postKeyValue = true;
+
+    private boolean preEntity = true;
+
+    private boolean postEntity = true;
+
+    private boolean preKeyValueEntity = true;
+
+    private boolean postKeyValueEntity = true;
+
+    @PostConstruct
+    void init() {
+        KeyValueEntity<String> entity = KeyValueEntity.of(SAMPLE, SAMPLE);
+        preKeyValue = isObserved(beanManager, KeyValueEntityPrePersist.of(entity));
+        postKeyValue = isObserved(beanManager, KeyValueEntityPostPersist.of(entity));
+        preEntity = isObserved(beanManager, EntityPrePersist.of(SAMPLE));
+        postEntity = isObserved(beanManager, EntityPostPersit.of(SAMPLE));
+        preKeyValueEntity = isObserved(beanManager, EntityKeyValuePrePersist.of(SAMPLE));
+        postKeyValueEntity = isObserved(beanManager, EntityKeyValuePostPersist.of(SAMPLE));
+    }
 
     @Override
     public void firePreKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        if (preKeyValue) {
+            keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        if (postKeyValue) {
+            keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (preEntity) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (postEntity) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreKeyValueEntity(T entity) {
-        entityKeyValuePrePersist.fire(EntityKeyValuePrePersist.of(entity));
+        if (preKeyValueEntity) {
+            entityKeyValuePrePersist.fire(EntityKeyValuePrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostKeyValueEntity(T entity) {
-        entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
+        if (postKeyValueEntity) {
+            entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
+        }
+    }
+
+    @Override
+    public boolean skipsPersistEvents() {
+        return !(preKeyValue || postKeyValue || preEntity || postEntity || preKeyValueEntity || postKeyValueEntity);
     }
 }
@@ -17,6 +17,10 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 /**
  * This interface represents the converter between an entity and the {@link KeyValueEntity}
  */
@@ -45,4 +49,20 @@ public interface KeyValueEntityConverter {
      */
     <T> T toEntity(Class<T> entityClass, KeyValueEntity<?> entity);
 
+    /**
+     * Converts a list of {@link KeyValueEntity} to entities, keeping the order of the list
+     *
+     * @param entityClass the entity class
+     * @param entities    the {@link KeyValueEntity} list to be converted
+     * @param <T>         the entity type
+     * @return the instances from the {@link KeyValueEntity} list
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityInstance hasn't a field with {@link org.jnosql.artemis.Id}
+     * @throws NullPointerException when there is null parameter
+     */
+    default <T> List<T> toEntities(Class<T> entityClass, List<KeyValueEntity<?>> entities) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(entities, "entities is required");
+        return entities.stream().map(e -> toEntity(entityClass, e)).collect(Collectors.toList());
+    }
+
 }
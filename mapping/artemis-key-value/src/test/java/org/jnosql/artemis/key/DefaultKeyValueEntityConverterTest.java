@@ -28,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -149,4 +151,20 @@ public class DefaultKeyValueEntityConverterTest {
         Assertions.assertEquals(123L, entity.getKey());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldConvertToEntities() {
+        Car car = new Car();
+        car.setName("Ferrari");
+        Car otherCar = new Car();
+        otherCar.setName("Porsche");
+        List<KeyValueEntity<?>> entities = Arrays.asList(KeyValueEntity.of("123-BRL", car),
+                KeyValueEntity.of("456-BRL", Value.of(otherCar)));
+
+        List<Car> cars = converter.toEntities(Car.class, entities);
+        assertEquals(2, cars.size());
+        assertEquals(Plate.of("123-BRL"), cars.get(0).getPlate());
+        assertEquals(Plate.of("456-BRL"), cars.get(1).getPlate());
+        assertEquals("Porsche", cars.get(1).getName());
+    }
+
+}
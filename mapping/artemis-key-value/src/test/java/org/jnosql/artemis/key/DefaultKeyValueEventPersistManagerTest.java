@@ -25,9 +25,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +57,9 @@ public class DefaultKeyValueEventPersistManagerTest {
     @Mock
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Mock
+    private BeanManager beanManager;
+
     @Test
     public void shouldFirePreColumn() {
         KeyValueEntity entity = KeyValueEntity.of("key", "value");
@@ -121,8 +127,23 @@ public class DefaultKeyValueEventPersistManagerTest {
         assertEquals(actor, value.getValue());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        subject.init();
+        assertTrue(subject.skipsPersistEvents());
+        KeyValueEntity<String> entity = KeyValueEntity.of("key", "value");
+        subject.firePreKeyValue(entity);
+        subject.firePostKeyValue(entity);
+        subject.firePreEntity(entity);
+        subject.firePostEntity(entity);
+        subject.firePreKeyValueEntity(entity);
+        subject.firePostKeyValueEntity(entity);
+        verifyZeroInteractions(keyValueEntityPrePersistEvent, keyValueEntityPostPersistEvent,
+                entityPrePersistEvent, entityPostPersitEvent, entityKeyValuePrePersist, entityKeyValuePostPersist);
+    }
+
     class Actor {
         private String name;
     }
 
-}
\ No newline at end of file
+}
@@ -40,6 +40,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -70,10 +74,12 @@ public class DefaultKeyValueTemplateTest {
 
     private KeyValueTemplate subject;
 
+    private Instance<BucketManager> instance;
+
 
     @BeforeEach
     public void setUp() {
-        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        this.instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(manager);
         this.subject = new DefaultKeyValueTemplate(converter, instance, flow);
     }
@@ -141,6 +147,7 @@ public class DefaultKeyValueTemplateTest {
         User user = new User(KEY, "otavio", 27);
 
         when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.getAll(singletonList(KEY))).thenCallRealMethod();
         List<User> userOptional = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
@@ -153,12 +160,122 @@ public class DefaultKeyValueTemplateTest {
         User user = new User(KEY, "otavio", 27);
 
         when(manager.get(KEY)).thenReturn(Optional.empty());
+        when(manager.getAll(singletonList(KEY))).thenCallRealMethod();
         List<User> userOptional = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
         assertTrue(userOptional.isEmpty());
     }
 
+    @Test
+    public void shouldGetIterableWithMultiGet() {
+        User otavio = new User(KEY, "otavio", 27);
+        User ada = new User("ada", "Ada", 30);
+        List<String> keys = Arrays.asList(KEY, "missing", "ada");
+
+        when(manager.getAll(keys)).thenReturn(Arrays.asList(Optional.of(Value.of(otavio)), Optional.empty(),
+                Optional.of(Value.of(ada))));
+        List<User> users = stream(subject.get(keys, User.class).spliterator(), false)
+                .collect(toList());
+
+        assertEquals(Arrays.asList(otavio, ada), users);
+        Mockito.verify(manager, Mockito.never()).get(KEY);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMultiGetIsNotAligned() {
+        List<String> keys = Arrays.asList(KEY, "ada");
+        when(manager.getAll(keys)).thenReturn(singletonList(Optional.empty()));
+        assertThrows(IllegalStateException.class, () -> subject.get(keys, User.class));
+    }
+
+    @Test
+    public void shouldSplitKeysInChunks() {
+        System.setProperty(AbstractKeyValueTemplate.CHUNK_SIZE, "2");
+        try {
+            User otavio = new User(KEY, "otavio", 27);
+            User ada = new User("ada", "Ada", 30);
+            User poliana = new User("poliana", "Poliana", 25);
+
+            when(manager.getAll(Arrays.asList(KEY, "ada"))).thenReturn(Arrays.asList(Optional.of(Value.of(otavio)),
+                    Optional.of(Value.of(ada))));
+            when(manager.getAll(singletonList("poliana"))).thenReturn(singletonList(Optional.of(Value.of(poliana))));
+            List<User> users = stream(subject.get(Arrays.asList(KEY, "ada", "poliana"), User.class).spliterator(), false)
+                    .collect(toList());
+
+            assertEquals(Arrays.asList(otavio, ada, poliana), users);
+        } finally {
+            System.clearProperty(AbstractKeyValueTemplate.CHUNK_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldFetchChunksWithTheExecutor() {
+        System.setProperty(AbstractKeyValueTemplate.CHUNK_SIZE, "1");
+        try {
+            AtomicInteger tasks = new AtomicInteger();
+            KeyValueTemplate template = new DefaultKeyValueTemplate(converter, instance, flow) {
+                @Override
+                protected Executor getExecutor() {
+                    return command -> {
+                        tasks.incrementAndGet();
+                        command.run();
+                    };
+                }
+            };
+            User otavio = new User(KEY, "otavio", 27);
+            User ada = new User("ada", "Ada", 30);
+            when(manager.getAll(singletonList(KEY))).thenReturn(singletonList(Optional.of(Value.of(otavio))));
+            when(manager.getAll(singletonList("ada"))).thenReturn(singletonList(Optional.of(Value.of(ada))));
+
+            List<User> users = stream(template.get(Arrays.asList(KEY, "ada"), User.class).spliterator(), false)
+                    .collect(toList());
+
+            assertEquals(Arrays.asList(otavio, ada), users);
+            assertEquals(2, tasks.get());
+        } finally {
+            System.clearProperty(AbstractKeyValueTemplate.CHUNK_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldFetchChunksInParallelByDefault() {
+        System.setProperty(AbstractKeyValueTemplate.CHUNK_SIZE, "1");
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            User otavio = new User(KEY, "otavio", 27);
+            User ada = new User("ada", "Ada", 30);
+            when(manager.getAll(singletonList(KEY))).thenAnswer(i -> {
+                latch.countDown();
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+                return singletonList(Optional.of(Value.of(otavio)));
+            });
+            when(manager.getAll(singletonList("ada"))).thenAnswer(i -> {
+                latch.countDown();
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+                return singletonList(Optional.of(Value.of(ada)));
+            });
+
+            List<User> users = stream(subject.get(Arrays.asList(KEY, "ada"), User.class).spliterator(), false)
+                    .collect(toList());
+
+            assertEquals(Arrays.asList(otavio, ada), users);
+        } finally {
+            System.clearProperty(AbstractKeyValueTemplate.CHUNK_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldReturnChunkErrorWithoutWrapping() {
+        System.setProperty(AbstractKeyValueTemplate.CHUNK_SIZE, "1");
+        try {
+            when(manager.getAll(singletonList(KEY))).thenReturn(Collections.emptyList());
+            assertThrows(IllegalStateException.class, () -> subject.get(Arrays.asList(KEY, "ada"), User.class));
+        } finally {
+            System.clearProperty(AbstractKeyValueTemplate.CHUNK_SIZE);
+        }
+    }
+
     @Test
     public void shouldRemove() {
         subject.remove(KEY);
@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.function.UnaryOperator;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,4 +61,19 @@ public class DefaultKeyValueWorkflowTest {
         verify(eventPersistManager).firePostKeyValue(any(KeyValueEntity.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldSkipEventsWhenThereIsNotObserver() {
+        when(eventPersistManager.skipsPersistEvents()).thenReturn(true);
+        UnaryOperator<KeyValueEntity<?>> action = t -> t;
+        subject.flow("entity", action);
+
+        verify(eventPersistManager, never()).firePreKeyValue(any());
+        verify(eventPersistManager, never()).firePostKeyValue(any());
+        verify(eventPersistManager, never()).firePreEntity(any());
+        verify(eventPersistManager, never()).firePostEntity(any());
+        verify(eventPersistManager, never()).firePreKeyValueEntity(any());
+        verify(eventPersistManager, never()).firePostKeyValueEntity(any());
+        verify(converter).toKeyValue(any(Object.class));
+    }
+
+}
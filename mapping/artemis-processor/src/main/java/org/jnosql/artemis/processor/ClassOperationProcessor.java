@@ -0,0 +1,243 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An annotation processor that generates, to each package that has classes annotated with
+ * {@code org.jnosql.artemis.Entity}, {@code org.jnosql.artemis.Embeddable} or
+ * {@code org.jnosql.artemis.MappedSuperclass}, a {@code org.jnosql.artemis.reflection.ClassOperation}
+ * with the instance supplier and the field readers and writers of these classes. The generated operations
+ * are registered at {@code META-INF/services}, so the mapping uses them instead of compiling the accessors at runtime;
+ * the runtime compiler remains as the fallback to the fields that do not have public getter or setter.
+ */
+@SupportedAnnotationTypes({ClassOperationProcessor.ENTITY, ClassOperationProcessor.EMBEDDABLE,
+        ClassOperationProcessor.MAPPED_SUPERCLASS})
+public class ClassOperationProcessor extends AbstractProcessor {
+
+    static final String ENTITY = "org.jnosql.artemis.Entity";
+
+    static final String EMBEDDABLE = "org.jnosql.artemis.Embeddable";
+
+    static final String MAPPED_SUPERCLASS = "org.jnosql.artemis.MappedSuperclass";
+
+    static final String CLASS_NAME = "GeneratedClassOperation";
+
+    private static final String COLUMN = "org.jnosql.artemis.Column";
+
+    private static final String ID = "org.jnosql.artemis.Id";
+
+    private static final String SERVICE = "META-INF/services/org.jnosql.artemis.reflection.ClassOperation";
+
+    private static final String TEMPLATE_FILE = "ClassOperation.template";
+
+    private final Set<String> operations = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        Map<String, StringBuilder> entriesByPackage = new TreeMap<>();
+
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (isAccessible(type)) {
+                    String packageName = getPackage(type).getQualifiedName().toString();
+                    appendEntries(type, entriesByPackage.computeIfAbsent(packageName, k -> new StringBuilder()));
+                } else {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                            "The class is not accessible, its accessors will be created at runtime", type);
+                }
+            }
+        }
+
+        entriesByPackage.forEach(this::writeOperation);
+
+        if (roundEnv.processingOver() && !operations.isEmpty()) {
+            writeService();
+        }
+        return false;
+    }
+
+    private void appendEntries(TypeElement type, StringBuilder entries) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String typeName = getTypeName(type.asType());
+
+        if (hasDefaultConstructor(type)) {
+            entries.append("        SUPPLIERS.put(\"").append(binaryName).append("\", ")
+                    .append(typeName).append("::new);\n");
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))
+                .stream()
+                .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                .collect(toList());
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!isAnnotated(field, COLUMN) && !isAnnotated(field, ID)) {
+                continue;
+            }
+            String key = binaryName + '#' + field.getSimpleName();
+            String property = capitalize(field.getSimpleName().toString());
+            String getterPrefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+
+            find(methods, m -> m.getSimpleName().contentEquals(getterPrefix + property) && m.getParameters().isEmpty())
+                    .ifPresent(m -> entries.append("        READERS.put(\"").append(key).append("\", bean -> ((")
+                            .append(typeName).append(") bean).").append(m.getSimpleName()).append("());\n"));
+
+            find(methods, m -> m.getSimpleName().contentEquals("set" + property) && m.getParameters().size() == 1)
+                    .ifPresent(m -> entries.append("        WRITERS.put(\"").append(key).append("\", (bean, value) -> ((")
+                            .append(typeName).append(") bean).").append(m.getSimpleName()).append("((")
+                            .append(getTypeName(m.getParameters().get(0).asType())).append(") value));\n"));
+        }
+    }
+
+    private void writeOperation(String packageName, StringBuilder entries) {
+        String name = packageName.isEmpty() ? CLASS_NAME : packageName + '.' + CLASS_NAME;
+        if (operations.contains(name)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The " + name
+                    + " was already generated, the classes of this round will have their accessors created at runtime");
+            return;
+        }
+        String source = MessageFormat.format(readTemplate(), packageName, CLASS_NAME,
+                ClassOperationProcessor.class.getName(), entries.toString());
+        if (packageName.isEmpty()) {
+            source = source.substring(source.indexOf(';') + 1);
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            operations.add(name);
+        } catch (IOException exp) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error when the processor tried to create the class " + name + ": " + exp.getMessage());
+        }
+    }
+
+    private void writeService() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (Writer writer = file.openWriter()) {
+                for (String operation : operations) {
+                    writer.write(operation);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exp) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error when the processor tried to create the file " + SERVICE + ": " + exp.getMessage());
+        }
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = element.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.PACKAGE && !element.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = enclosing;
+        }
+        return type.getKind() == ElementKind.CLASS;
+    }
+
+    private boolean hasDefaultConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> c.getParameters().isEmpty())
+                .anyMatch(c -> !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private String getTypeName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private PackageElement getPackage(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type);
+    }
+
+    private static boolean isAnnotated(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(a -> a.getAnnotationType().toString().equals(annotation));
+    }
+
+    private static Optional<ExecutableElement> find(List<ExecutableElement> methods, Predicate<ExecutableElement> predicate) {
+        return methods.stream().filter(predicate).findFirst();
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private static String readTemplate() {
+        try (InputStream stream = ClassOperationProcessor.class.getResourceAsStream(TEMPLATE_FILE)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] data = new byte[1024];
+            int read;
+            while ((read = stream.read(data, 0, data.length)) != -1) {
+                buffer.write(data, 0, read);
+            }
+            return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException exp) {
+            throw new UncheckedIOException("An error to load from the file: " + TEMPLATE_FILE, exp);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.processor.model.Dog;
+import org.jnosql.artemis.reflection.ClassOperation;
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.InstanceSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassOperationProcessorTest {
+
+    private ClassOperation operation;
+
+    @BeforeEach
+    public void setUp() {
+        List<ClassOperation> operations = StreamSupport.stream(ServiceLoader.load(ClassOperation.class).spliterator(), false)
+                .collect(toList());
+        assertEquals(1, operations.size());
+        operation = operations.get(0);
+        assertEquals("org.jnosql.artemis.processor.model." + ClassOperationProcessor.CLASS_NAME,
+                operation.getClass().getName());
+    }
+
+    @Test
+    public void shouldCreateInstance() throws NoSuchMethodException {
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(Dog.class.getConstructor());
+        assertNotNull(supplier);
+        assertTrue(supplier.get() instanceof Dog);
+    }
+
+    @Test
+    public void shouldCreateNestedInstance() throws NoSuchMethodException, ClassNotFoundException {
+        Class<?> owner = Class.forName("org.jnosql.artemis.processor.model.Dog$Owner");
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(owner.getDeclaredConstructor());
+        assertNotNull(supplier);
+        assertEquals(owner, supplier.get().getClass());
+    }
+
+    @Test
+    public void shouldReadAndWrite() throws NoSuchFieldException {
+        Dog dog = new Dog();
+        write(Dog.class.getDeclaredField("id"), dog, 10L);
+        write(Dog.class.getDeclaredField("age"), dog, 3);
+        write(Dog.class.getDeclaredField("adopted"), dog, true);
+        write(Dog.class.getDeclaredField("toys"), dog, Arrays.asList("ball", "bone"));
+        write(Dog.class.getSuperclass().getDeclaredField("name"), dog, "Rex");
+
+        assertEquals(10L, dog.getId());
+        assertEquals(3, dog.getAge());
+        assertTrue(dog.isAdopted());
+        assertEquals(Arrays.asList("ball", "bone"), dog.getToys());
+        assertEquals("Rex", dog.getName());
+
+        assertEquals(10L, read(Dog.class.getDeclaredField("id"), dog));
+        assertEquals(3, read(Dog.class.getDeclaredField("age"), dog));
+        assertEquals(true, read(Dog.class.getDeclaredField("adopted"), dog));
+        assertEquals("Rex", read(Dog.class.getSuperclass().getDeclaredField("name"), dog));
+    }
+
+    @Test
+    public void shouldReturnNullWhenThereIsNotAccessor() throws NoSuchFieldException {
+        Field breed = Dog.class.getDeclaredField("breed");
+        Field ignore = Dog.class.getDeclaredField("ignore");
+        assertNull(operation.getFieldReaderFactory().apply(breed));
+        assertNull(operation.getFieldWriterFactory().apply(breed));
+        assertNull(operation.getFieldReaderFactory().apply(ignore));
+        assertFalse(operation.getFieldWriterFactory().apply(Dog.class.getDeclaredField("id")) == null);
+    }
+
+    private void write(Field field, Object bean, Object value) {
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        assertNotNull(writer);
+        writer.write(bean, value);
+    }
+
+    private Object read(Field field, Object bean) {
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        assertNotNull(reader);
+        return reader.read(bean);
+    }
+}